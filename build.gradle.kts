@@ -14,8 +14,22 @@ sourceSets {
     test {
         java.srcDir("src/test/java")
     }
+
+    create("jmh") {
+        java.srcDir("src/jmh/java")
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+val jmhImplementation: Configuration by configurations.getting {
+    extendsFrom(configurations.implementation.get())
 }
 
+val jmhAnnotationProcessor: Configuration by configurations.getting
+
+val jmhCompileOnly: Configuration by configurations.getting
+
 dependencies {
     // General
     implementation("com.google.guava:guava:31.1-jre")
@@ -25,6 +39,8 @@ dependencies {
     compileOnly("org.projectlombok:lombok:1.18.26")
     testAnnotationProcessor("org.projectlombok:lombok:1.18.26")
     testCompileOnly("org.projectlombok:lombok:1.18.26")
+    jmhAnnotationProcessor("org.projectlombok:lombok:1.18.26")
+    jmhCompileOnly("org.projectlombok:lombok:1.18.26")
 
     // Logging
     implementation("org.apache.logging.log4j:log4j-api:2.20.0")
@@ -33,8 +49,42 @@ dependencies {
     // Testing
     testImplementation("org.junit.jupiter:junit-jupiter:5.9.2")
     testImplementation("org.hamcrest:hamcrest:2.2")
+
+    // Benchmarking
+    jmhImplementation("org.openjdk.jmh:jmh-core:1.37")
+    jmhAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.named<Test>("test") {
     useJUnitPlatform()
+}
+
+/*
+ * Runs the benchmarks in the jmh source set and writes the results as JSON so separate runs can be diffed. Optional
+ * project properties:
+ *   -Pjmh.include=<regex>   Only run benchmarks matching the regex (defaults to all benchmarks).
+ *   -Pjmh.threads=<count>   Number of threads to run each benchmark with (defaults to 1).
+ *   -Pjmh.args="<args>"     Any additional arguments to pass to the JMH runner, e.g. "-p size=1000 -f 1".
+ */
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks and exports the results as JSON."
+    dependsOn(tasks.named("jmhClasses"))
+
+    val resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    outputs.file(resultsFile)
+
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    val include = providers.gradleProperty("jmh.include").getOrElse(".*")
+    val threads = providers.gradleProperty("jmh.threads").getOrElse("1")
+    val extraArgs = providers.gradleProperty("jmh.args").getOrElse("")
+
+    doFirst {
+        resultsFile.get().asFile.parentFile.mkdirs()
+    }
+
+    args(include, "-t", threads, "-rf", "json", "-rff", resultsFile.get().asFile.absolutePath)
+    args(extraArgs.split(" ").filter { it.isNotBlank() })
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.adityamlk.codelibrary.algorithm.sorting;
+
+import com.adityamlk.codelibrary.benchmark.KeyDistribution;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks doSort on each sorter. The O(N*logN) sorters run up to 10M entries. The O(N^2) sorters stop at 10K entries
+ * since anything larger takes minutes per invocation; larger sizes can still be requested with "-p quadraticSize=...".
+ * <p>
+ * The sequential distribution produces an already sorted list, the random distribution produces a shuffled list, and
+ * the Zipfian distribution produces a list with many duplicates of a few hot values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortingBenchmark {
+
+    @Benchmark
+    public List<Integer> myMergeSort(final LinearithmicState state) {
+        return new MyMergeSort<Integer>().doSort(state.listToSort);
+    }
+
+    @Benchmark
+    public List<Integer> myQuickSort(final LinearithmicState state) {
+        return new MyQuickSort<Integer>().doSort(state.listToSort);
+    }
+
+    @Benchmark
+    public List<Integer> myBubbleSort(final QuadraticState state) {
+        return new MyBubbleSort<Integer>().doSort(state.listToSort);
+    }
+
+    @Benchmark
+    public List<Integer> mySelectionSort(final QuadraticState state) {
+        return new MySelectionSort<Integer>().doSort(state.listToSort);
+    }
+
+    /*
+     * Generates the unsorted values for the provided size and distribution.
+     */
+    private static List<Integer> generateValues(final int size, final KeyDistribution distribution) {
+        final int[] keys = distribution.generateKeys(size);
+        final int[] values = distribution.generateAccessOrder(keys, size, new Random(size));
+        final List<Integer> generatedValues = new ArrayList<>(size);
+
+        for (final int value : values) {
+            generatedValues.add(value);
+        }
+
+        return generatedValues;
+    }
+
+    /**
+     * State for the O(N*logN) sorters. Copies the unsorted values before every invocation so each sort starts from the
+     * same input.
+     */
+    @State(Scope.Thread)
+    public static class LinearithmicState {
+
+        @Param({"1000", "100000", "10000000"})
+        private int size;
+
+        @Param({"SEQUENTIAL", "RANDOM", "ZIPFIAN"})
+        private KeyDistribution distribution;
+
+        private List<Integer> unsortedValues;
+
+        private List<Integer> listToSort;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            unsortedValues = generateValues(size, distribution);
+        }
+
+        @Setup(Level.Invocation)
+        public void setupInvocation() {
+            listToSort = new ArrayList<>(unsortedValues);
+        }
+    }
+
+    /**
+     * State for the O(N^2) sorters. Copies the unsorted values before every invocation so each sort starts from the
+     * same input.
+     */
+    @State(Scope.Thread)
+    public static class QuadraticState {
+
+        @Param({"1000", "10000"})
+        private int quadraticSize;
+
+        @Param({"SEQUENTIAL", "RANDOM", "ZIPFIAN"})
+        private KeyDistribution distribution;
+
+        private List<Integer> unsortedValues;
+
+        private List<Integer> listToSort;
+
+        @Setup(Level.Trial)
+        public void setupTrial() {
+            unsortedValues = generateValues(quadraticSize, distribution);
+        }
+
+        @Setup(Level.Invocation)
+        public void setupInvocation() {
+            listToSort = new ArrayList<>(unsortedValues);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.adityamlk.codelibrary.algorithm.traversal;
+
+import com.adityamlk.codelibrary.benchmark.KeyDistribution;
+import com.adityamlk.codelibrary.datastructure.graph.MyGraph;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks doesPathExist on both {@link MyBreadthFirstSearch} and {@link MyDepthFirstSearch}. The graph is a chain
+ * through every node plus a number of extra edges per node whose targets follow the key distribution, so the Zipfian
+ * graph has a few hub nodes with many incoming edges. Each search looks for a path from the first node to the last.
+ * <p>
+ * The graph is shared by all threads since the searches only read it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraversalBenchmark {
+
+    private static final int EXTRA_EDGES_PER_NODE = 2;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "ZIPFIAN"})
+    private KeyDistribution distribution;
+
+    private final MyBreadthFirstSearch<Integer> myBreadthFirstSearch = new MyBreadthFirstSearch<>();
+
+    private final MyDepthFirstSearch<Integer> myDepthFirstSearch = new MyDepthFirstSearch<>();
+
+    private MyGraph<Integer> graph;
+
+    private Integer startNode;
+
+    private Integer endNode;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final int[] nodes = distribution.generateKeys(size);
+        final int[] edgeTargets = distribution.generateAccessOrder(nodes, size * EXTRA_EDGES_PER_NODE, new Random(size));
+        graph = new MyGraph<>();
+
+        for (int index = 0; index < size - 1; index++) {
+            graph.insertEdge(nodes[index], nodes[index + 1]);
+        }
+
+        for (int index = 0; index < edgeTargets.length; index++) {
+            graph.insertEdge(nodes[index / EXTRA_EDGES_PER_NODE], edgeTargets[index]);
+        }
+
+        startNode = nodes[0];
+        endNode = nodes[size - 1];
+    }
+
+    @Benchmark
+    public boolean myBreadthFirstSearch() {
+        return myBreadthFirstSearch.doesPathExist(startNode, endNode, graph);
+    }
+
+    @Benchmark
+    public boolean myDepthFirstSearch() {
+        return myDepthFirstSearch.doesPathExist(startNode, endNode, graph);
+    }
+}
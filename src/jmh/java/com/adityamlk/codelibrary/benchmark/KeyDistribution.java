@@ -0,0 +1,118 @@
+package com.adityamlk.codelibrary.benchmark;
+
+import java.util.Random;
+import lombok.NonNull;
+
+/**
+ * Key distributions used to parameterize the benchmarks. Each distribution provides two things: the distinct keys that
+ * populate a data structure and the order in which a benchmark accesses those keys afterwards.
+ * <p>
+ * SEQUENTIAL populates and accesses the keys 0 to N-1 in order.
+ * RANDOM populates with N distinct, scrambled, non-negative keys and accesses them uniformly at random.
+ * ZIPFIAN populates with the keys 0 to N-1 and accesses them with a Zipfian skew, so a few hot keys dominate.
+ */
+public enum KeyDistribution {
+    SEQUENTIAL,
+    RANDOM,
+    ZIPFIAN;
+
+    /*
+     * Skew used for the Zipfian distribution. Matches the constant commonly used by YCSB.
+     */
+    private static final double ZIPFIAN_CONSTANT = 0.99;
+
+    /*
+     * Golden ratio constant used to scramble keys for the random distribution. Multiplying by an odd constant and
+     * keeping the lower 31 bits is a bijection on non-negative ints, so the scrambled keys stay distinct and positive.
+     */
+    private static final int SCRAMBLE_CONSTANT = 0x9E3779B9;
+
+    /**
+     * Generates the distinct keys that populate a data structure.
+     *
+     * @param size Number of keys to generate.
+     * @return Array of distinct keys.
+     */
+    public int[] generateKeys(final int size) {
+        final int[] keys = new int[size];
+
+        for (int index = 0; index < size; index++) {
+            keys[index] = this == RANDOM ? (index * SCRAMBLE_CONSTANT) & Integer.MAX_VALUE : index;
+        }
+
+        return keys;
+    }
+
+    /**
+     * Generates the order in which a benchmark accesses the provided keys.
+     *
+     * @param keys        Keys generated by {@link #generateKeys(int)}.
+     * @param accessCount Number of accesses to generate.
+     * @param random      {@link Random} used for the random and Zipfian distributions.
+     * @return Array of keys, in the order they should be accessed.
+     */
+    public int[] generateAccessOrder(@NonNull final int[] keys, final int accessCount, @NonNull final Random random) {
+        final int[] accessOrder = new int[accessCount];
+
+        switch (this) {
+            case SEQUENTIAL:
+                for (int index = 0; index < accessCount; index++) {
+                    accessOrder[index] = keys[index % keys.length];
+                }
+                break;
+            case RANDOM:
+                for (int index = 0; index < accessCount; index++) {
+                    accessOrder[index] = keys[random.nextInt(keys.length)];
+                }
+                break;
+            case ZIPFIAN:
+                fillZipfian(keys, accessOrder, random);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported key distribution: " + this);
+        }
+
+        return accessOrder;
+    }
+
+    /*
+     * Fills the access order with keys drawn from a Zipfian distribution over the key ranks. Uses the rejection-free
+     * approach from Gray et al., "Quickly Generating Billion-Record Synthetic Databases", which is also what YCSB uses.
+     */
+    private static void fillZipfian(final int[] keys, final int[] accessOrder, final Random random) {
+        final int itemCount = keys.length;
+        final double zetaN = computeZeta(itemCount);
+        final double zeta2 = computeZeta(2);
+        final double alpha = 1.0 / (1.0 - ZIPFIAN_CONSTANT);
+        final double eta = (1 - Math.pow(2.0 / itemCount, 1 - ZIPFIAN_CONSTANT)) / (1 - zeta2 / zetaN);
+
+        for (int index = 0; index < accessOrder.length; index++) {
+            final double uniform = random.nextDouble();
+            final double uniformZeta = uniform * zetaN;
+            final int rank;
+
+            if (uniformZeta < 1.0) {
+                rank = 0;
+            } else if (uniformZeta < 1.0 + Math.pow(0.5, ZIPFIAN_CONSTANT)) {
+                rank = 1;
+            } else {
+                rank = (int) (itemCount * Math.pow(eta * uniform - eta + 1, alpha));
+            }
+
+            accessOrder[index] = keys[Math.min(rank, itemCount - 1)];
+        }
+    }
+
+    /*
+     * Computes the generalized harmonic number for the provided item count.
+     */
+    private static double computeZeta(final int itemCount) {
+        double sum = 0;
+
+        for (int rank = 1; rank <= itemCount; rank++) {
+            sum += 1 / Math.pow(rank, ZIPFIAN_CONSTANT);
+        }
+
+        return sum;
+    }
+}
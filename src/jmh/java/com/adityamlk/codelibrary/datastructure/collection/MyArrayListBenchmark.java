@@ -0,0 +1,222 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import com.adityamlk.codelibrary.benchmark.KeyDistribution;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks insert, indexOf, remove and contains on {@link MyArrayList}, insert and indexOf on {@link MyIntArrayList}
+ * for comparison with the boxed list, insert and get on {@link MyChunkedArrayList}, and the same searches on an indexed
+ * {@link MyArrayList}. State is scoped per thread, so running with
+ * more than one thread measures independent lists side by side rather than contention on a single list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyArrayListBenchmark {
+
+    private static final int ACCESS_COUNT = 1 << 16;
+
+    private static final int ACCESS_MASK = ACCESS_COUNT - 1;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "ZIPFIAN"})
+    private KeyDistribution distribution;
+
+    /*
+     * Distinct values used to populate the list.
+     */
+    private Integer[] values;
+
+    /*
+     * Same values as above, unboxed for the primitive list.
+     */
+    private int[] primitiveValues;
+
+    /*
+     * Values in the order the search benchmarks access them. Boxed up front so boxing is not part of the measurement.
+     */
+    private Integer[] accessValues;
+
+    /*
+     * List populated with every value before each trial.
+     */
+    private MyArrayList<Integer> populatedList;
+
+    /*
+     * Primitive list populated with every value before each trial.
+     */
+    private MyIntArrayList populatedPrimitiveList;
+
+    /*
+     * Chunked list populated with every value before each trial.
+     */
+    private MyChunkedArrayList<Integer> populatedChunkedList;
+
+    /*
+     * List with an index, populated with every value before each trial.
+     */
+    private MyArrayList<Integer> populatedIndexedList;
+
+    /*
+     * Position of the next value to access.
+     */
+    private int accessCursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final int[] generatedValues = distribution.generateKeys(size);
+        final int[] generatedAccessOrder =
+                distribution.generateAccessOrder(generatedValues, ACCESS_COUNT, new Random(size));
+
+        values = new Integer[size];
+        primitiveValues = generatedValues;
+        accessValues = new Integer[ACCESS_COUNT];
+        populatedList = new MyArrayList<>();
+        populatedPrimitiveList = new MyIntArrayList();
+        populatedPrimitiveList.insertAll(generatedValues);
+        populatedChunkedList = new MyChunkedArrayList<>();
+        populatedIndexedList = new MyArrayList<>(0, 2, true);
+
+        for (int index = 0; index < size; index++) {
+            values[index] = generatedValues[index];
+            populatedList.insert(values[index]);
+            populatedChunkedList.insert(values[index]);
+            populatedIndexedList.insert(values[index]);
+        }
+
+        for (int index = 0; index < ACCESS_COUNT; index++) {
+            accessValues[index] = generatedAccessOrder[index];
+        }
+
+        accessCursor = 0;
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> insertAll() {
+        final MyArrayList<Integer> list = new MyArrayList<>();
+
+        for (final Integer value : values) {
+            list.insert(value);
+        }
+
+        return list;
+    }
+
+    @Benchmark
+    public MyIntArrayList insertAllPrimitive() {
+        final MyIntArrayList list = new MyIntArrayList();
+
+        for (final int value : primitiveValues) {
+            list.insert(value);
+        }
+
+        return list;
+    }
+
+    @Benchmark
+    public MyIntArrayList insertAllPrimitiveInBulk() {
+        final MyIntArrayList list = new MyIntArrayList();
+        list.insertAll(primitiveValues);
+
+        return list;
+    }
+
+    @Benchmark
+    public MyChunkedArrayList<Integer> insertAllChunked() {
+        final MyChunkedArrayList<Integer> list = new MyChunkedArrayList<>();
+
+        for (final Integer value : values) {
+            list.insert(value);
+        }
+
+        return list;
+    }
+
+    /*
+     * Reads by index with the shift and mask of the chunked list. The access cursor is reused as a pseudo-random index.
+     */
+    @Benchmark
+    public Integer getChunked() {
+        return populatedChunkedList.get((nextValue() & Integer.MAX_VALUE) % size);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return populatedList.indexOf(nextValue());
+    }
+
+    @Benchmark
+    public int indexOfPrimitive() {
+        return populatedPrimitiveList.indexOf(nextValue());
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return populatedList.contains(nextValue());
+    }
+
+    @Benchmark
+    public int indexOfIndexed() {
+        return populatedIndexedList.indexOf(nextValue());
+    }
+
+    @Benchmark
+    public boolean containsIndexed() {
+        return populatedIndexedList.contains(nextValue());
+    }
+
+    /*
+     * Re-inserts the removed value so the list keeps the same size across invocations.
+     */
+    @Benchmark
+    public Integer removeThenInsert() {
+        final Integer value = nextValue();
+        final Integer removedValue = populatedList.remove(value);
+
+        if (null != removedValue) {
+            populatedList.insert(removedValue);
+        }
+
+        return removedValue;
+    }
+
+    /*
+     * Same as removeThenInsert on the indexed list. The remove still shifts the values, but no longer scans for them.
+     */
+    @Benchmark
+    public Integer removeThenInsertIndexed() {
+        final Integer value = nextValue();
+        final Integer removedValue = populatedIndexedList.remove(value);
+
+        if (null != removedValue) {
+            populatedIndexedList.insert(removedValue);
+        }
+
+        return removedValue;
+    }
+
+    private Integer nextValue() {
+        final Integer value = accessValues[accessCursor & ACCESS_MASK];
+        accessCursor += 1;
+
+        return value;
+    }
+}
@@ -0,0 +1,107 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import com.adityamlk.codelibrary.benchmark.KeyDistribution;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks get, insert and merge on a single {@link MyConcurrentHashTable} shared by all benchmark threads, so
+ * running with "-Pjmh.threads=N" measures how the table scales under contention. Each thread walks the access order
+ * from its own offset.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyConcurrentHashTableBenchmark {
+
+    private static final int ACCESS_COUNT = 1 << 20;
+
+    private static final int ACCESS_MASK = ACCESS_COUNT - 1;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "ZIPFIAN"})
+    private KeyDistribution distribution;
+
+    /*
+     * Keys in the order the benchmarks access them. Boxed up front so boxing is not part of the measurement.
+     */
+    private Integer[] accessKeys;
+
+    /*
+     * Table populated with every key before each trial and shared by all threads.
+     */
+    private MyConcurrentHashTable<Integer, Integer> populatedTable;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final int[] generatedKeys = distribution.generateKeys(size);
+        final int[] generatedAccessOrder =
+                distribution.generateAccessOrder(generatedKeys, ACCESS_COUNT, new Random(size));
+
+        accessKeys = new Integer[ACCESS_COUNT];
+        populatedTable = new MyConcurrentHashTable<>();
+
+        for (final int key : generatedKeys) {
+            populatedTable.insert(key, key);
+        }
+
+        for (int index = 0; index < ACCESS_COUNT; index++) {
+            accessKeys[index] = generatedAccessOrder[index];
+        }
+    }
+
+    @Benchmark
+    public Integer get(final ThreadCursor threadCursor) {
+        return populatedTable.get(accessKeys[threadCursor.next()]);
+    }
+
+    @Benchmark
+    public void insert(final ThreadCursor threadCursor) {
+        final Integer key = accessKeys[threadCursor.next()];
+        populatedTable.insert(key, key);
+    }
+
+    @Benchmark
+    public Integer merge(final ThreadCursor threadCursor) {
+        return populatedTable.merge(accessKeys[threadCursor.next()], 1, Integer::sum);
+    }
+
+    /**
+     * Position of the next key to access for a single thread. Threads start at different offsets so they do not all
+     * hit the same key at the same time.
+     */
+    @State(Scope.Thread)
+    public static class ThreadCursor {
+
+        private int accessCursor;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            accessCursor = (int) (Thread.currentThread().getId() * 7919);
+        }
+
+        private int next() {
+            final int index = accessCursor & ACCESS_MASK;
+            accessCursor += 1;
+
+            return index;
+        }
+    }
+}
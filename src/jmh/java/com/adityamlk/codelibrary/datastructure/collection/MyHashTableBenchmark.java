@@ -0,0 +1,189 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import com.adityamlk.codelibrary.benchmark.KeyDistribution;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks insert, bulk insert, get, remove, contains and iteration on {@link MyHashTable}. State is scoped per thread, so running with more
+ * than one thread measures independent tables side by side rather than contention on a single table.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyHashTableBenchmark {
+
+    private static final int ACCESS_COUNT = 1 << 20;
+
+    private static final int ACCESS_MASK = ACCESS_COUNT - 1;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "ZIPFIAN"})
+    private KeyDistribution distribution;
+
+    @Param({"false", "true"})
+    private boolean incrementalResize;
+
+    /*
+     * Distinct keys used to populate the table.
+     */
+    private Integer[] keys;
+
+    /*
+     * Key and value pairs for every key, used by the bulk insert benchmarks.
+     */
+    private List<Map.Entry<Integer, Integer>> entries;
+
+    /*
+     * Keys in the order the lookup benchmarks access them. Boxed up front so boxing is not part of the measurement.
+     */
+    private Integer[] accessKeys;
+
+    /*
+     * Table populated with every key before each trial.
+     */
+    private MyHashTable<Integer, Integer> populatedTable;
+
+    /*
+     * Table that grows by one entry per invocation of the insert benchmark. Recreated before each iteration.
+     */
+    private MyHashTable<Integer, Integer> growingTable;
+
+    /*
+     * Position of the next key to access.
+     */
+    private int accessCursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final int[] generatedKeys = distribution.generateKeys(size);
+        final int[] generatedAccessOrder =
+                distribution.generateAccessOrder(generatedKeys, ACCESS_COUNT, new Random(size));
+
+        keys = new Integer[size];
+        entries = new ArrayList<>(size);
+        accessKeys = new Integer[ACCESS_COUNT];
+        populatedTable = new MyHashTable<>(incrementalResize);
+
+        for (int index = 0; index < size; index++) {
+            keys[index] = generatedKeys[index];
+            populatedTable.insert(keys[index], keys[index]);
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(keys[index], keys[index]));
+        }
+
+        for (int index = 0; index < ACCESS_COUNT; index++) {
+            accessKeys[index] = generatedAccessOrder[index];
+        }
+
+        accessCursor = 0;
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        growingTable = new MyHashTable<>(incrementalResize);
+    }
+
+    @Benchmark
+    public MyHashTable<Integer, Integer> insertAll() {
+        final MyHashTable<Integer, Integer> table = new MyHashTable<>(incrementalResize);
+
+        for (final Integer key : keys) {
+            table.insert(key, key);
+        }
+
+        return table;
+    }
+
+    /*
+     * Same work as the insert loop above, but presized once and spread across the common fork join pool.
+     */
+    @Benchmark
+    public MyHashTable<Integer, Integer> bulkInsertAll() {
+        final MyHashTable<Integer, Integer> table = new MyHashTable<>(incrementalResize);
+        table.insertAll(entries);
+
+        return table;
+    }
+
+    @Benchmark
+    public MyHashTable<Integer, Integer> fromEntries() {
+        return MyHashTable.fromEntries(entries.spliterator(), size);
+    }
+
+    /*
+     * Sampled so the tail latency of the inserts that trigger a resize shows up in the percentiles.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public void insert() {
+        final Integer key = nextKey();
+        growingTable.insert(key, key);
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+    public Integer get() {
+        return populatedTable.get(nextKey());
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return populatedTable.contains(nextKey());
+    }
+
+    /*
+     * Re-inserts the removed key so the table keeps the same size across invocations.
+     */
+    @Benchmark
+    public Integer removeThenInsert() {
+        final Integer key = nextKey();
+        final Integer removedValue = populatedTable.remove(key);
+
+        if (null != removedValue) {
+            populatedTable.insert(key, removedValue);
+        }
+
+        return removedValue;
+    }
+
+    @Benchmark
+    public long forEachSum() {
+        final long[] sum = new long[1];
+        populatedTable.forEach((key, value) -> sum[0] += value);
+
+        return sum[0];
+    }
+
+    @Benchmark
+    public long parallelStreamSum() {
+        return populatedTable.stream().parallel().mapToLong(MyHashTable.TableEntry::getValue).sum();
+    }
+
+    private Integer nextKey() {
+        final Integer key = accessKeys[accessCursor & ACCESS_MASK];
+        accessCursor += 1;
+
+        return key;
+    }
+}
@@ -0,0 +1,164 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import com.adityamlk.codelibrary.benchmark.KeyDistribution;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks insert, get, remove and contains on {@link MySingleLinkedList} and {@link MyDoubleLinkedList}. Inserts
+ * append to the tail, while get, remove and contains walk the list from the head. State is scoped per thread, so
+ * running with more than one thread measures independent lists side by side rather than contention on a single list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyLinkedListBenchmark {
+
+    private static final int ACCESS_COUNT = 1 << 16;
+
+    private static final int ACCESS_MASK = ACCESS_COUNT - 1;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "ZIPFIAN"})
+    private KeyDistribution distribution;
+
+    /*
+     * Distinct values used to populate the lists.
+     */
+    private Integer[] values;
+
+    /*
+     * Values in the order the search benchmarks access them. Boxed up front so boxing is not part of the measurement.
+     */
+    private Integer[] accessValues;
+
+    /*
+     * Lists populated with every value before each trial.
+     */
+    private MySingleLinkedList<Integer> populatedSingleList;
+
+    private MyDoubleLinkedList<Integer> populatedDoubleList;
+
+    /*
+     * Position of the next value to access.
+     */
+    private int accessCursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final int[] generatedValues = distribution.generateKeys(size);
+        final int[] generatedAccessOrder =
+                distribution.generateAccessOrder(generatedValues, ACCESS_COUNT, new Random(size));
+
+        values = new Integer[size];
+        accessValues = new Integer[ACCESS_COUNT];
+        populatedSingleList = new MySingleLinkedList<>();
+        populatedDoubleList = new MyDoubleLinkedList<>();
+
+        for (int index = 0; index < size; index++) {
+            values[index] = generatedValues[index];
+            populatedSingleList.insertToTail(values[index]);
+            populatedDoubleList.insertToTail(values[index]);
+        }
+
+        for (int index = 0; index < ACCESS_COUNT; index++) {
+            accessValues[index] = generatedAccessOrder[index];
+        }
+
+        accessCursor = 0;
+    }
+
+    @Benchmark
+    public MySingleLinkedList<Integer> insertAllSingle() {
+        final MySingleLinkedList<Integer> list = new MySingleLinkedList<>();
+
+        for (final Integer value : values) {
+            list.insertToTail(value);
+        }
+
+        return list;
+    }
+
+    @Benchmark
+    public MyDoubleLinkedList<Integer> insertAllDouble() {
+        final MyDoubleLinkedList<Integer> list = new MyDoubleLinkedList<>();
+
+        for (final Integer value : values) {
+            list.insertToTail(value);
+        }
+
+        return list;
+    }
+
+    /*
+     * Reads by index, which walks the list from the head. The access cursor is reused as a pseudo-random index.
+     */
+    @Benchmark
+    public Integer getSingle() {
+        return populatedSingleList.get((nextValue() & Integer.MAX_VALUE) % size);
+    }
+
+    @Benchmark
+    public Integer getDouble() {
+        return populatedDoubleList.get((nextValue() & Integer.MAX_VALUE) % size);
+    }
+
+    @Benchmark
+    public boolean containsSingle() {
+        return populatedSingleList.contains(nextValue());
+    }
+
+    @Benchmark
+    public boolean containsDouble() {
+        return populatedDoubleList.contains(nextValue());
+    }
+
+    /*
+     * Re-inserts the removed value at the tail so the list keeps the same size across invocations.
+     */
+    @Benchmark
+    public Integer removeThenInsertSingle() {
+        final Integer removedValue = populatedSingleList.remove(nextValue());
+
+        if (null != removedValue) {
+            populatedSingleList.insertToTail(removedValue);
+        }
+
+        return removedValue;
+    }
+
+    @Benchmark
+    public Integer removeThenInsertDouble() {
+        final Integer removedValue = populatedDoubleList.remove(nextValue());
+
+        if (null != removedValue) {
+            populatedDoubleList.insertToTail(removedValue);
+        }
+
+        return removedValue;
+    }
+
+    private Integer nextValue() {
+        final Integer value = accessValues[accessCursor & ACCESS_MASK];
+        accessCursor += 1;
+
+        return value;
+    }
+}
@@ -0,0 +1,131 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import com.adityamlk.codelibrary.benchmark.KeyDistribution;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks insert, get, remove and contains on {@link MyOpenAddressingHashTable}, mirroring
+ * {@link MyHashTableBenchmark} so the two tables can be compared directly. The get benchmark also runs in sample mode to
+ * report tail latencies such as p99. Running insertAll with "-prof gc" reports the bytes allocated per build, which
+ * divided by the size gives the bytes per entry of each table.
+ * <p>
+ * State is scoped per thread, so running with more than one thread measures independent tables side by side rather
+ * than contention on a single table.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyOpenAddressingHashTableBenchmark {
+
+    private static final int ACCESS_COUNT = 1 << 20;
+
+    private static final int ACCESS_MASK = ACCESS_COUNT - 1;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "ZIPFIAN"})
+    private KeyDistribution distribution;
+
+    /*
+     * Distinct keys used to populate the table.
+     */
+    private Integer[] keys;
+
+    /*
+     * Keys in the order the lookup benchmarks access them. Boxed up front so boxing is not part of the measurement.
+     */
+    private Integer[] accessKeys;
+
+    /*
+     * Table populated with every key before each trial.
+     */
+    private MyOpenAddressingHashTable<Integer, Integer> populatedTable;
+
+    /*
+     * Position of the next key to access.
+     */
+    private int accessCursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final int[] generatedKeys = distribution.generateKeys(size);
+        final int[] generatedAccessOrder =
+                distribution.generateAccessOrder(generatedKeys, ACCESS_COUNT, new Random(size));
+
+        keys = new Integer[size];
+        accessKeys = new Integer[ACCESS_COUNT];
+        populatedTable = new MyOpenAddressingHashTable<>();
+
+        for (int index = 0; index < size; index++) {
+            keys[index] = generatedKeys[index];
+            populatedTable.insert(keys[index], keys[index]);
+        }
+
+        for (int index = 0; index < ACCESS_COUNT; index++) {
+            accessKeys[index] = generatedAccessOrder[index];
+        }
+
+        accessCursor = 0;
+    }
+
+    @Benchmark
+    public MyOpenAddressingHashTable<Integer, Integer> insertAll() {
+        final MyOpenAddressingHashTable<Integer, Integer> table = new MyOpenAddressingHashTable<>();
+
+        for (final Integer key : keys) {
+            table.insert(key, key);
+        }
+
+        return table;
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+    public Integer get() {
+        return populatedTable.get(nextKey());
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return populatedTable.contains(nextKey());
+    }
+
+    /*
+     * Re-inserts the removed key so the table keeps the same size across invocations.
+     */
+    @Benchmark
+    public Integer removeThenInsert() {
+        final Integer key = nextKey();
+        final Integer removedValue = populatedTable.remove(key);
+
+        if (null != removedValue) {
+            populatedTable.insert(key, removedValue);
+        }
+
+        return removedValue;
+    }
+
+    private Integer nextKey() {
+        final Integer key = accessKeys[accessCursor & ACCESS_MASK];
+        accessCursor += 1;
+
+        return key;
+    }
+}
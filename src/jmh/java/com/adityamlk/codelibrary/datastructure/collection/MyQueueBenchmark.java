@@ -0,0 +1,154 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import com.adityamlk.codelibrary.benchmark.KeyDistribution;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks enqueue, peek, dequeue and contains on {@link MyQueue}, and the same operations where they exist on
+ * {@link MyTwoStacksAsQueue} for comparison with the circular array. State is scoped per thread, so running with more
+ * than one thread measures independent queues side by side rather than contention on a single queue.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyQueueBenchmark {
+
+    private static final int ACCESS_COUNT = 1 << 16;
+
+    private static final int ACCESS_MASK = ACCESS_COUNT - 1;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "ZIPFIAN"})
+    private KeyDistribution distribution;
+
+    /*
+     * Distinct values used to populate the queues.
+     */
+    private Integer[] values;
+
+    /*
+     * Values in the order the search benchmarks access them. Boxed up front so boxing is not part of the measurement.
+     */
+    private Integer[] accessValues;
+
+    /*
+     * Queues populated with every value before each trial.
+     */
+    private MyQueue<Integer> populatedQueue;
+
+    private MyTwoStacksAsQueue<Integer> populatedTwoStacksQueue;
+
+    /*
+     * Position of the next value to access.
+     */
+    private int accessCursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final int[] generatedValues = distribution.generateKeys(size);
+        final int[] generatedAccessOrder =
+                distribution.generateAccessOrder(generatedValues, ACCESS_COUNT, new Random(size));
+
+        values = new Integer[size];
+        accessValues = new Integer[ACCESS_COUNT];
+        populatedQueue = new MyQueue<>();
+        populatedTwoStacksQueue = new MyTwoStacksAsQueue<>();
+
+        for (int index = 0; index < size; index++) {
+            values[index] = generatedValues[index];
+            populatedQueue.enqueue(values[index]);
+            populatedTwoStacksQueue.enqueue(values[index]);
+        }
+
+        for (int index = 0; index < ACCESS_COUNT; index++) {
+            accessValues[index] = generatedAccessOrder[index];
+        }
+
+        accessCursor = 0;
+    }
+
+    @Benchmark
+    public MyQueue<Integer> enqueueAll() {
+        final MyQueue<Integer> queue = new MyQueue<>();
+
+        for (final Integer value : values) {
+            queue.enqueue(value);
+        }
+
+        return queue;
+    }
+
+    @Benchmark
+    public MyTwoStacksAsQueue<Integer> enqueueAllTwoStacks() {
+        final MyTwoStacksAsQueue<Integer> queue = new MyTwoStacksAsQueue<>();
+
+        for (final Integer value : values) {
+            queue.enqueue(value);
+        }
+
+        return queue;
+    }
+
+    @Benchmark
+    public Integer peek() {
+        return populatedQueue.peek();
+    }
+
+    /*
+     * Re-enqueues the dequeued value so the queue keeps the same size across invocations.
+     */
+    @Benchmark
+    public Integer dequeueThenEnqueue() {
+        final Integer dequeuedValue = populatedQueue.dequeue();
+        populatedQueue.enqueue(dequeuedValue);
+
+        return dequeuedValue;
+    }
+
+    /*
+     * Same as dequeueThenEnqueue on the two stacks. Every size dequeues, the retrieval stack runs empty and the whole
+     * insertion stack is moved over, which is amortized across the other dequeues.
+     */
+    @Benchmark
+    public Integer dequeueThenEnqueueTwoStacks() {
+        final Integer dequeuedValue = populatedTwoStacksQueue.dequeue();
+        populatedTwoStacksQueue.enqueue(dequeuedValue);
+
+        return dequeuedValue;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return populatedQueue.contains(nextValue());
+    }
+
+    @Benchmark
+    public boolean containsTwoStacks() {
+        return populatedTwoStacksQueue.contains(nextValue());
+    }
+
+    private Integer nextValue() {
+        final Integer value = accessValues[accessCursor & ACCESS_MASK];
+        accessCursor += 1;
+
+        return value;
+    }
+}
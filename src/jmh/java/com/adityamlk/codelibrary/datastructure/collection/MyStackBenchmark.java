@@ -0,0 +1,167 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import com.adityamlk.codelibrary.benchmark.KeyDistribution;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks push, peek, pop and contains on {@link MyStack}, and the same operations where they exist on
+ * {@link MyArrayOfNStacks}, with the values spread round-robin across {@link #NUMBER_OF_STACKS} stacks that share one
+ * array. State is scoped per thread, so running with more than one thread measures independent stacks side by side
+ * rather than contention on a single stack.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyStackBenchmark {
+
+    private static final int ACCESS_COUNT = 1 << 16;
+
+    private static final int ACCESS_MASK = ACCESS_COUNT - 1;
+
+    private static final int NUMBER_OF_STACKS = 3;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "ZIPFIAN"})
+    private KeyDistribution distribution;
+
+    /*
+     * Distinct values used to populate the stacks.
+     */
+    private Integer[] values;
+
+    /*
+     * Values in the order the search benchmarks access them. Boxed up front so boxing is not part of the measurement.
+     */
+    private Integer[] accessValues;
+
+    /*
+     * Stacks populated with every value before each trial.
+     */
+    private MyStack<Integer> populatedStack;
+
+    private MyArrayOfNStacks<Integer> populatedArrayOfNStacks;
+
+    /*
+     * Position of the next value to access.
+     */
+    private int accessCursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final int[] generatedValues = distribution.generateKeys(size);
+        final int[] generatedAccessOrder =
+                distribution.generateAccessOrder(generatedValues, ACCESS_COUNT, new Random(size));
+
+        values = new Integer[size];
+        accessValues = new Integer[ACCESS_COUNT];
+        populatedStack = new MyStack<>();
+        populatedArrayOfNStacks = new MyArrayOfNStacks<>(NUMBER_OF_STACKS);
+
+        for (int index = 0; index < size; index++) {
+            values[index] = generatedValues[index];
+            populatedStack.push(values[index]);
+            populatedArrayOfNStacks.insertIntoStack(index % NUMBER_OF_STACKS + 1, values[index]);
+        }
+
+        for (int index = 0; index < ACCESS_COUNT; index++) {
+            accessValues[index] = generatedAccessOrder[index];
+        }
+
+        accessCursor = 0;
+    }
+
+    @Benchmark
+    public MyStack<Integer> pushAll() {
+        final MyStack<Integer> stack = new MyStack<>();
+
+        for (final Integer value : values) {
+            stack.push(value);
+        }
+
+        return stack;
+    }
+
+    @Benchmark
+    public MyArrayOfNStacks<Integer> pushAllArrayOfNStacks() {
+        final MyArrayOfNStacks<Integer> stacks = new MyArrayOfNStacks<>(NUMBER_OF_STACKS);
+
+        for (int index = 0; index < values.length; index++) {
+            stacks.insertIntoStack(index % NUMBER_OF_STACKS + 1, values[index]);
+        }
+
+        return stacks;
+    }
+
+    @Benchmark
+    public Integer peek() {
+        return populatedStack.peek();
+    }
+
+    /*
+     * Pushes the popped value back so the stack keeps the same size across invocations.
+     */
+    @Benchmark
+    public Integer popThenPush() {
+        final Integer poppedValue = populatedStack.pop();
+        populatedStack.push(poppedValue);
+
+        return poppedValue;
+    }
+
+    /*
+     * Removing from the array of stacks does not return the value, so the next access value is pushed in its place.
+     */
+    @Benchmark
+    public int popThenPushArrayOfNStacks() {
+        populatedArrayOfNStacks.removeFromStack(1);
+        populatedArrayOfNStacks.insertIntoStack(1, nextValue());
+
+        return populatedArrayOfNStacks.getStackSize(1);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return populatedStack.contains(nextValue());
+    }
+
+    /*
+     * Searches every stack, since the values are spread across all of them.
+     */
+    @Benchmark
+    public boolean containsArrayOfNStacks() {
+        final Integer value = nextValue();
+
+        for (int stackNumber = 1; stackNumber <= NUMBER_OF_STACKS; stackNumber++) {
+            if (populatedArrayOfNStacks.containsInStack(stackNumber, value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private Integer nextValue() {
+        final Integer value = accessValues[accessCursor & ACCESS_MASK];
+        accessCursor += 1;
+
+        return value;
+    }
+}
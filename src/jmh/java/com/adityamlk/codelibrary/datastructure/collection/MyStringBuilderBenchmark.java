@@ -0,0 +1,138 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks searching {@link MyStringBuilder} for delimiters, the last delimiter and a string, against a scalar loop
+ * over the same bytes and against {@link StringBuilder}. The text is ASCII lines of random lengths, so the builder
+ * stays Latin-1 and searches go through the eight bytes at a time scan. State is scoped per thread, so running with
+ * more than one thread measures independent builders side by side rather than contention on a single builder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyStringBuilderBenchmark {
+
+    private static final char DELIMITER = '\n';
+
+    /*
+     * String that is not in the text, so that searching for it scans the whole text.
+     */
+    private static final String MISSING_STRING = "lorem ipsum\n";
+
+    private static final int MAXIMUM_LINE_LENGTH = 200;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    /*
+     * Builder populated with the text before each trial.
+     */
+    private MyStringBuilder myStringBuilder;
+
+    private StringBuilder defaultStringBuilder;
+
+    /*
+     * Same text as above, one byte per character, for the scalar loop.
+     */
+    private byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(size);
+
+        bytes = new byte[size];
+
+        for (int index = 0; index < size; index++) {
+            bytes[index] = (byte) ('a' + random.nextInt(26));
+        }
+
+        int delimiterIndex = random.nextInt(MAXIMUM_LINE_LENGTH);
+
+        while (delimiterIndex < size) {
+            bytes[delimiterIndex] = (byte) DELIMITER;
+            delimiterIndex += 1 + random.nextInt(MAXIMUM_LINE_LENGTH);
+        }
+
+        myStringBuilder = new MyStringBuilder();
+        defaultStringBuilder = new StringBuilder(size);
+
+        for (final byte character : bytes) {
+            myStringBuilder.append((char) character);
+            defaultStringBuilder.append((char) character);
+        }
+    }
+
+    @Benchmark
+    public int indexOfDelimiters() {
+        int delimiterCount = 0;
+
+        for (int index = myStringBuilder.indexOf(DELIMITER, 0); -1 != index;
+                index = myStringBuilder.indexOf(DELIMITER, index + 1)) {
+            delimiterCount += 1;
+        }
+
+        return delimiterCount;
+    }
+
+    @Benchmark
+    public int indexOfDelimitersScalar() {
+        int delimiterCount = 0;
+
+        for (final byte character : bytes) {
+            if (DELIMITER == character) {
+                delimiterCount += 1;
+            }
+        }
+
+        return delimiterCount;
+    }
+
+    @Benchmark
+    public int indexOfDelimitersDefault() {
+        int delimiterCount = 0;
+
+        for (int index = defaultStringBuilder.indexOf("\n", 0); -1 != index;
+                index = defaultStringBuilder.indexOf("\n", index + 1)) {
+            delimiterCount += 1;
+        }
+
+        return delimiterCount;
+    }
+
+    @Benchmark
+    public int lastIndexOfDelimiter() {
+        return myStringBuilder.lastIndexOf(DELIMITER);
+    }
+
+    @Benchmark
+    public int lastIndexOfDelimiterDefault() {
+        return defaultStringBuilder.lastIndexOf("\n");
+    }
+
+    @Benchmark
+    public int indexOfMissingString() {
+        return myStringBuilder.indexOf(MISSING_STRING);
+    }
+
+    @Benchmark
+    public int indexOfMissingStringDefault() {
+        return defaultStringBuilder.indexOf(MISSING_STRING);
+    }
+}
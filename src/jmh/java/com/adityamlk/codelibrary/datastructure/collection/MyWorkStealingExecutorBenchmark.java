@@ -0,0 +1,266 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks fork/join workloads on {@link MyWorkStealingExecutor} against a {@link ForkJoinPool} with the same number
+ * of workers: a merge sort that splits down to ranges of {@link #SORT_THRESHOLD} values, and a sum that splits down to
+ * ranges of {@link #SUM_THRESHOLD} values, which creates a task for every few values and so mostly measures the cost
+ * of forking, joining and stealing. State is scoped per benchmark, and both pools are created once per trial, so the
+ * measurement does not include starting the workers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyWorkStealingExecutorBenchmark {
+
+    private static final int SORT_THRESHOLD = 1 << 10;
+
+    private static final int SUM_THRESHOLD = 1 << 4;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private MyWorkStealingExecutor myExecutor;
+
+    private ForkJoinPool defaultPool;
+
+    /*
+     * Values in random order, copied into the working array before every sort.
+     */
+    private int[] values;
+
+    private int[] workingValues;
+
+    private int[] buffer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final int workerCount = Runtime.getRuntime().availableProcessors();
+
+        myExecutor = new MyWorkStealingExecutor(workerCount);
+        defaultPool = new ForkJoinPool(workerCount);
+        values = new Random(size).ints(size).toArray();
+        workingValues = new int[size];
+        buffer = new int[size];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        myExecutor.close();
+        defaultPool.shutdown();
+    }
+
+    @Benchmark
+    public int[] sort() throws InterruptedException {
+        System.arraycopy(values, 0, workingValues, 0, size);
+        myExecutor.invoke(new SortTask(workingValues, buffer, 0, size));
+
+        return workingValues;
+    }
+
+    @Benchmark
+    public int[] sortDefault() {
+        System.arraycopy(values, 0, workingValues, 0, size);
+        defaultPool.invoke(new DefaultSortAction(workingValues, buffer, 0, size));
+
+        return workingValues;
+    }
+
+    @Benchmark
+    public long sum() throws InterruptedException {
+        return myExecutor.invoke(new SumTask(values, 0, size));
+    }
+
+    @Benchmark
+    public long sumDefault() {
+        return defaultPool.invoke(new DefaultSumTask(values, 0, size));
+    }
+
+    /*
+     * Merges the two sorted halves of the range through the buffer.
+     */
+    private static void merge(final int[] values, final int[] buffer, final int start, final int middle,
+            final int end) {
+        System.arraycopy(values, start, buffer, start, end - start);
+
+        int leftIndex = start;
+        int rightIndex = middle;
+
+        for (int index = start; index < end; index++) {
+            if (rightIndex >= end || (leftIndex < middle && buffer[leftIndex] <= buffer[rightIndex])) {
+                values[index] = buffer[leftIndex++];
+            } else {
+                values[index] = buffer[rightIndex++];
+            }
+        }
+    }
+
+    /*
+     * Sums the range directly.
+     */
+    private static long sumRange(final int[] values, final int start, final int end) {
+        long sum = 0;
+
+        for (int index = start; index < end; index++) {
+            sum += values[index];
+        }
+
+        return sum;
+    }
+
+    private static final class SortTask extends MyWorkStealingExecutor.Task<Void> {
+
+        private final int[] values;
+
+        private final int[] buffer;
+
+        private final int start;
+
+        private final int end;
+
+        private SortTask(final int[] values, final int[] buffer, final int start, final int end) {
+            this.values = values;
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Void compute() {
+            if (SORT_THRESHOLD >= end - start) {
+                Arrays.sort(values, start, end);
+
+                return null;
+            }
+
+            final int middle = (start + end) >>> 1;
+            final SortTask leftTask = new SortTask(values, buffer, start, middle);
+
+            leftTask.fork();
+            new SortTask(values, buffer, middle, end).compute();
+            leftTask.join();
+            merge(values, buffer, start, middle, end);
+
+            return null;
+        }
+    }
+
+    private static final class DefaultSortAction extends RecursiveAction {
+
+        private final int[] values;
+
+        private final int[] buffer;
+
+        private final int start;
+
+        private final int end;
+
+        private DefaultSortAction(final int[] values, final int[] buffer, final int start, final int end) {
+            this.values = values;
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (SORT_THRESHOLD >= end - start) {
+                Arrays.sort(values, start, end);
+
+                return;
+            }
+
+            final int middle = (start + end) >>> 1;
+            final DefaultSortAction leftAction = new DefaultSortAction(values, buffer, start, middle);
+
+            leftAction.fork();
+            new DefaultSortAction(values, buffer, middle, end).compute();
+            leftAction.join();
+            merge(values, buffer, start, middle, end);
+        }
+    }
+
+    private static final class SumTask extends MyWorkStealingExecutor.Task<Long> {
+
+        private final int[] values;
+
+        private final int start;
+
+        private final int end;
+
+        private SumTask(final int[] values, final int start, final int end) {
+            this.values = values;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Long compute() {
+            if (SUM_THRESHOLD >= end - start) {
+                return sumRange(values, start, end);
+            }
+
+            final int middle = (start + end) >>> 1;
+            final SumTask leftTask = new SumTask(values, start, middle);
+
+            leftTask.fork();
+
+            final long rightSum = new SumTask(values, middle, end).compute();
+
+            return leftTask.join() + rightSum;
+        }
+    }
+
+    private static final class DefaultSumTask extends RecursiveTask<Long> {
+
+        private final int[] values;
+
+        private final int start;
+
+        private final int end;
+
+        private DefaultSumTask(final int[] values, final int start, final int end) {
+            this.values = values;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Long compute() {
+            if (SUM_THRESHOLD >= end - start) {
+                return sumRange(values, start, end);
+            }
+
+            final int middle = (start + end) >>> 1;
+            final DefaultSumTask leftTask = new DefaultSumTask(values, start, middle);
+
+            leftTask.fork();
+
+            final long rightSum = new DefaultSumTask(values, middle, end).compute();
+
+            return leftTask.join() + rightSum;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.adityamlk.codelibrary.datastructure.tree;
+
+import com.adityamlk.codelibrary.benchmark.KeyDistribution;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks insert, getMinValue, remove and contains on {@link MyBinarySearchTree}. The tree does not rebalance, and
+ * the sequential and Zipfian keys are generated in order, which would turn it into a linked list and overflow the stack
+ * of its recursive methods. The keys are therefore inserted in a shuffled order, so the distribution only decides
+ * which keys exist and how often each is accessed. State is scoped per thread, so running with more than one thread
+ * measures independent trees side by side rather than contention on a single tree.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyBinarySearchTreeBenchmark {
+
+    private static final int ACCESS_COUNT = 1 << 16;
+
+    private static final int ACCESS_MASK = ACCESS_COUNT - 1;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "ZIPFIAN"})
+    private KeyDistribution distribution;
+
+    /*
+     * Distinct values used to populate the tree, in shuffled order.
+     */
+    private Integer[] values;
+
+    /*
+     * Values in the order the search benchmarks access them. Boxed up front so boxing is not part of the measurement.
+     */
+    private Integer[] accessValues;
+
+    /*
+     * Tree populated with every value before each trial.
+     */
+    private MyBinarySearchTree<Integer> populatedTree;
+
+    /*
+     * Position of the next value to access.
+     */
+    private int accessCursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(size);
+        final int[] generatedValues = distribution.generateKeys(size);
+        final int[] generatedAccessOrder = distribution.generateAccessOrder(generatedValues, ACCESS_COUNT, random);
+
+        values = new Integer[size];
+        accessValues = new Integer[ACCESS_COUNT];
+        populatedTree = new MyBinarySearchTree<>();
+
+        for (int index = 0; index < size; index++) {
+            values[index] = generatedValues[index];
+        }
+
+        // Fisher-Yates shuffle, so that the tree is balanced on average whatever the distribution.
+        for (int index = size - 1; index > 0; index--) {
+            final int swapIndex = random.nextInt(index + 1);
+            final Integer value = values[index];
+            values[index] = values[swapIndex];
+            values[swapIndex] = value;
+        }
+
+        for (final Integer value : values) {
+            populatedTree.insert(value);
+        }
+
+        for (int index = 0; index < ACCESS_COUNT; index++) {
+            accessValues[index] = generatedAccessOrder[index];
+        }
+
+        accessCursor = 0;
+    }
+
+    @Benchmark
+    public MyBinarySearchTree<Integer> insertAll() {
+        final MyBinarySearchTree<Integer> tree = new MyBinarySearchTree<>();
+
+        for (final Integer value : values) {
+            tree.insert(value);
+        }
+
+        return tree;
+    }
+
+    @Benchmark
+    public Integer getMinValue() {
+        return populatedTree.getMinValue();
+    }
+
+    /*
+     * Re-inserts the removed value so the tree keeps the same size across invocations. The value goes back in as a
+     * leaf, so the shape of the tree drifts slowly over the trial.
+     */
+    @Benchmark
+    public Integer removeThenInsert() {
+        final Integer value = nextValue();
+        final Integer removedValue = populatedTree.remove(value);
+
+        if (null != removedValue) {
+            populatedTree.insert(removedValue);
+        }
+
+        return removedValue;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return populatedTree.contains(nextValue());
+    }
+
+    private Integer nextValue() {
+        final Integer value = accessValues[accessCursor & ACCESS_MASK];
+        accessCursor += 1;
+
+        return value;
+    }
+}
@@ -0,0 +1,112 @@
+package com.adityamlk.codelibrary.datastructure.tree;
+
+import com.adityamlk.codelibrary.benchmark.KeyDistribution;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks insert, extract and contains on {@link MyMinHeap}. State is scoped per thread, so running with more than
+ * one thread measures independent heaps side by side rather than contention on a single heap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyMinHeapBenchmark {
+
+    private static final int ACCESS_COUNT = 1 << 16;
+
+    private static final int ACCESS_MASK = ACCESS_COUNT - 1;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "ZIPFIAN"})
+    private KeyDistribution distribution;
+
+    /*
+     * Distinct values used to populate the heap.
+     */
+    private Integer[] values;
+
+    /*
+     * Values in the order the search benchmark accesses them. Boxed up front so boxing is not part of the measurement.
+     */
+    private Integer[] accessValues;
+
+    /*
+     * Heap populated with every value before each trial.
+     */
+    private MyMinHeap<Integer> populatedHeap;
+
+    /*
+     * Position of the next value to access.
+     */
+    private int accessCursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final int[] generatedValues = distribution.generateKeys(size);
+        final int[] generatedAccessOrder =
+                distribution.generateAccessOrder(generatedValues, ACCESS_COUNT, new Random(size));
+
+        values = new Integer[size];
+        accessValues = new Integer[ACCESS_COUNT];
+        populatedHeap = new MyMinHeap<>();
+
+        for (int index = 0; index < size; index++) {
+            values[index] = generatedValues[index];
+            populatedHeap.insert(values[index]);
+        }
+
+        for (int index = 0; index < ACCESS_COUNT; index++) {
+            accessValues[index] = generatedAccessOrder[index];
+        }
+
+        accessCursor = 0;
+    }
+
+    @Benchmark
+    public MyMinHeap<Integer> insertAll() {
+        final MyMinHeap<Integer> heap = new MyMinHeap<>();
+
+        for (final Integer value : values) {
+            heap.insert(value);
+        }
+
+        return heap;
+    }
+
+    /*
+     * Re-inserts the extracted value so the heap keeps the same size across invocations.
+     */
+    @Benchmark
+    public Integer extractThenInsert() {
+        final Integer extractedValue = populatedHeap.extract();
+        populatedHeap.insert(extractedValue);
+
+        return extractedValue;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        final Integer value = accessValues[accessCursor & ACCESS_MASK];
+        accessCursor += 1;
+
+        return populatedHeap.contains(value);
+    }
+}
@@ -0,0 +1,139 @@
+package com.adityamlk.codelibrary.datastructure.tree;
+
+import com.adityamlk.codelibrary.benchmark.KeyDistribution;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks insert, getWordsForPrefix, remove and containsWord on {@link MyPrefixTree}, with the decimal strings of
+ * the generated keys as words. Every node holds a hash map of its children, so a tree of ten million words does not fit
+ * in a default heap, and the sizes stop at one hundred thousand. State is scoped per thread, so running with more than
+ * one thread measures independent trees side by side rather than contention on a single tree.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyPrefixTreeBenchmark {
+
+    private static final int ACCESS_COUNT = 1 << 16;
+
+    private static final int ACCESS_MASK = ACCESS_COUNT - 1;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "ZIPFIAN"})
+    private KeyDistribution distribution;
+
+    /*
+     * Distinct words used to populate the tree.
+     */
+    private String[] words;
+
+    /*
+     * Words in the order the search benchmarks access them, and the same words without their last character.
+     */
+    private String[] accessWords;
+
+    private String[] accessPrefixes;
+
+    /*
+     * Tree populated with every word before each trial.
+     */
+    private MyPrefixTree populatedTree;
+
+    /*
+     * Position of the next word to access.
+     */
+    private int accessCursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final int[] generatedValues = distribution.generateKeys(size);
+        final int[] generatedAccessOrder =
+                distribution.generateAccessOrder(generatedValues, ACCESS_COUNT, new Random(size));
+
+        words = new String[size];
+        accessWords = new String[ACCESS_COUNT];
+        accessPrefixes = new String[ACCESS_COUNT];
+        populatedTree = new MyPrefixTree();
+
+        for (int index = 0; index < size; index++) {
+            words[index] = String.valueOf(generatedValues[index]);
+            populatedTree.insert(words[index]);
+        }
+
+        for (int index = 0; index < ACCESS_COUNT; index++) {
+            accessWords[index] = String.valueOf(generatedAccessOrder[index]);
+            accessPrefixes[index] = accessWords[index].substring(0, Math.max(1, accessWords[index].length() - 1));
+        }
+
+        accessCursor = 0;
+    }
+
+    @Benchmark
+    public MyPrefixTree insertAll() {
+        final MyPrefixTree tree = new MyPrefixTree();
+
+        for (final String word : words) {
+            tree.insert(word);
+        }
+
+        return tree;
+    }
+
+    /*
+     * Collects the words that start with an accessed word minus its last character, which is only a handful of words
+     * except for the shortest ones.
+     */
+    @Benchmark
+    public List<String> getWordsForPrefix() {
+        final String prefix = accessPrefixes[accessCursor & ACCESS_MASK];
+        accessCursor += 1;
+
+        return populatedTree.getWordsForPrefix(prefix);
+    }
+
+    /*
+     * Re-inserts the removed word so the tree keeps the same size across invocations.
+     */
+    @Benchmark
+    public boolean removeThenInsert() {
+        final String word = nextWord();
+        final boolean isRemoved = populatedTree.remove(word);
+
+        if (isRemoved) {
+            populatedTree.insert(word);
+        }
+
+        return isRemoved;
+    }
+
+    @Benchmark
+    public boolean containsWord() {
+        return populatedTree.containsWord(nextWord());
+    }
+
+    private String nextWord() {
+        final String word = accessWords[accessCursor & ACCESS_MASK];
+        accessCursor += 1;
+
+        return word;
+    }
+}
@@ -0,0 +1,64 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Frees the memory behind direct and memory-mapped buffers right away. Such buffers are otherwise only freed, or
+ * unmapped, once the garbage collector notices they are unreachable, which can take a long time for buffers that live
+ * in the old generation. Falls back to that behavior if the JDK does not allow freeing them explicitly.
+ * <p>
+ * A buffer must not be accessed after it has been cleaned.
+ */
+@Log4j2
+final class DirectBufferCleaner {
+
+    /*
+     * JDK hook for freeing direct buffers. Looked up once and reused for every release. Null if unavailable.
+     */
+    private static final Object UNSAFE;
+
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (final ReflectiveOperationException | RuntimeException exception) {
+            log.warn("Unable to free direct buffers explicitly, falling back to garbage collection.", exception);
+        }
+
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private DirectBufferCleaner() {
+    }
+
+    /**
+     * Frees the memory behind the provided direct buffer.
+     *
+     * @param buffer Direct buffer to free.
+     */
+    static void clean(@NonNull final ByteBuffer buffer) {
+        if (null == INVOKE_CLEANER || !buffer.isDirect()) {
+            return;
+        }
+
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (final ReflectiveOperationException exception) {
+            log.warn("Unable to free direct buffer explicitly.", exception);
+        }
+    }
+}
@@ -1,5 +1,11 @@
 package com.adityamlk.codelibrary.datastructure.collection;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
@@ -8,9 +14,22 @@ import lombok.extern.log4j.Log4j2;
  * Represents an ArrayList implementation. Maintains set capacity, auto-resizes by configured factor to accommodate
  * additional elements.
  * <p>
+ * Can optionally keep an index from each value to where it occurs, for lists that are searched often. Every inserted
+ * value gets a sequence number that only grows, stored in an array next to the values. Removing values keeps both
+ * arrays in the same order, so the sequence numbers stay sorted and the position of a sequence number can be found
+ * with a binary search. The index maps each value to the sequence numbers of its occurrences, which makes contains
+ * O(1) and indexOf O(log N), and leaves remove with only the copy that shifts the values. The index relies on the
+ * hash code of the values, and its memory overhead is reported by {@link #getIndexMemoryBytes()}.
+ * <p>
+ * Many values can be removed at once with {@link #removeIf(Predicate)}, {@link #removeAll(Collection)} and
+ * {@link #retainAll(Collection)}. They first mark the values to remove in a bit set, optionally testing the values in
+ * parallel, and then compact the values in a single pass, instead of shifting the rest of the list once per removed
+ * value.
+ * <p>
  * Insertion is O(1) despite resizing due to amortized insertion. Inserts to the end of the collection.
- * Deletion is O(N) where one loop will find the index and another will then overwrite the value.
- * Search is O(N).
+ * Deletion is O(N) where one loop will find the index and another will then overwrite the value. With the index, the
+ * loop that finds the index is O(log N). Removing many values at once is O(N) as well.
+ * Search is O(N). With the index, contains is O(1) and indexOf is O(log N).
  *
  * @param <T> Generic data type supported by the list.
  */
@@ -22,6 +41,18 @@ public class MyArrayList<T> {
 
     private static final int DEFAULT_RESIZE_FACTOR = 2;
 
+    /*
+     * Approximate sizes in bytes used to estimate the memory of the index, assuming compressed references: a map entry
+     * with its slot in the map table, a boxed sequence number, and a deque of sequence numbers with its array.
+     */
+    private static final long INDEX_ENTRY_BYTES = 40;
+
+    private static final long SEQUENCE_NUMBER_BYTES = 16;
+
+    private static final long SEQUENCE_DEQUE_BYTES = 40;
+
+    private static final long SEQUENCE_DEQUE_SLOT_BYTES = 4;
+
     /*
      * Tracks the multiplier used for resizing the internal collection.
      */
@@ -40,6 +71,32 @@ public class MyArrayList<T> {
      */
     private Object[] internalCollection;
 
+    /*
+     * Whether to keep the index of values in sync with the internal collection.
+     */
+    @EqualsAndHashCode.Exclude
+    private final boolean isIndexEnabled;
+
+    /*
+     * Sequence number of the value at the same position in the internal collection, or null if the index is disabled.
+     * Sorted, since values are only appended and removals keep the order.
+     */
+    @EqualsAndHashCode.Exclude
+    private long[] sequenceNumbers;
+
+    /*
+     * Sequence number for the next inserted value.
+     */
+    @EqualsAndHashCode.Exclude
+    private long nextSequenceNumber;
+
+    /*
+     * Maps each value to the sequence number of its only occurrence, or to a deque of the sequence numbers of its
+     * occurrences in ascending order. Null if the index is disabled.
+     */
+    @EqualsAndHashCode.Exclude
+    private HashMap<T, Object> index;
+
     /**
      * Default constructor.
      */
@@ -63,6 +120,20 @@ public class MyArrayList<T> {
      * @param resizeFactor    Value used for specifying how much the data structure will grow when it is full.
      */
     public MyArrayList(@NonNull final Integer initialCapacity, @NonNull final Integer resizeFactor) {
+        this(initialCapacity, resizeFactor, false);
+    }
+
+    /**
+     * Constructor that sets the initial capacity and resize factor of the data structure, and whether to index values.
+     *
+     * @param initialCapacity Value used for setting the initial size of the data structure.
+     * @param resizeFactor    Value used for specifying how much the data structure will grow when it is full.
+     * @param isIndexEnabled  True to keep an index of the values, which speeds up searches at the cost of memory.
+     */
+    public MyArrayList(
+            @NonNull final Integer initialCapacity,
+            @NonNull final Integer resizeFactor,
+            @NonNull final Boolean isIndexEnabled) {
         if (1 < resizeFactor) {
             this.resizeFactor = resizeFactor;
         } else {
@@ -75,6 +146,10 @@ public class MyArrayList<T> {
 
         this.internalCollection = new Object[initialCapacity];
         this.size = 0;
+        this.isIndexEnabled = isIndexEnabled;
+        this.sequenceNumbers = isIndexEnabled ? new long[initialCapacity] : null;
+        this.nextSequenceNumber = 0;
+        this.index = isIndexEnabled ? new HashMap<>() : null;
     }
 
     /**
@@ -88,6 +163,13 @@ public class MyArrayList<T> {
         }
 
         internalCollection[size] = valueToInsert;
+
+        if (isIndexEnabled) {
+            sequenceNumbers[size] = nextSequenceNumber;
+            addToIndex(valueToInsert, nextSequenceNumber);
+            nextSequenceNumber += 1;
+        }
+
         size += 1;
     }
 
@@ -98,6 +180,12 @@ public class MyArrayList<T> {
      * @return Index of the value in the data structure, or -1 if the value does not exist.
      */
     public int indexOf(@NonNull final T valueToSearch) {
+        if (isIndexEnabled) {
+            final Object occurrences = index.get(valueToSearch);
+
+            return null == occurrences ? -1 : getIndexForSequenceNumber(getFirstSequenceNumber(occurrences));
+        }
+
         int indexToReturn = -1;
 
         if (0 != size) {
@@ -135,11 +223,76 @@ public class MyArrayList<T> {
             // collection after the index. Effectively, every entry after the found index will move up by one index.
             System.arraycopy(internalCollection, indexToRemove + 1, internalCollection, indexToRemove, size - indexToRemove);
             internalCollection[size] = null;
+
+            // The sequence numbers move the same way, so they stay next to their values and in order.
+            if (isIndexEnabled) {
+                System.arraycopy(
+                        sequenceNumbers, indexToRemove + 1, sequenceNumbers, indexToRemove, size - indexToRemove);
+                removeFirstFromIndex(valueToRemove);
+            }
         }
 
         return valueToRemove;
     }
 
+    /**
+     * Removes every value that matches the provided filter, keeping the order of the rest.
+     *
+     * @param filter Predicate that returns true for the values to remove.
+     * @return Number of values that were removed.
+     */
+    public int removeIf(@NonNull final Predicate<? super T> filter) {
+        return removeIf(filter, false);
+    }
+
+    /**
+     * Removes every value that matches the provided filter, keeping the order of the rest. Can test the values in
+     * parallel on the common fork join pool, which pays off for large lists or expensive filters. The filter must then
+     * be safe to call from several threads. The list is left unchanged if the filter throws.
+     *
+     * @param filter     Predicate that returns true for the values to remove.
+     * @param isParallel True to test the values in parallel, false to test them on the calling thread.
+     * @return Number of values that were removed.
+     */
+    public int removeIf(@NonNull final Predicate<? super T> filter, @NonNull final Boolean isParallel) {
+        final long[] removalMarks = new long[(size + Long.SIZE - 1) >>> 6];
+
+        // Each task owns whole words of the bit set, so tasks never write to the same word.
+        if (isParallel) {
+            IntStream.range(0, removalMarks.length)
+                    .parallel()
+                    .forEach(wordIndex -> markRemovals(filter, removalMarks, wordIndex));
+        } else {
+            for (int wordIndex = 0; wordIndex < removalMarks.length; wordIndex++) {
+                markRemovals(filter, removalMarks, wordIndex);
+            }
+        }
+
+        return removeMarked(removalMarks);
+    }
+
+    /**
+     * Removes every value that is contained in the provided collection, keeping the order of the rest. Each value is
+     * checked with the contains of the collection, so a set is much faster than a list.
+     *
+     * @param valuesToRemove Values to remove.
+     * @return Number of values that were removed.
+     */
+    public int removeAll(@NonNull final Collection<?> valuesToRemove) {
+        return removeIf(valuesToRemove::contains);
+    }
+
+    /**
+     * Removes every value that is not contained in the provided collection, keeping the order of the rest. Each value
+     * is checked with the contains of the collection, so a set is much faster than a list.
+     *
+     * @param valuesToRetain Values to keep.
+     * @return Number of values that were removed.
+     */
+    public int retainAll(@NonNull final Collection<?> valuesToRetain) {
+        return removeIf(value -> !valuesToRetain.contains(value));
+    }
+
     /**
      * Checks for the given value.
      *
@@ -147,6 +300,10 @@ public class MyArrayList<T> {
      * @return True if the data structure contains this value, false otherwise.
      */
     public boolean contains(@NonNull final T valueToSearch) {
+        if (isIndexEnabled) {
+            return index.containsKey(valueToSearch);
+        }
+
         return indexOf(valueToSearch) != -1;
     }
 
@@ -157,6 +314,44 @@ public class MyArrayList<T> {
         return size;
     }
 
+    /**
+     * @return True if the data structure keeps an index of its values, false otherwise.
+     */
+    public boolean isIndexEnabled() {
+        return isIndexEnabled;
+    }
+
+    /**
+     * Estimates the memory used by the index on top of the values themselves, assuming compressed references. Counts
+     * the array of sequence numbers, an entry per distinct value and the sequence numbers of values that occur more
+     * than once. Does not count the values, which the index shares with the data structure.
+     *
+     * @return Approximate number of bytes used by the index, or 0 if the index is disabled.
+     */
+    public long getIndexMemoryBytes() {
+        if (!isIndexEnabled) {
+            return 0;
+        }
+
+        // The map table is the smallest power of two that keeps the map below its default load factor of 0.75.
+        final int mapTableLength = Math.max(16, Integer.highestOneBit(Math.max(1, index.size() * 4 / 3)) << 1);
+        long indexMemoryBytes = (long) Long.BYTES * sequenceNumbers.length + (long) Integer.BYTES * mapTableLength;
+
+        for (final Object occurrences : index.values()) {
+            indexMemoryBytes += INDEX_ENTRY_BYTES;
+
+            if (occurrences instanceof ArrayDeque) {
+                final int occurrenceCount = ((ArrayDeque<?>) occurrences).size();
+                indexMemoryBytes +=
+                        SEQUENCE_DEQUE_BYTES + occurrenceCount * (SEQUENCE_NUMBER_BYTES + SEQUENCE_DEQUE_SLOT_BYTES);
+            } else {
+                indexMemoryBytes += SEQUENCE_NUMBER_BYTES;
+            }
+        }
+
+        return indexMemoryBytes;
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -224,5 +419,125 @@ public class MyArrayList<T> {
             // Copy the entries into the new collection.
             System.arraycopy(tempArray, 0, internalCollection, 0, tempArray.length);
         }
+
+        if (isIndexEnabled) {
+            sequenceNumbers = Arrays.copyOf(sequenceNumbers, internalCollection.length);
+        }
+    }
+
+    /*
+     * Tests the values covered by the provided word of the bit set and marks the ones that match the filter.
+     */
+    @SuppressWarnings("unchecked")
+    private void markRemovals(final Predicate<? super T> filter, final long[] removalMarks, final int wordIndex) {
+        final int lastIndex = Math.min(size, (wordIndex + 1) << 6);
+        long word = 0;
+
+        for (int index = wordIndex << 6; index < lastIndex; index++) {
+            if (filter.test((T) internalCollection[index])) {
+                word |= 1L << index;
+            }
+        }
+
+        removalMarks[wordIndex] = word;
+    }
+
+    /*
+     * Removes the values marked in the provided bit set in a single pass. Values before the first marked one stay put.
+     * From there, a write cursor trails the read cursor and every unmarked value is copied to it, along with its
+     * sequence number if the index is enabled. Only the slots freed at the tail are cleared. Rebuilds the index, since
+     * any occurrence of a value may have been removed.
+     */
+    @SuppressWarnings("unchecked")
+    private int removeMarked(final long[] removalMarks) {
+        int writeIndex = 0;
+
+        while (writeIndex < size && 0 == (removalMarks[writeIndex >>> 6] & (1L << writeIndex))) {
+            writeIndex += 1;
+        }
+
+        for (int readIndex = writeIndex + 1; readIndex < size; readIndex++) {
+            if (0 == (removalMarks[readIndex >>> 6] & (1L << readIndex))) {
+                internalCollection[writeIndex] = internalCollection[readIndex];
+
+                if (isIndexEnabled) {
+                    sequenceNumbers[writeIndex] = sequenceNumbers[readIndex];
+                }
+
+                writeIndex += 1;
+            }
+        }
+
+        final int removedCount = size - writeIndex;
+
+        if (0 != removedCount) {
+            Arrays.fill(internalCollection, writeIndex, size, null);
+            size = writeIndex;
+
+            if (isIndexEnabled) {
+                index.clear();
+
+                for (int position = 0; position < size; position++) {
+                    addToIndex((T) internalCollection[position], sequenceNumbers[position]);
+                }
+            }
+        }
+
+        return removedCount;
+    }
+
+    /*
+     * Records that the provided value occurs with the provided sequence number, which is larger than any recorded so
+     * far. Keeps a single boxed sequence number for a value that occurs once, and a deque for a value that repeats.
+     */
+    @SuppressWarnings("unchecked")
+    private void addToIndex(final T value, final long sequenceNumber) {
+        final Object occurrences = index.get(value);
+
+        if (null == occurrences) {
+            index.put(value, sequenceNumber);
+        } else if (occurrences instanceof ArrayDeque) {
+            ((ArrayDeque<Long>) occurrences).addLast(sequenceNumber);
+        } else {
+            final ArrayDeque<Long> sequenceDeque = new ArrayDeque<>(4);
+            sequenceDeque.addLast((Long) occurrences);
+            sequenceDeque.addLast(sequenceNumber);
+            index.put(value, sequenceDeque);
+        }
+    }
+
+    /*
+     * Forgets the first occurrence of the provided value, which must be in the index. Goes back to a single boxed
+     * sequence number once only one occurrence is left.
+     */
+    @SuppressWarnings("unchecked")
+    private void removeFirstFromIndex(final T value) {
+        final Object occurrences = index.get(value);
+
+        if (occurrences instanceof ArrayDeque) {
+            final ArrayDeque<Long> sequenceDeque = (ArrayDeque<Long>) occurrences;
+            sequenceDeque.removeFirst();
+
+            if (1 == sequenceDeque.size()) {
+                index.put(value, sequenceDeque.getFirst());
+            }
+        } else {
+            index.remove(value);
+        }
+    }
+
+    /*
+     * Retrieves the smallest sequence number from the occurrences of a value in the index.
+     */
+    @SuppressWarnings("unchecked")
+    private long getFirstSequenceNumber(final Object occurrences) {
+        return occurrences instanceof ArrayDeque ? ((ArrayDeque<Long>) occurrences).getFirst() : (Long) occurrences;
+    }
+
+    /*
+     * Finds the position of the provided sequence number, which must belong to a value in the data structure.
+     */
+    private int getIndexForSequenceNumber(final long sequenceNumber) {
+        return Arrays.binarySearch(sequenceNumbers, 0, size, sequenceNumber);
     }
 }
@@ -0,0 +1,502 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents a bounded, blocking queue built on {@link MyQueue}. Producers wait while the queue is full and consumers
+ * wait while it is empty, so a slow consumer holds back its producers instead of letting the queue grow without bound.
+ * <p>
+ * Every operation holds a single {@link ReentrantLock}, and waiting threads wait on one of its conditions, not on a
+ * monitor, so virtual threads unmount while they wait instead of pinning their carrier thread. Each wait can be
+ * bounded with a timeout or ended by interrupting the thread.
+ * <p>
+ * Values can be drained in batches, which removes them under the lock and passes them to the consumer after releasing
+ * it, so that a slow consumer does not hold up the producers.
+ * <p>
+ * The queue records its largest size, and how often and for how long producers and consumers had to wait, which shows
+ * whether a stage is sized correctly: producers that wait a lot point to a slow consumer or a small capacity.
+ * <p>
+ * Insertion is O(1) to the end of the queue, once there is room for the value.
+ * Deletion is O(1) from the front of the queue, once there is a value to remove.
+ *
+ * @param <T> Generic data type supported by the queue.
+ */
+@Log4j2
+public class MyBlockingQueue<T> {
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /*
+     * Guards every field below.
+     */
+    private final ReentrantLock lock;
+
+    /*
+     * Signalled whenever a value is removed, for producers waiting on a full queue.
+     */
+    private final Condition notFull;
+
+    /*
+     * Signalled whenever a value is inserted, for consumers waiting on an empty queue.
+     */
+    private final Condition notEmpty;
+
+    private final int capacity;
+
+    private final MyQueue<T> queue;
+
+    private int peakSize;
+
+    private long putWaitCount;
+
+    private long putWaitNanos;
+
+    private long takeWaitCount;
+
+    private long takeWaitNanos;
+
+    /**
+     * Constructor that sets the capacity of the queue.
+     *
+     * @param capacity Number of values the queue can hold.
+     */
+    public MyBlockingQueue(@NonNull final Integer capacity) {
+        if (1 > capacity) {
+            throw new IllegalArgumentException("Expected capacity of at least 1.");
+        }
+
+        if (MAXIMUM_CAPACITY < capacity) {
+            throw new IllegalArgumentException("Expected capacity of at most " + MAXIMUM_CAPACITY + ".");
+        }
+
+        this.lock = new ReentrantLock();
+        this.notFull = lock.newCondition();
+        this.notEmpty = lock.newCondition();
+        this.capacity = capacity;
+        this.queue = new MyQueue<>(capacity);
+        this.peakSize = 0;
+        this.putWaitCount = 0;
+        this.putWaitNanos = 0;
+        this.takeWaitCount = 0;
+        this.takeWaitNanos = 0;
+    }
+
+    /**
+     * Inserts the given value to the end of the queue, if there is room for it.
+     *
+     * @param valueToOffer {@link T}
+     * @return True if the value was inserted, false if the queue is full.
+     */
+    public boolean offer(@NonNull final T valueToOffer) {
+        lock.lock();
+
+        try {
+            if (capacity == queue.getSize()) {
+                return false;
+            }
+
+            insert(valueToOffer);
+
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the given value to the end of the queue, waiting up to the given time for room for it.
+     *
+     * @param valueToOffer {@link T}
+     * @param timeout Longest time to wait, in units of the provided time unit.
+     * @param timeUnit {@link TimeUnit}
+     * @return True if the value was inserted, false if the queue was still full once the time ran out.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public boolean offer(@NonNull final T valueToOffer, final long timeout, @NonNull final TimeUnit timeUnit)
+            throws InterruptedException {
+        long remainingNanos = timeUnit.toNanos(timeout);
+        lock.lockInterruptibly();
+
+        try {
+            if (capacity == queue.getSize()) {
+                if (0 >= remainingNanos) {
+                    return false;
+                }
+
+                final long waitStartTime = System.nanoTime();
+
+                try {
+                    while (capacity == queue.getSize()) {
+                        if (0 >= remainingNanos) {
+                            return false;
+                        }
+
+                        remainingNanos = notFull.awaitNanos(remainingNanos);
+                    }
+                } finally {
+                    recordPutWait(waitStartTime);
+                }
+            }
+
+            insert(valueToOffer);
+
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the given value to the end of the queue, waiting for as long as the queue is full.
+     *
+     * @param valueToPut {@link T}
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public void put(@NonNull final T valueToPut) throws InterruptedException {
+        lock.lockInterruptibly();
+
+        try {
+            if (capacity == queue.getSize()) {
+                final long waitStartTime = System.nanoTime();
+
+                try {
+                    while (capacity == queue.getSize()) {
+                        notFull.await();
+                    }
+                } finally {
+                    recordPutWait(waitStartTime);
+                }
+            }
+
+            insert(valueToPut);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the value at the front of the queue, if there is one.
+     *
+     * @return Value that was removed from the front, or null if the queue is empty.
+     */
+    public T poll() {
+        lock.lock();
+
+        try {
+            return 0 == queue.getSize() ? null : remove();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the value at the front of the queue, waiting up to the given time for a value.
+     *
+     * @param timeout Longest time to wait, in units of the provided time unit.
+     * @param timeUnit {@link TimeUnit}
+     * @return Value that was removed from the front, or null if the queue was still empty once the time ran out.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public T poll(final long timeout, @NonNull final TimeUnit timeUnit) throws InterruptedException {
+        lock.lockInterruptibly();
+
+        try {
+            return awaitValues(timeUnit.toNanos(timeout)) ? remove() : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the value at the front of the queue, waiting for as long as the queue is empty.
+     *
+     * @return Value that was removed from the front.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+
+        try {
+            if (0 == queue.getSize()) {
+                final long waitStartTime = System.nanoTime();
+
+                try {
+                    while (0 == queue.getSize()) {
+                        notEmpty.await();
+                    }
+                } finally {
+                    recordTakeWait(waitStartTime);
+                }
+            }
+
+            return remove();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes up to the given number of values from the front of the queue, and passes each of them to the provided
+     * consumer in order. Does not wait for values. The consumer is called after the lock is released.
+     *
+     * @param consumer Consumer of the removed values.
+     * @param maximumCount Largest number of values to remove.
+     * @return Number of values that were removed.
+     */
+    public int drainTo(@NonNull final Consumer<? super T> consumer, final int maximumCount) {
+        checkMaximumCount(maximumCount);
+
+        lock.lock();
+
+        final Object[] removedValues;
+
+        try {
+            removedValues = removeAll(maximumCount);
+        } finally {
+            lock.unlock();
+        }
+
+        return acceptAll(consumer, removedValues);
+    }
+
+    /**
+     * Removes up to the given number of values from the front of the queue, and passes each of them to the provided
+     * consumer in order. Waits up to the given time for the queue to have at least one value, then removes whatever is
+     * there without waiting for more. The consumer is called after the lock is released.
+     *
+     * @param consumer Consumer of the removed values.
+     * @param maximumCount Largest number of values to remove.
+     * @param timeout Longest time to wait, in units of the provided time unit.
+     * @param timeUnit {@link TimeUnit}
+     * @return Number of values that were removed, which is 0 if the queue was still empty once the time ran out.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public int drainTo(@NonNull final Consumer<? super T> consumer, final int maximumCount, final long timeout,
+            @NonNull final TimeUnit timeUnit) throws InterruptedException {
+        checkMaximumCount(maximumCount);
+
+        lock.lockInterruptibly();
+
+        final Object[] removedValues;
+
+        try {
+            removedValues = 0 == maximumCount || !awaitValues(timeUnit.toNanos(timeout))
+                    ? new Object[0]
+                    : removeAll(maximumCount);
+        } finally {
+            lock.unlock();
+        }
+
+        return acceptAll(consumer, removedValues);
+    }
+
+    /**
+     * @return Number of values in the queue.
+     */
+    public int getSize() {
+        lock.lock();
+
+        try {
+            return queue.getSize();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of values the queue can hold.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return Largest number of values the queue has held at once.
+     */
+    public int getPeakSize() {
+        lock.lock();
+
+        try {
+            return peakSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of inserts that had to wait for room in the queue.
+     */
+    public long getPutWaitCount() {
+        lock.lock();
+
+        try {
+            return putWaitCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Total time, in nanoseconds, that inserts spent waiting for room in the queue.
+     */
+    public long getPutWaitNanos() {
+        lock.lock();
+
+        try {
+            return putWaitNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of removals that had to wait for a value in the queue.
+     */
+    public long getTakeWaitCount() {
+        lock.lock();
+
+        try {
+            return takeWaitCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Total time, in nanoseconds, that removals spent waiting for a value in the queue.
+     */
+    public long getTakeWaitNanos() {
+        lock.lock();
+
+        try {
+            return takeWaitNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns string version of the data structure, from the front to the end. Uses brackets to identify start and end
+     * of collection. Separates the values using comma and space.
+     */
+    @Override
+    public String toString() {
+        lock.lock();
+
+        try {
+            return queue.toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * Validates the arguments of drainTo.
+     */
+    private static void checkMaximumCount(final int maximumCount) {
+        if (0 > maximumCount) {
+            throw new IllegalArgumentException("Expected maximum count of at least 0.");
+        }
+    }
+
+    /*
+     * Passes the removed values to the consumer in order, and returns how many there were.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int acceptAll(final Consumer<? super T> consumer, final Object[] removedValues) {
+        for (final Object removedValue : removedValues) {
+            consumer.accept((T) removedValue);
+        }
+
+        return removedValues.length;
+    }
+
+    /*
+     * Waits up to the provided time for the queue to have a value, and returns whether it does. Must hold the lock.
+     */
+    private boolean awaitValues(final long timeoutNanos) throws InterruptedException {
+        if (0 != queue.getSize()) {
+            return true;
+        }
+
+        if (0 >= timeoutNanos) {
+            return false;
+        }
+
+        final long waitStartTime = System.nanoTime();
+        long remainingNanos = timeoutNanos;
+
+        try {
+            while (0 == queue.getSize()) {
+                if (0 >= remainingNanos) {
+                    return false;
+                }
+
+                remainingNanos = notEmpty.awaitNanos(remainingNanos);
+            }
+
+            return true;
+        } finally {
+            recordTakeWait(waitStartTime);
+        }
+    }
+
+    /*
+     * Inserts the value, which there must be room for, and wakes up a waiting consumer. Must hold the lock.
+     */
+    private void insert(final T valueToInsert) {
+        queue.enqueue(valueToInsert);
+        peakSize = Math.max(peakSize, queue.getSize());
+        notEmpty.signal();
+    }
+
+    /*
+     * Removes the value at the front, which must exist, and wakes up a waiting producer. Must hold the lock.
+     */
+    private T remove() {
+        final T value = queue.dequeue();
+        notFull.signal();
+
+        return value;
+    }
+
+    /*
+     * Removes up to the provided number of values from the front, and wakes up a waiting producer for each of them.
+     * Must hold the lock.
+     */
+    private Object[] removeAll(final int maximumCount) {
+        final Object[] removedValues = new Object[Math.min(maximumCount, queue.getSize())];
+        final int[] removedCount = {0};
+
+        queue.drainTo(value -> removedValues[removedCount[0]++] = value, removedValues.length);
+
+        for (int i = 0; i < removedValues.length; i++) {
+            notFull.signal();
+        }
+
+        return removedValues;
+    }
+
+    /*
+     * Records an insert that waited since the provided time. Must hold the lock.
+     */
+    private void recordPutWait(final long waitStartTime) {
+        putWaitCount += 1;
+        putWaitNanos += System.nanoTime() - waitStartTime;
+    }
+
+    /*
+     * Records a removal that waited since the provided time. Must hold the lock.
+     */
+    private void recordTakeWait(final long waitStartTime) {
+        takeWaitCount += 1;
+        takeWaitNanos += System.nanoTime() - waitStartTime;
+    }
+}
@@ -0,0 +1,202 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents a bounded, lock-free queue for passing values between threads, in the style of JCTools and the LMAX
+ * Disruptor. Stores the values in a circular array whose length is a power of two, and tracks the next index to write
+ * and the next index to read with two ever-increasing counters. Each counter sits on a cache line of its own, so the
+ * producers and the consumers do not slow each other down by writing next to each other.
+ * <p>
+ * Offering to a full queue and polling from an empty one fail right away. {@link #put(Object)} and {@link #take()}
+ * retry instead, waiting between attempts with the configured {@link WaitStrategy}. Values can be offered and polled in
+ * batches, which implementations may publish or release together.
+ * <p>
+ * Implementations differ in how many threads may offer and poll at the same time, and use the least synchronization
+ * that their case needs.
+ * <p>
+ * Insertion is O(1).
+ * Deletion is O(1).
+ *
+ * @param <T> Generic data type supported by the queue.
+ */
+@Log4j2
+public abstract class MyBoundedQueue<T> {
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /*
+     * Number of values the queue can hold. Always a power of two.
+     */
+    final int capacity;
+
+    /*
+     * Mask that turns a counter into an index of the circular array.
+     */
+    final int mask;
+
+    /*
+     * Circular array that stores the values.
+     */
+    final Object[] buffer;
+
+    /*
+     * Index of the next value to write, counted from the creation of the queue.
+     */
+    final PaddedSequence producerIndex;
+
+    /*
+     * Index of the next value to read, counted from the creation of the queue.
+     */
+    final PaddedSequence consumerIndex;
+
+    private final WaitStrategy waitStrategy;
+
+    /*
+     * Constructor that sets the capacity of the queue, rounded up to a power of two, and the wait strategy used by put
+     * and take.
+     */
+    MyBoundedQueue(final Integer capacity, final WaitStrategy waitStrategy) {
+        if (1 > capacity) {
+            throw new IllegalArgumentException("Expected capacity of at least 1.");
+        }
+
+        if (MAXIMUM_CAPACITY < capacity) {
+            throw new IllegalArgumentException("Expected capacity of at most " + MAXIMUM_CAPACITY + ".");
+        }
+
+        this.capacity = 1 == capacity ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.buffer = new Object[this.capacity];
+        this.producerIndex = new PaddedSequence(0);
+        this.consumerIndex = new PaddedSequence(0);
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * Inserts the given value to the end of the queue, if there is room for it.
+     *
+     * @param valueToOffer {@link T}
+     * @return True if the value was inserted, false if the queue is full.
+     */
+    public abstract boolean offer(T valueToOffer);
+
+    /**
+     * Removes the value at the front of the queue, if there is one.
+     *
+     * @return Value that was removed from the front, or null if the queue is empty.
+     */
+    public abstract T poll();
+
+    /**
+     * Inserts as many of the given values as there is room for, in order, to the end of the queue.
+     *
+     * @param valuesToOffer Values to insert.
+     * @return Number of values that were inserted, which are the first ones of the list.
+     */
+    public abstract int offerAll(List<? extends T> valuesToOffer);
+
+    /**
+     * Removes up to the given number of values from the front of the queue, and passes each of them to the provided
+     * consumer in order.
+     *
+     * @param consumer Consumer of the removed values.
+     * @param maximumCount Largest number of values to remove.
+     * @return Number of values that were removed.
+     */
+    public abstract int drainTo(Consumer<? super T> consumer, int maximumCount);
+
+    /**
+     * Inserts the given value to the end of the queue, waiting with the configured wait strategy for as long as the
+     * queue is full.
+     *
+     * @param valueToPut {@link T}
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public void put(@NonNull final T valueToPut) throws InterruptedException {
+        int idleCount = 0;
+
+        while (!offer(valueToPut)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            waitStrategy.idle(idleCount);
+
+            if (Integer.MAX_VALUE != idleCount) {
+                idleCount += 1;
+            }
+        }
+    }
+
+    /**
+     * Removes the value at the front of the queue, waiting with the configured wait strategy for as long as the queue
+     * is empty.
+     *
+     * @return Value that was removed from the front.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public T take() throws InterruptedException {
+        int idleCount = 0;
+        T value = poll();
+
+        while (null == value) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            waitStrategy.idle(idleCount);
+
+            if (Integer.MAX_VALUE != idleCount) {
+                idleCount += 1;
+            }
+
+            value = poll();
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the number of values in the queue. Only an estimate while other threads offer or poll.
+     *
+     * @return Number of values in the queue.
+     */
+    public int getSize() {
+        // Read the consumer index first, so that the producer index read after it is never behind it.
+        final long currentConsumerIndex = consumerIndex.get();
+        final long currentProducerIndex = producerIndex.get();
+
+        return (int) Math.max(0, Math.min(capacity, currentProducerIndex - currentConsumerIndex));
+    }
+
+    /**
+     * @return Number of values the queue can hold.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /*
+     * Validates the arguments of drainTo.
+     */
+    static void checkMaximumCount(final int maximumCount) {
+        if (0 > maximumCount) {
+            throw new IllegalArgumentException("Expected maximum count of at least 0.");
+        }
+    }
+
+    /*
+     * Validates that the provided values can be offered, before any of them is written.
+     */
+    static void checkValues(final List<?> valuesToOffer, final int valueCount) {
+        for (int index = 0; index < valueCount; index++) {
+            if (null == valuesToOffer.get(index)) {
+                throw new NullPointerException("valuesToOffer contains null");
+            }
+        }
+    }
+}
@@ -0,0 +1,913 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import com.adityamlk.codelibrary.datastructure.collection.MyDoubleLinkedList.TwoWayNode;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents a bounded cache built on {@link MyHashTable} and {@link MyDoubleLinkedList}. The hash table maps every key
+ * to the node that holds its entry, so moving an entry within its list or evicting it uses the node as a handle instead
+ * of searching the list for the value.
+ * <p>
+ * The cache can be bounded by a maximum number of entries, by a maximum total weight computed by a weigher, or both.
+ * Once a bound is exceeded, entries are evicted according to the configured policy:
+ * <ul>
+ *     <li>LRU keeps all entries in one list ordered by recency and evicts the least recently used entry.</li>
+ *     <li>W-TinyLFU, from Einziger et al., "TinyLFU: A Highly Efficient Cache Admission Policy", places new entries
+ *     in a small LRU window that absorbs bursts. Entries leaving the window become candidates for the main region,
+ *     a segmented LRU with a probation and a protected list, and are only admitted if a frequency sketch has seen
+ *     them more often than the entry they would replace. This keeps one-hit wonders from flushing frequently used
+ *     entries.</li>
+ * </ul>
+ * <p>
+ * If a loader is configured, get loads missing values through it. Concurrent misses for the same key share a single
+ * load instead of each calling the loader. The cache counts hits, misses and evictions.
+ * <p>
+ * Safe to use from multiple threads. Every operation holds a single lock, except loads, which run outside of it.
+ * <p>
+ * Insertion is O(1). Inserts into the hash table and the head of the window, then evicts a bounded number of entries.
+ * Deletion is O(1). Removes from the hash table and unlinks the node handle from its list.
+ * Search is O(1). Searches the hash table and moves the node handle to the head of its list.
+ *
+ * @param <K> Generic data type that represents keys in the cache.
+ * @param <V> Generic data type that represents values in the cache.
+ */
+@Log4j2
+public class MyCache<K, V> {
+
+    /**
+     * Policy used to choose which entry to evict once the cache exceeds its bounds.
+     */
+    public enum EvictionPolicy {
+        LRU,
+        W_TINY_LFU
+    }
+
+    /*
+     * Region of the cache an entry currently lives in. With LRU, every entry lives in the window.
+     */
+    private enum Region {
+        WINDOW,
+        PROBATION,
+        PROTECTED
+    }
+
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+
+    /*
+     * Share of the bounds given to the window and, out of the rest, to the protected list, as recommended by the
+     * W-TinyLFU paper.
+     */
+    private static final double WINDOW_PERCENTAGE = 0.01;
+
+    private static final double PROTECTED_PERCENTAGE = 0.8;
+
+    /*
+     * Guards every field below.
+     */
+    private final Object lock = new Object();
+
+    private final EvictionPolicy evictionPolicy;
+
+    private final long maximumEntries;
+
+    private final long maximumWeight;
+
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+
+    /*
+     * Loads values for missing keys. Null if the cache does not load values.
+     */
+    private final Function<? super K, ? extends V> loader;
+
+    /*
+     * Bounds of the window and the protected list. The probation list gets whatever the other regions do not use.
+     */
+    private final long windowMaximumEntries;
+
+    private final long windowMaximumWeight;
+
+    private final long protectedMaximumEntries;
+
+    private final long protectedMaximumWeight;
+
+    /*
+     * Maps every key to the node that holds its entry.
+     */
+    private final MyHashTable<K, TwoWayNode<CacheEntry<K, V>>> entries;
+
+    /*
+     * Maps every key that is being loaded to the load, so concurrent misses can wait for it instead of loading again.
+     * Removing a key drops its load from here, which invalidates the load.
+     */
+    private final MyHashTable<K, CompletableFuture<V>> inFlightLoads;
+
+    /*
+     * Lists of each region. The head holds the most recently used entry and the tail the least recently used entry.
+     */
+    private final MyDoubleLinkedList<CacheEntry<K, V>> windowList;
+
+    private final MyDoubleLinkedList<CacheEntry<K, V>> probationList;
+
+    private final MyDoubleLinkedList<CacheEntry<K, V>> protectedList;
+
+    /*
+     * Estimates how often each key has been accessed. Null with LRU.
+     */
+    private final FrequencySketch frequencySketch;
+
+    /*
+     * Total weight of each region.
+     */
+    private long windowWeight;
+
+    private long probationWeight;
+
+    private long protectedWeight;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    private MyCache(final Builder<K, V> builder) {
+        this.evictionPolicy = builder.evictionPolicy;
+        this.maximumEntries = builder.maximumEntries;
+        this.maximumWeight = builder.maximumWeight;
+        this.weigher = builder.weigher;
+        this.loader = builder.loader;
+
+        if (EvictionPolicy.W_TINY_LFU == evictionPolicy) {
+            this.windowMaximumEntries = getShare(maximumEntries, WINDOW_PERCENTAGE);
+            this.windowMaximumWeight = getShare(maximumWeight, WINDOW_PERCENTAGE);
+            this.protectedMaximumEntries =
+                    getShare(subtract(maximumEntries, windowMaximumEntries), PROTECTED_PERCENTAGE);
+            this.protectedMaximumWeight =
+                    getShare(subtract(maximumWeight, windowMaximumWeight), PROTECTED_PERCENTAGE);
+            this.frequencySketch = new FrequencySketch();
+            this.frequencySketch.ensureCapacity(UNBOUNDED == maximumEntries ? 0 : maximumEntries);
+        } else {
+            this.windowMaximumEntries = UNBOUNDED;
+            this.windowMaximumWeight = UNBOUNDED;
+            this.protectedMaximumEntries = 0;
+            this.protectedMaximumWeight = 0;
+            this.frequencySketch = null;
+        }
+
+        this.entries = new MyHashTable<>();
+        this.inFlightLoads = new MyHashTable<>();
+        this.windowList = new MyDoubleLinkedList<>();
+        this.probationList = new MyDoubleLinkedList<>();
+        this.protectedList = new MyDoubleLinkedList<>();
+        this.windowWeight = 0;
+        this.probationWeight = 0;
+        this.protectedWeight = 0;
+        this.hitCount = 0;
+        this.missCount = 0;
+        this.evictionCount = 0;
+    }
+
+    /**
+     * Creates a builder for configuring the bounds, policy and loader of a cache.
+     *
+     * @param <K> Generic data type that represents keys in the cache.
+     * @param <V> Generic data type that represents values in the cache.
+     * @return {@link Builder}
+     */
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Retrieves the value for the provided key. On a miss, loads the value if the cache has a loader, waiting for the
+     * load another thread already started for the same key if there is one.
+     *
+     * @param keyForRetrieval {@link K}
+     * @return Value associated with the key, or null if the key does not exist and could not be loaded.
+     */
+    public V get(@NonNull final K keyForRetrieval) {
+        final CompletableFuture<V> load;
+        final boolean isLoadOwner;
+
+        synchronized (lock) {
+            recordAccess(keyForRetrieval);
+
+            final TwoWayNode<CacheEntry<K, V>> node = entries.get(keyForRetrieval);
+
+            if (null != node) {
+                hitCount += 1;
+                onAccess(node);
+
+                return node.getValue().value;
+            }
+
+            missCount += 1;
+
+            if (null == loader) {
+                return null;
+            }
+
+            // Either another thread is already loading the key, which means waiting for it. Or, this thread becomes
+            // the owner of the load.
+            final CompletableFuture<V> inFlightLoad = inFlightLoads.get(keyForRetrieval);
+            isLoadOwner = null == inFlightLoad;
+            load = isLoadOwner ? new CompletableFuture<>() : inFlightLoad;
+
+            if (isLoadOwner) {
+                inFlightLoads.insert(keyForRetrieval, load);
+            }
+        }
+
+        return isLoadOwner ? loadValue(keyForRetrieval, load) : awaitLoad(load);
+    }
+
+    /**
+     * Retrieves the value for the provided key without loading it on a miss.
+     *
+     * @param keyForRetrieval {@link K}
+     * @return Value associated with the key, or null if the key does not exist.
+     */
+    public V getIfPresent(@NonNull final K keyForRetrieval) {
+        synchronized (lock) {
+            recordAccess(keyForRetrieval);
+
+            final TwoWayNode<CacheEntry<K, V>> node = entries.get(keyForRetrieval);
+
+            if (null == node) {
+                missCount += 1;
+                return null;
+            }
+
+            hitCount += 1;
+            onAccess(node);
+
+            return node.getValue().value;
+        }
+    }
+
+    /**
+     * Inserts the given key and value pair. Replaces the value if the key already exists. Evicts entries if the cache
+     * exceeds its bounds afterwards, which may include the inserted entry.
+     *
+     * @param keyToInsert   {@link K}
+     * @param valueToInsert {@link V}
+     */
+    public void put(@NonNull final K keyToInsert, @NonNull final V valueToInsert) {
+        synchronized (lock) {
+            recordAccess(keyToInsert);
+            putEntry(keyToInsert, valueToInsert);
+        }
+    }
+
+    /**
+     * Removes the value for the provided key. A load of the key that is still running is invalidated: its value is
+     * still returned to the threads waiting for it, but is not cached.
+     *
+     * @param keyForRemoval {@link K}
+     * @return Value associated with the key, or null if the key does not exist.
+     */
+    public V remove(@NonNull final K keyForRemoval) {
+        synchronized (lock) {
+            inFlightLoads.remove(keyForRemoval);
+
+            final TwoWayNode<CacheEntry<K, V>> node = entries.remove(keyForRemoval);
+
+            if (null == node) {
+                return null;
+            }
+
+            unlinkNode(node);
+
+            return node.getValue().value;
+        }
+    }
+
+    /**
+     * Determines whether a value exists for the provided key. Does not count as an access.
+     *
+     * @param keyToSearch {@link K}
+     * @return True if the key exists in the cache, false otherwise.
+     */
+    public boolean contains(@NonNull final K keyToSearch) {
+        synchronized (lock) {
+            return entries.contains(keyToSearch);
+        }
+    }
+
+    /**
+     * @return Number of values in the cache.
+     */
+    public int getSize() {
+        synchronized (lock) {
+            return entries.getSize();
+        }
+    }
+
+    /**
+     * @return Total weight of the values in the cache.
+     */
+    public long getWeight() {
+        synchronized (lock) {
+            return getTotalWeight();
+        }
+    }
+
+    /**
+     * @return Number of lookups that found a value.
+     */
+    public long getHitCount() {
+        synchronized (lock) {
+            return hitCount;
+        }
+    }
+
+    /**
+     * @return Number of lookups that did not find a value, whether or not it was loaded afterwards.
+     */
+    public long getMissCount() {
+        synchronized (lock) {
+            return missCount;
+        }
+    }
+
+    /**
+     * @return Number of values evicted to keep the cache within its bounds.
+     */
+    public long getEvictionCount() {
+        synchronized (lock) {
+            return evictionCount;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns string version of the cache. Uses curly braces to identify start and end of collection. Separates the
+     * entries using comma and space. Separates the keys and values using '='. Lists the window, probation and protected
+     * entries in that order, each from most to least recently used.
+     */
+    @Override
+    public String toString() {
+        synchronized (lock) {
+            final StringBuilder stringBuilder = new StringBuilder();
+            stringBuilder.append("{");
+
+            for (final MyDoubleLinkedList<CacheEntry<K, V>> list : getLists()) {
+                TwoWayNode<CacheEntry<K, V>> current = list.getHeadNode();
+
+                while (null != current) {
+                    // If an entry has already been appended, then use comma and space to separate the strings.
+                    if (1 < stringBuilder.length()) {
+                        stringBuilder.append(",").append(" ");
+                    }
+
+                    stringBuilder.append(current.getValue().key).append('=').append(current.getValue().value);
+                    current = current.getNext();
+                }
+            }
+
+            stringBuilder.append("}");
+            return stringBuilder.toString();
+        }
+    }
+
+    /*
+     * Calls the loader outside of the lock and publishes the result to the cache and to every thread waiting for it.
+     * Only caches the loaded value if no other value was put for the key in the meantime, in which case that value is
+     * returned instead, and if the key was not removed in the meantime, in which case the loaded value may be stale.
+     */
+    private V loadValue(final K key, final CompletableFuture<V> load) {
+        V loadedValue;
+
+        try {
+            loadedValue = loader.apply(key);
+        } catch (final RuntimeException | Error exception) {
+            synchronized (lock) {
+                removeInFlightLoad(key, load);
+            }
+
+            load.completeExceptionally(exception);
+            throw exception;
+        }
+
+        synchronized (lock) {
+            if (removeInFlightLoad(key, load) && null != loadedValue) {
+                final TwoWayNode<CacheEntry<K, V>> node = entries.get(key);
+
+                if (null == node) {
+                    putEntry(key, loadedValue);
+                } else {
+                    loadedValue = node.getValue().value;
+                }
+            }
+        }
+
+        load.complete(loadedValue);
+        return loadedValue;
+    }
+
+    /*
+     * Removes the provided load of the key from the in-flight loads. Returns false if the load has been invalidated,
+     * in which case the key may have no load or a newer one, which is left alone.
+     */
+    private boolean removeInFlightLoad(final K key, final CompletableFuture<V> load) {
+        if (load != inFlightLoads.get(key)) {
+            return false;
+        }
+
+        inFlightLoads.remove(key);
+
+        return true;
+    }
+
+    /*
+     * Waits for a load started by another thread. Rethrows the exception of the loader if it failed.
+     */
+    private V awaitLoad(final CompletableFuture<V> load) {
+        try {
+            return load.join();
+        } catch (final CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+
+            if (exception.getCause() instanceof Error) {
+                throw (Error) exception.getCause();
+            }
+
+            throw exception;
+        }
+    }
+
+    /*
+     * Inserts or replaces the entry for the provided key, then evicts entries until the cache is within its bounds.
+     */
+    private void putEntry(final K key, final V value) {
+        final int entryWeight = weigher.applyAsInt(key, value);
+
+        if (0 > entryWeight) {
+            throw new IllegalArgumentException("Expected weight of at least 0.");
+        }
+
+        final TwoWayNode<CacheEntry<K, V>> node = entries.get(key);
+
+        // Either the key already exists, which means replacing the value in place and counting it as an access. Or, the
+        // entry starts at the head of the window.
+        if (null != node) {
+            final CacheEntry<K, V> entry = node.getValue();
+            addRegionWeight(entry.region, entryWeight - entry.weight);
+            entry.value = value;
+            entry.weight = entryWeight;
+            onAccess(node);
+        } else {
+            final TwoWayNode<CacheEntry<K, V>> nodeToInsert =
+                    new TwoWayNode<>(new CacheEntry<>(key, value, entryWeight));
+            entries.insert(key, nodeToInsert);
+            windowList.insertNodeToHead(nodeToInsert);
+            windowWeight += entryWeight;
+
+            if (null != frequencySketch) {
+                frequencySketch.ensureCapacity(entries.getSize());
+            }
+        }
+
+        evictEntries();
+    }
+
+    /*
+     * Moves an entry that was just accessed. Entries in the window or the protected list move to the head of their
+     * list, while entries in the probation list have proven themselves and get promoted to the protected list. If the
+     * protected list overflows, its least recently used entries are demoted back to the probation list.
+     */
+    private void onAccess(final TwoWayNode<CacheEntry<K, V>> node) {
+        switch (node.getValue().region) {
+            case WINDOW:
+                windowList.moveNodeToHead(node);
+                break;
+            case PROBATION:
+                moveNodeToRegion(node, Region.PROTECTED);
+
+                while (isOverLimit(protectedList.getSize(), protectedWeight, protectedMaximumEntries,
+                        protectedMaximumWeight)) {
+                    moveNodeToRegion(protectedList.getTailNode(), Region.PROBATION);
+                }
+                break;
+            case PROTECTED:
+                protectedList.moveNodeToHead(node);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported region: " + node.getValue().region);
+        }
+    }
+
+    /*
+     * Evicts entries until the cache is within its bounds.
+     *
+     * With W-TinyLFU, the least recently used entries of an overflowing window first move to the head of the probation
+     * list as candidates. While the cache is over its bounds, the most recent candidate then competes with the least
+     * recently used entry of the probation list, the victim, and whichever the frequency sketch has seen less often is
+     * evicted. Once there are no candidates left, or with LRU, the least recently used entry is evicted outright.
+     */
+    private void evictEntries() {
+        long candidateCount = 0;
+
+        if (EvictionPolicy.W_TINY_LFU == evictionPolicy) {
+            while (isOverLimit(windowList.getSize(), windowWeight, windowMaximumEntries, windowMaximumWeight)) {
+                moveNodeToRegion(windowList.getTailNode(), Region.PROBATION);
+                candidateCount += 1;
+            }
+        }
+
+        while (isOverLimit(entries.getSize(), getTotalWeight(), maximumEntries, maximumWeight)) {
+            final TwoWayNode<CacheEntry<K, V>> victim = getEvictionVictim();
+
+            if (0 == candidateCount || Region.PROBATION != victim.getValue().region) {
+                evictNode(victim);
+                continue;
+            }
+
+            final TwoWayNode<CacheEntry<K, V>> candidate = probationList.getHeadNode();
+
+            // Once every entry in the probation list is a candidate, the victim is a candidate as well.
+            final boolean isVictimCandidate = probationList.getSize() <= candidateCount;
+
+            if (candidate != victim && frequencySketch.getFrequency(candidate.getValue().key)
+                    > frequencySketch.getFrequency(victim.getValue().key)) {
+                evictNode(victim);
+                candidateCount -= isVictimCandidate ? 1 : 0;
+            } else {
+                evictNode(candidate);
+                candidateCount -= 1;
+            }
+        }
+    }
+
+    /*
+     * Returns the least recently used entry of the main region, or of the window if the main region is empty.
+     */
+    private TwoWayNode<CacheEntry<K, V>> getEvictionVictim() {
+        if (0 != probationList.getSize()) {
+            return probationList.getTailNode();
+        }
+
+        if (0 != protectedList.getSize()) {
+            return protectedList.getTailNode();
+        }
+
+        return windowList.getTailNode();
+    }
+
+    /*
+     * Removes the provided entry from the cache and counts it as evicted.
+     */
+    private void evictNode(final TwoWayNode<CacheEntry<K, V>> node) {
+        entries.remove(node.getValue().key);
+        unlinkNode(node);
+        evictionCount += 1;
+    }
+
+    /*
+     * Unlinks the provided node from the list of its region.
+     */
+    private void unlinkNode(final TwoWayNode<CacheEntry<K, V>> node) {
+        final CacheEntry<K, V> entry = node.getValue();
+
+        getList(entry.region).removeNode(node);
+        addRegionWeight(entry.region, -entry.weight);
+    }
+
+    /*
+     * Moves the provided node to the head of the list of the provided region.
+     */
+    private void moveNodeToRegion(final TwoWayNode<CacheEntry<K, V>> node, final Region region) {
+        final CacheEntry<K, V> entry = node.getValue();
+
+        unlinkNode(node);
+        entry.region = region;
+        getList(region).insertNodeToHead(node);
+        addRegionWeight(region, entry.weight);
+    }
+
+    /*
+     * Returns the list of the provided region.
+     */
+    private MyDoubleLinkedList<CacheEntry<K, V>> getList(final Region region) {
+        switch (region) {
+            case WINDOW:
+                return windowList;
+            case PROBATION:
+                return probationList;
+            case PROTECTED:
+                return protectedList;
+            default:
+                throw new IllegalStateException("Unsupported region: " + region);
+        }
+    }
+
+    /*
+     * Returns the lists of every region, in the order they are listed by toString.
+     */
+    private MyDoubleLinkedList<CacheEntry<K, V>>[] getLists() {
+        @SuppressWarnings("unchecked")
+        final MyDoubleLinkedList<CacheEntry<K, V>>[] lists = new MyDoubleLinkedList[] {
+                windowList, probationList, protectedList
+        };
+
+        return lists;
+    }
+
+    /*
+     * Adds the provided amount to the total weight of the provided region.
+     */
+    private void addRegionWeight(final Region region, final long weightDelta) {
+        switch (region) {
+            case WINDOW:
+                windowWeight += weightDelta;
+                break;
+            case PROBATION:
+                probationWeight += weightDelta;
+                break;
+            case PROTECTED:
+                protectedWeight += weightDelta;
+                break;
+            default:
+                throw new IllegalStateException("Unsupported region: " + region);
+        }
+    }
+
+    /*
+     * Returns the total weight of every region.
+     */
+    private long getTotalWeight() {
+        return windowWeight + probationWeight + protectedWeight;
+    }
+
+    /*
+     * Records an access to the provided key in the frequency sketch, if there is one.
+     */
+    private void recordAccess(final K key) {
+        if (null != frequencySketch) {
+            frequencySketch.increment(key);
+        }
+    }
+
+    /*
+     * Determines whether the provided number of entries or weight exceeds their bounds.
+     */
+    private static boolean isOverLimit(final long entryCount, final long weight, final long maximumEntryCount,
+                                       final long maximumWeight) {
+        return entryCount > maximumEntryCount || weight > maximumWeight;
+    }
+
+    /*
+     * Returns the provided share of a bound, which is at least 1 so every region can hold an entry.
+     */
+    private static long getShare(final long bound, final double percentage) {
+        return UNBOUNDED == bound ? UNBOUNDED : Math.max(1, (long) (bound * percentage));
+    }
+
+    /*
+     * Subtracts the provided amount from a bound, leaving unbounded bounds as they are.
+     */
+    private static long subtract(final long bound, final long amount) {
+        return UNBOUNDED == bound ? UNBOUNDED : Math.max(0, bound - amount);
+    }
+
+    /*
+     * Entry stored in the node of a list. Keeps the key so evictions can remove the entry from the hash table.
+     */
+    private static final class CacheEntry<K, V> {
+
+        private final K key;
+
+        private V value;
+
+        private int weight;
+
+        private Region region;
+
+        private CacheEntry(final K key, final V value, final int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.region = Region.WINDOW;
+        }
+    }
+
+    /*
+     * Count-min sketch that estimates how often each key has been accessed, with four 4-bit counters per key packed
+     * into longs. Once the number of increments reaches the sample size, every counter is halved so the estimates favor
+     * recent history.
+     */
+    private static final class FrequencySketch {
+
+        private static final int MAXIMUM_FREQUENCY = 15;
+
+        private static final int MINIMUM_TABLE_SIZE = 64;
+
+        private static final int MAXIMUM_TABLE_SIZE = 1 << 26;
+
+        private static final int SAMPLE_SIZE_FACTOR = 10;
+
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private static final long[] SEEDS = {
+                0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L
+        };
+
+        private long[] table;
+
+        private long sampleSize;
+
+        private long additionCount;
+
+        /*
+         * Grows the sketch so it can tell apart the provided number of keys. Growing resets every counter.
+         */
+        private void ensureCapacity(final long expectedEntries) {
+            final int tableSize = (int) Math.max(MINIMUM_TABLE_SIZE, Math.min(MAXIMUM_TABLE_SIZE, expectedEntries));
+
+            if (null != table && table.length >= tableSize) {
+                return;
+            }
+
+            table = new long[Integer.highestOneBit(tableSize - 1) << 1];
+            sampleSize = (long) SAMPLE_SIZE_FACTOR * table.length;
+            additionCount = 0;
+        }
+
+        /*
+         * Returns the estimated number of accesses to the provided key, capped at the maximum frequency.
+         */
+        private int getFrequency(final Object key) {
+            final int hashCode = spreadHashCode(key.hashCode());
+            int frequency = MAXIMUM_FREQUENCY;
+
+            for (int row = 0; row < SEEDS.length; row++) {
+                final long counterHash = getCounterHash(hashCode, row);
+                final int counterShift = getCounterShift(counterHash);
+                final int counter = (int) ((table[getTableIndex(counterHash)] >>> counterShift) & MAXIMUM_FREQUENCY);
+
+                frequency = Math.min(frequency, counter);
+            }
+
+            return frequency;
+        }
+
+        /*
+         * Increments the counters of the provided key, unless they are already at the maximum frequency.
+         */
+        private void increment(final Object key) {
+            final int hashCode = spreadHashCode(key.hashCode());
+            boolean isIncremented = false;
+
+            for (int row = 0; row < SEEDS.length; row++) {
+                final long counterHash = getCounterHash(hashCode, row);
+                final int tableIndex = getTableIndex(counterHash);
+                final int counterShift = getCounterShift(counterHash);
+
+                if (MAXIMUM_FREQUENCY != ((table[tableIndex] >>> counterShift) & MAXIMUM_FREQUENCY)) {
+                    table[tableIndex] += 1L << counterShift;
+                    isIncremented = true;
+                }
+            }
+
+            if (isIncremented) {
+                additionCount += 1;
+
+                if (additionCount == sampleSize) {
+                    halveCounters();
+                }
+            }
+        }
+
+        /*
+         * Halves every counter at once by shifting each long and masking the bit that moved into the next counter.
+         */
+        private void halveCounters() {
+            for (int index = 0; index < table.length; index++) {
+                table[index] = (table[index] >>> 1) & RESET_MASK;
+            }
+
+            additionCount /= 2;
+        }
+
+        /*
+         * Mixes the hash code with the seed of the provided row, so each row places the key at a different counter.
+         */
+        private static long getCounterHash(final int hashCode, final int row) {
+            final long counterHash = (hashCode + SEEDS[row]) * SEEDS[row];
+
+            return counterHash + (counterHash >>> 32);
+        }
+
+        private int getTableIndex(final long counterHash) {
+            return (int) counterHash & (table.length - 1);
+        }
+
+        private static int getCounterShift(final long counterHash) {
+            return (int) ((counterHash >>> 58) & 0xF) << 2;
+        }
+
+        private static int spreadHashCode(final int hashCode) {
+            final int mixedHashCode = hashCode * 0x9E3779B9;
+
+            return mixedHashCode ^ (mixedHashCode >>> 16);
+        }
+    }
+
+    /**
+     * Configures the bounds, policy and loader of a {@link MyCache}. At least one bound is required.
+     *
+     * @param <K> Generic data type that represents keys in the cache.
+     * @param <V> Generic data type that represents values in the cache.
+     */
+    public static final class Builder<K, V> {
+
+        private long maximumEntries = UNBOUNDED;
+
+        private long maximumWeight = UNBOUNDED;
+
+        private ToIntBiFunction<? super K, ? super V> weigher = (key, value) -> 1;
+
+        private EvictionPolicy evictionPolicy = EvictionPolicy.W_TINY_LFU;
+
+        private Function<? super K, ? extends V> loader = null;
+
+        private Builder() {
+        }
+
+        /**
+         * Bounds the number of entries in the cache.
+         *
+         * @param maximumEntries Maximum number of entries.
+         * @return This builder.
+         */
+        public Builder<K, V> maximumEntries(@NonNull final Long maximumEntries) {
+            if (1 > maximumEntries) {
+                throw new IllegalArgumentException("Expected maximum entries of at least 1.");
+            }
+
+            this.maximumEntries = maximumEntries;
+            return this;
+        }
+
+        /**
+         * Bounds the total weight of the entries in the cache.
+         *
+         * @param maximumWeight Maximum total weight.
+         * @param weigher       Computes the weight of an entry, which must be at least 0. Called when the entry is
+         *                      inserted or replaced.
+         * @return This builder.
+         */
+        public Builder<K, V> maximumWeight(@NonNull final Long maximumWeight,
+                                           @NonNull final ToIntBiFunction<? super K, ? super V> weigher) {
+            if (0 > maximumWeight) {
+                throw new IllegalArgumentException("Expected maximum weight of at least 0.");
+            }
+
+            this.maximumWeight = maximumWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * Sets the policy used to choose which entry to evict. Defaults to W-TinyLFU.
+         *
+         * @param evictionPolicy {@link EvictionPolicy}
+         * @return This builder.
+         */
+        public Builder<K, V> evictionPolicy(@NonNull final EvictionPolicy evictionPolicy) {
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
+        /**
+         * Sets the loader used by get to load values for missing keys. The loader may return null if there is no value,
+         * which is not cached.
+         *
+         * @param loader Loads the value for a key.
+         * @return This builder.
+         */
+        public Builder<K, V> loader(@NonNull final Function<? super K, ? extends V> loader) {
+            this.loader = loader;
+            return this;
+        }
+
+        /**
+         * @return {@link MyCache} with the configured bounds, policy and loader.
+         */
+        public MyCache<K, V> build() {
+            if (UNBOUNDED == maximumEntries && UNBOUNDED == maximumWeight) {
+                throw new IllegalStateException("Expected maximum entries or maximum weight to be set.");
+            }
+
+            return new MyCache<>(this);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents an ArrayList implementation that stores its values in fixed-size chunks instead of a single array. Growing
+ * allocates one more chunk and never copies the values, so the list never needs more memory than its values plus one
+ * chunk at a time, unlike {@link MyArrayList}, which briefly holds both the old array and one resize factor times
+ * larger. Only the directory of chunks is copied when it fills up, which is one reference per chunk.
+ * <p>
+ * The chunk size is a power of two, so the chunk and the position within it are found with a shift and a mask of the
+ * index. {@link #trimToSize()} releases the chunks that no longer hold any values.
+ * <p>
+ * Insertion is O(1). Inserts to the end of the collection, allocating a new chunk every chunk size inserts.
+ * Deletion is O(N) where one loop will find the index and another will then shift the values across the chunks.
+ * Search is O(N) by value and O(1) by index.
+ *
+ * @param <T> Generic data type supported by the list.
+ */
+@Log4j2
+@EqualsAndHashCode
+public class MyChunkedArrayList<T> {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private static final int DEFAULT_DIRECTORY_SIZE = 8;
+
+    /*
+     * Number of bits to shift an index by to find its chunk.
+     */
+    private final int chunkShift;
+
+    /*
+     * Mask that keeps the position of an index within its chunk.
+     */
+    private final int chunkMask;
+
+    /*
+     * Tracks how many values have been written to the chunks.
+     */
+    private int size;
+
+    /*
+     * Number of chunks that have been allocated, including the ones that no longer hold any values.
+     */
+    private int chunkCount;
+
+    /*
+     * Directory of chunks. Only the first chunk count entries are allocated. Doubles in length once it is full.
+     */
+    private Object[][] chunks;
+
+    /**
+     * Default constructor. Uses chunks of 65536 values.
+     */
+    public MyChunkedArrayList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor that sets the chunk size of the data structure.
+     *
+     * @param chunkSize Number of values per chunk. Must be a power of two.
+     */
+    public MyChunkedArrayList(@NonNull final Integer chunkSize) {
+        if (1 > chunkSize || 0 != (chunkSize & (chunkSize - 1))) {
+            throw new IllegalArgumentException("Expected chunk size that is a power of two.");
+        }
+
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkSize);
+        this.chunkMask = chunkSize - 1;
+        this.size = 0;
+        this.chunkCount = 0;
+        this.chunks = new Object[DEFAULT_DIRECTORY_SIZE][];
+    }
+
+    /**
+     * Inserts the given value. Will allocate a new chunk if the last chunk is full.
+     *
+     * @param valueToInsert {@link T}
+     */
+    public void insert(@NonNull final T valueToInsert) {
+        final int chunkIndex = size >>> chunkShift;
+
+        if (chunkIndex == chunkCount) {
+            allocateChunk();
+        }
+
+        chunks[chunkIndex][size & chunkMask] = valueToInsert;
+        size += 1;
+    }
+
+    /**
+     * Retrieves the value at the given index. Will fail if the index is out of bounds.
+     *
+     * @param index Index of the value to retrieve.
+     * @return Value at the index.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(final int index) {
+        if (0 > index || index >= size) {
+            throw new IndexOutOfBoundsException("Index not found in the list.");
+        }
+
+        return (T) chunks[index >>> chunkShift][index & chunkMask];
+    }
+
+    /**
+     * Finds the index of the given value.
+     *
+     * @param valueToSearch {@link T}
+     * @return Index of the value in the data structure, or -1 if the value does not exist.
+     */
+    public int indexOf(@NonNull final T valueToSearch) {
+        final int usedChunkCount = getUsedChunkCount();
+
+        for (int chunkIndex = 0; chunkIndex < usedChunkCount; chunkIndex++) {
+            final Object[] chunk = chunks[chunkIndex];
+            final int chunkStart = chunkIndex << chunkShift;
+            final int chunkEnd = Math.min(chunk.length, size - chunkStart);
+
+            for (int offset = 0; offset < chunkEnd; offset++) {
+                if (valueToSearch.equals(chunk[offset])) {
+                    return chunkStart + offset;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Removes the given value.
+     *
+     * @param valueToRemove {@link T}
+     * @return Value that was removed, or null if the value does not exist.
+     */
+    public T remove(@NonNull final T valueToRemove) {
+        final int indexToRemove = indexOf(valueToRemove);
+
+        if (-1 == indexToRemove) {
+            return null;
+        }
+
+        final int lastChunkIndex = (size - 1) >>> chunkShift;
+        int offset = indexToRemove & chunkMask;
+
+        // Shift the rest of each chunk up by one, and carry the first value of the next chunk into the freed last slot.
+        // The last chunk has nothing to carry, so its freed slot is cleared instead.
+        for (int chunkIndex = indexToRemove >>> chunkShift; chunkIndex <= lastChunkIndex; chunkIndex++) {
+            final Object[] chunk = chunks[chunkIndex];
+            final int lastOffset = chunkIndex == lastChunkIndex ? (size - 1) & chunkMask : chunkMask;
+
+            System.arraycopy(chunk, offset + 1, chunk, offset, lastOffset - offset);
+            chunk[lastOffset] = chunkIndex == lastChunkIndex ? null : chunks[chunkIndex + 1][0];
+            offset = 0;
+        }
+
+        size -= 1;
+
+        return valueToRemove;
+    }
+
+    /**
+     * Checks for the given value.
+     *
+     * @param valueToSearch {@link T}
+     * @return True if the data structure contains this value, false otherwise.
+     */
+    public boolean contains(@NonNull final T valueToSearch) {
+        return indexOf(valueToSearch) != -1;
+    }
+
+    /**
+     * Releases the chunks that no longer hold any values, and shrinks the directory of chunks to fit the rest.
+     */
+    public void trimToSize() {
+        chunkCount = getUsedChunkCount();
+        chunks = Arrays.copyOf(chunks, Math.max(1, chunkCount));
+
+        // An empty list keeps a directory of one entry, which must not hold on to the released chunk.
+        Arrays.fill(chunks, chunkCount, chunks.length, null);
+    }
+
+    /**
+     * @return Number of values in the data structure.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return Number of values the allocated chunks can hold.
+     */
+    public long getCapacity() {
+        return (long) chunkCount << chunkShift;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns string version of the data structure. Uses brackets to identify start and end of collection. Separates
+     * the values using comma and space.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder stringBuilder = new StringBuilder();
+
+        if (0 == size) {
+            stringBuilder.append("[]");
+        } else {
+            stringBuilder.append("[");
+
+            for (int index = 0; index < size; index++) {
+                stringBuilder.append(chunks[index >>> chunkShift][index & chunkMask]);
+
+                if (size - index != 1) {
+                    stringBuilder.append(",").append(" ");
+                }
+            }
+
+            stringBuilder.append("]");
+        }
+
+        return stringBuilder.toString();
+    }
+
+    /*
+     * Retrieves the number of chunks that hold at least one value.
+     */
+    private int getUsedChunkCount() {
+        return (int) (((long) size + chunkMask) >>> chunkShift);
+    }
+
+    /*
+     * Allocates the next chunk. Doubles the directory of chunks first if it is full.
+     */
+    private void allocateChunk() {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+
+        chunks[chunkCount] = new Object[chunkMask + 1];
+        chunkCount += 1;
+    }
+}
@@ -0,0 +1,381 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents a thread-safe ArrayList implementation for lists that are read far more often than they are written.
+ * Readers never lock: every read works on an immutable {@link Snapshot} of the list, which a reader gets with a single
+ * volatile read and can keep, iterate or stream for as long as it needs. Writers take a lock, build the next snapshot
+ * and publish it.
+ * <p>
+ * A snapshot covers the first size slots of an array, and those slots never change once the snapshot is published.
+ * Appending writes to the slots past the end of the current snapshot and publishes a larger snapshot over the same
+ * array, so older snapshots are unaffected and appends only copy when the array is full. Removing copies the remaining
+ * values into a new array, like a copy-on-write list. Inserting or removing many values at once publishes a single
+ * snapshot for the whole batch. Readers that hold on to an old snapshot keep its array alive.
+ * <p>
+ * Insertion is O(1) despite resizing due to amortized insertion. Inserts to the end of the collection.
+ * Deletion is O(N), since every removal copies the values into a new array.
+ * Search is O(N). Retrieving by index is O(1).
+ *
+ * @param <T> Generic data type supported by the list.
+ */
+@Log4j2
+public class MyConcurrentArrayList<T> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private static final int DEFAULT_RESIZE_FACTOR = 2;
+
+    /*
+     * Serializes the writers. Readers never use it.
+     */
+    private final Object writeLock;
+
+    /*
+     * Most recently published snapshot. Publishing a new one makes every write to its array visible to the readers.
+     */
+    private volatile Snapshot<T> currentSnapshot;
+
+    /**
+     * Default constructor.
+     */
+    public MyConcurrentArrayList() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructor that sets the initial capacity of the data structure.
+     *
+     * @param initialCapacity Value used for setting the initial size of the data structure.
+     */
+    public MyConcurrentArrayList(@NonNull final Integer initialCapacity) {
+        if (0 > initialCapacity) {
+            throw new IllegalArgumentException("Expected initial capacity of at least 0.");
+        }
+
+        this.writeLock = new Object();
+        this.currentSnapshot = new Snapshot<>(new Object[initialCapacity], 0, 0);
+    }
+
+    /**
+     * Inserts the given value and publishes a new snapshot.
+     *
+     * @param valueToInsert {@link T}
+     */
+    public void insert(@NonNull final T valueToInsert) {
+        synchronized (writeLock) {
+            final Snapshot<T> snapshot = currentSnapshot;
+            final Object[] values = getArrayWithRoom(snapshot, 1);
+
+            values[snapshot.size] = valueToInsert;
+            currentSnapshot = new Snapshot<>(values, snapshot.size + 1, snapshot.version + 1);
+        }
+    }
+
+    /**
+     * Inserts the given values in order and publishes a single snapshot for all of them. Readers see either none or
+     * all of the values.
+     *
+     * @param valuesToInsert Values to insert.
+     */
+    public void insertAll(@NonNull final Collection<? extends T> valuesToInsert) {
+        final Object[] newValues = valuesToInsert.toArray();
+
+        for (final Object newValue : newValues) {
+            if (null == newValue) {
+                throw new NullPointerException("valuesToInsert contains null");
+            }
+        }
+
+        synchronized (writeLock) {
+            final Snapshot<T> snapshot = currentSnapshot;
+            final Object[] values = getArrayWithRoom(snapshot, newValues.length);
+
+            System.arraycopy(newValues, 0, values, snapshot.size, newValues.length);
+            currentSnapshot = new Snapshot<>(values, snapshot.size + newValues.length, snapshot.version + 1);
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the given value and publishes a new snapshot, if the value exists.
+     *
+     * @param valueToRemove {@link T}
+     * @return Value that was removed, or null if the value does not exist.
+     */
+    public T remove(@NonNull final T valueToRemove) {
+        synchronized (writeLock) {
+            final Snapshot<T> snapshot = currentSnapshot;
+            final int indexToRemove = snapshot.indexOf(valueToRemove);
+
+            if (-1 == indexToRemove) {
+                return null;
+            }
+
+            // Copy the values around the removed one into a new array, since older snapshots may still read the
+            // current one.
+            final Object[] values = new Object[snapshot.values.length];
+            System.arraycopy(snapshot.values, 0, values, 0, indexToRemove);
+            System.arraycopy(
+                    snapshot.values, indexToRemove + 1, values, indexToRemove, snapshot.size - indexToRemove - 1);
+            currentSnapshot = new Snapshot<>(values, snapshot.size - 1, snapshot.version + 1);
+
+            return valueToRemove;
+        }
+    }
+
+    /**
+     * Removes every value that matches the provided filter, keeping the order of the rest, and publishes a single
+     * snapshot for all of the removals, if any.
+     *
+     * @param filter Predicate that returns true for the values to remove.
+     * @return Number of values that were removed.
+     */
+    @SuppressWarnings("unchecked")
+    public int removeIf(@NonNull final Predicate<? super T> filter) {
+        synchronized (writeLock) {
+            final Snapshot<T> snapshot = currentSnapshot;
+            final Object[] values = new Object[snapshot.values.length];
+            int newSize = 0;
+
+            for (int index = 0; index < snapshot.size; index++) {
+                if (!filter.test((T) snapshot.values[index])) {
+                    values[newSize] = snapshot.values[index];
+                    newSize += 1;
+                }
+            }
+
+            if (newSize != snapshot.size) {
+                currentSnapshot = new Snapshot<>(values, newSize, snapshot.version + 1);
+            }
+
+            return snapshot.size - newSize;
+        }
+    }
+
+    /**
+     * Returns the most recently published snapshot, without locking. The snapshot never changes, so it can be read by
+     * any number of threads, and it does not see later writes.
+     *
+     * @return {@link Snapshot}
+     */
+    public Snapshot<T> snapshot() {
+        return currentSnapshot;
+    }
+
+    /**
+     * Retrieves the value at the given index in the most recently published snapshot.
+     *
+     * @param index Index of the value to retrieve.
+     * @return Value at the index.
+     */
+    public T get(final int index) {
+        return currentSnapshot.get(index);
+    }
+
+    /**
+     * Finds the index of the given value in the most recently published snapshot.
+     *
+     * @param valueToSearch {@link T}
+     * @return Index of the value in the data structure, or -1 if the value does not exist.
+     */
+    public int indexOf(@NonNull final T valueToSearch) {
+        return currentSnapshot.indexOf(valueToSearch);
+    }
+
+    /**
+     * Checks for the given value in the most recently published snapshot.
+     *
+     * @param valueToSearch {@link T}
+     * @return True if the data structure contains this value, false otherwise.
+     */
+    public boolean contains(@NonNull final T valueToSearch) {
+        return currentSnapshot.indexOf(valueToSearch) != -1;
+    }
+
+    /**
+     * @return Number of values in the most recently published snapshot.
+     */
+    public int getSize() {
+        return currentSnapshot.size;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns string version of the most recently published snapshot. Uses brackets to identify start and end of
+     * collection. Separates the values using comma and space.
+     */
+    @Override
+    public String toString() {
+        return currentSnapshot.toString();
+    }
+
+    /*
+     * Returns an array that holds the values of the provided snapshot and has room for the provided number of values
+     * after them. Reuses the array of the snapshot if it has room, since the slots past the end of the snapshot are
+     * not read by any published snapshot. Otherwise, copies the values into an array that is resize factor times
+     * larger, or large enough for the values to add.
+     */
+    private Object[] getArrayWithRoom(final Snapshot<T> snapshot, final int valueCount) {
+        final long requiredCapacity = (long) snapshot.size + valueCount;
+
+        if (requiredCapacity <= snapshot.values.length) {
+            return snapshot.values;
+        }
+
+        if (Integer.MAX_VALUE - 8 < requiredCapacity) {
+            throw new IllegalStateException("Expected at most " + (Integer.MAX_VALUE - 8) + " values.");
+        }
+
+        final long newCapacity = Math.max(requiredCapacity, (long) snapshot.values.length * DEFAULT_RESIZE_FACTOR);
+
+        return Arrays.copyOf(snapshot.values, (int) Math.min(Integer.MAX_VALUE - 8, newCapacity));
+    }
+
+    /**
+     * Immutable view of the list at the time it was published. Covers the first size slots of an array that are never
+     * written again. Streams and iterators read the array in place without copying it, and the stream splits evenly for
+     * parallel processing since its size is known.
+     *
+     * @param <T> Generic data type supported by the snapshot.
+     */
+    public static final class Snapshot<T> implements Iterable<T> {
+
+        /*
+         * Array whose first size slots hold the values of the snapshot. Slots past the size may be written by later
+         * appends and are never read.
+         */
+        private final Object[] values;
+
+        private final int size;
+
+        /*
+         * Number of snapshots published before this one.
+         */
+        private final long version;
+
+        private Snapshot(final Object[] values, final int size, final long version) {
+            this.values = values;
+            this.size = size;
+            this.version = version;
+        }
+
+        /**
+         * Retrieves the value at the given index. Will fail if the index is out of bounds.
+         *
+         * @param index Index of the value to retrieve.
+         * @return Value at the index.
+         */
+        @SuppressWarnings("unchecked")
+        public T get(final int index) {
+            if (0 > index || index >= size) {
+                throw new IndexOutOfBoundsException("Index not found in the list.");
+            }
+
+            return (T) values[index];
+        }
+
+        /**
+         * Finds the index of the given value.
+         *
+         * @param valueToSearch {@link T}
+         * @return Index of the value in the snapshot, or -1 if the value does not exist.
+         */
+        public int indexOf(@NonNull final T valueToSearch) {
+            for (int index = 0; index < size; index++) {
+                if (valueToSearch.equals(values[index])) {
+                    return index;
+                }
+            }
+
+            return -1;
+        }
+
+        /**
+         * @return Number of values in the snapshot.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return Number of snapshots published before this one. Increases by one with every publish.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * @return Sequential stream over the values, which can be turned into a parallel one.
+         */
+        public Stream<T> stream() {
+            return Arrays.stream(getValues(), 0, size);
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Returns an iterator over the values, which does not support removal.
+         */
+        @Override
+        public Iterator<T> iterator() {
+            return stream().iterator();
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Returns a SIZED, SUBSIZED, ORDERED and IMMUTABLE spliterator over the values.
+         */
+        @Override
+        public Spliterator<T> spliterator() {
+            return Arrays.spliterator(getValues(), 0, size);
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Returns string version of the snapshot. Uses brackets to identify start and end of collection. Separates the
+         * values using comma and space.
+         */
+        @Override
+        public String toString() {
+            final StringBuilder stringBuilder = new StringBuilder();
+
+            if (0 == size) {
+                stringBuilder.append("[]");
+            } else {
+                stringBuilder.append("[");
+
+                for (int index = 0; index < size; index++) {
+                    stringBuilder.append(values[index]);
+
+                    if (size - index != 1) {
+                        stringBuilder.append(",").append(" ");
+                    }
+                }
+
+                stringBuilder.append("]");
+            }
+
+            return stringBuilder.toString();
+        }
+
+        /*
+         * Views the array as an array of the data type. Only ever read, so the element type of the array does not
+         * matter.
+         */
+        @SuppressWarnings("unchecked")
+        private T[] getValues() {
+            return (T[]) values;
+        }
+    }
+}
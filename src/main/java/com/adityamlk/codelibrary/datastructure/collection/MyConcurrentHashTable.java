@@ -0,0 +1,675 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents a thread-safe HashTable implementation. Chains entries that share a bucket like {@link MyHashTable}, but
+ * allows any number of threads to read and write at the same time without a global lock.
+ * <p>
+ * Reads never lock. They walk the bucket chain through volatile references and see the results of the most recently
+ * completed writes. Writes to an empty bucket install the first entry with a compare-and-set; writes to a non-empty
+ * bucket lock only the head entry of that bucket, so writers to different buckets never contend. The size is tracked
+ * with a {@link LongAdder} so updating it does not become a point of contention either.
+ * <p>
+ * Resizing is cooperative. The thread that crosses the load factor allocates the larger collection and starts moving
+ * buckets over in ranges. Any other writer that runs into a bucket that has already been moved helps move the remaining
+ * ranges before continuing its own write against the larger collection, and readers simply follow the moved bucket to
+ * the larger collection. The load is spread across the writers instead of stalling a single one.
+ * <p>
+ * Insertion is O(1). Inserting an existing key replaces its value.
+ * Deletion is O(1). Deletes based on the bucket that the provided key belongs in.
+ * Search is O(1). Searches based on the bucket that the provided key belongs in.
+ *
+ * @param <K> Generic data type that represents keys in the hash table.
+ * @param <V> Generic data type that represents values in the hash table.
+ */
+@Log4j2
+public class MyConcurrentHashTable<K, V> {
+
+    private static final double DEFAULT_LOAD_FACTOR_LIMIT = 0.75;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+    private static final int DEFAULT_RESIZE_FACTOR = 2;
+
+    /*
+     * Smallest number of buckets a thread claims at once while resizing. Keeps threads from contending on the transfer
+     * index for every single bucket.
+     */
+    private static final int MINIMUM_TRANSFER_STRIDE = 16;
+
+    /*
+     * Hash codes of the special nodes. Spread hash codes of keys are always non-negative, so these never match a key.
+     */
+    private static final int FORWARDING_HASH_CODE = -1;
+
+    private static final int RESERVATION_HASH_CODE = -2;
+
+    private static final int USABLE_HASH_BITS = 0x7FFFFFFF;
+
+    private static final int NUMBER_OF_PROCESSORS = Runtime.getRuntime().availableProcessors();
+
+    /*
+     * The number of entries stored in the hash table. Spread across cells so concurrent writers do not contend on it.
+     */
+    private final LongAdder size;
+
+    /*
+     * The current buckets of the hash table, along with the larger buckets while a resize is in progress. Kept in a
+     * single reference so starting and finishing a resize are each a single atomic step.
+     */
+    private final AtomicReference<CollectionState<K, V>> collectionState;
+
+    /**
+     * Default constructor.
+     */
+    public MyConcurrentHashTable() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructor that sets the initial capacity of the data structure. The capacity is rounded up to the next power
+     * of two.
+     *
+     * @param initialCapacity Value used for setting the initial number of buckets in the data structure.
+     */
+    public MyConcurrentHashTable(@NonNull final Integer initialCapacity) {
+        if (1 > initialCapacity) {
+            throw new IllegalArgumentException("Expected initial capacity of at least 1.");
+        }
+
+        final int capacity = 1 == initialCapacity ? 1 : Integer.highestOneBit(initialCapacity - 1) << 1;
+
+        this.size = new LongAdder();
+        this.collectionState = new AtomicReference<>(new CollectionState<>(new AtomicReferenceArray<>(capacity)));
+    }
+
+    /**
+     * Inserts the given key and value pair. Replaces the value if the key already exists.
+     *
+     * @param keyToInsert   {@link K}
+     * @param valueToInsert {@link V}
+     */
+    public void insert(@NonNull final K keyToInsert, @NonNull final V valueToInsert) {
+        putValue(keyToInsert, valueToInsert, false);
+    }
+
+    /**
+     * Inserts the given key and value pair only if the key does not exist yet, as a single atomic step.
+     *
+     * @param keyToInsert   {@link K}
+     * @param valueToInsert {@link V}
+     * @return Value already associated with the key, or null if the given value was inserted.
+     */
+    public V putIfAbsent(@NonNull final K keyToInsert, @NonNull final V valueToInsert) {
+        return putValue(keyToInsert, valueToInsert, true);
+    }
+
+    /**
+     * Computes a new value for the provided key from its current value, as a single atomic step. The function is
+     * called while the bucket of the key is locked, so it should be short and must not update this hash table.
+     *
+     * @param keyToCompute      {@link K}
+     * @param remappingFunction Function that receives the key and its current value, or null if the key does not
+     *                          exist, and returns the new value, or null to remove the key.
+     * @return New value associated with the key, or null if the key does not exist anymore.
+     */
+    public V compute(
+            @NonNull final K keyToCompute,
+            @NonNull final BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        final int keyHashCode = spreadHashCode(keyToCompute.hashCode());
+        AtomicReferenceArray<Node<K, V>> buckets = collectionState.get().buckets;
+        V newValue = null;
+        int sizeChange = 0;
+        boolean isComputed = false;
+
+        while (!isComputed) {
+            final int bucket = getBucketForHashCode(keyHashCode, buckets);
+            final Node<K, V> head = buckets.get(bucket);
+
+            if (null == head) {
+                // Reserve the empty bucket with a locked placeholder, so no other writer can use the bucket while the
+                // function runs.
+                final Node<K, V> reservationNode = new Node<>(RESERVATION_HASH_CODE, null, null, null);
+
+                synchronized (reservationNode) {
+                    if (buckets.compareAndSet(bucket, null, reservationNode)) {
+                        Node<K, V> nodeToInsert = null;
+
+                        try {
+                            newValue = remappingFunction.apply(keyToCompute, null);
+
+                            if (null != newValue) {
+                                nodeToInsert = new Node<>(keyHashCode, keyToCompute, newValue, null);
+                                sizeChange = 1;
+                            }
+                        } finally {
+                            buckets.set(bucket, nodeToInsert);
+                        }
+
+                        isComputed = true;
+                    }
+                }
+            } else if (FORWARDING_HASH_CODE == head.hashCode) {
+                buckets = helpResize(buckets, head);
+            } else {
+                synchronized (head) {
+                    if (buckets.get(bucket) == head) {
+                        checkNotReserved(head);
+
+                        Node<K, V> previous = null;
+                        Node<K, V> current = head;
+
+                        // Find the key in the bucket. Either update or unlink its node, or append a new node if the
+                        // key does not exist and the function returned a value.
+                        while (null != current && !isNodeForKey(current, keyHashCode, keyToCompute)) {
+                            previous = current;
+                            current = current.next;
+                        }
+
+                        newValue = remappingFunction.apply(keyToCompute, null == current ? null : current.value);
+
+                        if (null != current && null != newValue) {
+                            current.value = newValue;
+                        } else if (null != current) {
+                            unlinkNode(buckets, bucket, previous, current);
+                            sizeChange = -1;
+                        } else if (null != newValue) {
+                            previous.next = new Node<>(keyHashCode, keyToCompute, newValue, null);
+                            sizeChange = 1;
+                        }
+
+                        isComputed = true;
+                    }
+                }
+            }
+        }
+
+        updateSize(sizeChange);
+
+        return newValue;
+    }
+
+    /**
+     * Merges the given value into the value of the provided key, as a single atomic step. Inserts the given value if
+     * the key does not exist yet. The function is called while the bucket of the key is locked, so it should be short
+     * and must not update this hash table.
+     *
+     * @param keyToMerge        {@link K}
+     * @param valueToMerge      {@link V}
+     * @param remappingFunction Function that receives the current value and the given value and returns the merged
+     *                          value, or null to remove the key.
+     * @return New value associated with the key, or null if the key does not exist anymore.
+     */
+    public V merge(
+            @NonNull final K keyToMerge,
+            @NonNull final V valueToMerge,
+            @NonNull final BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        return compute(
+                keyToMerge,
+                (key, currentValue) ->
+                        null == currentValue ? valueToMerge : remappingFunction.apply(currentValue, valueToMerge));
+    }
+
+    /**
+     * Retrieves the value for the provided key. Never locks.
+     *
+     * @param keyForRetrieval {@link K}
+     * @return Value associated with the key, or null if the key does not exist.
+     */
+    public V get(@NonNull final K keyForRetrieval) {
+        final int keyHashCode = spreadHashCode(keyForRetrieval.hashCode());
+        AtomicReferenceArray<Node<K, V>> buckets = collectionState.get().buckets;
+        Node<K, V> current = buckets.get(getBucketForHashCode(keyHashCode, buckets));
+
+        // If the bucket has been moved by a resize, then follow it to the larger collection.
+        while (null != current && FORWARDING_HASH_CODE == current.hashCode) {
+            buckets = current.nextBuckets;
+            current = buckets.get(getBucketForHashCode(keyHashCode, buckets));
+        }
+
+        while (null != current) {
+            if (isNodeForKey(current, keyHashCode, keyForRetrieval)) {
+                return current.value;
+            }
+
+            current = current.next;
+        }
+
+        return null;
+    }
+
+    /**
+     * Removes the value for the provided key.
+     *
+     * @param keyForRemoval {@link K}
+     * @return Value associated with the key, or null if the key does not exist.
+     */
+    public V remove(@NonNull final K keyForRemoval) {
+        final int keyHashCode = spreadHashCode(keyForRemoval.hashCode());
+        AtomicReferenceArray<Node<K, V>> buckets = collectionState.get().buckets;
+
+        while (true) {
+            final int bucket = getBucketForHashCode(keyHashCode, buckets);
+            final Node<K, V> head = buckets.get(bucket);
+
+            if (null == head) {
+                return null;
+            } else if (FORWARDING_HASH_CODE == head.hashCode) {
+                buckets = helpResize(buckets, head);
+            } else {
+                synchronized (head) {
+                    if (buckets.get(bucket) == head) {
+                        Node<K, V> previous = null;
+                        Node<K, V> current = head;
+
+                        while (null != current && !isNodeForKey(current, keyHashCode, keyForRemoval)) {
+                            previous = current;
+                            current = current.next;
+                        }
+
+                        if (null == current) {
+                            return null;
+                        }
+
+                        unlinkNode(buckets, bucket, previous, current);
+                        size.decrement();
+
+                        return current.value;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines whether a value exists for the provided key. Never locks.
+     *
+     * @param keyToSearch {@link K}
+     * @return True if the key exists in the hash table, false otherwise.
+     */
+    public boolean contains(@NonNull final K keyToSearch) {
+        return null != get(keyToSearch);
+    }
+
+    /**
+     * @return Number of values in the data structure. Only exact while no other thread is writing.
+     */
+    public int getSize() {
+        return (int) Math.max(0, size.sum());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns string version of the data structure. Uses curly braces to identify start and end of collection.
+     * Separates the entries using comma and space. Separates the keys and values using '='. Only reflects a consistent
+     * state while no other thread is writing.
+     */
+    @Override
+    public String toString() {
+        final AtomicReferenceArray<Node<K, V>> buckets = collectionState.get().buckets;
+        final StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("{");
+
+        for (int bucket = 0; bucket < buckets.length(); bucket++) {
+            appendBucket(stringBuilder, buckets, bucket);
+        }
+
+        // Drop the separator after the last entry, if there were any entries.
+        if (1 < stringBuilder.length()) {
+            stringBuilder.setLength(stringBuilder.length() - 2);
+        }
+
+        stringBuilder.append("}");
+        return stringBuilder.toString();
+    }
+
+    /*
+     * Appends the entries of the provided bucket, followed by comma and space. Follows buckets that have been moved by
+     * a resize to both buckets they were split into.
+     */
+    private void appendBucket(
+            final StringBuilder stringBuilder,
+            final AtomicReferenceArray<Node<K, V>> buckets,
+            final int bucket) {
+        final Node<K, V> head = buckets.get(bucket);
+
+        if (null != head && FORWARDING_HASH_CODE == head.hashCode) {
+            appendBucket(stringBuilder, head.nextBuckets, bucket);
+            appendBucket(stringBuilder, head.nextBuckets, bucket + buckets.length());
+            return;
+        }
+
+        for (Node<K, V> current = head; null != current; current = current.next) {
+            if (RESERVATION_HASH_CODE != current.hashCode) {
+                stringBuilder.append(current.key).append('=').append(current.value).append(",").append(" ");
+            }
+        }
+    }
+
+    /*
+     * Shared implementation of insert and putIfAbsent. Returns the value that was associated with the key before, or
+     * null if the key did not exist.
+     */
+    private V putValue(final K key, final V value, final boolean onlyIfAbsent) {
+        final int keyHashCode = spreadHashCode(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> buckets = collectionState.get().buckets;
+
+        while (true) {
+            final int bucket = getBucketForHashCode(keyHashCode, buckets);
+            final Node<K, V> head = buckets.get(bucket);
+
+            if (null == head) {
+                // If the bucket is empty, then install the node without locking.
+                if (buckets.compareAndSet(bucket, null, new Node<>(keyHashCode, key, value, null))) {
+                    updateSize(1);
+                    return null;
+                }
+            } else if (FORWARDING_HASH_CODE == head.hashCode) {
+                buckets = helpResize(buckets, head);
+            } else {
+                boolean isAppended = false;
+
+                synchronized (head) {
+                    if (buckets.get(bucket) == head) {
+                        checkNotReserved(head);
+
+                        Node<K, V> current = head;
+
+                        // Replace the value if the key already exists, otherwise append a new node to the bucket.
+                        while (true) {
+                            if (isNodeForKey(current, keyHashCode, key)) {
+                                final V previousValue = current.value;
+
+                                if (!onlyIfAbsent) {
+                                    current.value = value;
+                                }
+
+                                return previousValue;
+                            }
+
+                            if (null == current.next) {
+                                current.next = new Node<>(keyHashCode, key, value, null);
+                                isAppended = true;
+                                break;
+                            }
+
+                            current = current.next;
+                        }
+                    }
+                }
+
+                // If the bucket changed before the lock was acquired, then nothing was written and the loop retries.
+                if (isAppended) {
+                    updateSize(1);
+                    return null;
+                }
+            }
+        }
+    }
+
+    /*
+     * Unlinks the provided node from its bucket. Must be called while holding the lock on the head of the bucket.
+     */
+    private void unlinkNode(
+            final AtomicReferenceArray<Node<K, V>> buckets,
+            final int bucket,
+            final Node<K, V> previous,
+            final Node<K, V> nodeToUnlink) {
+        if (null == previous) {
+            buckets.set(bucket, nodeToUnlink.next);
+        } else {
+            previous.next = nodeToUnlink.next;
+        }
+    }
+
+    /*
+     * Adds the provided change to the size. If the table grew past the load factor limit, then starts a resize, or
+     * helps with the one that is already in progress.
+     */
+    private void updateSize(final int sizeChange) {
+        if (0 == sizeChange) {
+            return;
+        }
+
+        size.add(sizeChange);
+
+        if (0 < sizeChange) {
+            final CollectionState<K, V> currentState = collectionState.get();
+
+            if (currentState.isResizing()) {
+                transferBuckets(currentState);
+            } else if (size.sum() >= currentState.buckets.length() * DEFAULT_LOAD_FACTOR_LIMIT) {
+                final CollectionState<K, V> resizingState = currentState.startResize();
+
+                // Only one thread wins the race to start the resize; the rest help with it.
+                if (collectionState.compareAndSet(currentState, resizingState)) {
+                    log.debug("Resizing from {} to {} buckets.", currentState.buckets.length(),
+                            resizingState.nextBuckets.length());
+                    transferBuckets(resizingState);
+                } else {
+                    helpResize(currentState.buckets, null);
+                }
+            }
+        }
+    }
+
+    /*
+     * Helps with the resize that moved the provided buckets, if it is still in progress, and returns the larger
+     * buckets to retry the write against.
+     */
+    private AtomicReferenceArray<Node<K, V>> helpResize(
+            final AtomicReferenceArray<Node<K, V>> buckets,
+            final Node<K, V> forwardingNode) {
+        final CollectionState<K, V> currentState = collectionState.get();
+
+        if (currentState.isResizing() && currentState.buckets == buckets) {
+            transferBuckets(currentState);
+        }
+
+        return null == forwardingNode ? collectionState.get().buckets : forwardingNode.nextBuckets;
+    }
+
+    /*
+     * Claims ranges of buckets from the resize and moves them to the larger buckets until there are no ranges left.
+     * The thread that moves the last range publishes the larger buckets as the current buckets.
+     */
+    private void transferBuckets(final CollectionState<K, V> resizingState) {
+        final int bucketCount = resizingState.buckets.length();
+
+        while (true) {
+            final int upperBucket = resizingState.transferIndex.get();
+
+            if (0 >= upperBucket) {
+                return;
+            }
+
+            final int lowerBucket = Math.max(0, upperBucket - resizingState.transferStride);
+
+            if (!resizingState.transferIndex.compareAndSet(upperBucket, lowerBucket)) {
+                continue;
+            }
+
+            for (int bucket = upperBucket - 1; bucket >= lowerBucket; bucket--) {
+                transferBucket(resizingState, bucket);
+            }
+
+            final int bucketsTransferred = resizingState.bucketsTransferred.addAndGet(upperBucket - lowerBucket);
+
+            if (bucketsTransferred == bucketCount) {
+                collectionState.set(new CollectionState<>(resizingState.nextBuckets));
+                return;
+            }
+        }
+    }
+
+    /*
+     * Moves a single bucket to the larger buckets. Since the capacity doubles, each entry either stays at the same
+     * index or moves up by the old capacity, depending on one bit of its hash code. Copies the nodes instead of moving
+     * them so readers that are still walking the old chain are not affected, then replaces the old bucket with a
+     * forwarding node.
+     */
+    private void transferBucket(final CollectionState<K, V> resizingState, final int bucket) {
+        final AtomicReferenceArray<Node<K, V>> buckets = resizingState.buckets;
+        final AtomicReferenceArray<Node<K, V>> nextBuckets = resizingState.nextBuckets;
+        final int bucketCount = buckets.length();
+
+        while (true) {
+            final Node<K, V> head = buckets.get(bucket);
+
+            if (null == head) {
+                if (buckets.compareAndSet(bucket, null, resizingState.forwardingNode)) {
+                    return;
+                }
+            } else {
+                synchronized (head) {
+                    if (buckets.get(bucket) == head) {
+                        Node<K, V> lowerChain = null;
+                        Node<K, V> upperChain = null;
+
+                        for (Node<K, V> current = head; null != current; current = current.next) {
+                            if (0 == (current.hashCode & bucketCount)) {
+                                lowerChain = new Node<>(current.hashCode, current.key, current.value, lowerChain);
+                            } else {
+                                upperChain = new Node<>(current.hashCode, current.key, current.value, upperChain);
+                            }
+                        }
+
+                        nextBuckets.set(bucket, lowerChain);
+                        nextBuckets.set(bucket + bucketCount, upperChain);
+                        buckets.set(bucket, resizingState.forwardingNode);
+
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * Fails if the provided head is the placeholder of a compute in progress on the same thread. The lock is reentrant,
+     * so the placeholder would otherwise be treated as a regular node.
+     */
+    private void checkNotReserved(final Node<K, V> head) {
+        if (RESERVATION_HASH_CODE == head.hashCode) {
+            throw new IllegalStateException("Recursive update of the same bucket while computing a value.");
+        }
+    }
+
+    /*
+     * Determines whether the provided node holds the provided key.
+     */
+    private boolean isNodeForKey(final Node<K, V> node, final int keyHashCode, final Object key) {
+        return keyHashCode == node.hashCode && key.equals(node.key);
+    }
+
+    /*
+     * Returns bucket for the spread hash code provided. The capacity is a power of two, so masking keeps the bucket
+     * within the collection.
+     */
+    private static int getBucketForHashCode(final int keyHashCode, final AtomicReferenceArray<?> buckets) {
+        return keyHashCode & (buckets.length() - 1);
+    }
+
+    /*
+     * Spreads the higher bits of the hash code into the lower bits used by the mask, and clears the sign bit so spread
+     * hash codes never collide with the hash codes of the special nodes.
+     */
+    private static int spreadHashCode(final int keyHashCode) {
+        return (keyHashCode ^ (keyHashCode >>> 16)) & USABLE_HASH_BITS;
+    }
+
+    /*
+     * Node in a bucket chain. The value and the next pointer are volatile so readers that do not lock see complete
+     * updates. Also used for the forwarding node that replaces a moved bucket and for the placeholder that reserves an
+     * empty bucket while a value is computed.
+     */
+    private static class Node<K, V> {
+
+        private final int hashCode;
+
+        private final K key;
+
+        private volatile V value;
+
+        private volatile Node<K, V> next;
+
+        /*
+         * Larger buckets to follow, only set on forwarding nodes.
+         */
+        private final AtomicReferenceArray<Node<K, V>> nextBuckets;
+
+        private Node(final int hashCode, final K key, final V value, final Node<K, V> next) {
+            this.hashCode = hashCode;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+            this.nextBuckets = null;
+        }
+
+        private Node(final AtomicReferenceArray<Node<K, V>> nextBuckets) {
+            this.hashCode = FORWARDING_HASH_CODE;
+            this.key = null;
+            this.value = null;
+            this.next = null;
+            this.nextBuckets = nextBuckets;
+        }
+    }
+
+    /*
+     * Current buckets of the hash table. While a resize is in progress, also tracks the larger buckets and how far
+     * along the threads are in moving buckets over.
+     */
+    private static class CollectionState<K, V> {
+
+        private final AtomicReferenceArray<Node<K, V>> buckets;
+
+        private final AtomicReferenceArray<Node<K, V>> nextBuckets;
+
+        private final Node<K, V> forwardingNode;
+
+        /*
+         * Upper bound of the next range of buckets to claim. Counts down to 0.
+         */
+        private final AtomicInteger transferIndex;
+
+        /*
+         * Number of buckets that have been moved so far.
+         */
+        private final AtomicInteger bucketsTransferred;
+
+        private final int transferStride;
+
+        private CollectionState(final AtomicReferenceArray<Node<K, V>> buckets) {
+            this(buckets, null);
+        }
+
+        private CollectionState(
+                final AtomicReferenceArray<Node<K, V>> buckets,
+                final AtomicReferenceArray<Node<K, V>> nextBuckets) {
+            final int bucketCount = buckets.length();
+
+            this.buckets = buckets;
+            this.nextBuckets = nextBuckets;
+            this.forwardingNode = null == nextBuckets ? null : new Node<>(nextBuckets);
+            this.transferIndex = new AtomicInteger(bucketCount);
+            this.bucketsTransferred = new AtomicInteger(0);
+            this.transferStride = Math.max(MINIMUM_TRANSFER_STRIDE, bucketCount / (8 * NUMBER_OF_PROCESSORS));
+        }
+
+        private boolean isResizing() {
+            return null != nextBuckets;
+        }
+
+        private CollectionState<K, V> startResize() {
+            return new CollectionState<>(buckets, new AtomicReferenceArray<>(buckets.length() * DEFAULT_RESIZE_FACTOR));
+        }
+    }
+}
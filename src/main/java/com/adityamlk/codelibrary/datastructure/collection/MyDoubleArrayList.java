@@ -0,0 +1,273 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents an ArrayList implementation specialized for double values. Stores the values in a primitive array instead
+ * of an array of boxed objects, so a value takes 8 bytes instead of a reference plus a boxed object, and none of the
+ * operations box or allocate once the list has been sized. Otherwise behaves like {@link MyArrayList}: maintains set
+ * capacity and auto-resizes by configured factor to accommodate additional elements.
+ * <p>
+ * Read-only consumers can use {@link #asReadOnlyBuffer()} to read the values in place instead of copying them with
+ * {@link #toArray()}.
+ * <p>
+ * Values are compared like {@link Double#equals(Object)}, so NaN can be found and 0.0 does not match -0.0.
+ * <p>
+ * Insertion is O(1) despite resizing due to amortized insertion. Inserts to the end of the collection.
+ * Deletion is O(N) where one loop will find the index and another will then overwrite the value.
+ * Search is O(N).
+ */
+@Log4j2
+@EqualsAndHashCode
+public class MyDoubleArrayList {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 0;
+
+    private static final int DEFAULT_RESIZE_FACTOR = 2;
+
+    /*
+     * Largest array length that every JVM can allocate.
+     */
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /*
+     * Tracks the multiplier used for resizing the internal collection.
+     */
+    private final int resizeFactor;
+
+    /*
+     * Tracks how many values have been written to the internal collection. Provides an index into the next write and a
+     * difference from the length of the internal collection, which represents empty indices as well.
+     */
+    private int size;
+
+    /*
+     * Stores the values inserted into the data structure. Grows over time to accommodate additional values.
+     */
+    private double[] internalCollection;
+
+    /**
+     * Default constructor.
+     */
+    public MyDoubleArrayList() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_RESIZE_FACTOR);
+    }
+
+    /**
+     * Constructor that sets the initial capacity of the data structure.
+     *
+     * @param initialCapacity Value used for setting the initial size of the data structure.
+     */
+    public MyDoubleArrayList(@NonNull final Integer initialCapacity) {
+        this(initialCapacity, DEFAULT_RESIZE_FACTOR);
+    }
+
+    /**
+     * Constructor that sets the initial capacity and resize factor of the data structure.
+     *
+     * @param initialCapacity Value used for setting the initial size of the data structure.
+     * @param resizeFactor    Value used for specifying how much the data structure will grow when it is full.
+     */
+    public MyDoubleArrayList(@NonNull final Integer initialCapacity, @NonNull final Integer resizeFactor) {
+        if (1 < resizeFactor) {
+            this.resizeFactor = resizeFactor;
+        } else {
+            throw new IllegalArgumentException("Expected resize factor of at least 2.");
+        }
+
+        if (0 > initialCapacity) {
+            throw new IllegalArgumentException("Expected initial capacity of at least 0.");
+        }
+
+        this.internalCollection = new double[initialCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * Inserts the given value. Will resize the collection based on the configured resize factor.
+     *
+     * @param valueToInsert Value to insert.
+     */
+    public void insert(final double valueToInsert) {
+        if (size == internalCollection.length) {
+            resizeCollection(size + 1);
+        }
+
+        internalCollection[size] = valueToInsert;
+        size += 1;
+    }
+
+    /**
+     * Inserts the given values in order. Resizes the collection at most once and copies the values in bulk.
+     *
+     * @param valuesToInsert Values to insert.
+     */
+    public void insertAll(@NonNull final double[] valuesToInsert) {
+        if (valuesToInsert.length > internalCollection.length - size) {
+            resizeCollection((long) size + valuesToInsert.length);
+        }
+
+        System.arraycopy(valuesToInsert, 0, internalCollection, size, valuesToInsert.length);
+        size += valuesToInsert.length;
+    }
+
+    /**
+     * Retrieves the value at the given index. Will fail if the index is out of bounds.
+     *
+     * @param index Index of the value to retrieve.
+     * @return Value at the index.
+     */
+    public double get(final int index) {
+        if (0 > index || index >= size) {
+            throw new IndexOutOfBoundsException("Index not found in the list.");
+        }
+
+        return internalCollection[index];
+    }
+
+    /**
+     * Finds the index of the given value.
+     *
+     * @param valueToSearch Value to search for.
+     * @return Index of the value in the data structure, or -1 if the value does not exist.
+     */
+    public int indexOf(final double valueToSearch) {
+        final long bitsToSearch = Double.doubleToLongBits(valueToSearch);
+
+        for (int index = 0; index < size; index++) {
+            if (bitsToSearch == Double.doubleToLongBits(internalCollection[index])) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the index of the last occurrence of the given value.
+     *
+     * @param valueToSearch Value to search for.
+     * @return Index of the value in the data structure, or -1 if the value does not exist.
+     */
+    public int lastIndexOf(final double valueToSearch) {
+        final long bitsToSearch = Double.doubleToLongBits(valueToSearch);
+
+        for (int index = size - 1; index >= 0; index--) {
+            if (bitsToSearch == Double.doubleToLongBits(internalCollection[index])) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Removes the first occurrence of the given value.
+     *
+     * @param valueToRemove Value to remove.
+     * @return True if the value was found and removed, false otherwise.
+     */
+    public boolean remove(final double valueToRemove) {
+        final int indexToRemove = indexOf(valueToRemove);
+
+        if (-1 == indexToRemove) {
+            return false;
+        }
+
+        size -= 1;
+
+        // Every entry after the found index moves up by one index. There are no references to clear at the end.
+        System.arraycopy(
+                internalCollection, indexToRemove + 1, internalCollection, indexToRemove, size - indexToRemove);
+
+        return true;
+    }
+
+    /**
+     * Checks for the given value.
+     *
+     * @param valueToSearch Value to search for.
+     * @return True if the data structure contains this value, false otherwise.
+     */
+    public boolean contains(final double valueToSearch) {
+        return indexOf(valueToSearch) != -1;
+    }
+
+    /**
+     * @return Number of values in the data structure.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return Copy of the values in the data structure, in insertion order.
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(internalCollection, size);
+    }
+
+    /**
+     * Returns a read-only buffer over the values in the data structure, without copying them. The buffer shares the
+     * internal collection, so it sees later updates to the values it covers, but it keeps its own size and no longer
+     * follows the data structure once it resizes.
+     *
+     * @return {@link DoubleBuffer} with position 0 and limit equal to the number of values.
+     */
+    public DoubleBuffer asReadOnlyBuffer() {
+        return DoubleBuffer.wrap(internalCollection, 0, size).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns string version of the data structure. Uses brackets to identify start and end of collection. Separates
+     * the values using comma and space.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder stringBuilder = new StringBuilder();
+
+        if (0 == size) {
+            stringBuilder.append("[]");
+        } else {
+            stringBuilder.append("[");
+
+            for (int index = 0; index < size; index++) {
+                stringBuilder.append(internalCollection[index]);
+
+                if (size - index != 1) {
+                    stringBuilder.append(",").append(" ");
+                }
+            }
+
+            stringBuilder.append("]");
+        }
+
+        return stringBuilder.toString();
+    }
+
+    /*
+     * Resizes the internal collection to hold at least the required number of values.
+     *
+     * Multiplies the current length by the configured resize factor, starting from 1 if the collection is empty, until
+     * it fits the required number of values. Copies the values into the new collection.
+     */
+    private void resizeCollection(final long requiredCapacity) {
+        if (MAXIMUM_CAPACITY < requiredCapacity) {
+            throw new IllegalStateException("Expected at most " + MAXIMUM_CAPACITY + " values.");
+        }
+
+        long newCapacity = Math.max(1, internalCollection.length);
+
+        while (newCapacity < requiredCapacity) {
+            newCapacity *= resizeFactor;
+        }
+
+        internalCollection = Arrays.copyOf(internalCollection, (int) Math.min(MAXIMUM_CAPACITY, newCapacity));
+    }
+}
@@ -12,8 +12,12 @@ import lombok.extern.log4j.Log4j2;
  * Represents a doubly LinkedList implementation. Maintains both head and tail of the list to track both starting point
  * and ending point, respectively.
  * <p>
+ * Callers that need to remove or move values in constant time, e.g. caches, can insert their own {@link TwoWayNode}
+ * and keep it as a handle, instead of removing by value.
+ * <p>
  * Insertion is O(1) when inserting to either end of the location.
- * Deletion is O(N) when using the provided index and O(1) when removing from either the head or the tail.
+ * Deletion is O(N) when using the provided value and O(1) when removing a node handle or from either the head or the
+ * tail.
  * Search is O(N) when using the provided value and O(1) when retrieving from either the head or the tail.
  *
  * @param <T> Generic data type supported by the list.
@@ -140,6 +144,97 @@ public class MyDoubleLinkedList<T> {
         return valueToRemove;
     }
 
+    /**
+     * Inserts the given node to the head of the data structure. The node becomes a handle that can later be passed to
+     * {@link #removeNode(TwoWayNode)}. Will fail if the node is already linked to other nodes.
+     *
+     * @param nodeToInsert {@link TwoWayNode}
+     */
+    public void insertNodeToHead(@NonNull final TwoWayNode<T> nodeToInsert) {
+        if (null != nodeToInsert.previous || null != nodeToInsert.next || nodeToInsert == head) {
+            throw new IllegalArgumentException("Node already belongs to a list.");
+        }
+
+        if (null == head) {
+            tail = nodeToInsert;
+        } else {
+            nodeToInsert.next = head;
+            head.previous = nodeToInsert;
+        }
+
+        head = nodeToInsert;
+        size += 1;
+    }
+
+    /**
+     * Removes the given node from the data structure without searching for it. The node must have been inserted into
+     * this data structure through {@link #insertNodeToHead(TwoWayNode)} and not removed since. Will fail if the node
+     * is not linked to this data structure.
+     *
+     * @param nodeToRemove {@link TwoWayNode}
+     * @return Value stored in the node that was removed.
+     */
+    public T removeNode(@NonNull final TwoWayNode<T> nodeToRemove) {
+        final TwoWayNode<T> previousNode = nodeToRemove.previous;
+        final TwoWayNode<T> nextNode = nodeToRemove.next;
+
+        // Only the head has no previous node and only the tail has no next node, so any other unlinked node is foreign.
+        if ((null == previousNode && nodeToRemove != head) || (null == nextNode && nodeToRemove != tail)) {
+            throw new IllegalArgumentException("Node not found in the list.");
+        }
+
+        // Either the node is the head, which means moving the head. Or, the previous node needs to skip over it.
+        if (null == previousNode) {
+            head = nextNode;
+        } else {
+            previousNode.next = nextNode;
+        }
+
+        // Either the node is the tail, which means moving the tail. Or, the next node needs to skip over it.
+        if (null == nextNode) {
+            tail = previousNode;
+        } else {
+            nextNode.previous = previousNode;
+        }
+
+        nodeToRemove.previous = null;
+        nodeToRemove.next = null;
+        size -= 1;
+
+        return nodeToRemove.value;
+    }
+
+    /**
+     * Moves the given node to the head of the data structure without searching for it. The node must belong to this
+     * data structure.
+     *
+     * @param nodeToMove {@link TwoWayNode}
+     */
+    public void moveNodeToHead(@NonNull final TwoWayNode<T> nodeToMove) {
+        if (nodeToMove != head) {
+            removeNode(nodeToMove);
+            insertNodeToHead(nodeToMove);
+        }
+    }
+
+    /**
+     * Returns the node at the head of the data structure, which can be passed to {@link #removeNode(TwoWayNode)}.
+     *
+     * @return Node that is at the head, or null if the data structure is empty.
+     */
+    public TwoWayNode<T> getHeadNode() {
+        return head;
+    }
+
+    /**
+     * Returns the node at the tail of the data structure, which can be passed to {@link #removeNode(TwoWayNode)}.
+     *
+     * @return Node that is at the tail, or null if the data structure is empty.
+     */
+    public TwoWayNode<T> getTailNode() {
+        return tail;
+    }
+
     /**
      * Removes the head of the data structure.
      *
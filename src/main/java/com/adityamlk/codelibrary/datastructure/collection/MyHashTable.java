@@ -1,7 +1,21 @@
 package com.adityamlk.codelibrary.datastructure.collection;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.LinkedList;
-import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,27 +27,92 @@ import lombok.extern.log4j.Log4j2;
  * Represents a HashTable implementation. Maintains capacity, auto-resizes by configured factor to accommodate
  * additional elements. Resizes based on a configured load factor. This will help minimize hash collisions.
  * <p>
- * Hashes entries based on the hash code of the key. If there is a collision, then maintains a list of entries with
- * the same bucket within the table.
+ * Hashes entries based on the hash code of the key. The hash code is first spread with the finalizer of MurmurHash3,
+ * optionally mixed with a per-instance seed, so that structured hash codes such as sequential numbers do not cluster.
+ * The capacity is always a power of two, so the bucket is picked by masking the lower bits of the spread hash code.
+ * If there is a collision, then maintains a list of entries with the same bucket within the table.
+ * <p>
+ * Once the list of a bucket grows past a threshold, e.g. because of adversarial keys, the bucket is converted into a
+ * tree ordered by the spread hash code, and converted back once it shrinks. Keys with identical hash codes, e.g.
+ * colliding strings such as "Aa" and "BB", are in turn ordered by compareTo when they are mutually Comparable, like the
+ * tree bins of {@link java.util.HashMap}. This bounds the lookup within the bucket to O(log N) unless the keys share a
+ * hash code and are not Comparable, which still fall back to a list.
+ * <p>
+ * Batches of entries can be inserted with {@link #insertAll(Collection)} or {@link #fromEntries(Spliterator, Integer)}.
+ * Both presize the table once for the whole batch instead of resizing along the way, and insert large batches in
+ * parallel on the common {@link ForkJoinPool}: the entries are partitioned by bucket range with a counting sort, and
+ * each range is then filled by a single task, so no two tasks ever touch the same bucket.
+ * <p>
+ * Entries can be visited with {@link #forEach(BiConsumer)}, {@link #iterator()}, {@link #spliterator()} or
+ * {@link #stream()}, in no particular order. All of them are fail-fast: inserting or removing while they are in use
+ * throws a {@link ConcurrentModificationException}. The spliterator splits on ranges of buckets and knows the exact
+ * size of every part, so a parallel stream can aggregate over the table on all cores without copying it first.
+ * <p>
+ * Resizing can optionally be incremental. Instead of rehashing every entry within the insert that crosses the load
+ * factor, the previous collection is kept alongside the larger one and each insert, get and remove moves a bounded
+ * number of buckets over, similar to the dict of Redis. Lookups check both collections while a resize is in progress.
+ * This bounds the latency of every single operation at the cost of slightly slower operations during the resize.
  * <p>
  * Insertion is O(1). Either the insertion is straightforward, where the bucket is empty or has limited size, or it
  * requires resizing, which gets amortized across all the other inserts.
- * Deletion is O(1). Deletes based on the bucket that the provided key belongs in.
- * Search is O(1). Searches based on the bucket that the provided key belongs in.
+ * Deletion is O(1). Deletes based on the bucket that the provided key belongs in. O(log N) in the worst case.
+ * Search is O(1). Searches based on the bucket that the provided key belongs in. O(log N) in the worst case.
  *
  * @param <K> Generic data type that represents keys in the hash table.
  * @param <V> Generic data type that represents values in the hash table.
  */
 @Log4j2
 @EqualsAndHashCode
-public class MyHashTable<K, V> {
+public class MyHashTable<K, V> implements Iterable<MyHashTable.TableEntry<K, V>> {
 
     private static final double DEFAULT_LOAD_FACTOR_LIMIT = 0.75;
 
-    private static final int DEFAULT_INITIAL_CAPACITY = 1000;
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
 
     private static final int DEFAULT_RESIZE_FACTOR = 4;
 
+    private static final int DEFAULT_HASH_SEED = 0;
+
+    /*
+     * Number of entries in a bucket above which the bucket is converted into a tree, and below which a tree is converted
+     * back into a list. The gap between the two avoids converting back and forth on alternating inserts and removes.
+     */
+    private static final int TREEIFY_THRESHOLD = 8;
+
+    private static final int UNTREEIFY_THRESHOLD = 6;
+
+    /*
+     * Number of entries below which a bulk insert runs on the calling thread, since splitting the work would cost more
+     * than it saves.
+     */
+    private static final int PARALLEL_INSERT_THRESHOLD = 1 << 14;
+
+    /*
+     * Number of bucket ranges, and of chunks of the input, created per thread of the common pool by a parallel bulk
+     * insert. More ranges than threads keeps the work balanced when some ranges are busier than others.
+     */
+    private static final int PARALLEL_RANGES_PER_THREAD = 8;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /*
+     * Number of buckets moved from the previous collection by each operation during an incremental resize. The new
+     * collection is four times larger, so moving at least one bucket per operation always finishes the resize before
+     * the new collection needs to be resized again.
+     */
+    private static final int MIGRATION_BUCKETS_PER_OPERATION = 8;
+
+    /*
+     * Whether to resize incrementally across operations instead of within a single insert.
+     */
+    private final boolean isIncrementalResizeEnabled;
+
+    /*
+     * Mixed into every hash code before spreading it. A random seed per instance keeps callers from predicting which
+     * keys share a bucket.
+     */
+    private final int hashSeed;
+
     /*
      * The number of entries stored in the hash table. Once the size gets to a specific point, the table should be
      * resized to minimize hash collisions and reduce the size of the list in each entry.
@@ -44,17 +123,94 @@ public class MyHashTable<K, V> {
     /*
      * Stores the values inserted into the data structure. Grows over time to accommodate additional values. Each entry
      * represents a bucket in the hash table. If more than one key-value pair needs to be written to a bucket, then
-     * tracks them all using a linked list.
+     * tracks them all using a linked list, or a tree once there are too many of them.
+     */
+    private Bucket<K, V>[] internalCollection;
+
+    /*
+     * Collection that is being moved into the internal collection during an incremental resize, or null if there is no
+     * resize in progress. Buckets below the migration index have already been moved.
+     */
+    private Bucket<K, V>[] previousCollection;
+
+    /*
+     * Next bucket of the previous collection to move during an incremental resize.
+     */
+    private int migrationIndex;
+
+    /*
+     * Number of inserts, removes and resizes so far. Lets iteration detect that the table changed underneath it.
      */
-    private LinkedList<TableEntry<K, V>>[] internalCollection;
+    @EqualsAndHashCode.Exclude
+    private int modificationCount;
 
     /**
      * Default constructor.
      */
-    @SuppressWarnings("unchecked")
     public MyHashTable() {
+        this(false);
+    }
+
+    /**
+     * Constructor that sets whether the data structure resizes incrementally.
+     *
+     * @param isIncrementalResizeEnabled True to move entries to the larger collection a few buckets at a time across
+     *                                   operations, false to move them all within the insert that triggers the resize.
+     */
+    public MyHashTable(@NonNull final Boolean isIncrementalResizeEnabled) {
+        this(isIncrementalResizeEnabled, DEFAULT_HASH_SEED);
+    }
+
+    /**
+     * Constructor that sets whether the data structure resizes incrementally and the seed used for hashing keys.
+     *
+     * @param isIncrementalResizeEnabled True to move entries to the larger collection a few buckets at a time across
+     *                                   operations, false to move them all within the insert that triggers the resize.
+     * @param hashSeed                   Value mixed into every hash code. Pass a random value, e.g. from
+     *                                   {@link java.util.concurrent.ThreadLocalRandom}, so the buckets keys land in
+     *                                   cannot be predicted from outside.
+     */
+    @SuppressWarnings("unchecked")
+    public MyHashTable(@NonNull final Boolean isIncrementalResizeEnabled, @NonNull final Integer hashSeed) {
+        this.isIncrementalResizeEnabled = isIncrementalResizeEnabled;
+        this.hashSeed = hashSeed;
         this.size = 0;
-        this.internalCollection = new LinkedList[DEFAULT_INITIAL_CAPACITY];
+        this.internalCollection = new Bucket[DEFAULT_INITIAL_CAPACITY];
+        this.previousCollection = null;
+        this.migrationIndex = 0;
+    }
+
+    /**
+     * Creates a hash table holding the provided entries. Presizes the table for the expected size, so building it never
+     * resizes, and inserts large batches in parallel.
+     *
+     * @param entries      {@link Spliterator} over the entries to insert. Split in parallel if it supports splitting.
+     * @param expectedSize Number of entries the table is expected to hold, including entries inserted later.
+     * @param <K>          Generic data type that represents keys in the hash table.
+     * @param <V>          Generic data type that represents values in the hash table.
+     * @return {@link MyHashTable}
+     */
+    public static <K, V> MyHashTable<K, V> fromEntries(
+            @NonNull final Spliterator<? extends Map.Entry<? extends K, ? extends V>> entries,
+            @NonNull final Integer expectedSize) {
+        if (0 > expectedSize) {
+            throw new IllegalArgumentException("Expected size of at least 0.");
+        }
+
+        final MyHashTable<K, V> hashTable = new MyHashTable<>();
+        hashTable.insertEntries(StreamSupport.stream(entries, true), expectedSize);
+
+        return hashTable;
+    }
+
+    /**
+     * Inserts every key and value pair in the provided collection, as if insert was called for each of them. Resizes
+     * the collection at most once, to fit the existing and the new entries, and inserts large batches in parallel.
+     *
+     * @param entries Key and value pairs to insert.
+     */
+    public void insertAll(@NonNull final Collection<? extends Map.Entry<? extends K, ? extends V>> entries) {
+        insertEntries(entries.parallelStream(), size + entries.size());
     }
 
     /**
@@ -64,6 +220,8 @@ public class MyHashTable<K, V> {
      * @param valueToInsert {@link V}
      */
     public void insert(@NonNull final K keyToInsert, @NonNull final V valueToInsert) {
+        migrateBuckets();
+
         if (shouldResizeInternalCollection()) {
             resizeCollection();
         }
@@ -72,11 +230,12 @@ public class MyHashTable<K, V> {
                 TableEntry.<K, V>builder()
                         .key(keyToInsert)
                         .value(valueToInsert)
-                        .entryHashCode(keyToInsert.hashCode())
+                        .entryHashCode(spreadHashCode(keyToInsert.hashCode()))
                         .build();
 
         insertIntoInternalCollection(entryToInsert);
         size += 1;
+        modificationCount += 1;
     }
 
     /**
@@ -86,22 +245,18 @@ public class MyHashTable<K, V> {
      * @return Value associated with the key, or null if the key does not exist.
      */
     public V get(@NonNull final K keyForRetrieval) {
-        final int bucket = getBucketForKey(keyForRetrieval);
-        V valueToReturn = null;
+        migrateBuckets();
 
-        final LinkedList<TableEntry<K, V>> bucketList = internalCollection[bucket];
+        final TableEntry<K, V> tableEntry = getEntryForKey(internalCollection, keyForRetrieval);
 
-        // If the bucket has at least one entry, then traverse and find the matching key and store the value.
-        if (shouldTraverseBucketList(bucketList)) {
-            for (final TableEntry<K, V> tableEntry : bucketList) {
-                if (keyForRetrieval.equals(tableEntry.key)) {
-                    valueToReturn = tableEntry.value;
-                    break;
-                }
-            }
+        // If the key was not found and a resize is in progress, then the key may not have been moved yet.
+        if (null == tableEntry && isResizing()) {
+            final TableEntry<K, V> previousTableEntry = getEntryForKey(previousCollection, keyForRetrieval);
+
+            return null == previousTableEntry ? null : previousTableEntry.value;
         }
 
-        return valueToReturn;
+        return null == tableEntry ? null : tableEntry.value;
     }
 
     /**
@@ -111,30 +266,13 @@ public class MyHashTable<K, V> {
      * @return Value associated with the key, or null if the key does not exist.
      */
     public V remove(@NonNull final K keyForRemoval) {
-        final int bucket = getBucketForKey(keyForRemoval);
-        V valueRemoved = null;
-        TableEntry<K, V> tableEntryToRemove = null;
-
-        final LinkedList<TableEntry<K, V>> bucketList = internalCollection[bucket];
-
-        // If the bucket has at least one entry, then traverse and find the matching key and store the entry.
-        if (shouldTraverseBucketList(bucketList)) {
-            for (final TableEntry<K, V> tableEntry : bucketList) {
-                if (keyForRemoval.equals(tableEntry.key)) {
-                    tableEntryToRemove = tableEntry;
-                    break;
-                }
-            }
-        }
+        migrateBuckets();
 
-        if (null != tableEntryToRemove) {
-            valueRemoved = tableEntryToRemove.value;
-            bucketList.remove(tableEntryToRemove);
-            size -= 1;
+        final V valueRemoved = removeFromCollection(internalCollection, keyForRemoval);
 
-            if (bucketList.isEmpty()) {
-                internalCollection[bucket] = null;
-            }
+        // If the key was not found and a resize is in progress, then the key may not have been moved yet.
+        if (null == valueRemoved && isResizing()) {
+            return removeFromCollection(previousCollection, keyForRemoval);
         }
 
         return valueRemoved;
@@ -159,6 +297,77 @@ public class MyHashTable<K, V> {
         return size;
     }
 
+    /**
+     * @return True if an incremental resize is in progress, false otherwise.
+     */
+    public boolean isResizing() {
+        return null != previousCollection;
+    }
+
+    /**
+     * @return Fraction of the buckets that have been moved by the incremental resize in progress, between 0 and 1. 1 if
+     * there is no resize in progress.
+     */
+    public double getResizeProgress() {
+        return isResizing() ? (double) migrationIndex / previousCollection.length : 1.0;
+    }
+
+    /**
+     * Performs the provided action for every key and value pair. Visits the buckets directly, without creating an
+     * iterator or an entry per pair. Finishes any incremental resize in progress first.
+     *
+     * @param action Action to perform for each key and value pair.
+     */
+    public void forEach(@NonNull final BiConsumer<? super K, ? super V> action) {
+        finishResize();
+
+        final int expectedModificationCount = modificationCount;
+
+        for (final Bucket<K, V> bucket : internalCollection) {
+            if (shouldTraverseBucket(bucket)) {
+                bucket.forEach(tableEntry -> action.accept(tableEntry.key, tableEntry.value));
+            }
+        }
+
+        if (expectedModificationCount != modificationCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a fail-fast iterator over the entries, which does not support removal. Finishes any incremental resize
+     * in progress first.
+     */
+    @Override
+    public Iterator<TableEntry<K, V>> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns a fail-fast, SIZED and SUBSIZED spliterator over the entries, which splits on ranges of buckets. Finishes
+     * any incremental resize in progress first.
+     */
+    @Override
+    public Spliterator<TableEntry<K, V>> spliterator() {
+        finishResize();
+
+        return new TableSpliterator(internalCollection, 0, internalCollection.length, size, modificationCount);
+    }
+
+    /**
+     * Returns a sequential stream over the entries, which can be turned into a parallel one that splits on ranges of
+     * buckets. Finishes any incremental resize in progress first.
+     *
+     * @return {@link Stream}
+     */
+    public Stream<TableEntry<K, V>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -171,16 +380,167 @@ public class MyHashTable<K, V> {
             return "{}";
         }
 
-        int numEntriesProcessed = 0;
         final StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("{");
 
-        for (int bucket = 0; bucket < getInternalCollectionSize(); bucket++) {
-            final LinkedList<TableEntry<K, V>> bucketList = internalCollection[bucket];
+        int numEntriesProcessed = appendCollection(stringBuilder, internalCollection, 0);
+
+        if (isResizing()) {
+            appendCollection(stringBuilder, previousCollection, numEntriesProcessed);
+        }
+
+        stringBuilder.append("}");
+        return stringBuilder.toString();
+    }
+
+    /*
+     * Inserts every entry of the provided stream. Finishes any incremental resize first, so every existing entry lives
+     * in the internal collection. If the internal collection is too small for the expected size, then replaces it with
+     * one that fits and re-inserts the existing entries along with the new ones.
+     */
+    @SuppressWarnings("unchecked")
+    private void insertEntries(
+            final Stream<? extends Map.Entry<? extends K, ? extends V>> entryStream,
+            final int expectedSize) {
+        finishResize();
+
+        final TableEntry<K, V>[] newEntries = entryStream
+                .map(entry -> TableEntry.<K, V>builder()
+                        .key(entry.getKey())
+                        .value(entry.getValue())
+                        .entryHashCode(spreadHashCode(entry.getKey().hashCode()))
+                        .build())
+                .toArray(TableEntry[]::new);
+        final int requiredCapacity = getCapacityForSize(Math.max(expectedSize, size + newEntries.length));
+        TableEntry<K, V>[] entriesToInsert = newEntries;
+
+        if (requiredCapacity > getInternalCollectionSize()) {
+            final TableEntry<K, V>[] existingEntries = new TableEntry[size];
+            int entryIndex = 0;
+
+            for (final Bucket<K, V> bucket : internalCollection) {
+                if (shouldTraverseBucket(bucket)) {
+                    for (final TableEntry<K, V> tableEntry : bucket) {
+                        existingEntries[entryIndex++] = tableEntry;
+                    }
+                }
+            }
+
+            entriesToInsert = Stream.concat(Stream.of(existingEntries), Stream.of(newEntries))
+                    .toArray(TableEntry[]::new);
+            internalCollection = new Bucket[requiredCapacity];
+        }
+
+        if (PARALLEL_INSERT_THRESHOLD > entriesToInsert.length) {
+            for (final TableEntry<K, V> tableEntry : entriesToInsert) {
+                insertIntoInternalCollection(tableEntry);
+            }
+        } else {
+            insertIntoInternalCollectionInParallel(entriesToInsert);
+        }
+
+        size += newEntries.length;
+        modificationCount += 1;
+    }
+
+    /*
+     * Inserts the provided entries into the internal collection on the common fork join pool.
+     *
+     * Splits the buckets into a power of two number of contiguous ranges and the entries into as many chunks. First
+     * counts, per chunk, how many entries fall into each range. The running total of those counts, ordered by range and
+     * then by chunk, gives every chunk the position where its entries for each range start. Then every chunk copies its
+     * entries to those positions, which groups the entries by range while keeping their original order. Finally, every
+     * range is inserted by a single task, so no bucket is written by two tasks.
+     */
+    @SuppressWarnings("unchecked")
+    private void insertIntoInternalCollectionInParallel(final TableEntry<K, V>[] entriesToInsert) {
+        final int capacity = getInternalCollectionSize();
+        final int threadCount = Integer.highestOneBit(Math.max(1, ForkJoinPool.getCommonPoolParallelism()));
+        final int rangeCount = Math.min(capacity, threadCount * PARALLEL_RANGES_PER_THREAD);
+        final int rangeShift = Integer.numberOfTrailingZeros(capacity) - Integer.numberOfTrailingZeros(rangeCount);
+        final int chunkSize = (entriesToInsert.length + rangeCount - 1) / rangeCount;
+        final int[][] rangePositions = new int[rangeCount][rangeCount];
+
+        // Count the entries of each chunk that fall into each range.
+        IntStream.range(0, rangeCount).parallel().forEach(chunk -> {
+            final int chunkEnd = Math.min(entriesToInsert.length, (chunk + 1) * chunkSize);
+
+            for (int index = chunk * chunkSize; index < chunkEnd; index++) {
+                rangePositions[chunk][getRange(entriesToInsert[index], capacity, rangeShift)] += 1;
+            }
+        });
+
+        // Turn the counts into the position where each chunk starts writing the entries of each range.
+        final int[] rangeStarts = new int[rangeCount + 1];
+        int position = 0;
+
+        for (int range = 0; range < rangeCount; range++) {
+            rangeStarts[range] = position;
+
+            for (int chunk = 0; chunk < rangeCount; chunk++) {
+                final int count = rangePositions[chunk][range];
+                rangePositions[chunk][range] = position;
+                position += count;
+            }
+        }
+
+        rangeStarts[rangeCount] = position;
+
+        // Group the entries by range.
+        final TableEntry<K, V>[] groupedEntries = new TableEntry[entriesToInsert.length];
+
+        IntStream.range(0, rangeCount).parallel().forEach(chunk -> {
+            final int chunkEnd = Math.min(entriesToInsert.length, (chunk + 1) * chunkSize);
+
+            for (int index = chunk * chunkSize; index < chunkEnd; index++) {
+                final int range = getRange(entriesToInsert[index], capacity, rangeShift);
+                groupedEntries[rangePositions[chunk][range]++] = entriesToInsert[index];
+            }
+        });
+
+        // Fill each range of buckets.
+        IntStream.range(0, rangeCount).parallel().forEach(range -> {
+            for (int index = rangeStarts[range]; index < rangeStarts[range + 1]; index++) {
+                insertIntoInternalCollection(groupedEntries[index]);
+            }
+        });
+    }
+
+    /*
+     * Returns the range of buckets the provided entry falls into during a parallel bulk insert.
+     */
+    private static int getRange(final TableEntry<?, ?> tableEntry, final int capacity, final int rangeShift) {
+        return (tableEntry.entryHashCode & (capacity - 1)) >>> rangeShift;
+    }
+
+    /*
+     * Returns the smallest power of two capacity, starting from the default initial capacity, that holds the provided
+     * number of entries without reaching the load factor limit.
+     */
+    private static int getCapacityForSize(final int expectedSize) {
+        int capacity = DEFAULT_INITIAL_CAPACITY;
+
+        while (MAXIMUM_CAPACITY > capacity && expectedSize >= capacity * DEFAULT_LOAD_FACTOR_LIMIT) {
+            capacity <<= 1;
+        }
+
+        return capacity;
+    }
+
+    /*
+     * Appends the entries of the provided collection to the string builder. Returns the number of entries processed so
+     * far, including the provided number of entries that were already processed.
+     */
+    private int appendCollection(
+            final StringBuilder stringBuilder,
+            final Bucket<K, V>[] collection,
+            final int numEntriesAlreadyProcessed) {
+        int numEntriesProcessed = numEntriesAlreadyProcessed;
 
-            if (shouldTraverseBucketList(bucketList)) {
-                // For each entry in the bucket list add the key and value pairs.
-                for (final TableEntry<K, V> tableEntry : bucketList) {
+        for (final Bucket<K, V> bucket : collection) {
+            if (shouldTraverseBucket(bucket)) {
+                // For each entry in the bucket add the key and value pairs.
+                for (final TableEntry<K, V> tableEntry : bucket) {
                     stringBuilder.append(tableEntry.key);
                     stringBuilder.append('=');
                     stringBuilder.append(tableEntry.value);
@@ -195,23 +555,69 @@ public class MyHashTable<K, V> {
             }
         }
 
-        stringBuilder.append("}");
-        return stringBuilder.toString();
+        return numEntriesProcessed;
     }
 
     /*
-     * Returns bucket for the key provided.
+     * Returns the entry for the provided key in the provided collection, or null if the key does not exist there.
      */
-    private int getBucketForKey(final K key) {
-        return getBucketForHashCode(key.hashCode());
+    private TableEntry<K, V> getEntryForKey(final Bucket<K, V>[] collection, final K key) {
+        final int keyHashCode = spreadHashCode(key.hashCode());
+        final Bucket<K, V> bucket = collection[getBucketForHashCode(keyHashCode, collection)];
+
+        // If the bucket has at least one entry, then find the matching key.
+        return shouldTraverseBucket(bucket) ? bucket.get(key, keyHashCode) : null;
     }
 
     /*
-     * Returns bucket for the hash code provided. The bucket is the hash code % capacity to ensure the key fits in the
-     * internal collection even if it leads to hash collisions.
+     * Removes the entry for the provided key from the provided collection. Returns the value removed, or null if the
+     * key does not exist there.
      */
-    private int getBucketForHashCode(final int keyHashCode) {
-        return keyHashCode % getInternalCollectionSize();
+    private V removeFromCollection(final Bucket<K, V>[] collection, final K keyForRemoval) {
+        final int keyHashCode = spreadHashCode(keyForRemoval.hashCode());
+        final int bucketIndex = getBucketForHashCode(keyHashCode, collection);
+        final Bucket<K, V> bucket = collection[bucketIndex];
+
+        // If the bucket has at least one entry, then find the matching key and remove the entry.
+        final TableEntry<K, V> tableEntryRemoved =
+                shouldTraverseBucket(bucket) ? bucket.remove(keyForRemoval, keyHashCode) : null;
+
+        if (null == tableEntryRemoved) {
+            return null;
+        }
+
+        size -= 1;
+        modificationCount += 1;
+
+        if (bucket.isEmpty()) {
+            collection[bucketIndex] = null;
+        }
+
+        return tableEntryRemoved.value;
+    }
+
+    /*
+     * Spreads the provided hash code with the finalizer of MurmurHash3, after mixing in the seed. Every input bit
+     * affects every output bit, so hash codes that only differ in their upper bits, or follow a pattern, still end up in
+     * different buckets once masked.
+     */
+    private int spreadHashCode(final int keyHashCode) {
+        int mixedHashCode = keyHashCode ^ hashSeed;
+        mixedHashCode ^= mixedHashCode >>> 16;
+        mixedHashCode *= 0x85EBCA6B;
+        mixedHashCode ^= mixedHashCode >>> 13;
+        mixedHashCode *= 0xC2B2AE35;
+        mixedHashCode ^= mixedHashCode >>> 16;
+
+        return mixedHashCode;
+    }
+
+    /*
+     * Returns bucket for the spread hash code provided. The capacity is a power of two, so masking the lower bits keeps
+     * the bucket within the provided collection, and non-negative, even if it leads to hash collisions.
+     */
+    private int getBucketForHashCode(final int keyHashCode, final Bucket<K, V>[] collection) {
+        return keyHashCode & (collection.length - 1);
     }
 
     /*
@@ -236,20 +642,74 @@ public class MyHashTable<K, V> {
      *
      * Uses a temporary array to track the values, creates a new array with new size using the configured resize factor,
      * and copies the entries from the temporary array into the new array using each entry's hash code value.
+     *
+     * If incremental resizing is enabled, then keeps the temporary array as the previous collection instead and leaves
+     * the copying to the operations that follow. Finishes any resize still in progress first.
      */
     @SuppressWarnings("unchecked")
     private void resizeCollection() {
         final int currentCollectionSize = getInternalCollectionSize();
 
+        finishResize();
+
         // Point a temporary variable to the current collection and create a new collection with resize factor.
-        final LinkedList<TableEntry<K, V>>[] tempArray = internalCollection;
-        internalCollection = new LinkedList[currentCollectionSize * DEFAULT_RESIZE_FACTOR];
+        final Bucket<K, V>[] tempArray = internalCollection;
+        internalCollection = new Bucket[currentCollectionSize * DEFAULT_RESIZE_FACTOR];
+        modificationCount += 1;
+
+        if (isIncrementalResizeEnabled) {
+            previousCollection = tempArray;
+            migrationIndex = 0;
+            return;
+        }
 
         // Go through the buckets in the old collection and transfer the entries to the new internal collection.
-        for (final LinkedList<TableEntry<K, V>> bucketList : tempArray) {
-            if (shouldTraverseBucketList(bucketList)) {
-                transferBucketList(bucketList);
+        for (final Bucket<K, V> bucket : tempArray) {
+            if (shouldTraverseBucket(bucket)) {
+                transferBucket(bucket);
+            }
+        }
+    }
+
+    /*
+     * Moves every remaining bucket from the previous collection, if an incremental resize is in progress, so that every
+     * entry lives in the internal collection.
+     */
+    private void finishResize() {
+        if (isResizing()) {
+            migrateBuckets(previousCollection.length);
+        }
+    }
+
+    /*
+     * Moves the configured number of buckets from the previous collection, if an incremental resize is in progress.
+     */
+    private void migrateBuckets() {
+        if (isResizing()) {
+            migrateBuckets(MIGRATION_BUCKETS_PER_OPERATION);
+        }
+    }
+
+    /*
+     * Moves up to the provided number of buckets from the previous collection to the internal collection. Ends the
+     * incremental resize once every bucket has been moved.
+     */
+    private void migrateBuckets(final int numberOfBuckets) {
+        final int lastBucket = Math.min(migrationIndex + numberOfBuckets, previousCollection.length);
+
+        for (; migrationIndex < lastBucket; migrationIndex++) {
+            final Bucket<K, V> bucket = previousCollection[migrationIndex];
+
+            if (shouldTraverseBucket(bucket)) {
+                transferBucket(bucket);
             }
+
+            previousCollection[migrationIndex] = null;
+        }
+
+        if (migrationIndex == previousCollection.length) {
+            previousCollection = null;
+            migrationIndex = 0;
         }
     }
 
@@ -257,35 +717,401 @@ public class MyHashTable<K, V> {
      * Copies the entries in a bucket to the internal collection. The goal is to move all entries to their new bucket in
      * the internal collection.
      */
-    private void transferBucketList(final LinkedList<TableEntry<K, V>> bucketListToTransfer) {
-        for (final TableEntry<K, V> tableEntry : bucketListToTransfer) {
+    private void transferBucket(final Bucket<K, V> bucketToTransfer) {
+        for (final TableEntry<K, V> tableEntry : bucketToTransfer) {
             insertIntoInternalCollection(tableEntry);
         }
     }
 
     /*
      * Inserts the provided table entry into the internal collection. Does this by retrieving the bucket based on the
-     * entry hash code the is stored. If a bucket list does not exist, then creates one. Either way, adds the entry to
-     * the bucket list.
+     * entry hash code the is stored. If a bucket does not exist, then creates one. Either way, adds the entry to the
+     * bucket.
      */
     private void insertIntoInternalCollection(final TableEntry<K, V> tableEntry) {
         final int entryHashCode = tableEntry.entryHashCode;
-        final int bucket = getBucketForHashCode(entryHashCode);
+        final int bucket = getBucketForHashCode(entryHashCode, internalCollection);
 
-        // If the bucket is untouched, then set up a new list for the entry.
+        // If the bucket is untouched, then set up a new bucket for the entry.
         if (null == internalCollection[bucket]) {
-            internalCollection[bucket] = new LinkedList<>();
+            internalCollection[bucket] = new Bucket<>();
         }
 
-        // Add the entry to the list, whether it was empty or had existing values.
+        // Add the entry to the bucket, whether it was empty or had existing values.
         internalCollection[bucket].add(tableEntry);
     }
 
     /*
-     * Determines whether to traverse the bucket list provided. If not null and not empty, then should traverse.
+     * Determines whether to traverse the bucket provided. If not null and not empty, then should traverse.
+     */
+    private boolean shouldTraverseBucket(final Bucket<K, V> bucket) {
+        return null != bucket && !bucket.isEmpty();
+    }
+
+    /*
+     * Entries that share a bucket. Starts out as a linked list and converts itself into a tree, keyed by the spread hash
+     * code of the entries, once the list grows past the treeify threshold. Entries with the same spread hash code are
+     * kept in a group of their own within the tree. Converts itself back into a list once it shrinks below the
+     * untreeify threshold.
      */
-    private boolean shouldTraverseBucketList(final List<TableEntry<K, V>> bucketList) {
-        return null != bucketList && !bucketList.isEmpty();
+    @EqualsAndHashCode
+    private static final class Bucket<K, V> implements Iterable<TableEntry<K, V>> {
+
+        /*
+         * Entries of the bucket while it is a list, or null while it is a tree.
+         */
+        private LinkedList<TableEntry<K, V>> entryList = new LinkedList<>();
+
+        /*
+         * Entries of the bucket grouped by spread hash code while it is a tree, or null while it is a list.
+         */
+        private TreeMap<Integer, HashCodeGroup<K, V>> entryTree = null;
+
+        private int size = 0;
+
+        /*
+         * Returns the entry for the provided key, or null if the key does not exist in the bucket.
+         */
+        private TableEntry<K, V> get(final K key, final int keyHashCode) {
+            if (null != entryTree) {
+                final HashCodeGroup<K, V> hashCodeGroup = entryTree.get(keyHashCode);
+
+                return null == hashCodeGroup ? null : hashCodeGroup.get(key);
+            }
+
+            for (final TableEntry<K, V> tableEntry : entryList) {
+                if (keyHashCode == tableEntry.entryHashCode && key.equals(tableEntry.key)) {
+                    return tableEntry;
+                }
+            }
+
+            return null;
+        }
+
+        /*
+         * Adds the provided entry. Converts the bucket into a tree if the list grows past the threshold.
+         */
+        private void add(final TableEntry<K, V> tableEntry) {
+            if (null == entryTree) {
+                entryList.add(tableEntry);
+
+                if (TREEIFY_THRESHOLD < entryList.size()) {
+                    entryTree = new TreeMap<>();
+
+                    for (final TableEntry<K, V> listEntry : entryList) {
+                        addToTree(listEntry);
+                    }
+
+                    entryList = null;
+                }
+            } else {
+                addToTree(tableEntry);
+            }
+
+            size += 1;
+        }
+
+        /*
+         * Removes the entry for the provided key and returns it, or null if the key does not exist in the bucket.
+         * Converts the bucket back into a list if the tree shrinks below the threshold.
+         */
+        private TableEntry<K, V> remove(final K key, final int keyHashCode) {
+            final TableEntry<K, V> tableEntryToRemove = get(key, keyHashCode);
+
+            if (null == tableEntryToRemove) {
+                return null;
+            }
+
+            if (null == entryTree) {
+                entryList.remove(tableEntryToRemove);
+            } else {
+                final HashCodeGroup<K, V> hashCodeGroup = entryTree.get(keyHashCode);
+                hashCodeGroup.remove(tableEntryToRemove);
+
+                if (hashCodeGroup.isEmpty()) {
+                    entryTree.remove(keyHashCode);
+                }
+            }
+
+            size -= 1;
+
+            if (null != entryTree && UNTREEIFY_THRESHOLD > size) {
+                entryList = new LinkedList<>();
+                entryTree.values().forEach(hashCodeGroup -> hashCodeGroup.forEach(entryList::add));
+                entryTree = null;
+            }
+
+            return tableEntryToRemove;
+        }
+
+        private boolean isEmpty() {
+            return 0 == size;
+        }
+
+        /*
+         * Iterates over the entries in insertion order while the bucket is a list, or in hash code order while it is a
+         * tree.
+         */
+        @Override
+        public Iterator<TableEntry<K, V>> iterator() {
+            if (null == entryTree) {
+                return entryList.iterator();
+            }
+
+            return entryTree.values().stream().flatMap(HashCodeGroup::stream).iterator();
+        }
+
+        /*
+         * Performs the provided action for every entry, without the stream that the iterator of a tree needs.
+         */
+        @Override
+        public void forEach(final Consumer<? super TableEntry<K, V>> action) {
+            if (null == entryTree) {
+                entryList.forEach(action);
+            } else {
+                entryTree.values().forEach(hashCodeGroup -> hashCodeGroup.forEach(action));
+            }
+        }
+
+        private void addToTree(final TableEntry<K, V> tableEntry) {
+            entryTree.computeIfAbsent(tableEntry.entryHashCode, hashCode -> new HashCodeGroup<>()).add(tableEntry);
+        }
+    }
+
+    /*
+     * Entries of a tree bucket that share a spread hash code. Keys of a class that is Comparable to itself are kept in a
+     * tree ordered by compareTo, so that even keys crafted to share a hash code are found in O(log N). Any other key,
+     * including one whose compareTo returns 0 for a key that is not equal to it, is kept in a list next to the tree.
+     */
+    @EqualsAndHashCode
+    private static final class HashCodeGroup<K, V> {
+
+        /*
+         * Class of the keys in the tree, or null until the first Comparable key is added.
+         */
+        private Class<?> comparableClass = null;
+
+        private final TreeMap<K, TableEntry<K, V>> entryTree = new TreeMap<>();
+
+        private final LinkedList<TableEntry<K, V>> entryList = new LinkedList<>();
+
+        /*
+         * Returns the entry for the provided key, or null if the key does not exist in the group.
+         */
+        private TableEntry<K, V> get(final K key) {
+            if (isInTreeClass(key)) {
+                final TableEntry<K, V> tableEntry = entryTree.get(key);
+
+                if (null != tableEntry && key.equals(tableEntry.key)) {
+                    return tableEntry;
+                }
+            }
+
+            for (final TableEntry<K, V> tableEntry : entryList) {
+                if (key.equals(tableEntry.key)) {
+                    return tableEntry;
+                }
+            }
+
+            return null;
+        }
+
+        /*
+         * Adds the provided entry, whose key must not exist in the group yet.
+         */
+        private void add(final TableEntry<K, V> tableEntry) {
+            if (null == comparableClass) {
+                comparableClass = getComparableClass(tableEntry.key);
+            }
+
+            if (isInTreeClass(tableEntry.key) && !entryTree.containsKey(tableEntry.key)) {
+                entryTree.put(tableEntry.key, tableEntry);
+            } else {
+                entryList.add(tableEntry);
+            }
+        }
+
+        /*
+         * Removes the provided entry, which must exist in the group.
+         */
+        private void remove(final TableEntry<K, V> tableEntry) {
+            if (isInTreeClass(tableEntry.key) && tableEntry == entryTree.get(tableEntry.key)) {
+                entryTree.remove(tableEntry.key);
+            } else {
+                entryList.remove(tableEntry);
+            }
+        }
+
+        private boolean isEmpty() {
+            return entryTree.isEmpty() && entryList.isEmpty();
+        }
+
+        private Stream<TableEntry<K, V>> stream() {
+            return Stream.concat(entryTree.values().stream(), entryList.stream());
+        }
+
+        private void forEach(final Consumer<? super TableEntry<K, V>> action) {
+            entryTree.values().forEach(action);
+            entryList.forEach(action);
+        }
+
+        private boolean isInTreeClass(final K key) {
+            return null != comparableClass && comparableClass == key.getClass();
+        }
+
+        /*
+         * Returns the class of the provided key if it implements Comparable of itself, e.g. String or Integer, or null
+         * otherwise. Keys of such a class can be compared to each other without a ClassCastException.
+         */
+        private static Class<?> getComparableClass(final Object key) {
+            if (!(key instanceof Comparable)) {
+                return null;
+            }
+
+            final Class<?> keyClass = key.getClass();
+
+            if (String.class == keyClass) {
+                return keyClass;
+            }
+
+            for (final Type interfaceType : keyClass.getGenericInterfaces()) {
+                if (interfaceType instanceof ParameterizedType
+                        && Comparable.class == ((ParameterizedType) interfaceType).getRawType()) {
+                    final Type[] typeArguments = ((ParameterizedType) interfaceType).getActualTypeArguments();
+
+                    if (1 == typeArguments.length && keyClass == typeArguments[0]) {
+                        return keyClass;
+                    }
+                }
+            }
+
+            return null;
+        }
+    }
+
+    /*
+     * Spliterator over a range of buckets of the provided collection. Splits the range in half and counts the entries
+     * of the first half, so that both halves know their exact size. Reading the size of each bucket is much cheaper
+     * than visiting its entries, and the counting is spread across the tasks that do the splitting.
+     */
+    private final class TableSpliterator implements Spliterator<TableEntry<K, V>> {
+
+        private final Bucket<K, V>[] collection;
+
+        private final int bucketFence;
+
+        private final int expectedModificationCount;
+
+        /*
+         * Next bucket to visit.
+         */
+        private int bucketIndex;
+
+        /*
+         * Number of entries left to visit, including the rest of the current bucket.
+         */
+        private long remainingEntries;
+
+        /*
+         * Iterator over the rest of the bucket being visited, or null if the next bucket has not been started.
+         */
+        private Iterator<TableEntry<K, V>> bucketIterator;
+
+        private TableSpliterator(
+                final Bucket<K, V>[] collection,
+                final int bucketIndex,
+                final int bucketFence,
+                final long remainingEntries,
+                final int expectedModificationCount) {
+            this.collection = collection;
+            this.bucketIndex = bucketIndex;
+            this.bucketFence = bucketFence;
+            this.remainingEntries = remainingEntries;
+            this.expectedModificationCount = expectedModificationCount;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super TableEntry<K, V>> action) {
+            checkForModification();
+
+            while (null == bucketIterator || !bucketIterator.hasNext()) {
+                if (bucketIndex >= bucketFence) {
+                    bucketIterator = null;
+                    return false;
+                }
+
+                final Bucket<K, V> bucket = collection[bucketIndex++];
+                bucketIterator = shouldTraverseBucket(bucket) ? bucket.iterator() : null;
+            }
+
+            action.accept(bucketIterator.next());
+            remainingEntries -= 1;
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super TableEntry<K, V>> action) {
+            if (null != bucketIterator) {
+                bucketIterator.forEachRemaining(action);
+                bucketIterator = null;
+            }
+
+            for (; bucketIndex < bucketFence; bucketIndex++) {
+                final Bucket<K, V> bucket = collection[bucketIndex];
+
+                if (shouldTraverseBucket(bucket)) {
+                    bucket.forEach(action);
+                }
+            }
+
+            remainingEntries = 0;
+            checkForModification();
+        }
+
+        /*
+         * Hands the first half of the buckets that have not been started to a new spliterator. Encounter order is not
+         * defined, so the bucket being visited stays with this spliterator.
+         */
+        @Override
+        public Spliterator<TableEntry<K, V>> trySplit() {
+            final int middleBucket = (bucketIndex + bucketFence) >>> 1;
+
+            if (middleBucket <= bucketIndex) {
+                return null;
+            }
+
+            long prefixEntries = 0;
+
+            for (int index = bucketIndex; index < middleBucket; index++) {
+                if (null != collection[index]) {
+                    prefixEntries += collection[index].size;
+                }
+            }
+
+            final TableSpliterator prefix = new TableSpliterator(
+                    collection, bucketIndex, middleBucket, prefixEntries, expectedModificationCount);
+            bucketIndex = middleBucket;
+            remainingEntries -= prefixEntries;
+
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remainingEntries;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+
+        private void checkForModification() {
+            if (expectedModificationCount != modificationCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
     }
 
     /**
@@ -311,7 +1137,8 @@ public class MyHashTable<K, V> {
         private final V value;
 
         /*
-         * Calculated hash code for the entry. Likely based on the key specified, but could be a custom value.
+         * Calculated hash code for the entry. The spread hash code of the key, which picks the bucket and orders the
+         * entry within a bucket that has been converted into a tree.
          */
         @NonNull
         private final Integer entryHashCode;
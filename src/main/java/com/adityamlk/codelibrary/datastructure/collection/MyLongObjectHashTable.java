@@ -0,0 +1,358 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents a HashTable implementation specialized for long keys and object values. Stores keys and values in two
+ * parallel arrays using open addressing with linear probing, so none of the operations box keys or allocate once the
+ * table has been sized. Maintains a power of two capacity and doubles it once the configured load factor is reached.
+ * <p>
+ * A key of 0 marks a free slot in the key array, so the entry for key 0, if any, is tracked separately. Lookups for a
+ * key that does not exist return the missing value configured for the table, which defaults to null.
+ * <p>
+ * Insertion is O(1). Either the insertion is straightforward, where the slot is free or the probe is short, or it
+ * requires resizing, which gets amortized across all the other inserts. Inserting an existing key replaces its value.
+ * Deletion is O(1). Deletes from the probe sequence of the provided key and shifts the rest of the cluster back.
+ * Search is O(1). Searches the probe sequence of the provided key.
+ *
+ * @param <V> Generic data type that represents values in the hash table.
+ */
+@Log4j2
+@EqualsAndHashCode
+public class MyLongObjectHashTable<V> {
+
+    private static final double DEFAULT_LOAD_FACTOR_LIMIT = 0.75;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+    private static final int DEFAULT_RESIZE_FACTOR = 2;
+
+    private static final long FREE_KEY = 0;
+
+    private static final long HASH_SPREAD_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /*
+     * Value returned by get and remove when the key does not exist.
+     */
+    private final V missingValue;
+
+    /*
+     * The number of entries stored in the hash table, including the entry for the free key if there is one.
+     */
+    private int size;
+
+    /*
+     * Whether the table holds an entry for the free key, which cannot be stored in the key array.
+     */
+    private boolean containsFreeKey;
+
+    /*
+     * Value for the free key, if the table holds one.
+     */
+    private V freeKeyValue;
+
+    /*
+     * Stores the keys inserted into the data structure. The free key marks a free slot.
+     */
+    private long[] keys;
+
+    /*
+     * Stores the values inserted into the data structure, in the same slot as their key.
+     */
+    private Object[] values;
+
+    /**
+     * Default constructor. Uses null as the missing value.
+     */
+    public MyLongObjectHashTable() {
+        this(DEFAULT_INITIAL_CAPACITY, null);
+    }
+
+    /**
+     * Constructor that sets the initial capacity and missing value of the data structure. The capacity is rounded up
+     * to the next power of two.
+     *
+     * @param initialCapacity Value used for setting the initial number of slots in the data structure.
+     * @param missingValue    Value returned by get and remove when the key does not exist.
+     */
+    public MyLongObjectHashTable(@NonNull final Integer initialCapacity, final V missingValue) {
+        if (1 > initialCapacity) {
+            throw new IllegalArgumentException("Expected initial capacity of at least 1.");
+        }
+
+        final int capacity = getCapacityForSize(initialCapacity);
+
+        this.missingValue = missingValue;
+        this.size = 0;
+        this.containsFreeKey = false;
+        this.freeKeyValue = missingValue;
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+    }
+
+    /**
+     * Inserts the given key and value pair. Replaces the value if the key already exists. Will resize the collection
+     * based on the configured resize factor.
+     *
+     * @param keyToInsert   Key to insert.
+     * @param valueToInsert {@link V}
+     */
+    public void insert(final long keyToInsert, @NonNull final V valueToInsert) {
+        if (FREE_KEY == keyToInsert) {
+            if (!containsFreeKey) {
+                containsFreeKey = true;
+                size += 1;
+            }
+
+            freeKeyValue = valueToInsert;
+            return;
+        }
+
+        if (shouldResizeInternalCollection()) {
+            resizeCollection();
+        }
+
+        insertIntoInternalCollection(keyToInsert, valueToInsert);
+    }
+
+    /**
+     * Retrieves the value for the provided key.
+     *
+     * @param keyForRetrieval Key to retrieve.
+     * @return Value associated with the key, or the missing value if the key does not exist.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final long keyForRetrieval) {
+        if (FREE_KEY == keyForRetrieval) {
+            return containsFreeKey ? freeKeyValue : missingValue;
+        }
+
+        final int slot = getSlotForKey(keyForRetrieval);
+
+        return -1 == slot ? missingValue : (V) values[slot];
+    }
+
+    /**
+     * Removes the value for the provided key.
+     *
+     * @param keyForRemoval Key to remove.
+     * @return Value associated with the key, or the missing value if the key does not exist.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(final long keyForRemoval) {
+        if (FREE_KEY == keyForRemoval) {
+            if (!containsFreeKey) {
+                return missingValue;
+            }
+
+            final V valueRemoved = freeKeyValue;
+            containsFreeKey = false;
+            freeKeyValue = missingValue;
+            size -= 1;
+
+            return valueRemoved;
+        }
+
+        final int slot = getSlotForKey(keyForRemoval);
+
+        if (-1 == slot) {
+            return missingValue;
+        }
+
+        final V valueRemoved = (V) values[slot];
+        shiftClusterBackwards(slot);
+        size -= 1;
+
+        return valueRemoved;
+    }
+
+    /**
+     * Determines whether a value exists for the provided key.
+     *
+     * @param keyToSearch Key to search.
+     * @return True if the key exists in the hash table, false otherwise.
+     */
+    public boolean contains(final long keyToSearch) {
+        return FREE_KEY == keyToSearch ? containsFreeKey : -1 != getSlotForKey(keyToSearch);
+    }
+
+    /**
+     * @return Value returned by get and remove when the key does not exist.
+     */
+    public V getMissingValue() {
+        return missingValue;
+    }
+
+    /**
+     * @return Number of values in the data structure.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns string version of the data structure. Uses curly braces to identify start and end of collection.
+     * Separates the entries using comma and space. Separates the keys and values using '='.
+     */
+    @Override
+    public String toString() {
+        if (0 == size) {
+            return "{}";
+        }
+
+        int numEntriesProcessed = 0;
+        final StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("{");
+
+        if (containsFreeKey) {
+            stringBuilder.append(FREE_KEY).append('=').append(freeKeyValue);
+            numEntriesProcessed += 1;
+
+            if (size - numEntriesProcessed != 0) {
+                stringBuilder.append(",").append(" ");
+            }
+        }
+
+        for (int slot = 0; slot < getInternalCollectionSize(); slot++) {
+            if (FREE_KEY != keys[slot]) {
+                stringBuilder.append(keys[slot]).append('=').append(values[slot]);
+                numEntriesProcessed += 1;
+
+                // If there is still one entry to process, then use comma and space to separate the strings.
+                if (size - numEntriesProcessed != 0) {
+                    stringBuilder.append(",").append(" ");
+                }
+            }
+        }
+
+        stringBuilder.append("}");
+        return stringBuilder.toString();
+    }
+
+    /*
+     * Returns the slot that holds the provided key, or -1 if the key does not exist.
+     */
+    private int getSlotForKey(final long key) {
+        final int mask = getInternalCollectionSize() - 1;
+        int slot = getHomeSlot(key, mask);
+
+        while (FREE_KEY != keys[slot]) {
+            if (key == keys[slot]) {
+                return slot;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /*
+     * Inserts the provided entry into the first free slot of its probe sequence, or replaces the value if the key is
+     * found along the way.
+     */
+    private void insertIntoInternalCollection(final long key, final V value) {
+        final int mask = getInternalCollectionSize() - 1;
+        int slot = getHomeSlot(key, mask);
+
+        while (FREE_KEY != keys[slot]) {
+            if (key == keys[slot]) {
+                values[slot] = value;
+                return;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        size += 1;
+    }
+
+    /*
+     * Removes the entry in the provided slot without leaving a tombstone. Walks the rest of the cluster and moves back
+     * every entry whose home slot does not lie between the gap and its current slot, since those entries would no
+     * longer be reachable once the gap is freed.
+     */
+    private void shiftClusterBackwards(final int slotToRemove) {
+        final int mask = getInternalCollectionSize() - 1;
+        int gapSlot = slotToRemove;
+        int nextSlot = (gapSlot + 1) & mask;
+
+        while (FREE_KEY != keys[nextSlot]) {
+            final int homeSlot = getHomeSlot(keys[nextSlot], mask);
+
+            if (((nextSlot - homeSlot) & mask) >= ((nextSlot - gapSlot) & mask)) {
+                keys[gapSlot] = keys[nextSlot];
+                values[gapSlot] = values[nextSlot];
+                gapSlot = nextSlot;
+            }
+
+            nextSlot = (nextSlot + 1) & mask;
+        }
+
+        keys[gapSlot] = FREE_KEY;
+        values[gapSlot] = null;
+    }
+
+    /*
+     * Returns the slot the provided key hashes to. Spreads the key first so sequential keys do not form long clusters.
+     */
+    private static int getHomeSlot(final long key, final int mask) {
+        final long mixedHashCode = key * HASH_SPREAD_MULTIPLIER;
+
+        return (int) (mixedHashCode ^ (mixedHashCode >>> 32)) & mask;
+    }
+
+    /*
+     * Returns the smallest power of two that is at least the provided size.
+     */
+    private static int getCapacityForSize(final int requestedSize) {
+        return 1 == requestedSize ? 1 : Integer.highestOneBit(requestedSize - 1) << 1;
+    }
+
+    /*
+     * Retrieves the length of the internal collection.
+     */
+    private int getInternalCollectionSize() {
+        return keys.length;
+    }
+
+    /*
+     * Determines whether to resize the collection. If the load factor after one more insert, which is the number of
+     * entries in the table divided by the total size of the internal collection, exceeds the limit, then should resize.
+     * This also guarantees there is always a free slot to end a probe sequence.
+     */
+    private boolean shouldResizeInternalCollection() {
+        final double loadFactor = (double) (size + 1) / getInternalCollectionSize();
+
+        return loadFactor > DEFAULT_LOAD_FACTOR_LIMIT;
+    }
+
+    /*
+     * Resizes the internal collection.
+     *
+     * Points temporary variables at the current arrays, creates new arrays with new size using the configured resize
+     * factor, and re-inserts every entry.
+     */
+    @SuppressWarnings("unchecked")
+    private void resizeCollection() {
+        final long[] tempKeys = keys;
+        final Object[] tempValues = values;
+        final int newCollectionSize = getInternalCollectionSize() * DEFAULT_RESIZE_FACTOR;
+
+        keys = new long[newCollectionSize];
+        values = new Object[newCollectionSize];
+        size = containsFreeKey ? 1 : 0;
+
+        for (int slot = 0; slot < tempKeys.length; slot++) {
+            if (FREE_KEY != tempKeys[slot]) {
+                insertIntoInternalCollection(tempKeys[slot], (V) tempValues[slot]);
+            }
+        }
+    }
+}
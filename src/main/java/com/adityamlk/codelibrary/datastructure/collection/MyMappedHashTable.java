@@ -0,0 +1,592 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents a read-only HashTable implementation for fixed-width long keys and long values that lives in a file. The
+ * file is written once by a {@link Builder} and then opened with {@link FileChannel#map}, so lookups run directly
+ * against the mapped pages. Opening a table does not read or deserialize any entries, which makes startup O(1) no
+ * matter how large the table is; the operating system pages the slots in as they are accessed, and keeps them cached
+ * across restarts.
+ * <p>
+ * The file starts with a 64-byte header, followed by a power of two number of 16-byte slots, each holding a key and its
+ * value in little-endian order. Slots are laid out the same way as {@link MyOffHeapHashTable}: open addressing with
+ * linear probing, where a key of 0 marks a free slot and the entry for key 0, if any, is stored in the header.
+ * <p>
+ * A new version is published by building it into a temporary file next to the target and atomically renaming it over
+ * the target. Tables opened before the rename keep reading the version they mapped until they are closed; opening the
+ * path again picks up the new version. The table cannot be used after {@link #close()}, but the mapping itself is
+ * released by the garbage collector, so that a thread still reading from a closed table never touches unmapped memory.
+ * Safe to read from multiple threads, including while the table is being closed.
+ * <p>
+ * Insertion is O(1), through the {@link Builder}. Inserting an existing key replaces its value.
+ * Deletion is not supported. The table is immutable once published.
+ * Search is O(1). Searches the probe sequence of the provided key.
+ */
+@Log4j2
+public class MyMappedHashTable implements AutoCloseable {
+
+    private static final double DEFAULT_LOAD_FACTOR_LIMIT = 0.75;
+
+    private static final long DEFAULT_MISSING_VALUE = 0;
+
+    private static final long FREE_KEY = 0;
+
+    /*
+     * Multiplier used to spread keys before masking. Part of the file format, so changing it requires a new version.
+     */
+    private static final long HASH_SPREAD_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /*
+     * Header layout. The magic number spells "MMHT" and identifies the file, the version identifies the layout.
+     */
+    private static final int MAGIC_NUMBER = 0x4D4D4854;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC_NUMBER_OFFSET = 0;
+
+    private static final int FORMAT_VERSION_OFFSET = 4;
+
+    private static final int SIZE_OFFSET = 8;
+
+    private static final int CAPACITY_OFFSET = 16;
+
+    private static final int CONTAINS_FREE_KEY_OFFSET = 24;
+
+    private static final int FREE_KEY_VALUE_OFFSET = 32;
+
+    private static final int HEADER_SIZE = 64;
+
+    /*
+     * Each slot holds an 8-byte key followed by an 8-byte value.
+     */
+    private static final int SLOT_SIZE_SHIFT = 4;
+
+    private static final int VALUE_OFFSET = 8;
+
+    /*
+     * Each segment maps up to 1 GB of the file, so a table can grow past the 2 GB limit of a single mapping. Since the
+     * header and the slots are multiples of 16 bytes, a slot never spans two segments.
+     */
+    private static final int SEGMENT_SIZE_SHIFT = 30;
+
+    private static final long SEGMENT_OFFSET_MASK = (1L << SEGMENT_SIZE_SHIFT) - 1;
+
+    /*
+     * Value returned by get when the key does not exist.
+     */
+    private final long missingValue;
+
+    /*
+     * The number of entries stored in the hash table, including the entry for the free key if there is one.
+     */
+    private final long size;
+
+    /*
+     * Whether the table holds an entry for the free key, which cannot be stored in a slot.
+     */
+    private final boolean containsFreeKey;
+
+    /*
+     * Value for the free key, if the table holds one.
+     */
+    private final long freeKeyValue;
+
+    /*
+     * Number of slots in the file. Always a power of two.
+     */
+    private final long capacity;
+
+    /*
+     * Read-only mappings of the file. Null once the table has been closed.
+     */
+    private volatile ByteBuffer[] segments;
+
+    /*
+     * Reads the header of the provided mapping. Fails if the mapping does not hold a hash table in the expected format.
+     */
+    private MyMappedHashTable(final Path path, final ByteBuffer[] segments, final long fileSize,
+                              final long missingValue) throws IOException {
+        final ByteBuffer header = segments[0];
+
+        if (MAGIC_NUMBER != header.getInt(MAGIC_NUMBER_OFFSET)
+                || FORMAT_VERSION != header.getInt(FORMAT_VERSION_OFFSET)) {
+            throw new IOException("Unexpected hash table file format: " + path);
+        }
+
+        final long fileCapacity = header.getLong(CAPACITY_OFFSET);
+
+        if (1 > fileCapacity
+                || 0 != (fileCapacity & (fileCapacity - 1))
+                || HEADER_SIZE + (fileCapacity << SLOT_SIZE_SHIFT) != fileSize) {
+            throw new IOException("Unexpected hash table file format: " + path);
+        }
+
+        this.missingValue = missingValue;
+        this.size = header.getLong(SIZE_OFFSET);
+        this.containsFreeKey = 0 != header.getLong(CONTAINS_FREE_KEY_OFFSET);
+        this.freeKeyValue = header.getLong(FREE_KEY_VALUE_OFFSET);
+        this.capacity = fileCapacity;
+        this.segments = segments;
+    }
+
+    /**
+     * Opens the hash table stored in the provided file. Uses 0 as the missing value.
+     *
+     * @param path File written by a {@link Builder}.
+     * @return {@link MyMappedHashTable}
+     * @throws IOException If the file cannot be mapped or does not hold a hash table.
+     */
+    public static MyMappedHashTable open(@NonNull final Path path) throws IOException {
+        return open(path, DEFAULT_MISSING_VALUE);
+    }
+
+    /**
+     * Opens the hash table stored in the provided file.
+     *
+     * @param path         File written by a {@link Builder}.
+     * @param missingValue Value returned by get when the key does not exist.
+     * @return {@link MyMappedHashTable}
+     * @throws IOException If the file cannot be mapped or does not hold a hash table.
+     */
+    public static MyMappedHashTable open(@NonNull final Path path, final long missingValue) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long fileSize = fileChannel.size();
+
+            if (HEADER_SIZE > fileSize) {
+                throw new IOException("Unexpected hash table file format: " + path);
+            }
+
+            final ByteBuffer[] segments = mapSegments(fileChannel, FileChannel.MapMode.READ_ONLY, fileSize);
+
+            try {
+                return new MyMappedHashTable(path, segments, fileSize, missingValue);
+            } catch (final IOException exception) {
+                releaseSegments(segments);
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Creates a builder that streams entries into a temporary file and publishes them to the provided path.
+     *
+     * @param path         File the hash table is published to.
+     * @param expectedSize Maximum number of entries the table will hold. Used to size the file up front.
+     * @return {@link Builder}
+     * @throws IOException If the temporary file cannot be created.
+     */
+    public static Builder builder(@NonNull final Path path, @NonNull final Long expectedSize) throws IOException {
+        if (0 > expectedSize) {
+            throw new IllegalArgumentException("Expected size of at least 0.");
+        }
+
+        return new Builder(path, expectedSize);
+    }
+
+    /**
+     * Retrieves the value for the provided key.
+     *
+     * @param keyForRetrieval Key to retrieve.
+     * @return Value associated with the key, or the missing value if the key does not exist.
+     */
+    public long get(final long keyForRetrieval) {
+        final ByteBuffer[] currentSegments = getOpenSegments();
+
+        if (FREE_KEY == keyForRetrieval) {
+            return containsFreeKey ? freeKeyValue : missingValue;
+        }
+
+        final long slot = getSlotForKey(currentSegments, capacity, keyForRetrieval);
+
+        return -1 == slot ? missingValue : readLong(currentSegments, getSlotOffset(slot) + VALUE_OFFSET);
+    }
+
+    /**
+     * Determines whether a value exists for the provided key.
+     *
+     * @param keyToSearch Key to search.
+     * @return True if the key exists in the hash table, false otherwise.
+     */
+    public boolean contains(final long keyToSearch) {
+        final ByteBuffer[] currentSegments = getOpenSegments();
+
+        return FREE_KEY == keyToSearch ? containsFreeKey : -1 != getSlotForKey(currentSegments, capacity, keyToSearch);
+    }
+
+    /**
+     * @return Value returned by get when the key does not exist.
+     */
+    public long getMissingValue() {
+        return missingValue;
+    }
+
+    /**
+     * @return Number of values in the data structure.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return Number of slots in the data structure, whether they are in use or not.
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Drops the mapping. The data structure cannot be used afterwards. Closing more than once has no effect. Lookups
+     * that are already running finish against the mapping, which the garbage collector releases once they are done.
+     */
+    @Override
+    public void close() {
+        segments = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns string version of the data structure. Uses curly braces to identify start and end of collection.
+     * Separates the entries using comma and space. Separates the keys and values using '='.
+     */
+    @Override
+    public String toString() {
+        final ByteBuffer[] currentSegments = getOpenSegments();
+
+        if (0 == size) {
+            return "{}";
+        }
+
+        long numEntriesProcessed = 0;
+        final StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("{");
+
+        if (containsFreeKey) {
+            stringBuilder.append(FREE_KEY).append('=').append(freeKeyValue);
+            numEntriesProcessed += 1;
+
+            if (size - numEntriesProcessed != 0) {
+                stringBuilder.append(",").append(" ");
+            }
+        }
+
+        for (long slot = 0; slot < capacity; slot++) {
+            final long slotOffset = getSlotOffset(slot);
+            final long key = readLong(currentSegments, slotOffset);
+
+            if (FREE_KEY != key) {
+                stringBuilder.append(key).append('=').append(readLong(currentSegments, slotOffset + VALUE_OFFSET));
+                numEntriesProcessed += 1;
+
+                // If there is still one entry to process, then use comma and space to separate the strings.
+                if (size - numEntriesProcessed != 0) {
+                    stringBuilder.append(",").append(" ");
+                }
+            }
+        }
+
+        stringBuilder.append("}");
+        return stringBuilder.toString();
+    }
+
+    /*
+     * Returns the mapping, or fails if the table has been closed.
+     */
+    private ByteBuffer[] getOpenSegments() {
+        final ByteBuffer[] currentSegments = segments;
+
+        if (null == currentSegments) {
+            throw new IllegalStateException("Hash table has already been closed.");
+        }
+
+        return currentSegments;
+    }
+
+    /*
+     * Returns the slot that holds the provided key, or the free slot that ends its probe sequence negated and shifted
+     * by one, so -1 means the home slot was free.
+     */
+    private static long probeForKey(final ByteBuffer[] segments, final long capacity, final long key) {
+        final long mask = capacity - 1;
+        long slot = getHomeSlot(key, mask);
+        long keyInSlot = readLong(segments, getSlotOffset(slot));
+
+        while (FREE_KEY != keyInSlot) {
+            if (key == keyInSlot) {
+                return slot;
+            }
+
+            slot = (slot + 1) & mask;
+            keyInSlot = readLong(segments, getSlotOffset(slot));
+        }
+
+        return -slot - 1;
+    }
+
+    /*
+     * Returns the slot that holds the provided key, or -1 if the key does not exist.
+     */
+    private static long getSlotForKey(final ByteBuffer[] segments, final long capacity, final long key) {
+        final long slot = probeForKey(segments, capacity, key);
+
+        return 0 > slot ? -1 : slot;
+    }
+
+    /*
+     * Returns the offset of the provided slot within the file.
+     */
+    private static long getSlotOffset(final long slot) {
+        return HEADER_SIZE + (slot << SLOT_SIZE_SHIFT);
+    }
+
+    /*
+     * Reads the long at the provided offset within the file.
+     */
+    private static long readLong(final ByteBuffer[] segments, final long fileOffset) {
+        return segments[(int) (fileOffset >>> SEGMENT_SIZE_SHIFT)].getLong((int) (fileOffset & SEGMENT_OFFSET_MASK));
+    }
+
+    /*
+     * Writes the long at the provided offset within the file.
+     */
+    private static void writeLong(final ByteBuffer[] segments, final long fileOffset, final long value) {
+        segments[(int) (fileOffset >>> SEGMENT_SIZE_SHIFT)].putLong((int) (fileOffset & SEGMENT_OFFSET_MASK), value);
+    }
+
+    /*
+     * Returns the slot the provided key hashes to. Spreads the key first so sequential keys do not form long clusters.
+     */
+    private static long getHomeSlot(final long key, final long mask) {
+        final long mixedHashCode = key * HASH_SPREAD_MULTIPLIER;
+
+        return (mixedHashCode ^ (mixedHashCode >>> 32)) & mask;
+    }
+
+    /*
+     * Maps the provided file in segments of up to 1 GB. Uses little-endian order so files can be moved between
+     * machines. Mapping in read-write mode grows the file to the provided size, filled with zeros.
+     */
+    private static ByteBuffer[] mapSegments(final FileChannel fileChannel, final FileChannel.MapMode mapMode,
+                                            final long fileSize) throws IOException {
+        final int segmentCount = (int) ((fileSize + SEGMENT_OFFSET_MASK) >>> SEGMENT_SIZE_SHIFT);
+        final ByteBuffer[] segments = new ByteBuffer[segmentCount];
+
+        try {
+            for (int segment = 0; segment < segmentCount; segment++) {
+                final long segmentStart = (long) segment << SEGMENT_SIZE_SHIFT;
+                final long segmentBytes = Math.min(1L << SEGMENT_SIZE_SHIFT, fileSize - segmentStart);
+
+                segments[segment] = fileChannel.map(mapMode, segmentStart, segmentBytes).order(ByteOrder.LITTLE_ENDIAN);
+            }
+        } catch (final IOException exception) {
+            for (final ByteBuffer mappedSegment : segments) {
+                if (null != mappedSegment) {
+                    DirectBufferCleaner.clean(mappedSegment);
+                }
+            }
+
+            throw exception;
+        }
+
+        return segments;
+    }
+
+    /*
+     * Unmaps the provided segments right away instead of waiting for the garbage collector. Until then, the file stays
+     * open and cannot be deleted on some platforms.
+     */
+    private static void releaseSegments(final ByteBuffer[] segmentsToRelease) {
+        for (final ByteBuffer segment : segmentsToRelease) {
+            DirectBufferCleaner.clean(segment);
+        }
+    }
+
+    /**
+     * Streams entries into a temporary file next to the target, then publishes the file by atomically renaming it over
+     * the target. The file is sized up front from the expected size, so entries are written straight into their slots
+     * and never rehashed. Closing the builder without publishing deletes the temporary file.
+     * <p>
+     * Not thread-safe.
+     */
+    public static final class Builder implements AutoCloseable {
+
+        /*
+         * File the hash table is published to.
+         */
+        private final Path path;
+
+        /*
+         * File the entries are streamed into until the table is published.
+         */
+        private final Path temporaryPath;
+
+        /*
+         * Maximum number of entries the file was sized for.
+         */
+        private final long expectedSize;
+
+        /*
+         * Number of slots in the file. Always a power of two.
+         */
+        private final long capacity;
+
+        /*
+         * The number of entries written so far, including the entry for the free key if there is one.
+         */
+        private long size;
+
+        /*
+         * Whether an entry for the free key has been written.
+         */
+        private boolean containsFreeKey;
+
+        /*
+         * Value for the free key, if an entry for it has been written.
+         */
+        private long freeKeyValue;
+
+        /*
+         * Read-write mappings of the temporary file. Null once the builder has been published or closed.
+         */
+        private ByteBuffer[] segments;
+
+        private Builder(final Path path, final long expectedSize) throws IOException {
+            final long requiredCapacity = Math.max(1, (long) Math.ceil(expectedSize / DEFAULT_LOAD_FACTOR_LIMIT));
+            final Path absolutePath = path.toAbsolutePath();
+
+            this.path = absolutePath;
+            this.capacity = 1 == requiredCapacity ? 1 : Long.highestOneBit(requiredCapacity - 1) << 1;
+            this.expectedSize = expectedSize;
+            this.temporaryPath = Files.createTempFile(
+                    absolutePath.getParent(), absolutePath.getFileName() + ".", ".tmp");
+            this.size = 0;
+            this.containsFreeKey = false;
+            this.freeKeyValue = 0;
+
+            try (FileChannel fileChannel = FileChannel.open(temporaryPath, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                this.segments = mapSegments(fileChannel, FileChannel.MapMode.READ_WRITE, getSlotOffset(capacity));
+            } catch (final IOException exception) {
+                Files.deleteIfExists(temporaryPath);
+                throw exception;
+            }
+        }
+
+        /**
+         * Writes the given key and value pair. Replaces the value if the key has already been written.
+         *
+         * @param keyToInsert   Key to insert.
+         * @param valueToInsert Value to insert.
+         * @return This builder.
+         */
+        public Builder insert(final long keyToInsert, final long valueToInsert) {
+            if (null == segments) {
+                throw new IllegalStateException("Builder has already been published or closed.");
+            }
+
+            if (FREE_KEY == keyToInsert) {
+                if (!containsFreeKey) {
+                    containsFreeKey = true;
+                    size += 1;
+                }
+
+                freeKeyValue = valueToInsert;
+                return this;
+            }
+
+            final long slot = probeForKey(segments, capacity, keyToInsert);
+
+            if (0 <= slot) {
+                writeLong(segments, getSlotOffset(slot) + VALUE_OFFSET, valueToInsert);
+                return this;
+            }
+
+            // Keep the load factor below the limit, which also guarantees there is always a free slot to end a probe.
+            final long slottedSize = containsFreeKey ? size - 1 : size;
+
+            if ((double) (slottedSize + 1) / capacity > DEFAULT_LOAD_FACTOR_LIMIT) {
+                throw new IllegalStateException("Expected at most " + expectedSize + " entries.");
+            }
+
+            final long freeSlot = -slot - 1;
+            writeLong(segments, getSlotOffset(freeSlot), keyToInsert);
+            writeLong(segments, getSlotOffset(freeSlot) + VALUE_OFFSET, valueToInsert);
+            size += 1;
+
+            return this;
+        }
+
+        /**
+         * @return Number of values written so far.
+         */
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Writes the header, flushes the file to disk and atomically renames it over the target, replacing the
+         * previous version if there is one. The builder cannot be used afterwards, and the temporary file is deleted if
+         * the rename fails.
+         *
+         * @throws IOException If the file cannot be flushed or renamed.
+         */
+        public void publish() throws IOException {
+            if (null == segments) {
+                throw new IllegalStateException("Builder has already been published or closed.");
+            }
+
+            final ByteBuffer header = segments[0];
+            header.putInt(MAGIC_NUMBER_OFFSET, MAGIC_NUMBER);
+            header.putInt(FORMAT_VERSION_OFFSET, FORMAT_VERSION);
+            header.putLong(SIZE_OFFSET, size);
+            header.putLong(CAPACITY_OFFSET, capacity);
+            header.putLong(CONTAINS_FREE_KEY_OFFSET, containsFreeKey ? 1 : 0);
+            header.putLong(FREE_KEY_VALUE_OFFSET, freeKeyValue);
+
+            for (final ByteBuffer segment : segments) {
+                ((MappedByteBuffer) segment).force();
+            }
+
+            releaseSegments(segments);
+            segments = null;
+
+            // Close no longer deletes the temporary file once the builder has been published, so a failed rename has
+            // to clean up after itself.
+            try {
+                Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final IOException exception) {
+                Files.deleteIfExists(temporaryPath);
+                throw exception;
+            }
+
+            log.debug("Published {} entries to {}.", size, path);
+        }
+
+        /**
+         * Discards the entries written so far if the builder has not been published. Closing more than once, or after
+         * publishing, has no effect.
+         *
+         * @throws IOException If the temporary file cannot be deleted.
+         */
+        @Override
+        public void close() throws IOException {
+            if (null != segments) {
+                releaseSegments(segments);
+                segments = null;
+                Files.deleteIfExists(temporaryPath);
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents a bounded, lock-free queue for any number of producer threads and any number of consumer threads, based
+ * on Dmitry Vyukov's bounded MPMC queue. Every slot has a sequence number that says whose turn it is: a slot whose
+ * sequence equals the producer index is free for that producer, and a slot whose sequence is one past the consumer
+ * index holds a value for that consumer. Producers and consumers claim a slot by moving their index forward with a
+ * compare-and-set, use the slot, and then release its sequence for the other side.
+ * <p>
+ * Since claiming a slot does not depend on the slots around it, a value that is slow to be written only holds up the
+ * consumer of that slot, not the rest of the queue. Batches claim one slot at a time.
+ * <p>
+ * The capacity is at least two. With a single slot, the sequence of a written slot would equal the index of the next
+ * producer, which would then overwrite the value before it is read.
+ * <p>
+ * Insertion is O(1), retried when other producers claim the same slot first.
+ * Deletion is O(1), retried when other consumers claim the same slot first.
+ *
+ * @param <T> Generic data type supported by the queue.
+ */
+@Log4j2
+public class MyMpmcQueue<T> extends MyBoundedQueue<T> {
+
+    /*
+     * Accesses the sequences of the slots with acquire and release ordering.
+     */
+    private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private static final int MINIMUM_CAPACITY = 2;
+
+    /*
+     * Sequence number of each slot. Starts at the index of the slot, becomes the producer index plus one once a value
+     * is written, and the consumer index plus the capacity once the value is read, which is the producer index of the
+     * next lap.
+     */
+    private final long[] sequences;
+
+    /**
+     * Constructor that sets the capacity of the queue, rounded up to a power of two of at least two. Waits by
+     * yielding.
+     *
+     * @param capacity Number of values the queue can hold.
+     */
+    public MyMpmcQueue(@NonNull final Integer capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    /**
+     * Constructor that sets the capacity of the queue, rounded up to a power of two of at least two, and how put and
+     * take wait.
+     *
+     * @param capacity Number of values the queue can hold.
+     * @param waitStrategy {@link WaitStrategy}
+     */
+    public MyMpmcQueue(@NonNull final Integer capacity, @NonNull final WaitStrategy waitStrategy) {
+        super(1 == capacity ? MINIMUM_CAPACITY : capacity, waitStrategy);
+
+        this.sequences = new long[this.capacity];
+
+        for (int index = 0; index < this.capacity; index++) {
+            sequences[index] = index;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * May be called by any number of threads.
+     */
+    @Override
+    public boolean offer(@NonNull final T valueToOffer) {
+        long currentProducerIndex = producerIndex.get();
+
+        while (true) {
+            final int index = (int) currentProducerIndex & mask;
+            final long difference = (long) SEQUENCE.getAcquire(sequences, index) - currentProducerIndex;
+
+            if (0 == difference) {
+                if (producerIndex.compareAndSet(currentProducerIndex, currentProducerIndex + 1)) {
+                    buffer[index] = valueToOffer;
+                    SEQUENCE.setRelease(sequences, index, currentProducerIndex + 1);
+
+                    return true;
+                }
+            } else if (0 > difference) {
+                // The slot still holds the value of the previous lap, so the queue is full.
+                return false;
+            }
+
+            // Another producer claimed the slot first.
+            currentProducerIndex = producerIndex.get();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * May be called by any number of threads.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long currentConsumerIndex = consumerIndex.get();
+
+        while (true) {
+            final int index = (int) currentConsumerIndex & mask;
+            final long difference = (long) SEQUENCE.getAcquire(sequences, index) - (currentConsumerIndex + 1);
+
+            if (0 == difference) {
+                if (consumerIndex.compareAndSet(currentConsumerIndex, currentConsumerIndex + 1)) {
+                    final T value = (T) buffer[index];
+                    buffer[index] = null;
+                    SEQUENCE.setRelease(sequences, index, currentConsumerIndex + capacity);
+
+                    return value;
+                }
+            } else if (0 > difference) {
+                // The slot has not been written for this lap, so the queue is empty.
+                return null;
+            }
+
+            // Another consumer claimed the slot first.
+            currentConsumerIndex = consumerIndex.get();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * May be called by any number of threads. Other producers may insert values in between the ones of the batch.
+     */
+    @Override
+    public int offerAll(@NonNull final List<? extends T> valuesToOffer) {
+        checkValues(valuesToOffer, valuesToOffer.size());
+
+        int offerCount = 0;
+
+        while (offerCount < valuesToOffer.size() && offer(valuesToOffer.get(offerCount))) {
+            offerCount += 1;
+        }
+
+        return offerCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * May be called by any number of threads. Other consumers may remove values in between the ones of the batch.
+     */
+    @Override
+    public int drainTo(@NonNull final Consumer<? super T> consumer, final int maximumCount) {
+        checkMaximumCount(maximumCount);
+
+        int removedCount = 0;
+
+        while (removedCount < maximumCount) {
+            final T value = poll();
+
+            if (null == value) {
+                break;
+            }
+
+            removedCount += 1;
+            consumer.accept(value);
+        }
+
+        return removedCount;
+    }
+}
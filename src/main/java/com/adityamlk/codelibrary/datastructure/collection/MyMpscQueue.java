@@ -0,0 +1,210 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents a bounded, lock-free queue for any number of producer threads and exactly one consumer thread. Producers
+ * claim slots by moving the producer index forward with a compare-and-set, and then release the value into the claimed
+ * slot. The consumer knows a slot is ready once it holds a value, and frees it by clearing it and releasing the
+ * consumer index past it.
+ * <p>
+ * Producers share a limit on the producer index, which is the consumer index plus the capacity as of the last time a
+ * producer read it, so that they only read the consumer index again once the limit says the queue is full. A batch of
+ * values is claimed with a single compare-and-set.
+ * <p>
+ * Insertion is O(1), retried when other producers claim the same slot first.
+ * Deletion is O(1).
+ *
+ * @param <T> Generic data type supported by the queue.
+ */
+@Log4j2
+public class MyMpscQueue<T> extends MyBoundedQueue<T> {
+
+    /*
+     * Accesses the slots of the circular array with acquire and release ordering.
+     */
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /*
+     * Index that the producer index may not reach, since the slot at it has not been freed by the consumer yet.
+     */
+    private final PaddedSequence producerLimit;
+
+    /**
+     * Constructor that sets the capacity of the queue, rounded up to a power of two. Waits by yielding.
+     *
+     * @param capacity Number of values the queue can hold.
+     */
+    public MyMpscQueue(@NonNull final Integer capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    /**
+     * Constructor that sets the capacity of the queue, rounded up to a power of two, and how put and take wait.
+     *
+     * @param capacity Number of values the queue can hold.
+     * @param waitStrategy {@link WaitStrategy}
+     */
+    public MyMpscQueue(@NonNull final Integer capacity, @NonNull final WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+
+        this.producerLimit = new PaddedSequence(this.capacity);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * May be called by any number of threads.
+     */
+    @Override
+    public boolean offer(@NonNull final T valueToOffer) {
+        final long claimedIndex = claimSlots(1);
+
+        if (-1 == claimedIndex) {
+            return false;
+        }
+
+        SLOT.setRelease(buffer, (int) claimedIndex & mask, valueToOffer);
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Must only be called by the consumer thread.
+     */
+    @Override
+    public T poll() {
+        final long currentConsumerIndex = consumerIndex.getPlain();
+        final T value = takeSlot(currentConsumerIndex);
+
+        if (null != value) {
+            consumerIndex.setRelease(currentConsumerIndex + 1);
+        }
+
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * May be called by any number of threads. Claims the slots for every inserted value with a single compare-and-set.
+     */
+    @Override
+    public int offerAll(@NonNull final List<? extends T> valuesToOffer) {
+        checkValues(valuesToOffer, valuesToOffer.size());
+
+        long currentProducerIndex;
+        int offerCount;
+
+        do {
+            currentProducerIndex = producerIndex.get();
+            long limit = producerLimit.get();
+
+            if (currentProducerIndex + valuesToOffer.size() > limit) {
+                limit = consumerIndex.getAcquire() + capacity;
+                producerLimit.setRelease(limit);
+            }
+
+            offerCount = (int) Math.min(valuesToOffer.size(), limit - currentProducerIndex);
+
+            if (0 >= offerCount) {
+                return 0;
+            }
+        } while (!producerIndex.compareAndSet(currentProducerIndex, currentProducerIndex + offerCount));
+
+        for (int index = 0; index < offerCount; index++) {
+            SLOT.setRelease(buffer, (int) (currentProducerIndex + index) & mask, valuesToOffer.get(index));
+        }
+
+        return offerCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Must only be called by the consumer thread. Frees every removed slot with a single release.
+     */
+    @Override
+    public int drainTo(@NonNull final Consumer<? super T> consumer, final int maximumCount) {
+        checkMaximumCount(maximumCount);
+
+        final long currentConsumerIndex = consumerIndex.getPlain();
+        int removedCount = 0;
+
+        // Free the removed slots even if the consumer fails part way through.
+        try {
+            while (removedCount < maximumCount) {
+                final T value = takeSlot(currentConsumerIndex + removedCount);
+
+                if (null == value) {
+                    break;
+                }
+
+                removedCount += 1;
+                consumer.accept(value);
+            }
+        } finally {
+            consumerIndex.setRelease(currentConsumerIndex + removedCount);
+        }
+
+        return removedCount;
+    }
+
+    /*
+     * Claims the provided number of slots by moving the producer index past them, if there is room for all of them.
+     * Returns the index of the first claimed slot, or -1 if the queue is full.
+     */
+    private long claimSlots(final int slotCount) {
+        long limit = producerLimit.get();
+        long currentProducerIndex;
+
+        do {
+            currentProducerIndex = producerIndex.get();
+
+            if (currentProducerIndex + slotCount > limit) {
+                limit = consumerIndex.getAcquire() + capacity;
+
+                if (currentProducerIndex + slotCount > limit) {
+                    return -1;
+                }
+
+                producerLimit.setRelease(limit);
+            }
+        } while (!producerIndex.compareAndSet(currentProducerIndex, currentProducerIndex + slotCount));
+
+        return currentProducerIndex;
+    }
+
+    /*
+     * Reads and clears the value of the slot at the provided index. Returns null if no producer has claimed the slot.
+     * If a producer has claimed the slot but not released its value yet, waits for the value, since the values after
+     * it cannot be read before it.
+     */
+    @SuppressWarnings("unchecked")
+    private T takeSlot(final long slotIndex) {
+        final int index = (int) slotIndex & mask;
+        Object value = SLOT.getAcquire(buffer, index);
+
+        if (null == value) {
+            if (slotIndex >= producerIndex.get()) {
+                return null;
+            }
+
+            do {
+                Thread.onSpinWait();
+                value = SLOT.getAcquire(buffer, index);
+            } while (null == value);
+        }
+
+        buffer[index] = null;
+
+        return (T) value;
+    }
+}
@@ -0,0 +1,496 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents a HashTable implementation for fixed-width long keys and long values that stores its entries outside of
+ * the Java heap. Entries live in direct {@link ByteBuffer} segments as 16-byte slots, the key followed by the value, so
+ * the heap only holds this object and one reference per segment no matter how many entries the table contains. The
+ * garbage collector never has to trace the entries, which keeps multi-GB tables out of the old generation.
+ * <p>
+ * Uses open addressing with linear probing and backward-shift deletion over a power of two number of slots, and doubles
+ * the number of slots once the configured load factor is reached. A key of 0 marks a free slot, so the entry for key 0,
+ * if any, is tracked separately. Lookups for a key that does not exist return the missing value configured for the
+ * table.
+ * <p>
+ * The off-heap memory is released by {@link #close()}; the table cannot be used afterwards. Not thread-safe.
+ * <p>
+ * Insertion is O(1). Either the insertion is straightforward, where the slot is free or the probe is short, or it
+ * requires resizing, which gets amortized across all the other inserts. Inserting an existing key replaces its value.
+ * Deletion is O(1). Deletes from the probe sequence of the provided key and shifts the rest of the cluster back.
+ * Search is O(1). Searches the probe sequence of the provided key.
+ */
+@Log4j2
+public class MyOffHeapHashTable implements AutoCloseable {
+
+    private static final double DEFAULT_LOAD_FACTOR_LIMIT = 0.75;
+
+    private static final long DEFAULT_INITIAL_CAPACITY = 1024;
+
+    private static final int DEFAULT_RESIZE_FACTOR = 2;
+
+    private static final long DEFAULT_MISSING_VALUE = 0;
+
+    private static final long FREE_KEY = 0;
+
+    private static final long HASH_SPREAD_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /*
+     * Each slot holds an 8-byte key followed by an 8-byte value.
+     */
+    private static final int SLOT_SIZE_SHIFT = 4;
+
+    private static final int VALUE_OFFSET = 8;
+
+    /*
+     * Each segment holds up to 1 GB, so a table can grow past the 2 GB limit of a single buffer.
+     */
+    private static final int SEGMENT_SIZE_SHIFT = 30;
+
+    private static final long SEGMENT_OFFSET_MASK = (1L << SEGMENT_SIZE_SHIFT) - 1;
+
+    /*
+     * Value returned by get and remove when the key does not exist.
+     */
+    private final long missingValue;
+
+    /*
+     * The number of entries stored in the hash table, including the entry for the free key if there is one.
+     */
+    private long size;
+
+    /*
+     * Whether the table holds an entry for the free key, which cannot be stored in a slot.
+     */
+    private boolean containsFreeKey;
+
+    /*
+     * Value for the free key, if the table holds one.
+     */
+    private long freeKeyValue;
+
+    /*
+     * Number of slots across all segments. Always a power of two.
+     */
+    private long capacity;
+
+    /*
+     * Off-heap memory that holds the slots. Null once the table has been closed.
+     */
+    private ByteBuffer[] segments;
+
+    /**
+     * Default constructor. Uses 0 as the missing value.
+     */
+    public MyOffHeapHashTable() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_MISSING_VALUE);
+    }
+
+    /**
+     * Constructor that sets the missing value of the data structure.
+     *
+     * @param missingValue Value returned by get and remove when the key does not exist.
+     */
+    public MyOffHeapHashTable(final long missingValue) {
+        this(DEFAULT_INITIAL_CAPACITY, missingValue);
+    }
+
+    /**
+     * Constructor that sets the initial capacity and missing value of the data structure. The capacity is rounded up
+     * to the next power of two.
+     *
+     * @param initialCapacity Value used for setting the initial number of slots in the data structure.
+     * @param missingValue    Value returned by get and remove when the key does not exist.
+     */
+    public MyOffHeapHashTable(@NonNull final Long initialCapacity, final long missingValue) {
+        if (1 > initialCapacity) {
+            throw new IllegalArgumentException("Expected initial capacity of at least 1.");
+        }
+
+        this.missingValue = missingValue;
+        this.size = 0;
+        this.containsFreeKey = false;
+        this.freeKeyValue = missingValue;
+        this.capacity = 1 == initialCapacity ? 1 : Long.highestOneBit(initialCapacity - 1) << 1;
+        this.segments = allocateSegments(capacity);
+    }
+
+    /**
+     * Inserts the given key and value pair. Replaces the value if the key already exists. Will resize the collection
+     * based on the configured resize factor.
+     *
+     * @param keyToInsert   Key to insert.
+     * @param valueToInsert Value to insert.
+     */
+    public void insert(final long keyToInsert, final long valueToInsert) {
+        checkNotClosed();
+
+        if (FREE_KEY == keyToInsert) {
+            if (!containsFreeKey) {
+                containsFreeKey = true;
+                size += 1;
+            }
+
+            freeKeyValue = valueToInsert;
+            return;
+        }
+
+        if (shouldResizeInternalCollection()) {
+            resizeCollection();
+        }
+
+        insertIntoInternalCollection(keyToInsert, valueToInsert);
+    }
+
+    /**
+     * Retrieves the value for the provided key.
+     *
+     * @param keyForRetrieval Key to retrieve.
+     * @return Value associated with the key, or the missing value if the key does not exist.
+     */
+    public long get(final long keyForRetrieval) {
+        checkNotClosed();
+
+        if (FREE_KEY == keyForRetrieval) {
+            return containsFreeKey ? freeKeyValue : missingValue;
+        }
+
+        final long slot = getSlotForKey(keyForRetrieval);
+
+        return -1 == slot ? missingValue : readValue(slot);
+    }
+
+    /**
+     * Removes the value for the provided key.
+     *
+     * @param keyForRemoval Key to remove.
+     * @return Value associated with the key, or the missing value if the key does not exist.
+     */
+    public long remove(final long keyForRemoval) {
+        checkNotClosed();
+
+        if (FREE_KEY == keyForRemoval) {
+            if (!containsFreeKey) {
+                return missingValue;
+            }
+
+            final long valueRemoved = freeKeyValue;
+            containsFreeKey = false;
+            freeKeyValue = missingValue;
+            size -= 1;
+
+            return valueRemoved;
+        }
+
+        final long slot = getSlotForKey(keyForRemoval);
+
+        if (-1 == slot) {
+            return missingValue;
+        }
+
+        final long valueRemoved = readValue(slot);
+        shiftClusterBackwards(slot);
+        size -= 1;
+
+        return valueRemoved;
+    }
+
+    /**
+     * Determines whether a value exists for the provided key.
+     *
+     * @param keyToSearch Key to search.
+     * @return True if the key exists in the hash table, false otherwise.
+     */
+    public boolean contains(final long keyToSearch) {
+        checkNotClosed();
+
+        return FREE_KEY == keyToSearch ? containsFreeKey : -1 != getSlotForKey(keyToSearch);
+    }
+
+    /**
+     * @return Value returned by get and remove when the key does not exist.
+     */
+    public long getMissingValue() {
+        return missingValue;
+    }
+
+    /**
+     * @return Number of values in the data structure.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return Number of bytes of off-heap memory held by the data structure, or 0 once it has been closed.
+     */
+    public long getOffHeapBytes() {
+        return null == segments ? 0 : capacity << SLOT_SIZE_SHIFT;
+    }
+
+    /**
+     * Releases the off-heap memory. The data structure cannot be used afterwards. Closing more than once has no effect.
+     */
+    @Override
+    public void close() {
+        if (null != segments) {
+            releaseSegments(segments);
+            segments = null;
+            size = 0;
+            containsFreeKey = false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns string version of the data structure. Uses curly braces to identify start and end of collection.
+     * Separates the entries using comma and space. Separates the keys and values using '='.
+     */
+    @Override
+    public String toString() {
+        if (0 == size) {
+            return "{}";
+        }
+
+        long numEntriesProcessed = 0;
+        final StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("{");
+
+        if (containsFreeKey) {
+            stringBuilder.append(FREE_KEY).append('=').append(freeKeyValue);
+            numEntriesProcessed += 1;
+
+            if (size - numEntriesProcessed != 0) {
+                stringBuilder.append(",").append(" ");
+            }
+        }
+
+        for (long slot = 0; slot < capacity; slot++) {
+            final long key = readKey(slot);
+
+            if (FREE_KEY != key) {
+                stringBuilder.append(key).append('=').append(readValue(slot));
+                numEntriesProcessed += 1;
+
+                // If there is still one entry to process, then use comma and space to separate the strings.
+                if (size - numEntriesProcessed != 0) {
+                    stringBuilder.append(",").append(" ");
+                }
+            }
+        }
+
+        stringBuilder.append("}");
+        return stringBuilder.toString();
+    }
+
+    /*
+     * Returns the slot that holds the provided key, or -1 if the key does not exist.
+     */
+    private long getSlotForKey(final long key) {
+        final long mask = capacity - 1;
+        long slot = getHomeSlot(key, mask);
+        long keyInSlot = readKey(slot);
+
+        while (FREE_KEY != keyInSlot) {
+            if (key == keyInSlot) {
+                return slot;
+            }
+
+            slot = (slot + 1) & mask;
+            keyInSlot = readKey(slot);
+        }
+
+        return -1;
+    }
+
+    /*
+     * Inserts the provided entry into the first free slot of its probe sequence, or replaces the value if the key is
+     * found along the way.
+     */
+    private void insertIntoInternalCollection(final long key, final long value) {
+        final long mask = capacity - 1;
+        long slot = getHomeSlot(key, mask);
+        long keyInSlot = readKey(slot);
+
+        while (FREE_KEY != keyInSlot) {
+            if (key == keyInSlot) {
+                writeValue(slot, value);
+                return;
+            }
+
+            slot = (slot + 1) & mask;
+            keyInSlot = readKey(slot);
+        }
+
+        writeKey(slot, key);
+        writeValue(slot, value);
+        size += 1;
+    }
+
+    /*
+     * Removes the entry in the provided slot without leaving a tombstone. Walks the rest of the cluster and moves back
+     * every entry whose home slot does not lie between the gap and its current slot, since those entries would no
+     * longer be reachable once the gap is freed.
+     */
+    private void shiftClusterBackwards(final long slotToRemove) {
+        final long mask = capacity - 1;
+        long gapSlot = slotToRemove;
+        long nextSlot = (gapSlot + 1) & mask;
+        long keyInNextSlot = readKey(nextSlot);
+
+        while (FREE_KEY != keyInNextSlot) {
+            final long homeSlot = getHomeSlot(keyInNextSlot, mask);
+
+            if (((nextSlot - homeSlot) & mask) >= ((nextSlot - gapSlot) & mask)) {
+                writeKey(gapSlot, keyInNextSlot);
+                writeValue(gapSlot, readValue(nextSlot));
+                gapSlot = nextSlot;
+            }
+
+            nextSlot = (nextSlot + 1) & mask;
+            keyInNextSlot = readKey(nextSlot);
+        }
+
+        writeKey(gapSlot, FREE_KEY);
+        writeValue(gapSlot, 0);
+    }
+
+    /*
+     * Reads the key in the provided slot.
+     */
+    private long readKey(final long slot) {
+        final long byteOffset = slot << SLOT_SIZE_SHIFT;
+
+        return segments[getSegment(byteOffset)].getLong(getSegmentOffset(byteOffset));
+    }
+
+    /*
+     * Reads the value in the provided slot.
+     */
+    private long readValue(final long slot) {
+        final long byteOffset = slot << SLOT_SIZE_SHIFT;
+
+        return segments[getSegment(byteOffset)].getLong(getSegmentOffset(byteOffset) + VALUE_OFFSET);
+    }
+
+    /*
+     * Writes the key in the provided slot.
+     */
+    private void writeKey(final long slot, final long key) {
+        final long byteOffset = slot << SLOT_SIZE_SHIFT;
+
+        segments[getSegment(byteOffset)].putLong(getSegmentOffset(byteOffset), key);
+    }
+
+    /*
+     * Writes the value in the provided slot.
+     */
+    private void writeValue(final long slot, final long value) {
+        final long byteOffset = slot << SLOT_SIZE_SHIFT;
+
+        segments[getSegment(byteOffset)].putLong(getSegmentOffset(byteOffset) + VALUE_OFFSET, value);
+    }
+
+    /*
+     * Returns the segment that holds the provided byte offset.
+     */
+    private static int getSegment(final long byteOffset) {
+        return (int) (byteOffset >>> SEGMENT_SIZE_SHIFT);
+    }
+
+    /*
+     * Returns the position of the provided byte offset within its segment.
+     */
+    private static int getSegmentOffset(final long byteOffset) {
+        return (int) (byteOffset & SEGMENT_OFFSET_MASK);
+    }
+
+    /*
+     * Returns the slot the provided key hashes to. Spreads the key first so sequential keys do not form long clusters.
+     */
+    private static long getHomeSlot(final long key, final long mask) {
+        final long mixedHashCode = key * HASH_SPREAD_MULTIPLIER;
+
+        return (mixedHashCode ^ (mixedHashCode >>> 32)) & mask;
+    }
+
+    /*
+     * Fails if the table has been closed.
+     */
+    private void checkNotClosed() {
+        if (null == segments) {
+            throw new IllegalStateException("Hash table has already been closed.");
+        }
+    }
+
+    /*
+     * Determines whether to resize the collection. If the load factor after one more insert, which is the number of
+     * entries in the table divided by the number of slots, exceeds the limit, then should resize. This also guarantees
+     * there is always a free slot to end a probe sequence.
+     */
+    private boolean shouldResizeInternalCollection() {
+        final double loadFactor = (double) (size + 1) / capacity;
+
+        return loadFactor > DEFAULT_LOAD_FACTOR_LIMIT;
+    }
+
+    /*
+     * Resizes the internal collection.
+     *
+     * Points temporary variables at the current segments, allocates new segments with new size using the configured
+     * resize factor, re-inserts every entry, and releases the old segments right away instead of waiting for the
+     * garbage collector.
+     */
+    private void resizeCollection() {
+        final ByteBuffer[] tempSegments = segments;
+        final long tempCapacity = capacity;
+
+        capacity = tempCapacity * DEFAULT_RESIZE_FACTOR;
+        segments = allocateSegments(capacity);
+        size = containsFreeKey ? 1 : 0;
+
+        for (long slot = 0; slot < tempCapacity; slot++) {
+            final long byteOffset = slot << SLOT_SIZE_SHIFT;
+            final ByteBuffer segment = tempSegments[getSegment(byteOffset)];
+            final long key = segment.getLong(getSegmentOffset(byteOffset));
+
+            if (FREE_KEY != key) {
+                insertIntoInternalCollection(key, segment.getLong(getSegmentOffset(byteOffset) + VALUE_OFFSET));
+            }
+        }
+
+        releaseSegments(tempSegments);
+    }
+
+    /*
+     * Allocates zeroed off-heap segments that together hold the provided number of slots. Uses native byte order so
+     * reads and writes do not need to swap bytes.
+     */
+    private static ByteBuffer[] allocateSegments(final long slotCount) {
+        final long totalBytes = slotCount << SLOT_SIZE_SHIFT;
+        final int segmentCount = (int) ((totalBytes + SEGMENT_OFFSET_MASK) >>> SEGMENT_SIZE_SHIFT);
+        final ByteBuffer[] newSegments = new ByteBuffer[segmentCount];
+
+        for (int segment = 0; segment < segmentCount; segment++) {
+            final long remainingBytes = totalBytes - ((long) segment << SEGMENT_SIZE_SHIFT);
+            final int segmentBytes = (int) Math.min(1L << SEGMENT_SIZE_SHIFT, remainingBytes);
+
+            newSegments[segment] = ByteBuffer.allocateDirect(segmentBytes).order(ByteOrder.nativeOrder());
+        }
+
+        return newSegments;
+    }
+
+    /*
+     * Frees the memory of the provided segments right away instead of waiting for the garbage collector.
+     */
+    private static void releaseSegments(final ByteBuffer[] segmentsToRelease) {
+        for (final ByteBuffer segment : segmentsToRelease) {
+            DirectBufferCleaner.clean(segment);
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents a HashTable implementation that uses open addressing instead of chaining. Stores keys, values and hash
+ * codes in three parallel arrays, so there is no per-entry object, list or node. Maintains a power of two capacity,
+ * doubles it once the configured load factor is reached, and finds slots by masking the spread hash code.
+ * <p>
+ * Collisions are resolved with Robin Hood linear probing: while probing for a free slot, an entry that is closer to its
+ * home slot than the entry being inserted gives up its slot and continues probing instead. This keeps probe lengths
+ * short and even, and lets lookups stop as soon as they reach an entry that is closer to home than the key would be.
+ * Removal uses backward-shift deletion, which moves the following entries of the cluster back by one slot instead of
+ * leaving a tombstone behind.
+ * <p>
+ * Insertion is O(1). Either the insertion is straightforward, where the slot is free or the probe is short, or it
+ * requires resizing, which gets amortized across all the other inserts. Inserting an existing key replaces its value.
+ * Deletion is O(1). Deletes from the probe sequence of the provided key and shifts the rest of the cluster back.
+ * Search is O(1). Searches the probe sequence of the provided key.
+ *
+ * @param <K> Generic data type that represents keys in the hash table.
+ * @param <V> Generic data type that represents values in the hash table.
+ */
+@Log4j2
+@EqualsAndHashCode
+public class MyOpenAddressingHashTable<K, V> {
+
+    private static final double DEFAULT_LOAD_FACTOR_LIMIT = 0.75;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+    private static final int DEFAULT_RESIZE_FACTOR = 2;
+
+    /*
+     * Multiplier used to spread hash codes before masking. Fibonacci hashing with the golden ratio moves entropy from
+     * the lower bits into the upper bits, which the shift then folds back into the bits used by the mask.
+     */
+    private static final int HASH_SPREAD_MULTIPLIER = 0x9E3779B9;
+
+    /*
+     * The number of entries stored in the hash table. Once the size gets to a specific point, the table should be
+     * resized to keep the probe sequences short.
+     */
+    private int size;
+
+    /*
+     * Stores the keys inserted into the data structure. A null key marks a free slot.
+     */
+    private Object[] keys;
+
+    /*
+     * Stores the values inserted into the data structure, in the same slot as their key.
+     */
+    private Object[] values;
+
+    /*
+     * Stores the spread hash code of the key in the same slot. Avoids recomputing hash codes when resizing and lets
+     * probes skip most calls to equals.
+     */
+    private int[] hashCodes;
+
+    /**
+     * Default constructor.
+     */
+    public MyOpenAddressingHashTable() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructor that sets the initial capacity of the data structure. The capacity is rounded up to the next power
+     * of two.
+     *
+     * @param initialCapacity Value used for setting the initial number of slots in the data structure.
+     */
+    public MyOpenAddressingHashTable(@NonNull final Integer initialCapacity) {
+        if (1 > initialCapacity) {
+            throw new IllegalArgumentException("Expected initial capacity of at least 1.");
+        }
+
+        final int capacity = getCapacityForSize(initialCapacity);
+
+        this.size = 0;
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+        this.hashCodes = new int[capacity];
+    }
+
+    /**
+     * Inserts the given key and value pair. Replaces the value if the key already exists. Will resize the collection
+     * based on the configured resize factor.
+     *
+     * @param keyToInsert   {@link K}
+     * @param valueToInsert {@link V}
+     */
+    public void insert(@NonNull final K keyToInsert, @NonNull final V valueToInsert) {
+        if (shouldResizeInternalCollection()) {
+            resizeCollection();
+        }
+
+        insertIntoInternalCollection(keyToInsert, valueToInsert, spreadHashCode(keyToInsert.hashCode()));
+    }
+
+    /**
+     * Retrieves the value for the provided key.
+     *
+     * @param keyForRetrieval {@link K}
+     * @return Value associated with the key, or null if the key does not exist.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(@NonNull final K keyForRetrieval) {
+        final int slot = getSlotForKey(keyForRetrieval);
+
+        return -1 == slot ? null : (V) values[slot];
+    }
+
+    /**
+     * Removes the value for the provided key.
+     *
+     * @param keyForRemoval {@link K}
+     * @return Value associated with the key, or null if the key does not exist.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(@NonNull final K keyForRemoval) {
+        final int slot = getSlotForKey(keyForRemoval);
+
+        if (-1 == slot) {
+            return null;
+        }
+
+        final V valueRemoved = (V) values[slot];
+        shiftClusterBackwards(slot);
+        size -= 1;
+
+        return valueRemoved;
+    }
+
+    /**
+     * Determines whether a value exists for the provided key.
+     *
+     * @param keyToSearch {@link K}
+     * @return True if the key exists in the hash table, false otherwise.
+     */
+    public boolean contains(@NonNull final K keyToSearch) {
+        return -1 != getSlotForKey(keyToSearch);
+    }
+
+    /**
+     * @return Number of values in the data structure.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return Number of slots in the data structure, whether they are in use or not.
+     */
+    public int getCapacity() {
+        return getInternalCollectionSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns string version of the data structure. Uses curly braces to identify start and end of collection.
+     * Separates the entries using comma and space. Separates the keys and values using '='.
+     */
+    @Override
+    public String toString() {
+        if (0 == size) {
+            return "{}";
+        }
+
+        int numEntriesProcessed = 0;
+        final StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("{");
+
+        for (int slot = 0; slot < getInternalCollectionSize(); slot++) {
+            if (null != keys[slot]) {
+                stringBuilder.append(keys[slot]);
+                stringBuilder.append('=');
+                stringBuilder.append(values[slot]);
+
+                numEntriesProcessed += 1;
+
+                // If there is still one entry to process, then use comma and space to separate the strings.
+                if (size - numEntriesProcessed != 0) {
+                    stringBuilder.append(",").append(" ");
+                }
+            }
+        }
+
+        stringBuilder.append("}");
+        return stringBuilder.toString();
+    }
+
+    /*
+     * Returns the slot that holds the provided key, or -1 if the key does not exist. Stops probing at a free slot or
+     * once the probe distance exceeds the distance of the entry in the slot; in either case Robin Hood insertion would
+     * have placed the key before this point.
+     */
+    private int getSlotForKey(final Object key) {
+        final int keyHashCode = spreadHashCode(key.hashCode());
+        final int mask = getInternalCollectionSize() - 1;
+        int slot = keyHashCode & mask;
+        int probeDistance = 0;
+
+        while (null != keys[slot] && probeDistance <= getProbeDistance(slot)) {
+            if (keyHashCode == hashCodes[slot] && key.equals(keys[slot])) {
+                return slot;
+            }
+
+            slot = (slot + 1) & mask;
+            probeDistance += 1;
+        }
+
+        return -1;
+    }
+
+    /*
+     * Inserts the provided entry using Robin Hood probing. Whenever the entry being placed has probed further than the
+     * entry in the current slot, the two swap and probing continues with the displaced entry.
+     */
+    private void insertIntoInternalCollection(final Object key, final Object value, final int keyHashCode) {
+        final int mask = getInternalCollectionSize() - 1;
+        Object keyToPlace = key;
+        Object valueToPlace = value;
+        int hashCodeToPlace = keyHashCode;
+        int slot = keyHashCode & mask;
+        int probeDistance = 0;
+
+        while (true) {
+            // If the slot is free, then the entry lands here.
+            if (null == keys[slot]) {
+                keys[slot] = keyToPlace;
+                values[slot] = valueToPlace;
+                hashCodes[slot] = hashCodeToPlace;
+                size += 1;
+                return;
+            }
+
+            // If the key already exists, then replace its value. Only the original key can match since displaced
+            // entries are already unique in the table.
+            if (hashCodeToPlace == hashCodes[slot] && keyToPlace.equals(keys[slot])) {
+                values[slot] = valueToPlace;
+                return;
+            }
+
+            // If the entry in the slot is closer to its home slot, then take its place and keep probing with it.
+            final int existingProbeDistance = getProbeDistance(slot);
+
+            if (existingProbeDistance < probeDistance) {
+                final Object displacedKey = keys[slot];
+                final Object displacedValue = values[slot];
+                final int displacedHashCode = hashCodes[slot];
+
+                keys[slot] = keyToPlace;
+                values[slot] = valueToPlace;
+                hashCodes[slot] = hashCodeToPlace;
+
+                keyToPlace = displacedKey;
+                valueToPlace = displacedValue;
+                hashCodeToPlace = displacedHashCode;
+                probeDistance = existingProbeDistance;
+            }
+
+            slot = (slot + 1) & mask;
+            probeDistance += 1;
+        }
+    }
+
+    /*
+     * Removes the entry in the provided slot by shifting the following entries of the cluster back by one slot. Stops
+     * at a free slot or at an entry that already sits in its home slot, then clears the last slot that was moved.
+     */
+    private void shiftClusterBackwards(final int slotToRemove) {
+        final int mask = getInternalCollectionSize() - 1;
+        int slot = slotToRemove;
+        int nextSlot = (slot + 1) & mask;
+
+        while (null != keys[nextSlot] && 0 != getProbeDistance(nextSlot)) {
+            keys[slot] = keys[nextSlot];
+            values[slot] = values[nextSlot];
+            hashCodes[slot] = hashCodes[nextSlot];
+
+            slot = nextSlot;
+            nextSlot = (nextSlot + 1) & mask;
+        }
+
+        keys[slot] = null;
+        values[slot] = null;
+        hashCodes[slot] = 0;
+    }
+
+    /*
+     * Returns how far the entry in the provided slot sits from its home slot.
+     */
+    private int getProbeDistance(final int slot) {
+        final int mask = getInternalCollectionSize() - 1;
+
+        return (slot - (hashCodes[slot] & mask)) & mask;
+    }
+
+    /*
+     * Spreads the provided hash code so that keys with similar hash codes, e.g. sequential numbers, do not end up in
+     * neighboring slots and form long clusters.
+     */
+    private static int spreadHashCode(final int keyHashCode) {
+        final int mixedHashCode = keyHashCode * HASH_SPREAD_MULTIPLIER;
+
+        return mixedHashCode ^ (mixedHashCode >>> 16);
+    }
+
+    /*
+     * Returns the smallest power of two that is at least the provided size.
+     */
+    private static int getCapacityForSize(final int requestedSize) {
+        return 1 == requestedSize ? 1 : Integer.highestOneBit(requestedSize - 1) << 1;
+    }
+
+    /*
+     * Retrieves the length of the internal collection.
+     */
+    private int getInternalCollectionSize() {
+        return keys.length;
+    }
+
+    /*
+     * Determines whether to resize the collection. If the load factor after one more insert, which is the number of
+     * entries in the table divided by the total size of the internal collection, exceeds the limit, then should resize.
+     * This also guarantees there is always a free slot to end a probe sequence.
+     */
+    private boolean shouldResizeInternalCollection() {
+        final double loadFactor = (double) (size + 1) / getInternalCollectionSize();
+
+        return loadFactor > DEFAULT_LOAD_FACTOR_LIMIT;
+    }
+
+    /*
+     * Resizes the internal collection.
+     *
+     * Points temporary variables at the current arrays, creates new arrays with new size using the configured resize
+     * factor, and re-inserts every entry using its stored hash code.
+     */
+    private void resizeCollection() {
+        final Object[] tempKeys = keys;
+        final Object[] tempValues = values;
+        final int[] tempHashCodes = hashCodes;
+        final int newCollectionSize = getInternalCollectionSize() * DEFAULT_RESIZE_FACTOR;
+
+        keys = new Object[newCollectionSize];
+        values = new Object[newCollectionSize];
+        hashCodes = new int[newCollectionSize];
+        size = 0;
+
+        for (int slot = 0; slot < tempKeys.length; slot++) {
+            if (null != tempKeys[slot]) {
+                insertIntoInternalCollection(tempKeys[slot], tempValues[slot], tempHashCodes[slot]);
+            }
+        }
+    }
+}
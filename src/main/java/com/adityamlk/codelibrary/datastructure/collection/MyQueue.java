@@ -1,14 +1,21 @@
 package com.adityamlk.codelibrary.datastructure.collection;
 
+import java.util.Collection;
+import java.util.function.Consumer;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
 
 /**
- * Represents a Queue implementation. This is a wrapper around {@link MyDoubleLinkedList} and implements all methods
- * through this class.
+ * Represents a Queue implementation. Stores the values in a circular array, so enqueuing and dequeuing do not allocate
+ * a node per value. The head moves forward as values are dequeued and the tail wraps around to the start of the array
+ * once it reaches the end. The length of the array is a power of two, so wrapping is a mask of the index. Doubles the
+ * array once it is full, which unwraps the values to the start of the new array.
  * <p>
- * Insertion is O(1) to the end of the queue.
+ * Values can be enqueued in bulk with {@link #enqueueAll(Collection)}, which resizes at most once and copies the values
+ * in at most two runs, and dequeued in bulk with {@link #drainTo(Consumer, int)}.
+ * <p>
+ * Insertion is O(1) to the end of the queue despite resizing due to amortization.
  * Deletion is O(1) from the front of the queue.
  * Search is O(N) when using the provided value and O(1) when retrieving from the front of the queue.
  *
@@ -18,18 +25,45 @@ import lombok.extern.log4j.Log4j2;
 @EqualsAndHashCode
 public class MyQueue<T> {
 
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /*
+     * Index of the value at the front of the queue.
+     */
+    private int head;
+
+    /*
+     * Tracks how many values are in the queue. The tail is the head plus the size, wrapped around the array.
+     */
+    private int size;
+
     /*
-     * Internal collection that represents a queue. The doubly linked list will be able to add to the tail and remove
-     * from the head to mimic a queue.
+     * Circular array that stores the values. Its length is always a power of two.
      */
-    @NonNull
-    private final MyDoubleLinkedList<T> internalCollection;
+    private Object[] internalCollection;
 
     /**
      * Default Constructor.
      */
     public MyQueue() {
-        internalCollection = new MyDoubleLinkedList<>();
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructor that sets the initial capacity of the data structure, rounded up to a power of two.
+     *
+     * @param initialCapacity Value used for setting the initial size of the data structure.
+     */
+    public MyQueue(@NonNull final Integer initialCapacity) {
+        if (0 > initialCapacity) {
+            throw new IllegalArgumentException("Expected initial capacity of at least 0.");
+        }
+
+        this.head = 0;
+        this.size = 0;
+        this.internalCollection = new Object[getCapacityForSize(initialCapacity)];
     }
 
     /**
@@ -38,7 +72,39 @@ public class MyQueue<T> {
      * @param valueToInsert {@link T}
      */
     public void enqueue(@NonNull final T valueToInsert) {
-        internalCollection.insertToTail(valueToInsert);
+        if (size == internalCollection.length) {
+            resizeCollection(size + 1L);
+        }
+
+        internalCollection[(head + size) & (internalCollection.length - 1)] = valueToInsert;
+        size += 1;
+    }
+
+    /**
+     * Inserts the given values in order to the end of the data structure. Resizes at most once.
+     *
+     * @param valuesToInsert Values to insert.
+     */
+    public void enqueueAll(@NonNull final Collection<? extends T> valuesToInsert) {
+        final Object[] newValues = valuesToInsert.toArray();
+
+        for (final Object newValue : newValues) {
+            if (null == newValue) {
+                throw new NullPointerException("valuesToInsert contains null");
+            }
+        }
+
+        if ((long) size + newValues.length > internalCollection.length) {
+            resizeCollection((long) size + newValues.length);
+        }
+
+        // Copy up to the end of the array, then wrap around to the start for the rest.
+        final int tail = (head + size) & (internalCollection.length - 1);
+        final int firstRunLength = Math.min(newValues.length, internalCollection.length - tail);
+
+        System.arraycopy(newValues, 0, internalCollection, tail, firstRunLength);
+        System.arraycopy(newValues, firstRunLength, internalCollection, 0, newValues.length - firstRunLength);
+        size += newValues.length;
     }
 
     /**
@@ -46,8 +112,9 @@ public class MyQueue<T> {
      *
      * @return Value that is at the front, or null if the data structure is empty.
      */
+    @SuppressWarnings("unchecked")
     public T peek() {
-        return internalCollection.getFromHead();
+        return 0 == size ? null : (T) internalCollection[head];
     }
 
     /**
@@ -55,8 +122,47 @@ public class MyQueue<T> {
      *
      * @return Value that was removed from the front, or null if the data structure is empty.
      */
+    @SuppressWarnings("unchecked")
     public T dequeue() {
-        return internalCollection.removeFromHead();
+        if (0 == size) {
+            return null;
+        }
+
+        final T value = (T) internalCollection[head];
+        internalCollection[head] = null;
+        head = (head + 1) & (internalCollection.length - 1);
+        size -= 1;
+
+        return value;
+    }
+
+    /**
+     * Removes up to the given number of values from the front of the data structure, and passes each of them to the
+     * provided consumer in order.
+     *
+     * @param consumer Consumer of the removed values.
+     * @param maximumCount Largest number of values to remove.
+     * @return Number of values that were removed.
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(@NonNull final Consumer<? super T> consumer, final int maximumCount) {
+        if (0 > maximumCount) {
+            throw new IllegalArgumentException("Expected maximum count of at least 0.");
+        }
+
+        final int drainCount = Math.min(size, maximumCount);
+        final int mask = internalCollection.length - 1;
+
+        for (int i = 0; i < drainCount; i++) {
+            final T value = (T) internalCollection[head];
+            internalCollection[head] = null;
+            head = (head + 1) & mask;
+            size -= 1;
+
+            consumer.accept(value);
+        }
+
+        return drainCount;
     }
 
     /**
@@ -66,24 +172,81 @@ public class MyQueue<T> {
      * @return True if the data structure contains this value, false otherwise.
      */
     public boolean contains(@NonNull final T valueToSearch) {
-        return internalCollection.contains(valueToSearch);
+        final int mask = internalCollection.length - 1;
+
+        for (int i = 0; i < size; i++) {
+            if (valueToSearch.equals(internalCollection[(head + i) & mask])) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
      * @return Number of values in the data structure.
      */
     public int getSize() {
-        return internalCollection.getSize();
+        return size;
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Returns string version of the data structure. Uses brackets to identify start and end of collection. Separates
-     * the values using comma and space.
+     * Returns string version of the data structure, from the front to the end. Uses brackets to identify start and end
+     * of collection. Separates the values using comma and space.
      */
     @Override
     public String toString() {
-        return internalCollection.toString();
+        final StringBuilder stringBuilder = new StringBuilder();
+
+        if (0 == size) {
+            stringBuilder.append("[]");
+        } else {
+            stringBuilder.append("[");
+
+            final int mask = internalCollection.length - 1;
+
+            for (int i = 0; i < size; i++) {
+                stringBuilder.append(internalCollection[(head + i) & mask]);
+
+                if (size - i != 1) {
+                    stringBuilder.append(",").append(" ");
+                }
+            }
+
+            stringBuilder.append("]");
+        }
+
+        return stringBuilder.toString();
+    }
+
+    /*
+     * Returns the smallest power of two that can hold the provided number of values, and at least 1.
+     */
+    private static int getCapacityForSize(final long requiredCapacity) {
+        if (MAXIMUM_CAPACITY < requiredCapacity) {
+            throw new IllegalStateException("Expected at most " + MAXIMUM_CAPACITY + " values.");
+        }
+
+        return 1 >= requiredCapacity ? 1 : Integer.highestOneBit((int) requiredCapacity - 1) << 1;
+    }
+
+    /*
+     * Resizes the internal collection to the smallest power of two that can hold the provided number of values, and at
+     * least double the current length. Copies the values from the head to the end of the array, then the ones that
+     * wrapped around to the start, so that the head moves back to the start of the new array.
+     */
+    private void resizeCollection(final long requiredCapacity) {
+        final long doubledCapacity = Math.min(MAXIMUM_CAPACITY, internalCollection.length * 2L);
+        final int newCapacity = getCapacityForSize(Math.max(requiredCapacity, doubledCapacity));
+        final Object[] newCollection = new Object[newCapacity];
+        final int firstRunLength = Math.min(size, internalCollection.length - head);
+
+        System.arraycopy(internalCollection, head, newCollection, 0, firstRunLength);
+        System.arraycopy(internalCollection, 0, newCollection, firstRunLength, size - firstRunLength);
+
+        internalCollection = newCollection;
+        head = 0;
     }
 }
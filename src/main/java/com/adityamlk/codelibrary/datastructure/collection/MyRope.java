@@ -0,0 +1,480 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents a StringBuilder implementation for large texts that are edited in the middle, not just at the end. Stores
+ * the text as a rope: a balanced binary tree whose leaves are immutable chunks of text and whose inner nodes
+ * concatenate their two children. Inserting, deleting and taking a substring split the tree at the affected indices
+ * and join the pieces back together, which only rebuilds the nodes along those paths. Nothing else is copied.
+ * <p>
+ * Nodes never change once they are created, so ropes share them freely. Appending or inserting another rope links to
+ * its nodes instead of copying its text, and a substring shares every node that falls entirely within its range.
+ * Joining keeps the tree balanced like an AVL tree, where the heights of the two children of a node differ by at most
+ * one. Short neighbouring leaves are merged on the way, so appending small pieces does not leave a leaf per piece.
+ * <p>
+ * The text is never materialized unless {@link #toString()} asks for it. {@link #writeTo(Writer)} and
+ * {@link #writeTo(WritableByteChannel, Charset)} stream the leaves in order instead.
+ * <p>
+ * Insertion is O(logN), anywhere in the text.
+ * Deletion is O(logN), for any range of the text.
+ * Search is O(logN) by index. Taking a substring is O(logN).
+ */
+@Log4j2
+public class MyRope {
+
+    /*
+     * Longest leaf created when splitting a string into leaves.
+     */
+    private static final int MAXIMUM_LEAF_LENGTH = 1 << 12;
+
+    /*
+     * Longest leaf created when merging two neighbouring leaves. Kept well below the maximum so that appending short
+     * pieces one at a time does not copy a full leaf on every append.
+     */
+    private static final int MAXIMUM_MERGED_LEAF_LENGTH = 1 << 9;
+
+    /*
+     * Number of bytes buffered when encoding the text into a channel.
+     */
+    private static final int CHANNEL_BUFFER_SIZE = 1 << 13;
+
+    private static final Leaf EMPTY_LEAF = new Leaf("");
+
+    /*
+     * Pointer to the top of the tree. An empty rope is an empty leaf.
+     */
+    private RopeNode root;
+
+    /**
+     * Default constructor.
+     */
+    public MyRope() {
+        this.root = EMPTY_LEAF;
+    }
+
+    /**
+     * Constructor that starts the rope with the provided text.
+     *
+     * @param text {@link String}
+     */
+    public MyRope(@NonNull final String text) {
+        this.root = createNode(text, 0, text.length());
+    }
+
+    /*
+     * Constructor that wraps the provided tree, which is shared rather than copied.
+     */
+    private MyRope(final RopeNode root) {
+        this.root = root;
+    }
+
+    /**
+     * Appends the given string.
+     *
+     * @param stringToAppend {@link String}
+     * @return Pointer to the object updated with the string.
+     */
+    public MyRope append(@NonNull final String stringToAppend) {
+        root = join(root, createNode(stringToAppend, 0, stringToAppend.length()));
+        return this;
+    }
+
+    /**
+     * Appends the given rope. Shares its nodes instead of copying its text, and later changes to either rope do not
+     * affect the other.
+     *
+     * @param ropeToAppend {@link MyRope}
+     * @return Pointer to the object updated with the rope.
+     */
+    public MyRope append(@NonNull final MyRope ropeToAppend) {
+        root = join(root, ropeToAppend.root);
+        return this;
+    }
+
+    /**
+     * Inserts the given string at the given index, moving the text from that index onwards after it.
+     *
+     * @param index Index to insert at, from 0 to the length of the rope.
+     * @param stringToInsert {@link String}
+     * @return Pointer to the object updated with the string.
+     */
+    public MyRope insert(final int index, @NonNull final String stringToInsert) {
+        return insert(index, createNode(stringToInsert, 0, stringToInsert.length()));
+    }
+
+    /**
+     * Inserts the given rope at the given index, moving the text from that index onwards after it. Shares its nodes
+     * instead of copying its text.
+     *
+     * @param index Index to insert at, from 0 to the length of the rope.
+     * @param ropeToInsert {@link MyRope}
+     * @return Pointer to the object updated with the rope.
+     */
+    public MyRope insert(final int index, @NonNull final MyRope ropeToInsert) {
+        return insert(index, ropeToInsert.root);
+    }
+
+    /**
+     * Deletes the characters from the start index up to, but not including, the end index.
+     *
+     * @param startIndex Index of the first character to delete.
+     * @param endIndex Index after the last character to delete.
+     * @return Pointer to the object updated without the characters.
+     */
+    public MyRope delete(final int startIndex, final int endIndex) {
+        checkRange(startIndex, endIndex);
+
+        final RopeNode[] startParts = split(root, startIndex);
+        final RopeNode[] endParts = split(startParts[1], endIndex - startIndex);
+        root = join(startParts[0], endParts[1]);
+
+        return this;
+    }
+
+    /**
+     * Retrieves the characters from the start index up to, but not including, the end index as a new rope. Shares the
+     * nodes that fall entirely within the range instead of copying them.
+     *
+     * @param startIndex Index of the first character to retrieve.
+     * @param endIndex Index after the last character to retrieve.
+     * @return {@link MyRope}
+     */
+    public MyRope substring(final int startIndex, final int endIndex) {
+        checkRange(startIndex, endIndex);
+
+        final RopeNode[] startParts = split(root, startIndex);
+
+        return new MyRope(split(startParts[1], endIndex - startIndex)[0]);
+    }
+
+    /**
+     * Retrieves the character at the given index. Will fail if the index is out of bounds.
+     *
+     * @param index Index of the character to retrieve.
+     * @return Character at the index.
+     */
+    public char charAt(final int index) {
+        if (0 > index || index >= root.length) {
+            throw new IndexOutOfBoundsException("Index not found in the rope.");
+        }
+
+        RopeNode node = root;
+        int remainingIndex = index;
+
+        while (node instanceof Concat) {
+            final Concat concat = (Concat) node;
+
+            if (remainingIndex < concat.left.length) {
+                node = concat.left;
+            } else {
+                remainingIndex -= concat.left.length;
+                node = concat.right;
+            }
+        }
+
+        return ((Leaf) node).text.charAt(remainingIndex);
+    }
+
+    /**
+     * @return Number of characters in the data structure.
+     */
+    public int getLength() {
+        return root.length;
+    }
+
+    /**
+     * @return Number of concatenations between the top of the tree and its deepest leaf.
+     */
+    public int getHeight() {
+        return root.height;
+    }
+
+    /**
+     * Returns an iterator over the leaves of the rope in order, which together make up the text. Does not copy any
+     * text, and keeps iterating over the text as it was when the iterator was created.
+     *
+     * @return {@link Iterator}
+     */
+    public Iterator<String> chunkIterator() {
+        return new ChunkIterator(root);
+    }
+
+    /**
+     * Writes the text to the provided writer one leaf at a time, without materializing it. Does not flush or close
+     * the writer.
+     *
+     * @param writer {@link Writer}
+     * @throws IOException If the writer fails.
+     */
+    public void writeTo(@NonNull final Writer writer) throws IOException {
+        final Iterator<String> chunkIterator = chunkIterator();
+
+        while (chunkIterator.hasNext()) {
+            writer.write(chunkIterator.next());
+        }
+    }
+
+    /**
+     * Encodes the text with the provided charset and writes it to the provided channel one leaf at a time, through a
+     * fixed-size buffer, without materializing it. Does not close the channel.
+     *
+     * @param channel {@link WritableByteChannel}
+     * @param charset {@link Charset}
+     * @throws IOException If the channel fails.
+     */
+    public void writeTo(@NonNull final WritableByteChannel channel, @NonNull final Charset charset)
+            throws IOException {
+        // The writer carries a surrogate pair that is split across two leaves over to the next write. It is flushed
+        // rather than closed, since closing it would close the channel.
+        final Writer writer = Channels.newWriter(channel, charset.newEncoder(), CHANNEL_BUFFER_SIZE);
+        writeTo(writer);
+        writer.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Materializes the whole text.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder stringBuilder = new StringBuilder(root.length);
+        final Iterator<String> chunkIterator = chunkIterator();
+
+        while (chunkIterator.hasNext()) {
+            stringBuilder.append(chunkIterator.next());
+        }
+
+        return stringBuilder.toString();
+    }
+
+    /*
+     * Inserts the provided tree at the provided index by splitting the rope there and joining the three pieces.
+     */
+    private MyRope insert(final int index, final RopeNode nodeToInsert) {
+        if (0 > index || index > root.length) {
+            throw new IndexOutOfBoundsException("Index not found in the rope.");
+        }
+
+        final RopeNode[] parts = split(root, index);
+        root = join(join(parts[0], nodeToInsert), parts[1]);
+
+        return this;
+    }
+
+    /*
+     * Validates that the provided range lies within the rope.
+     */
+    private void checkRange(final int startIndex, final int endIndex) {
+        if (0 > startIndex || startIndex > endIndex || endIndex > root.length) {
+            throw new IndexOutOfBoundsException("Range not found in the rope.");
+        }
+    }
+
+    /*
+     * Creates a perfectly balanced tree over the provided range of the text, with leaves of at most the maximum leaf
+     * length.
+     */
+    private static RopeNode createNode(final String text, final int startIndex, final int endIndex) {
+        if (endIndex - startIndex <= MAXIMUM_LEAF_LENGTH) {
+            return startIndex == endIndex ? EMPTY_LEAF : new Leaf(text.substring(startIndex, endIndex));
+        }
+
+        final int middleIndex = (startIndex + endIndex) >>> 1;
+
+        return new Concat(createNode(text, startIndex, middleIndex), createNode(text, middleIndex, endIndex));
+    }
+
+    /*
+     * Recursive method that splits the provided tree at the provided index into the text before it and the text from
+     * it onwards. Descends to the leaf that holds the index, splits that leaf, and joins the subtrees on either side of
+     * the path back onto the two halves on the way up.
+     */
+    private static RopeNode[] split(final RopeNode nodeToSplit, final int index) {
+        if (0 == index) {
+            return new RopeNode[] {EMPTY_LEAF, nodeToSplit};
+        }
+
+        if (nodeToSplit.length == index) {
+            return new RopeNode[] {nodeToSplit, EMPTY_LEAF};
+        }
+
+        if (nodeToSplit instanceof Leaf) {
+            final String text = ((Leaf) nodeToSplit).text;
+
+            return new RopeNode[] {new Leaf(text.substring(0, index)), new Leaf(text.substring(index))};
+        }
+
+        final Concat concat = (Concat) nodeToSplit;
+
+        if (index < concat.left.length) {
+            final RopeNode[] leftParts = split(concat.left, index);
+            return new RopeNode[] {leftParts[0], join(leftParts[1], concat.right)};
+        }
+
+        final RopeNode[] rightParts = split(concat.right, index - concat.left.length);
+
+        return new RopeNode[] {join(concat.left, rightParts[0]), rightParts[1]};
+    }
+
+    /*
+     * Recursive method that concatenates the provided trees into a balanced tree. Merges two short leaves into one.
+     * Otherwise, if the heights differ by more than one, descends along the inner edge of the taller tree until it
+     * reaches a subtree of about the same height as the shorter tree, concatenates the two there, and rebalances on
+     * the way back up.
+     */
+    private static RopeNode join(final RopeNode leftNode, final RopeNode rightNode) {
+        if (0 == leftNode.length) {
+            return rightNode;
+        }
+
+        if (0 == rightNode.length) {
+            return leftNode;
+        }
+
+        if (leftNode instanceof Leaf && rightNode instanceof Leaf
+                && leftNode.length + rightNode.length <= MAXIMUM_MERGED_LEAF_LENGTH) {
+            return new Leaf(((Leaf) leftNode).text + ((Leaf) rightNode).text);
+        }
+
+        if (leftNode.height > rightNode.height + 1) {
+            final Concat leftConcat = (Concat) leftNode;
+            return balance(leftConcat.left, join(leftConcat.right, rightNode));
+        }
+
+        if (rightNode.height > leftNode.height + 1) {
+            final Concat rightConcat = (Concat) rightNode;
+            return balance(join(leftNode, rightConcat.left), rightConcat.right);
+        }
+
+        return new Concat(leftNode, rightNode);
+    }
+
+    /*
+     * Concatenates the provided trees, whose heights differ by at most two. Rotates like an AVL tree if they differ by
+     * two, with a single rotation if the outer grandchild of the taller tree is at least as tall as the inner one, and
+     * a double rotation otherwise.
+     */
+    private static RopeNode balance(final RopeNode leftNode, final RopeNode rightNode) {
+        if (rightNode.height > leftNode.height + 1) {
+            final Concat rightConcat = (Concat) rightNode;
+
+            if (rightConcat.right.height >= rightConcat.left.height) {
+                return new Concat(new Concat(leftNode, rightConcat.left), rightConcat.right);
+            }
+
+            final Concat innerConcat = (Concat) rightConcat.left;
+
+            return new Concat(
+                    new Concat(leftNode, innerConcat.left), new Concat(innerConcat.right, rightConcat.right));
+        }
+
+        if (leftNode.height > rightNode.height + 1) {
+            final Concat leftConcat = (Concat) leftNode;
+
+            if (leftConcat.left.height >= leftConcat.right.height) {
+                return new Concat(leftConcat.left, new Concat(leftConcat.right, rightNode));
+            }
+
+            final Concat innerConcat = (Concat) leftConcat.right;
+
+            return new Concat(
+                    new Concat(leftConcat.left, innerConcat.left), new Concat(innerConcat.right, rightNode));
+        }
+
+        return new Concat(leftNode, rightNode);
+    }
+
+    /*
+     * Immutable node of the tree. Tracks the number of characters below it and its height.
+     */
+    private abstract static class RopeNode {
+
+        private final int length;
+
+        private final int height;
+
+        private RopeNode(final int length, final int height) {
+            this.length = length;
+            this.height = height;
+        }
+    }
+
+    /*
+     * Immutable chunk of text. Has a height of 0.
+     */
+    private static final class Leaf extends RopeNode {
+
+        private final String text;
+
+        private Leaf(final String text) {
+            super(text.length(), 0);
+            this.text = text;
+        }
+    }
+
+    /*
+     * Immutable concatenation of two non-empty trees.
+     */
+    private static final class Concat extends RopeNode {
+
+        private final RopeNode left;
+
+        private final RopeNode right;
+
+        private Concat(final RopeNode left, final RopeNode right) {
+            super(Math.addExact(left.length, right.length), Math.max(left.height, right.height) + 1);
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    /*
+     * Iterates over the leaves of a tree in order. Tracks the right children still to visit on a stack, which holds
+     * at most one node per level of the tree.
+     */
+    private static final class ChunkIterator implements Iterator<String> {
+
+        private final ArrayDeque<RopeNode> pendingNodes;
+
+        private ChunkIterator(final RopeNode root) {
+            this.pendingNodes = new ArrayDeque<>();
+
+            if (0 != root.length) {
+                pendingNodes.push(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pendingNodes.isEmpty();
+        }
+
+        @Override
+        public String next() {
+            if (pendingNodes.isEmpty()) {
+                throw new NoSuchElementException("No more chunks in the rope.");
+            }
+
+            RopeNode node = pendingNodes.pop();
+
+            while (node instanceof Concat) {
+                final Concat concat = (Concat) node;
+                pendingNodes.push(concat.right);
+                node = concat.left;
+            }
+
+            return ((Leaf) node).text;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents a bounded, lock-free queue for exactly one producer thread and one consumer thread. Each index is only
+ * ever written by one thread, so neither side needs a compare-and-set: the producer writes a value and then releases
+ * the producer index past it, and the consumer reads the value once it has acquired that index, then releases the
+ * consumer index past the freed slot.
+ * <p>
+ * Each side remembers the last index it read from the other side, and only reads the other side's index again once
+ * the remembered one says the queue is full or empty. Batches are published with a single release of the index.
+ * <p>
+ * Insertion is O(1).
+ * Deletion is O(1).
+ *
+ * @param <T> Generic data type supported by the queue.
+ */
+@Log4j2
+public class MySpscQueue<T> extends MyBoundedQueue<T> {
+
+    /**
+     * Constructor that sets the capacity of the queue, rounded up to a power of two. Waits by yielding.
+     *
+     * @param capacity Number of values the queue can hold.
+     */
+    public MySpscQueue(@NonNull final Integer capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    /**
+     * Constructor that sets the capacity of the queue, rounded up to a power of two, and how put and take wait.
+     *
+     * @param capacity Number of values the queue can hold.
+     * @param waitStrategy {@link WaitStrategy}
+     */
+    public MySpscQueue(@NonNull final Integer capacity, @NonNull final WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Must only be called by the producer thread.
+     */
+    @Override
+    public boolean offer(@NonNull final T valueToOffer) {
+        final long currentProducerIndex = producerIndex.getPlain();
+
+        if (currentProducerIndex - producerIndex.getCache() >= capacity) {
+            producerIndex.setCache(consumerIndex.getAcquire());
+
+            if (currentProducerIndex - producerIndex.getCache() >= capacity) {
+                return false;
+            }
+        }
+
+        buffer[(int) currentProducerIndex & mask] = valueToOffer;
+        producerIndex.setRelease(currentProducerIndex + 1);
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Must only be called by the consumer thread.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        final long currentConsumerIndex = consumerIndex.getPlain();
+
+        if (currentConsumerIndex >= consumerIndex.getCache()) {
+            consumerIndex.setCache(producerIndex.getAcquire());
+
+            if (currentConsumerIndex >= consumerIndex.getCache()) {
+                return null;
+            }
+        }
+
+        final int index = (int) currentConsumerIndex & mask;
+        final T value = (T) buffer[index];
+        buffer[index] = null;
+        consumerIndex.setRelease(currentConsumerIndex + 1);
+
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Must only be called by the producer thread. Publishes every inserted value with a single release.
+     */
+    @Override
+    public int offerAll(@NonNull final List<? extends T> valuesToOffer) {
+        final long currentProducerIndex = producerIndex.getPlain();
+
+        if (currentProducerIndex - producerIndex.getCache() + valuesToOffer.size() > capacity) {
+            producerIndex.setCache(consumerIndex.getAcquire());
+        }
+
+        final long freeCount = capacity - (currentProducerIndex - producerIndex.getCache());
+        final int offerCount = (int) Math.min(valuesToOffer.size(), freeCount);
+
+        checkValues(valuesToOffer, offerCount);
+
+        for (int index = 0; index < offerCount; index++) {
+            buffer[(int) (currentProducerIndex + index) & mask] = valuesToOffer.get(index);
+        }
+
+        producerIndex.setRelease(currentProducerIndex + offerCount);
+
+        return offerCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Must only be called by the consumer thread. Frees every removed slot with a single release.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drainTo(@NonNull final Consumer<? super T> consumer, final int maximumCount) {
+        checkMaximumCount(maximumCount);
+
+        final long currentConsumerIndex = consumerIndex.getPlain();
+
+        if (consumerIndex.getCache() - currentConsumerIndex < maximumCount) {
+            consumerIndex.setCache(producerIndex.getAcquire());
+        }
+
+        final int drainCount = (int) Math.min(maximumCount, consumerIndex.getCache() - currentConsumerIndex);
+        int removedCount = 0;
+
+        // Free the removed slots even if the consumer fails part way through.
+        try {
+            while (removedCount < drainCount) {
+                final int index = (int) (currentConsumerIndex + removedCount) & mask;
+                final T value = (T) buffer[index];
+                buffer[index] = null;
+                removedCount += 1;
+
+                consumer.accept(value);
+            }
+        } finally {
+            consumerIndex.setRelease(currentConsumerIndex + removedCount);
+        }
+
+        return removedCount;
+    }
+}
@@ -1,14 +1,20 @@
 package com.adityamlk.codelibrary.datastructure.collection;
 
+import java.util.Collection;
+import java.util.function.Consumer;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
 
 /**
- * Represents a Stack implementation. This is a wrapper around {@link MyDoubleLinkedList} and implements all methods
- * through this class.
+ * Represents a Stack implementation. Stores the values in an array from the bottom of the stack to the top, so pushing
+ * and popping do not allocate a node per value. Auto-resizes by the resize factor to accommodate for additional
+ * values.
  * <p>
- * Insertion is O(1) to the front of the stack.
+ * Values can be pushed in bulk with {@link #pushAll(Collection)}, which resizes at most once, and popped in bulk with
+ * {@link #drainTo(Consumer, int)}.
+ * <p>
+ * Insertion is O(1) to the front of the stack despite resizing due to amortization.
  * Deletion is O(1) from the front of the stack.
  * Search is O(N) when using the provided value and O(1) when retrieving from the front of the stack.
  *
@@ -18,18 +24,41 @@ import lombok.extern.log4j.Log4j2;
 @EqualsAndHashCode
 public class MyStack<T> {
 
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private static final int DEFAULT_RESIZE_FACTOR = 2;
+
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /*
+     * Tracks how many values are in the stack. The top of the stack is at the index before the size.
+     */
+    private int size;
+
     /*
-     * Internal collection that represents a stack. The doubly linked list will be able to add and remove from the head
-     * to mimic a stack.
+     * Array that stores the values from the bottom of the stack to the top.
      */
-    @NonNull
-    private final MyDoubleLinkedList<T> internalCollection;
+    private Object[] internalCollection;
 
     /**
      * Default Constructor.
      */
     public MyStack() {
-        internalCollection = new MyDoubleLinkedList<>();
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructor that sets the initial capacity of the data structure.
+     *
+     * @param initialCapacity Value used for setting the initial size of the data structure.
+     */
+    public MyStack(@NonNull final Integer initialCapacity) {
+        if (0 > initialCapacity) {
+            throw new IllegalArgumentException("Expected initial capacity of at least 0.");
+        }
+
+        this.size = 0;
+        this.internalCollection = new Object[initialCapacity];
     }
 
     /**
@@ -38,7 +67,35 @@ public class MyStack<T> {
      * @param valueToInsert {@link T}
      */
     public void push(@NonNull final T valueToInsert) {
-        internalCollection.insertToHead(valueToInsert);
+        if (size == internalCollection.length) {
+            resizeCollection(size + 1L);
+        }
+
+        internalCollection[size] = valueToInsert;
+        size += 1;
+    }
+
+    /**
+     * Inserts the given values in order to the front of the data structure, so that the last value ends up on top.
+     * Resizes at most once.
+     *
+     * @param valuesToInsert Values to insert.
+     */
+    public void pushAll(@NonNull final Collection<? extends T> valuesToInsert) {
+        final Object[] newValues = valuesToInsert.toArray();
+
+        for (final Object newValue : newValues) {
+            if (null == newValue) {
+                throw new NullPointerException("valuesToInsert contains null");
+            }
+        }
+
+        if ((long) size + newValues.length > internalCollection.length) {
+            resizeCollection((long) size + newValues.length);
+        }
+
+        System.arraycopy(newValues, 0, internalCollection, size, newValues.length);
+        size += newValues.length;
     }
 
     /**
@@ -46,8 +103,9 @@ public class MyStack<T> {
      *
      * @return Value that is at the front, or null if the data structure is empty.
      */
+    @SuppressWarnings("unchecked")
     public T peek() {
-        return internalCollection.getFromHead();
+        return 0 == size ? null : (T) internalCollection[size - 1];
     }
 
     /**
@@ -55,8 +113,46 @@ public class MyStack<T> {
      *
      * @return Value that was removed from the front, or null if the data structure is empty.
      */
+    @SuppressWarnings("unchecked")
     public T pop() {
-        return internalCollection.removeFromHead();
+        if (0 == size) {
+            return null;
+        }
+
+        size -= 1;
+
+        final T value = (T) internalCollection[size];
+        internalCollection[size] = null;
+
+        return value;
+    }
+
+    /**
+     * Removes up to the given number of values from the front of the data structure, and passes each of them to the
+     * provided consumer in the order they are popped.
+     *
+     * @param consumer Consumer of the removed values.
+     * @param maximumCount Largest number of values to remove.
+     * @return Number of values that were removed.
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(@NonNull final Consumer<? super T> consumer, final int maximumCount) {
+        if (0 > maximumCount) {
+            throw new IllegalArgumentException("Expected maximum count of at least 0.");
+        }
+
+        final int drainCount = Math.min(size, maximumCount);
+
+        for (int i = 0; i < drainCount; i++) {
+            size -= 1;
+
+            final T value = (T) internalCollection[size];
+            internalCollection[size] = null;
+
+            consumer.accept(value);
+        }
+
+        return drainCount;
     }
 
     /**
@@ -66,24 +162,64 @@ public class MyStack<T> {
      * @return True if the data structure contains this value, false otherwise.
      */
     public boolean contains(@NonNull final T valueToSearch) {
-        return internalCollection.contains(valueToSearch);
+        for (int index = size - 1; index >= 0; index--) {
+            if (valueToSearch.equals(internalCollection[index])) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
      * @return Number of values in the data structure.
      */
     public int getSize() {
-        return internalCollection.getSize();
+        return size;
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Returns string version of the data structure. Uses brackets to identify start and end of collection. Separates
-     * the values using comma and space.
+     * Returns string version of the data structure, from the bottom to the top. Uses brackets to identify start and end
+     * of collection. Separates the values using comma and space.
      */
     @Override
     public String toString() {
-        return internalCollection.toStringReverse();
+        final StringBuilder stringBuilder = new StringBuilder();
+
+        if (0 == size) {
+            stringBuilder.append("[]");
+        } else {
+            stringBuilder.append("[");
+
+            for (int index = 0; index < size; index++) {
+                stringBuilder.append(internalCollection[index]);
+
+                if (size - index != 1) {
+                    stringBuilder.append(",").append(" ");
+                }
+            }
+
+            stringBuilder.append("]");
+        }
+
+        return stringBuilder.toString();
+    }
+
+    /*
+     * Resizes the internal collection to the resize factor times its length, or to the provided number of values if
+     * that is larger. Copies the values into the start of the new array.
+     */
+    private void resizeCollection(final long requiredCapacity) {
+        if (MAXIMUM_CAPACITY < requiredCapacity) {
+            throw new IllegalStateException("Expected at most " + MAXIMUM_CAPACITY + " values.");
+        }
+
+        final long newCapacity = Math.max(requiredCapacity, (long) internalCollection.length * DEFAULT_RESIZE_FACTOR);
+        final Object[] newCollection = new Object[(int) Math.min(MAXIMUM_CAPACITY, newCapacity)];
+
+        System.arraycopy(internalCollection, 0, newCollection, 0, size);
+        internalCollection = newCollection;
     }
 }
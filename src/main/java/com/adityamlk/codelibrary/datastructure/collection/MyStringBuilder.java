@@ -1,5 +1,12 @@
 package com.adityamlk.codelibrary.datastructure.collection;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
@@ -8,8 +15,25 @@ import lombok.extern.log4j.Log4j2;
  * Represents a StringBuilder implementation. Auto-resizes by configured factor or string length to accommodate for
  * additional elements. Tracks values at a character-level.
  * <p>
- * Insertion is O(1) despite resizing due to amortization. Inserts to the end of the collection.
- * Search is O(N).
+ * Stores the characters compactly, like {@link String} does. As long as every character fits in Latin-1, which covers
+ * ASCII, each character takes a single byte. The first character outside of Latin-1 inflates the builder to UTF-16,
+ * where each character takes two bytes, and it stays inflated until it is reset.
+ * <p>
+ * Characters, ints and longs can be appended as primitives. Numbers are formatted straight into the builder, without
+ * creating an intermediate string.
+ * <p>
+ * The characters can be encoded to UTF-8 straight from the internal collection with {@link #encodeTo(ByteBuffer)} and
+ * {@link #writeTo(WritableByteChannel)}, without creating a string or a byte array for them. Runs of ASCII characters
+ * are copied in bulk while the builder is Latin-1. {@link #reset()} empties the builder but keeps its capacity, so that
+ * a builder can be reused through a {@link MyStringBuilderPool} without allocating.
+ * <p>
+ * Searching a Latin-1 builder for a character checks eight bytes at a time, by reading them as a long and finding the
+ * bytes that match with a few arithmetic operations, known as SWAR (SIMD within a register). Searching for a string
+ * uses the same scan to jump to each occurrence of its first character, and only then compares the rest.
+ * <p>
+ * Insertion is O(1) despite resizing due to amortization. Inserts to the end of the collection. Inflating is O(N), and
+ * happens at most once.
+ * Search is O(N) for a character, and O(N * M) in the worst case for a string of length M.
  */
 @Log4j2
 @EqualsAndHashCode
@@ -17,24 +41,79 @@ public class MyStringBuilder {
 
     private static final int RESIZE_FACTOR = 2;
 
+    private static final int MAXIMUM_LATIN1_CHARACTER = 0xFF;
+
+    /*
+     * Number of characters needed to format the smallest long, which is the longest.
+     */
+    private static final int MAXIMUM_LONG_LENGTH = 20;
+
+    /*
+     * Number of bytes encoded at a time when writing to a channel.
+     */
+    private static final int ENCODE_BUFFER_SIZE = 1 << 13;
+
+    /*
+     * Reads eight bytes of the Latin-1 collection at a time as a long, so that they can be checked together.
+     */
+    private static final VarHandle LONG_VIEW =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /*
+     * Highest bit of each of the eight bytes in a long, which is only set in the bytes of characters past ASCII.
+     */
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    /*
+     * Lowest seven bits of each of the eight bytes in a long.
+     */
+    private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    /*
+     * Lowest bit of each of the eight bytes in a long. Multiplying a byte by it repeats the byte in all eight.
+     */
+    private static final long LOW_BITS = 0x0101010101010101L;
+
     /*
-     * Tracks how many values have been written to the internal collection. Provides an index into the next write and a
-     * difference from the length of the internal collection, which represents empty indices as well.
+     * Tracks how many characters have been written to the internal collection. Provides an index into the next write
+     * and a difference from the length of the internal collection, which represents empty indices as well.
      */
-    @NonNull
-    private Integer size;
+    private int size;
 
     /*
-     * Stores the characters inserted into the data structure. Grows over time to accommodate additional values.
+     * Whether the characters are stored in the Latin-1 collection, or in the UTF-16 collection after inflating.
      */
-    private char[] internalCollection;
+    private boolean isLatin1;
+
+    /*
+     * Stores the characters inserted into the data structure while all of them fit in Latin-1, one byte per
+     * character. Kept once the builder has been inflated, so that resetting can switch back to it without allocating.
+     * Grows over time to accommodate additional values.
+     */
+    private byte[] latin1Collection;
+
+    /*
+     * Stores the characters inserted into the data structure once the builder has been inflated. Null until then.
+     * Grows over time to accommodate additional values.
+     */
+    private char[] utf16Collection;
+
+    /*
+     * Direct buffer that the characters are encoded into when writing to a channel, so that the channel does not copy
+     * them into a direct buffer of its own. Allocated on the first write and kept from then on.
+     */
+    @EqualsAndHashCode.Exclude
+    private ByteBuffer encodeBuffer;
 
     /**
      * Default constructor.
      */
     public MyStringBuilder() {
-        this.internalCollection = new char[0];
         this.size = 0;
+        this.isLatin1 = true;
+        this.latin1Collection = new byte[0];
+        this.utf16Collection = null;
+        this.encodeBuffer = null;
     }
 
     /**
@@ -44,11 +123,29 @@ public class MyStringBuilder {
      * @return Pointer to the object updated with the character.
      */
     public MyStringBuilder append(@NonNull final Character characterToAppend) {
-        if (isInternalCollectionFull()) {
-            resizeCollection();
+        return append(characterToAppend.charValue());
+    }
+
+    /**
+     * Appends the given character, without boxing it. Will resize the collection based on the configured resize
+     * factor, and inflate it if the character does not fit in Latin-1.
+     *
+     * @param characterToAppend Character to append.
+     * @return Pointer to the object updated with the character.
+     */
+    public MyStringBuilder append(final char characterToAppend) {
+        if (isLatin1 && MAXIMUM_LATIN1_CHARACTER < characterToAppend) {
+            inflate(size);
+        }
+
+        ensureCapacity(size + 1);
+
+        if (isLatin1) {
+            latin1Collection[size] = (byte) characterToAppend;
+        } else {
+            utf16Collection[size] = characterToAppend;
         }
 
-        internalCollection[size] = characterToAppend;
         size += 1;
 
         return this;
@@ -56,26 +153,88 @@ public class MyStringBuilder {
 
     /**
      * Appends the given string. Will resize the collection based on the configured resize factor and the length of the
-     * string.
+     * string, and inflate it at the first character that does not fit in Latin-1.
      *
      * @param stringToAppend {@link String}
      * @return Pointer to the object updated with the string.
      */
     public MyStringBuilder append(@NonNull final String stringToAppend) {
-        final char[] arrayToAppend = stringToAppend.toCharArray();
-        final int stringLength = arrayToAppend.length;
+        final int stringLength = stringToAppend.length();
         final int newSize = stringLength + size;
 
         if (newSize > getInternalCollectionSize()) {
             resizeCollection(newSize * RESIZE_FACTOR);
         }
 
-        System.arraycopy(arrayToAppend, 0, internalCollection, size, stringLength);
+        int stringIndex = 0;
+
+        // Copy the characters one byte each until the first one that does not fit in Latin-1, if any.
+        if (isLatin1) {
+            for (; stringIndex < stringLength; stringIndex++) {
+                final char characterToAppend = stringToAppend.charAt(stringIndex);
+
+                if (MAXIMUM_LATIN1_CHARACTER < characterToAppend) {
+                    inflate(size + stringIndex);
+                    break;
+                }
+
+                latin1Collection[size + stringIndex] = (byte) characterToAppend;
+            }
+        }
+
+        if (!isLatin1) {
+            stringToAppend.getChars(stringIndex, stringLength, utf16Collection, size + stringIndex);
+        }
+
         size = newSize;
 
         return this;
     }
 
+    /**
+     * Appends the decimal representation of the given int, without creating a string for it.
+     *
+     * @param valueToAppend Value to append.
+     * @return Pointer to the object updated with the value.
+     */
+    public MyStringBuilder append(final int valueToAppend) {
+        return append((long) valueToAppend);
+    }
+
+    /**
+     * Appends the decimal representation of the given long, without creating a string for it. Writes the digits
+     * straight into the collection, from the last one to the first one.
+     *
+     * @param valueToAppend Value to append.
+     * @return Pointer to the object updated with the value.
+     */
+    public MyStringBuilder append(final long valueToAppend) {
+        ensureCapacity(size + MAXIMUM_LONG_LENGTH);
+
+        final int length = getDecimalLength(valueToAppend);
+
+        // Work with the negative value, since the smallest long has no positive counterpart.
+        long remainingValue = 0 > valueToAppend ? valueToAppend : -valueToAppend;
+
+        for (int index = size + length - 1; index >= size; index--) {
+            final long quotient = remainingValue / 10;
+            setCharacter(index, (char) ('0' + (quotient * 10 - remainingValue)));
+            remainingValue = quotient;
+
+            if (0 == remainingValue) {
+                break;
+            }
+        }
+
+        if (0 > valueToAppend) {
+            setCharacter(size, '-');
+        }
+
+        size += length;
+
+        return this;
+    }
+
     /**
      * Finds the index of the given character.
      *
@@ -83,18 +242,98 @@ public class MyStringBuilder {
      * @return Index of the character in the data structure, or -1 if the character does not exist.
      */
     public int indexOf(@NonNull final Character characterToSearch) {
-        int indexToReturn = -1;
+        return indexOf(characterToSearch.charValue());
+    }
 
-        for (int index = 0; index < size; index++) {
-            final Character valueAtIndex = internalCollection[index];
+    /**
+     * Finds the index of the given character, without boxing it.
+     *
+     * @param characterToSearch Character to search for.
+     * @return Index of the character in the data structure, or -1 if the character does not exist.
+     */
+    public int indexOf(final char characterToSearch) {
+        return indexOf(characterToSearch, 0);
+    }
 
-            if (characterToSearch.equals(valueAtIndex)) {
-                indexToReturn = index;
-                break;
+    /**
+     * Finds the index of the first occurrence of the given character at or after the given index. Like
+     * {@link String#indexOf(int, int)}, a negative index searches from the start and an index past the end finds
+     * nothing.
+     *
+     * @param characterToSearch Character to search for.
+     * @param fromIndex Index to start searching from.
+     * @return Index of the character in the data structure, or -1 if the character does not exist.
+     */
+    public int indexOf(final char characterToSearch, final int fromIndex) {
+        final int startIndex = Math.max(0, fromIndex);
+
+        if (isLatin1) {
+            // A character outside of Latin-1 cannot be in a Latin-1 collection.
+            return MAXIMUM_LATIN1_CHARACTER < characterToSearch
+                    ? -1
+                    : indexOfLatin1(latin1Collection, (byte) characterToSearch, startIndex, size);
+        }
+
+        for (int index = startIndex; index < size; index++) {
+            if (characterToSearch == utf16Collection[index]) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the index of the last occurrence of the given character.
+     *
+     * @param characterToSearch Character to search for.
+     * @return Index of the character in the data structure, or -1 if the character does not exist.
+     */
+    public int lastIndexOf(final char characterToSearch) {
+        if (isLatin1) {
+            return MAXIMUM_LATIN1_CHARACTER < characterToSearch
+                    ? -1
+                    : lastIndexOfLatin1(latin1Collection, (byte) characterToSearch, size);
+        }
+
+        for (int index = size - 1; index >= 0; index--) {
+            if (characterToSearch == utf16Collection[index]) {
+                return index;
             }
         }
 
-        return indexToReturn;
+        return -1;
+    }
+
+    /**
+     * Finds the index of the first occurrence of the given string. Jumps to each occurrence of the first character of
+     * the string and compares the rest from there.
+     *
+     * @param stringToSearch {@link String}
+     * @return Index of the start of the string in the data structure, 0 if the string is empty, or -1 if the string
+     *         does not exist.
+     */
+    public int indexOf(@NonNull final String stringToSearch) {
+        final int stringLength = stringToSearch.length();
+
+        if (0 == stringLength) {
+            return 0;
+        }
+
+        // The string cannot start past this index, since it would run past the end.
+        final int lastStartIndex = size - stringLength;
+        final char firstCharacter = stringToSearch.charAt(0);
+        int candidateIndex = indexOf(firstCharacter, 0);
+
+        while (-1 != candidateIndex && candidateIndex <= lastStartIndex) {
+            if (regionMatches(candidateIndex, stringToSearch)) {
+                return candidateIndex;
+            }
+
+            candidateIndex = indexOf(firstCharacter, candidateIndex + 1);
+        }
+
+        return -1;
     }
 
     /**
@@ -104,7 +343,77 @@ public class MyStringBuilder {
      * @return True if the data structure contains this character, false otherwise.
      */
     public boolean contains(@NonNull final Character characterToSearch) {
-        return -1 != indexOf(characterToSearch);
+        return -1 != indexOf(characterToSearch.charValue());
+    }
+
+    /**
+     * Encodes the characters to UTF-8 and puts them into the provided buffer. Puts as many whole characters as fit.
+     *
+     * @param buffer {@link ByteBuffer}
+     * @return Number of characters that were encoded. Less than the length if the buffer ran out of room.
+     */
+    public int encodeTo(@NonNull final ByteBuffer buffer) {
+        return encodeTo(0, buffer);
+    }
+
+    /**
+     * Encodes the characters from the given index onwards to UTF-8 and puts them into the provided buffer. Puts as
+     * many whole characters as fit, so that encoding can continue into another buffer from the returned index. A
+     * surrogate that is not part of a pair is encoded as '?', like {@link String#getBytes} does.
+     *
+     * @param startIndex Index of the first character to encode.
+     * @param buffer {@link ByteBuffer}
+     * @return Index after the last character that was encoded, which is the length once every character is encoded.
+     */
+    public int encodeTo(final int startIndex, @NonNull final ByteBuffer buffer) {
+        if (0 > startIndex || startIndex > size) {
+            throw new IndexOutOfBoundsException("Index not found in the string builder.");
+        }
+
+        return isLatin1 ? encodeLatin1To(startIndex, buffer) : encodeUtf16To(startIndex, buffer);
+    }
+
+    /**
+     * Encodes the characters to UTF-8 and writes them to the provided channel, through a direct buffer that the
+     * builder keeps for later writes. Expects a blocking channel, which writes every byte it is given.
+     *
+     * @param channel {@link WritableByteChannel}
+     * @return Number of bytes that were written.
+     * @throws IOException If the channel fails.
+     */
+    public long writeTo(@NonNull final WritableByteChannel channel) throws IOException {
+        if (null == encodeBuffer) {
+            encodeBuffer = ByteBuffer.allocateDirect(ENCODE_BUFFER_SIZE);
+        }
+
+        long bytesWritten = 0;
+        int index = 0;
+
+        while (index < size) {
+            encodeBuffer.clear();
+            index = encodeTo(index, encodeBuffer);
+            encodeBuffer.flip();
+
+            while (encodeBuffer.hasRemaining()) {
+                bytesWritten += channel.write(encodeBuffer);
+            }
+        }
+
+        return bytesWritten;
+    }
+
+    /**
+     * Removes every character but keeps the capacity of the internal collection, so that the builder can be reused
+     * without allocating. A builder that has been inflated switches back to Latin-1, so that the next string built in
+     * it takes the single byte path again, and releases its UTF-16 collection.
+     */
+    public void reset() {
+        size = 0;
+
+        if (!isLatin1) {
+            isLatin1 = true;
+            utf16Collection = null;
+        }
     }
 
     /**
@@ -114,56 +423,290 @@ public class MyStringBuilder {
         return size;
     }
 
+    /**
+     * @return Number of characters the internal collection can hold before it has to resize.
+     */
+    public int getCapacity() {
+        return getInternalCollectionSize();
+    }
+
+    /**
+     * @return True if every character is stored in a single byte, false if the builder has been inflated to UTF-16.
+     */
+    public boolean isLatin1() {
+        return isLatin1;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public String toString() {
-        return new String(internalCollection, 0, size);
+        return isLatin1
+                ? new String(latin1Collection, 0, size, StandardCharsets.ISO_8859_1)
+                : new String(utf16Collection, 0, size);
     }
 
     /*
      * Retrieves the length of the internal collection.
      */
     private int getInternalCollectionSize() {
-        return internalCollection.length;
+        return isLatin1 ? latin1Collection.length : utf16Collection.length;
     }
 
     /*
-     * Checks whether the internal collection's length is equal to the number of characters written.
+     * Checks whether the characters from the provided index onwards match every character of the provided string.
+     * The string must fit before the end of the builder.
      */
-    private boolean isInternalCollectionFull() {
-        return size == getInternalCollectionSize();
+    private boolean regionMatches(final int startIndex, final String stringToMatch) {
+        for (int offset = 1; offset < stringToMatch.length(); offset++) {
+            final char character = stringToMatch.charAt(offset);
+            final char characterAtIndex = isLatin1
+                    ? (char) (latin1Collection[startIndex + offset] & MAXIMUM_LATIN1_CHARACTER)
+                    : utf16Collection[startIndex + offset];
+
+            if (character != characterAtIndex) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     /*
-     * Resizes the internal collection using the current length of the internal collection and the configured resize
-     * factor.
+     * Finds the first index of the provided byte between the provided indices. Checks eight bytes at a time, then the
+     * remaining ones one at a time.
      */
-    private void resizeCollection() {
-        resizeCollection(getInternalCollectionSize() * RESIZE_FACTOR);
+    private static int indexOfLatin1(final byte[] collection, final byte byteToSearch, final int startIndex,
+            final int endIndex) {
+        final long pattern = LOW_BITS * (byteToSearch & MAXIMUM_LATIN1_CHARACTER);
+        int index = startIndex;
+
+        for (; index + Long.BYTES <= endIndex; index += Long.BYTES) {
+            final long matches = getMatchingBytes((long) LONG_VIEW.get(collection, index), pattern);
+
+            // The bytes are read in little-endian order, so the lowest matching byte is the first one.
+            if (0 != matches) {
+                return index + (Long.numberOfTrailingZeros(matches) >>> 3);
+            }
+        }
+
+        for (; index < endIndex; index++) {
+            if (byteToSearch == collection[index]) {
+                return index;
+            }
+        }
+
+        return -1;
     }
 
     /*
-     * Resizes the internal collection based on the specified new size.
-     *
-     * If the new size is 0, then initializes a new array with size of 1.
+     * Finds the last index of the provided byte before the provided index. Checks the bytes past the last full eight
+     * one at a time, then eight bytes at a time towards the start.
+     */
+    private static int lastIndexOfLatin1(final byte[] collection, final byte byteToSearch, final int endIndex) {
+        final long pattern = LOW_BITS * (byteToSearch & MAXIMUM_LATIN1_CHARACTER);
+        int index = endIndex;
+
+        for (; 0 != (index & (Long.BYTES - 1)); index--) {
+            if (byteToSearch == collection[index - 1]) {
+                return index - 1;
+            }
+        }
+
+        for (; index >= Long.BYTES; index -= Long.BYTES) {
+            final long matches = getMatchingBytes((long) LONG_VIEW.get(collection, index - Long.BYTES), pattern);
+
+            // The highest matching byte is the last one.
+            if (0 != matches) {
+                return index - Long.BYTES + ((Long.SIZE - 1 - Long.numberOfLeadingZeros(matches)) >>> 3);
+            }
+        }
+
+        return -1;
+    }
+
+    /*
+     * Returns a long with the highest bit set in exactly the bytes of the provided word that are equal to the
+     * matching byte of the provided pattern. XORs the two so that matching bytes become zero, then finds the zero
+     * bytes: adding 0x7F to the lowest seven bits of a byte carries into its highest bit unless they are all zero, and
+     * OR-ing the byte back in covers its own highest bit.
+     */
+    private static long getMatchingBytes(final long word, final long pattern) {
+        final long difference = word ^ pattern;
+
+        return ~(((difference & LOW_SEVEN_BITS) + LOW_SEVEN_BITS) | difference | LOW_SEVEN_BITS);
+    }
+
+    /*
+     * Encodes the Latin-1 characters from the provided index onwards into the provided buffer, until either runs out.
+     * Copies each run of ASCII characters in bulk, since they encode to the same bytes, and encodes the rest of Latin-1
+     * as two bytes.
+     */
+    private int encodeLatin1To(final int startIndex, final ByteBuffer buffer) {
+        int index = startIndex;
+
+        while (index < size && buffer.hasRemaining()) {
+            final int runEndIndex = Math.min(size, index + buffer.remaining());
+            int asciiEndIndex = index;
+
+            // ASCII characters are the ones whose byte is not negative. Skip eight of them at a time while none of the
+            // eight bytes has its highest bit set.
+            while (asciiEndIndex + Long.BYTES <= runEndIndex
+                    && 0 == ((long) LONG_VIEW.get(latin1Collection, asciiEndIndex) & HIGH_BITS)) {
+                asciiEndIndex += Long.BYTES;
+            }
+
+            while (asciiEndIndex < runEndIndex && 0 <= latin1Collection[asciiEndIndex]) {
+                asciiEndIndex += 1;
+            }
+
+            if (asciiEndIndex > index) {
+                buffer.put(latin1Collection, index, asciiEndIndex - index);
+                index = asciiEndIndex;
+                continue;
+            }
+
+            if (2 > buffer.remaining()) {
+                break;
+            }
+
+            final int character = latin1Collection[index] & MAXIMUM_LATIN1_CHARACTER;
+            buffer.put((byte) (0xC0 | character >>> 6));
+            buffer.put((byte) (0x80 | character & 0x3F));
+            index += 1;
+        }
+
+        return index;
+    }
+
+    /*
+     * Encodes the UTF-16 characters from the provided index onwards into the provided buffer, until either runs out.
+     * Encodes each character as one to three bytes, and each surrogate pair as four bytes.
+     */
+    private int encodeUtf16To(final int startIndex, final ByteBuffer buffer) {
+        int index = startIndex;
+
+        while (index < size) {
+            final char character = utf16Collection[index];
+
+            if (0x80 > character) {
+                if (!buffer.hasRemaining()) {
+                    break;
+                }
+
+                buffer.put((byte) character);
+                index += 1;
+            } else if (0x800 > character) {
+                if (2 > buffer.remaining()) {
+                    break;
+                }
+
+                buffer.put((byte) (0xC0 | character >>> 6));
+                buffer.put((byte) (0x80 | character & 0x3F));
+                index += 1;
+            } else if (Character.isHighSurrogate(character)
+                    && index + 1 < size && Character.isLowSurrogate(utf16Collection[index + 1])) {
+                if (4 > buffer.remaining()) {
+                    break;
+                }
+
+                final int codePoint = Character.toCodePoint(character, utf16Collection[index + 1]);
+                buffer.put((byte) (0xF0 | codePoint >>> 18));
+                buffer.put((byte) (0x80 | codePoint >>> 12 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint >>> 6 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+                index += 2;
+            } else if (Character.isSurrogate(character)) {
+                if (!buffer.hasRemaining()) {
+                    break;
+                }
+
+                buffer.put((byte) '?');
+                index += 1;
+            } else {
+                if (3 > buffer.remaining()) {
+                    break;
+                }
+
+                buffer.put((byte) (0xE0 | character >>> 12));
+                buffer.put((byte) (0x80 | character >>> 6 & 0x3F));
+                buffer.put((byte) (0x80 | character & 0x3F));
+                index += 1;
+            }
+        }
+
+        return index;
+    }
+
+    /*
+     * Writes the provided character, which must fit in the current coder, at the provided index.
+     */
+    private void setCharacter(final int index, final char character) {
+        if (isLatin1) {
+            latin1Collection[index] = (byte) character;
+        } else {
+            utf16Collection[index] = character;
+        }
+    }
+
+    /*
+     * Returns the number of characters in the decimal representation of the provided value, including the sign.
+     */
+    private static int getDecimalLength(final long value) {
+        // Work with the negative value, since the smallest long has no positive counterpart.
+        long negativeValue = 0 > value ? value : -value;
+        int length = 0 > value ? 2 : 1;
+
+        while (-10 >= negativeValue) {
+            negativeValue /= 10;
+            length += 1;
+        }
+
+        return length;
+    }
+
+    /*
+     * Resizes the internal collection using the configured resize factor if it cannot hold the provided number of
+     * characters.
+     */
+    private void ensureCapacity(final int minimumCapacity) {
+        if (minimumCapacity > getInternalCollectionSize()) {
+            resizeCollection(Math.max(minimumCapacity, getInternalCollectionSize() * RESIZE_FACTOR));
+        }
+    }
+
+    /*
+     * Resizes the internal collection of the current coder based on the specified new size, which is at least 1.
      *
-     * Otherwise, uses a temporary array to track the characters, creates a new array with the new size provided, and
-     * copies the temporary array into the new array.
+     * Uses a temporary array to track the characters, creates a new array with the new size provided, and copies the
+     * characters written so far from the temporary array into the new array.
      */
     private void resizeCollection(final int newSize) {
-        if (0 == newSize) {
-            // If the collection is empty, then initialize a new collection with a single entry.
-            internalCollection = new char[1];
+        final int newCollectionSize = Math.max(1, newSize);
+
+        if (isLatin1) {
+            final byte[] tempArray = latin1Collection;
+            latin1Collection = new byte[newCollectionSize];
+            System.arraycopy(tempArray, 0, latin1Collection, 0, size);
         } else {
-            // Otherwise, point a temporary variable to the current collection and create a new collection with
-            // specified size.
-            final char[] tempArray = internalCollection;
-            internalCollection = new char[newSize];
+            final char[] tempArray = utf16Collection;
+            utf16Collection = new char[newCollectionSize];
+            System.arraycopy(tempArray, 0, utf16Collection, 0, size);
+        }
+    }
 
-            // Copy the entries into the new collection.
-            System.arraycopy(tempArray, 0, internalCollection, 0, tempArray.length);
+    /*
+     * Switches from Latin-1 to UTF-16 by widening the provided number of characters into a char collection of the same
+     * length. Keeps the Latin-1 collection for when the builder is reset.
+     */
+    private void inflate(final int charactersToWiden) {
+        utf16Collection = new char[latin1Collection.length];
+
+        for (int index = 0; index < charactersToWiden; index++) {
+            utf16Collection[index] = (char) (latin1Collection[index] & MAXIMUM_LATIN1_CHARACTER);
         }
+
+        isLatin1 = false;
     }
 }
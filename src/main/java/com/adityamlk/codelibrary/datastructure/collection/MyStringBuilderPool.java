@@ -0,0 +1,122 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents a thread-safe pool of {@link MyStringBuilder} instances, so that code that builds a string per request
+ * can reuse the same builders and their capacity instead of allocating new ones. Acquiring takes an idle builder, or
+ * creates one if there are none. Releasing resets the builder and keeps it for the next acquire.
+ * <p>
+ * Idle builders are tracked on a fixed-size stack, so acquiring and releasing never allocate once the pool is warm. The
+ * most recently released builder is acquired first, since its memory is the most likely to still be cached. Builders
+ * that have grown past the configured capacity are dropped when they are released instead of being kept, so that one
+ * large string does not hold on to its memory forever. A builder must not be used after it has been released, and
+ * releasing a builder that is already idle throws, since two later acquires would otherwise share it.
+ * <p>
+ * Acquiring is O(1).
+ * Releasing is O(N), where N is the number of idle builders, since the pool checks that the builder is not already
+ * idle. N is at most the maximum pool size.
+ */
+@Log4j2
+public class MyStringBuilderPool {
+
+    private static final int DEFAULT_MAXIMUM_POOL_SIZE = 64;
+
+    private static final int DEFAULT_MAXIMUM_RETAINED_CAPACITY = 1 << 20;
+
+    /*
+     * Largest capacity that a released builder may have and still be kept.
+     */
+    private final int maximumRetainedCapacity;
+
+    /*
+     * Stack of idle builders. Only the first idle count entries are populated.
+     */
+    private final MyStringBuilder[] idleBuilders;
+
+    private int idleCount;
+
+    /**
+     * Default constructor. Keeps up to 64 idle builders of up to 1048576 characters each.
+     */
+    public MyStringBuilderPool() {
+        this(DEFAULT_MAXIMUM_POOL_SIZE, DEFAULT_MAXIMUM_RETAINED_CAPACITY);
+    }
+
+    /**
+     * Constructor that sets the limits of the pool.
+     *
+     * @param maximumPoolSize Largest number of idle builders to keep.
+     * @param maximumRetainedCapacity Largest capacity that a released builder may have and still be kept.
+     */
+    public MyStringBuilderPool(@NonNull final Integer maximumPoolSize, @NonNull final Integer maximumRetainedCapacity) {
+        if (0 > maximumPoolSize) {
+            throw new IllegalArgumentException("Expected maximum pool size of at least 0.");
+        }
+
+        if (0 > maximumRetainedCapacity) {
+            throw new IllegalArgumentException("Expected maximum retained capacity of at least 0.");
+        }
+
+        this.maximumRetainedCapacity = maximumRetainedCapacity;
+        this.idleBuilders = new MyStringBuilder[maximumPoolSize];
+        this.idleCount = 0;
+    }
+
+    /**
+     * Takes the most recently released builder, or creates a new one if there are no idle builders. The builder is
+     * empty.
+     *
+     * @return {@link MyStringBuilder}
+     */
+    public MyStringBuilder acquire() {
+        synchronized (this) {
+            if (0 != idleCount) {
+                idleCount -= 1;
+
+                final MyStringBuilder builder = idleBuilders[idleCount];
+                idleBuilders[idleCount] = null;
+
+                return builder;
+            }
+        }
+
+        return new MyStringBuilder();
+    }
+
+    /**
+     * Resets the given builder and keeps it for a later acquire, unless the pool is full or the builder has grown
+     * past the configured capacity.
+     *
+     * @param builder {@link MyStringBuilder}
+     * @return True if the builder was kept, false if it was dropped.
+     */
+    public boolean release(@NonNull final MyStringBuilder builder) {
+        synchronized (this) {
+            for (int index = 0; index < idleCount; index++) {
+                if (builder == idleBuilders[index]) {
+                    throw new IllegalStateException("Expected builder to not be released already.");
+                }
+            }
+
+            builder.reset();
+
+            if (maximumRetainedCapacity < builder.getCapacity() || idleBuilders.length == idleCount) {
+                return false;
+            }
+
+            idleBuilders[idleCount] = builder;
+            idleCount += 1;
+
+            return true;
+        }
+    }
+
+    /**
+     * @return Number of idle builders in the pool.
+     */
+    public synchronized int getIdleCount() {
+        return idleCount;
+    }
+}
@@ -1,37 +1,87 @@
 package com.adityamlk.codelibrary.datastructure.collection;
 
-import java.util.Stack;
-import lombok.NoArgsConstructor;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
 
 /**
  * Represents a Queue as two Stacks implementation. Tracks two stacks to represent a queue. The idea is to maintain a
- * stack that will hold values when enqueue occurs and one that will hold values when dequeue occurs. The dedicate stacks
- * mean that objects will be added or removed correctly in relation to the other elements in the data store. This means
- * any and all elements are moved out of retrieval stack into insertion stack for enqueues and vice a versa for dequeues.
+ * stack that will hold values when enqueue occurs and one that will hold values when dequeue occurs. Enqueues always
+ * push to the insertion stack and dequeues always pop from the retrieval stack. Only once the retrieval stack runs
+ * empty are the values of the insertion stack moved over, all at once, which reverses them so that the oldest value
+ * ends up on top. Every value is moved at most once, no matter how enqueues and dequeues are interleaved.
+ * <p>
+ * Both stacks are plain arrays without any synchronization. Moving the values swaps the two arrays and reverses the
+ * values in place, so it neither allocates nor copies into a second array.
+ * <p>
+ * Values can be dequeued in batches with {@link #dequeue(int)}, and visited from the head to the tail with
+ * {@link #iterator()}, which walks down the retrieval stack and then up the insertion stack without moving any values.
+ * The iterator is fail-fast: enqueuing or dequeuing while it is in use throws a
+ * {@link ConcurrentModificationException}.
  * <p>
  * Insertion is O(1) despite resizing due to amortized insertion. Inserts to the top of insertion stack.
- * Deletion is O(1) despite resizing due to amortized deletion. Removes from the top of retrieval stack.
+ * Deletion is O(1) despite moving values due to amortized deletion. Removes from the top of retrieval stack.
  * Search is O(N).
  *
  * @param <T> Generic data type supported by the list.
  */
-@NoArgsConstructor
-public class MyTwoStacksAsQueue<T> {
+@Log4j2
+public class MyTwoStacksAsQueue<T> implements Iterable<T> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private static final int DEFAULT_RESIZE_FACTOR = 2;
+
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
 
     /*
-     * Used for tracking values when an insertion occurs. Will track these values in reverse order so the latest
-     * insertion keeps the overall order of values intact.
+     * Used for tracking values when an insertion occurs. Stores the values from the oldest at the bottom to the latest
+     * at the top.
      */
-    @NonNull
-    private final Stack<T> insertionStack = new Stack<>();
+    private Object[] insertionStack;
+
+    private int insertionSize;
 
     /*
-     * Used for tracking values when a retrieval occurs. Will track these values in order of insertion so the latest
-     * retrieval keeps the overall order of values intact.
+     * Used for tracking values when a retrieval occurs. Stores the values from the latest at the bottom to the oldest
+     * at the top, so the top is the head of the queue.
+     */
+    private Object[] retrievalStack;
+
+    private int retrievalSize;
+
+    /*
+     * Counts the enqueues and dequeues, so that iterators can detect that the queue changed underneath them.
+     */
+    private int modificationCount;
+
+    /**
+     * Default Constructor.
      */
-    @NonNull
-    private final Stack<T> retrievalStack = new Stack<>();
+    public MyTwoStacksAsQueue() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructor that sets the initial capacity of each stack.
+     *
+     * @param initialCapacity Value used for setting the initial size of the data structure.
+     */
+    public MyTwoStacksAsQueue(@NonNull final Integer initialCapacity) {
+        if (0 > initialCapacity) {
+            throw new IllegalArgumentException("Expected initial capacity of at least 0.");
+        }
+
+        this.insertionStack = new Object[initialCapacity];
+        this.insertionSize = 0;
+        this.retrievalStack = new Object[initialCapacity];
+        this.retrievalSize = 0;
+        this.modificationCount = 0;
+    }
 
     /**
      * Inserts the given value to the tail of the queue.
@@ -39,26 +89,77 @@ public class MyTwoStacksAsQueue<T> {
      * @param valueToEnqueue {@link T}
      */
     public void enqueue(@NonNull final T valueToEnqueue) {
-        // If the retrieval stack is not empty, then move the elements to the insertion stack.
-        if (!retrievalStack.isEmpty()) {
-            moveElementsFromStack(retrievalStack, insertionStack);
+        if (insertionSize == insertionStack.length) {
+            resizeInsertionStack(insertionSize + 1L);
         }
 
-        insertionStack.push(valueToEnqueue);
+        insertionStack[insertionSize] = valueToEnqueue;
+        insertionSize += 1;
+        modificationCount += 1;
     }
 
     /**
      * Retrieves the value at the head of the queue.
      *
-     * @return Value at the head of the queue.
+     * @return Value at the head of the queue, or null if the queue is empty.
      */
+    @SuppressWarnings("unchecked")
     public T dequeue() {
-        // If the insertion stack is not empty, then move the elements to the retrieval stack.
-        if (!insertionStack.isEmpty()) {
-            moveElementsFromStack(insertionStack, retrievalStack);
+        if (0 == retrievalSize) {
+            moveInsertionStackToRetrievalStack();
+
+            if (0 == retrievalSize) {
+                return null;
+            }
+        }
+
+        retrievalSize -= 1;
+        modificationCount += 1;
+
+        final T value = (T) retrievalStack[retrievalSize];
+        retrievalStack[retrievalSize] = null;
+
+        return value;
+    }
+
+    /**
+     * Retrieves up to the given number of values from the head of the queue.
+     *
+     * @param valueCount Largest number of values to retrieve.
+     * @return Values that were retrieved, in order from the head of the queue.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> dequeue(final int valueCount) {
+        if (0 > valueCount) {
+            throw new IllegalArgumentException("Expected value count of at least 0.");
+        }
+
+        final List<T> values = new ArrayList<>(Math.min(valueCount, getSize()));
+
+        while (values.size() < valueCount) {
+            if (0 == retrievalSize) {
+                moveInsertionStackToRetrievalStack();
+
+                if (0 == retrievalSize) {
+                    break;
+                }
+            }
+
+            // Pop a run of values off the retrieval stack, then clear the slots they were in all at once.
+            final int runLength = Math.min(valueCount - values.size(), retrievalSize);
+            final int runEnd = retrievalSize - runLength;
+
+            for (int index = retrievalSize - 1; index >= runEnd; index--) {
+                values.add((T) retrievalStack[index]);
+                retrievalStack[index] = null;
+            }
+
+            retrievalSize = runEnd;
         }
 
-        return retrievalStack.pop();
+        modificationCount += 1;
+
+        return values;
     }
 
     /**
@@ -68,48 +169,136 @@ public class MyTwoStacksAsQueue<T> {
      * @return True if the data structure contains this element, false otherwise.
      */
     public boolean contains(@NonNull final T elementToSearch) {
-        boolean isElementInStack = false;
-        final Stack<T> stackToSearch = insertionStack.isEmpty() ? retrievalStack : insertionStack;
-
-        // Depending on which stack is in use, loop through each element looking for a match.
-        for (final T element : stackToSearch) {
-            if (elementToSearch.equals(element)) {
-                isElementInStack = true;
-                break;
-            }
-        }
-
-        return isElementInStack;
+        return contains(retrievalStack, retrievalSize, elementToSearch)
+                || contains(insertionStack, insertionSize, elementToSearch);
     }
 
     /**
      * @return Number of values in the data structure.
      */
     public int getSize() {
-        return insertionStack.isEmpty() ? retrievalStack.size() : insertionStack.size();
+        return insertionSize + retrievalSize;
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Visits the values from the head of the queue to the tail, without moving any of them between the stacks.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new QueueIterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns string version of the data structure, from the head to the tail. Uses brackets to identify start and end
+     * of collection. Separates the values using comma and space.
      */
     @Override
     public String toString() {
-        // If the retrieval stack is not empty, then move the elements to the insertion stack.
-        if (!retrievalStack.isEmpty()) {
-            moveElementsFromStack(retrievalStack, insertionStack);
+        final StringBuilder stringBuilder = new StringBuilder("[");
+        final Iterator<T> iterator = iterator();
+
+        while (iterator.hasNext()) {
+            stringBuilder.append(iterator.next());
+
+            if (iterator.hasNext()) {
+                stringBuilder.append(",").append(" ");
+            }
+        }
+
+        return stringBuilder.append("]").toString();
+    }
+
+    /*
+     * Checks the first values of the provided stack for the provided element.
+     */
+    private static boolean contains(final Object[] stack, final int stackSize, final Object elementToSearch) {
+        for (int index = 0; index < stackSize; index++) {
+            if (elementToSearch.equals(stack[index])) {
+                return true;
+            }
         }
 
-        return insertionStack.toString();
+        return false;
     }
 
     /*
-     * Moves elements from one stack to another. This will pop off from the source stack and push into the destination
-     * stack until the source stack is empty.
+     * Moves every value of the insertion stack to the retrieval stack, which must be empty. Swaps the two arrays, and
+     * reverses the values in place so the oldest one is on top.
      */
-    private void moveElementsFromStack(final Stack<T> stackSource, final Stack<T> stackDestination) {
-        while (!stackSource.isEmpty()) {
-            final T elementToMove = stackSource.pop();
-            stackDestination.push(elementToMove);
+    private void moveInsertionStackToRetrievalStack() {
+        final Object[] emptyStack = retrievalStack;
+
+        retrievalStack = insertionStack;
+        retrievalSize = insertionSize;
+        insertionStack = emptyStack;
+        insertionSize = 0;
+
+        for (int bottom = 0, top = retrievalSize - 1; bottom < top; bottom++, top--) {
+            final Object value = retrievalStack[bottom];
+            retrievalStack[bottom] = retrievalStack[top];
+            retrievalStack[top] = value;
+        }
+    }
+
+    /*
+     * Resizes the insertion stack to the resize factor times its length, or to the provided number of values if that
+     * is larger. Copies the values into the start of the new array.
+     */
+    private void resizeInsertionStack(final long requiredCapacity) {
+        if (MAXIMUM_CAPACITY < requiredCapacity) {
+            throw new IllegalStateException("Expected at most " + MAXIMUM_CAPACITY + " values.");
+        }
+
+        final long newCapacity = Math.max(requiredCapacity, (long) insertionStack.length * DEFAULT_RESIZE_FACTOR);
+        final Object[] newStack = new Object[(int) Math.min(MAXIMUM_CAPACITY, newCapacity)];
+
+        System.arraycopy(insertionStack, 0, newStack, 0, insertionSize);
+        insertionStack = newStack;
+    }
+
+    /*
+     * Walks down the retrieval stack from its top, then up the insertion stack from its bottom.
+     */
+    private final class QueueIterator implements Iterator<T> {
+
+        private final int expectedModificationCount;
+
+        /*
+         * Position within both stacks combined, from 0 at the head of the queue to the size of the queue at the tail.
+         */
+        private int position;
+
+        private QueueIterator() {
+            this.expectedModificationCount = modificationCount;
+            this.position = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < getSize();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (expectedModificationCount != modificationCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final Object value = position < retrievalSize
+                    ? retrievalStack[retrievalSize - 1 - position]
+                    : insertionStack[position - retrievalSize];
+            position += 1;
+
+            return (T) value;
         }
     }
 }
@@ -0,0 +1,283 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents a set of N work-stealing deques, one per worker thread, based on the deque of Chase and Lev, "Dynamic
+ * Circular Work-Stealing Deque", with the memory ordering of Le et al., "Correct and Efficient Work-Stealing for Weak
+ * Memory Models". Like {@link MyArrayOfNStacks}, it tracks N stacks side by side, but each deque is owned by one thread
+ * and can be shared with the others:
+ * <ul>
+ *     <li>The owner pushes and pops at the bottom of its own deque, in LIFO order, so it keeps working on the values
+ *     it produced most recently, which are the most likely to still be in its cache. Neither needs a compare-and-set,
+ *     except when popping the last value, which a thief may be taking at the same time.</li>
+ *     <li>Any other thread steals from the top of a deque, in FIFO order, with a compare-and-set on the top index. The
+ *     oldest values are usually the largest pieces of work, so a thief steals rarely and takes a lot with it.</li>
+ * </ul>
+ * <p>
+ * Unlike {@link MyArrayOfNStacks}, the deques do not share one array. Each deque has a circular array of its own that
+ * only its owner writes and grows, and its indices sit on cache lines of their own, so that owners working on their
+ * own deques do not slow each other down.
+ * <p>
+ * Stolen slots are not cleared, since the owner may be writing to them already, so a stolen value stays reachable
+ * until the owner writes over its slot.
+ * <p>
+ * Insertion is O(1) despite resizing due to amortized insertion. Inserts to the bottom of the owner's deque.
+ * Deletion is O(1). Pops from the bottom of the owner's deque, or steals from the top of another, retried when other
+ * thieves steal the same value first.
+ *
+ * @param <T> Generic data type supported by the deques.
+ */
+@Log4j2
+public class MyWorkStealingDeques<T> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 1 << 8;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /*
+     * Accesses the slots of the circular arrays with acquire and release ordering.
+     */
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final WorkStealingDeque[] deques;
+
+    /**
+     * Constructor that requires the number of deques, one per worker.
+     *
+     * @param numberOfDeques Indicates how many deques this data structure needs to support.
+     */
+    public MyWorkStealingDeques(@NonNull final Integer numberOfDeques) {
+        this(numberOfDeques, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructor that requires the number of deques, one per worker, and the initial capacity of each of them,
+     * rounded up to a power of two.
+     *
+     * @param numberOfDeques Indicates how many deques this data structure needs to support.
+     * @param initialCapacity Value used for setting the initial size of each deque.
+     */
+    public MyWorkStealingDeques(@NonNull final Integer numberOfDeques, @NonNull final Integer initialCapacity) {
+        if (1 > numberOfDeques) {
+            throw new IllegalArgumentException("Expected number of deques of at least 1.");
+        }
+
+        if (1 > initialCapacity || MAXIMUM_CAPACITY < initialCapacity) {
+            throw new IllegalArgumentException("Expected initial capacity between 1 and " + MAXIMUM_CAPACITY + ".");
+        }
+
+        final int capacity = 1 == initialCapacity ? 1 : Integer.highestOneBit(initialCapacity - 1) << 1;
+
+        this.deques = new WorkStealingDeque[numberOfDeques];
+
+        for (int dequeIndex = 0; dequeIndex < numberOfDeques; dequeIndex++) {
+            deques[dequeIndex] = new WorkStealingDeque(capacity);
+        }
+    }
+
+    /**
+     * Inserts the given value to the bottom of the given deque. Must only be called by the owner of the deque.
+     *
+     * @param dequeIndex Deque to update, from 0 to the number of deques minus 1.
+     * @param valueToPush {@link T}
+     */
+    public void push(final int dequeIndex, @NonNull final T valueToPush) {
+        getDeque(dequeIndex).push(valueToPush);
+    }
+
+    /**
+     * Removes the value at the bottom of the given deque, which is the one pushed most recently. Must only be called
+     * by the owner of the deque.
+     *
+     * @param dequeIndex Deque to update, from 0 to the number of deques minus 1.
+     * @return Value that was removed, or null if the deque is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T pop(final int dequeIndex) {
+        return (T) getDeque(dequeIndex).pop();
+    }
+
+    /**
+     * Removes the value at the top of the given deque, which is the oldest one. May be called by any thread.
+     *
+     * @param dequeIndex Deque to steal from, from 0 to the number of deques minus 1.
+     * @return Value that was removed, or null if the deque is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T steal(final int dequeIndex) {
+        return (T) getDeque(dequeIndex).steal();
+    }
+
+    /**
+     * Removes the value at the top of any deque other than the given one, trying each of them once, in order,
+     * starting from the one after the given deque. May be called by any thread.
+     *
+     * @param thiefIndex Deque of the thief, which is skipped. A value outside of the deques tries all of them.
+     * @return Value that was removed, or null if every deque was empty when it was tried.
+     */
+    @SuppressWarnings("unchecked")
+    public T stealFromAny(final int thiefIndex) {
+        for (int offset = 1; offset <= deques.length; offset++) {
+            final int dequeIndex = Math.floorMod(thiefIndex + offset, deques.length);
+
+            if (dequeIndex != thiefIndex) {
+                final Object value = deques[dequeIndex].steal();
+
+                if (null != value) {
+                    return (T) value;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the number of values in the given deque. Only an estimate while other threads push, pop or steal.
+     *
+     * @param dequeIndex Deque to check, from 0 to the number of deques minus 1.
+     * @return Number of values in the deque.
+     */
+    public int getSizeOfDeque(final int dequeIndex) {
+        return getDeque(dequeIndex).getSize();
+    }
+
+    /**
+     * @return Number of deques in the data structure.
+     */
+    public int getNumberOfDeques() {
+        return deques.length;
+    }
+
+    /*
+     * Returns the deque at the provided index, after validating it.
+     */
+    private WorkStealingDeque getDeque(final int dequeIndex) {
+        if (0 > dequeIndex || deques.length <= dequeIndex) {
+            throw new IndexOutOfBoundsException("Index not found in the list.");
+        }
+
+        return deques[dequeIndex];
+    }
+
+    /*
+     * Single deque. The top index is only moved forward, by a compare-and-set from a thief or from the owner taking the
+     * last value. The bottom index is only written by the owner. The values between the two indices are in the
+     * circular array.
+     */
+    private static final class WorkStealingDeque {
+
+        private final PaddedSequence top;
+
+        private final PaddedSequence bottom;
+
+        /*
+         * Circular array of the values. Replaced with a larger one by the owner once it is full. Thieves that still
+         * read the previous one see the same values, since the owner never writes to it again.
+         */
+        private volatile Object[] array;
+
+        private WorkStealingDeque(final int capacity) {
+            this.top = new PaddedSequence(0);
+            this.bottom = new PaddedSequence(0);
+            this.array = new Object[capacity];
+        }
+
+        private void push(final Object valueToPush) {
+            final long currentBottom = bottom.getPlain();
+            final long currentTop = top.getAcquire();
+            Object[] currentArray = array;
+
+            if (currentBottom - currentTop >= currentArray.length) {
+                currentArray = resizeArray(currentArray, currentTop, currentBottom);
+            }
+
+            SLOT.setRelease(currentArray, (int) currentBottom & (currentArray.length - 1), valueToPush);
+            bottom.setRelease(currentBottom + 1);
+        }
+
+        private Object pop() {
+            final long newBottom = bottom.getPlain() - 1;
+            final Object[] currentArray = array;
+
+            // Claim the bottom slot before reading the top, so that a thief either sees the claim or is seen here.
+            bottom.setRelease(newBottom);
+            VarHandle.fullFence();
+
+            final long currentTop = top.get();
+
+            if (currentTop > newBottom) {
+                bottom.setRelease(newBottom + 1);
+
+                return null;
+            }
+
+            final int index = (int) newBottom & (currentArray.length - 1);
+            Object value = SLOT.getAcquire(currentArray, index);
+
+            if (currentTop == newBottom) {
+                // Last value, which a thief may be taking at the same time. Whoever moves the top forward gets it.
+                if (!top.compareAndSet(currentTop, currentTop + 1)) {
+                    value = null;
+                }
+
+                bottom.setRelease(newBottom + 1);
+            } else {
+                SLOT.setRelease(currentArray, index, null);
+            }
+
+            return value;
+        }
+
+        private Object steal() {
+            while (true) {
+                final long currentTop = top.getAcquire();
+                VarHandle.fullFence();
+                final long currentBottom = bottom.getAcquire();
+
+                if (currentTop >= currentBottom) {
+                    return null;
+                }
+
+                final Object[] currentArray = array;
+                final Object value = SLOT.getAcquire(currentArray, (int) currentTop & (currentArray.length - 1));
+
+                if (top.compareAndSet(currentTop, currentTop + 1)) {
+                    return value;
+                }
+
+                // Another thief, or the owner taking the last value, moved the top first.
+            }
+        }
+
+        private int getSize() {
+            final long currentTop = top.get();
+            final long currentBottom = bottom.get();
+
+            return (int) Math.max(0, currentBottom - currentTop);
+        }
+
+        /*
+         * Copies the values between the provided indices into an array twice as long, and publishes it.
+         */
+        private Object[] resizeArray(final Object[] currentArray, final long currentTop, final long currentBottom) {
+            if (MAXIMUM_CAPACITY == currentArray.length) {
+                throw new IllegalStateException("Expected at most " + MAXIMUM_CAPACITY + " values.");
+            }
+
+            final Object[] newArray = new Object[currentArray.length * 2];
+
+            for (long index = currentTop; index < currentBottom; index++) {
+                newArray[(int) index & (newArray.length - 1)] = currentArray[(int) index & (currentArray.length - 1)];
+            }
+
+            array = newArray;
+
+            return newArray;
+        }
+    }
+}
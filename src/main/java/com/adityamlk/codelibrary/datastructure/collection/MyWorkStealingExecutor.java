@@ -0,0 +1,402 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.concurrent.CancellationException;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Represents a small fork/join executor built on {@link MyWorkStealingDeques}. Every worker thread owns one deque:
+ * tasks forked by a worker are pushed to the bottom of its own deque and popped back in LIFO order, and a worker that
+ * runs out of tasks steals the oldest task of another worker. Tasks submitted from outside of the workers go through a
+ * shared {@link MyMpmcQueue}, which the workers check once their deques are empty.
+ * <p>
+ * A worker that joins a task that is not done yet does not block. It keeps running tasks, first its own and then
+ * stolen ones, until the joined task is done, so that a deep tree of fine-grained tasks never needs more threads than
+ * workers.
+ * <p>
+ * Idle workers back off with {@link WaitStrategy#PARK}, so they neither burn a core nor need to be woken up, at the
+ * cost of up to the park time of latency for the first task submitted to an idle executor.
+ * <p>
+ * Shutting down lets every running task finish, and cancels every task that has not started yet, so that nothing
+ * waits on a task that will never run. Joining a cancelled task throws a {@link CancellationException}.
+ * <p>
+ * Insertion is O(1) despite resizing due to amortized insertion. Forking pushes to the bottom of the worker's deque.
+ * Deletion is O(1). Workers pop from the bottom of their deque, or steal from the top of another.
+ */
+@Log4j2
+public class MyWorkStealingExecutor implements AutoCloseable {
+
+    private static final int SUBMISSION_QUEUE_CAPACITY = 1 << 10;
+
+    private final MyWorkStealingDeques<Task<?>> deques;
+
+    private final MyMpmcQueue<Task<?>> submissionQueue;
+
+    private final Worker[] workers;
+
+    private volatile boolean isShutdown;
+
+    /**
+     * Default constructor. Starts one worker per available processor.
+     */
+    public MyWorkStealingExecutor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor that starts the given number of worker threads.
+     *
+     * @param workerCount Number of worker threads.
+     */
+    public MyWorkStealingExecutor(@NonNull final Integer workerCount) {
+        if (1 > workerCount) {
+            throw new IllegalArgumentException("Expected worker count of at least 1.");
+        }
+
+        this.deques = new MyWorkStealingDeques<>(workerCount);
+        this.submissionQueue = new MyMpmcQueue<>(SUBMISSION_QUEUE_CAPACITY, WaitStrategy.PARK);
+        this.workers = new Worker[workerCount];
+        this.isShutdown = false;
+
+        for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+            workers[workerIndex] = new Worker(this, workerIndex);
+            workers[workerIndex].start();
+        }
+    }
+
+    /**
+     * Runs the given task on the workers and waits for its result. From a worker thread, runs the task right away
+     * instead.
+     *
+     * @param task Task to run.
+     * @param <V> Generic data type of the result of the task.
+     * @return Result of the task.
+     * @throws InterruptedException If the thread is interrupted while waiting for room in the submission queue or for
+     *     the task to finish.
+     */
+    public <V> V invoke(@NonNull final Task<V> task) throws InterruptedException {
+        if (Thread.currentThread() instanceof Worker && this == ((Worker) Thread.currentThread()).executor) {
+            task.run();
+
+            return task.join();
+        }
+
+        submit(task);
+
+        int idleCount = 0;
+
+        while (!task.isDone()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            // Every submitted task is run or cancelled by the time the workers exit, so this only catches a task that
+            // was somehow left behind.
+            if (isShutdown && isTerminated()) {
+                task.cancel();
+            }
+
+            WaitStrategy.PARK.idle(idleCount);
+
+            if (Integer.MAX_VALUE != idleCount) {
+                idleCount += 1;
+            }
+        }
+
+        return task.join();
+    }
+
+    /**
+     * Submits the given task to the workers without waiting for it. From a worker thread, forks the task instead.
+     *
+     * @param task Task to run.
+     * @throws InterruptedException If the thread is interrupted while waiting for room in the submission queue.
+     */
+    public void submit(@NonNull final Task<?> task) throws InterruptedException {
+        checkRunning();
+
+        if (Thread.currentThread() instanceof Worker && this == ((Worker) Thread.currentThread()).executor) {
+            task.fork();
+
+            return;
+        }
+
+        int idleCount = 0;
+
+        while (!submissionQueue.offer(task)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            checkRunning();
+            WaitStrategy.PARK.idle(idleCount);
+
+            if (Integer.MAX_VALUE != idleCount) {
+                idleCount += 1;
+            }
+        }
+
+        // The workers may have drained the submission queue for the last time before the task was offered, in which
+        // case nobody else cancels it.
+        if (isShutdown) {
+            cancelSubmissions();
+        }
+    }
+
+    /**
+     * Stops the workers once they finish their running tasks. Tasks that have not been started by then are cancelled.
+     */
+    public void shutdown() {
+        isShutdown = true;
+    }
+
+    /**
+     * Stops the workers and waits for them to finish. If the thread is interrupted while waiting, stops waiting and
+     * keeps the thread interrupted.
+     */
+    @Override
+    public void close() {
+        shutdown();
+
+        try {
+            for (final Worker worker : workers) {
+                worker.join();
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return Number of worker threads.
+     */
+    public int getWorkerCount() {
+        return workers.length;
+    }
+
+    /**
+     * @return True if the executor has been shut down and every worker has exited.
+     */
+    public boolean isTerminated() {
+        if (!isShutdown) {
+            return false;
+        }
+
+        for (final Worker worker : workers) {
+            if (worker.isAlive()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /*
+     * Throws if the executor has been shut down.
+     */
+    private void checkRunning() {
+        if (isShutdown) {
+            throw new IllegalStateException("Expected executor to be running.");
+        }
+    }
+
+    /*
+     * Cancels every task left in the submission queue.
+     */
+    private void cancelSubmissions() {
+        Task<?> task = submissionQueue.poll();
+
+        while (null != task) {
+            task.cancel();
+            task = submissionQueue.poll();
+        }
+    }
+
+    /*
+     * Returns the next task for the provided worker: its own most recent task, else the oldest task of another worker,
+     * else a submitted task. Returns null if there are none.
+     */
+    private Task<?> findTask(final int workerIndex) {
+        Task<?> task = deques.pop(workerIndex);
+
+        if (null == task) {
+            task = deques.stealFromAny(workerIndex);
+        }
+
+        if (null == task) {
+            task = submissionQueue.poll();
+        }
+
+        return task;
+    }
+
+    /**
+     * Unit of work that can be forked to run on another worker and joined for its result, like a RecursiveTask of a
+     * ForkJoinPool.
+     *
+     * @param <V> Generic data type of the result of the task.
+     */
+    public abstract static class Task<V> {
+
+        private volatile boolean isDone;
+
+        private V result;
+
+        /*
+         * Anything thrown by compute, including errors, so that a failed task is still done and its joiners do not
+         * wait forever.
+         */
+        private Throwable exception;
+
+        /**
+         * Computes the result of the task. May fork and join other tasks.
+         *
+         * @return Result of the task.
+         */
+        protected abstract V compute();
+
+        /**
+         * Pushes the task to the deque of the current worker, where it is either popped back by the worker or stolen
+         * by another one. Must be called from a worker thread.
+         *
+         * @return This task.
+         */
+        public final Task<V> fork() {
+            final Worker worker = getCurrentWorker();
+
+            worker.executor.deques.push(worker.workerIndex, this);
+
+            return this;
+        }
+
+        /**
+         * Returns the result of the task. From a worker thread, runs other tasks until this one is done. From any
+         * other thread, the task must be done already.
+         *
+         * @return Result of the task.
+         */
+        public final V join() {
+            if (!isDone) {
+                final Worker worker = getCurrentWorker();
+                int idleCount = 0;
+
+                while (!isDone) {
+                    final Task<?> task = worker.executor.findTask(worker.workerIndex);
+
+                    if (null == task) {
+                        // The task was stolen and is still running on another worker.
+                        WaitStrategy.YIELD.idle(idleCount);
+
+                        if (Integer.MAX_VALUE != idleCount) {
+                            idleCount += 1;
+                        }
+                    } else {
+                        task.run();
+                        idleCount = 0;
+                    }
+                }
+            }
+
+            if (exception instanceof RuntimeException) {
+                throw (RuntimeException) exception;
+            }
+
+            if (exception instanceof Error) {
+                throw (Error) exception;
+            }
+
+            if (null != exception) {
+                throw new IllegalStateException("Task failed.", exception);
+            }
+
+            return result;
+        }
+
+        /**
+         * @return True if the task has finished, either with a result or an exception, or has been cancelled.
+         */
+        public final boolean isDone() {
+            return isDone;
+        }
+
+        /*
+         * Computes the result, and records it or the exception before marking the task as done.
+         */
+        private void run() {
+            try {
+                result = compute();
+            } catch (final Throwable computeException) {
+                exception = computeException;
+            } finally {
+                isDone = true;
+            }
+        }
+
+        /*
+         * Marks a task that will never run as done, so that joining it throws instead of waiting. Must only be called
+         * by the thread that removed the task from its deque or queue, or once every worker has exited.
+         */
+        private void cancel() {
+            if (!isDone) {
+                exception = new CancellationException("Executor was shut down before the task started.");
+                isDone = true;
+            }
+        }
+
+        private static Worker getCurrentWorker() {
+            if (!(Thread.currentThread() instanceof Worker)) {
+                throw new IllegalStateException("Expected to be called from a worker thread.");
+            }
+
+            return (Worker) Thread.currentThread();
+        }
+    }
+
+    /*
+     * Worker thread that owns the deque at its index.
+     */
+    private static final class Worker extends Thread {
+
+        private final MyWorkStealingExecutor executor;
+
+        private final int workerIndex;
+
+        private Worker(final MyWorkStealingExecutor executor, final int workerIndex) {
+            super("my-work-stealing-worker-" + workerIndex);
+            setDaemon(true);
+
+            this.executor = executor;
+            this.workerIndex = workerIndex;
+        }
+
+        @Override
+        public void run() {
+            int idleCount = 0;
+
+            while (!executor.isShutdown) {
+                final Task<?> task = executor.findTask(workerIndex);
+
+                if (null == task) {
+                    WaitStrategy.PARK.idle(idleCount);
+
+                    if (Integer.MAX_VALUE != idleCount) {
+                        idleCount += 1;
+                    }
+                } else {
+                    task.run();
+                    idleCount = 0;
+                }
+            }
+
+            // Cancel the tasks that will never run, including ones forked but never joined.
+            Task<?> task = executor.deques.pop(workerIndex);
+
+            while (null != task) {
+                task.cancel();
+                task = executor.deques.pop(workerIndex);
+            }
+
+            executor.cancelSubmissions();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Counter that sits on a cache line of its own, so that threads writing to it do not slow down threads that read or
+ * write fields next to it, which is known as false sharing. The JVM may reorder the fields of a class but keeps the
+ * fields of a superclass before the fields of its subclasses, so the padding is declared in the classes above and below
+ * the one with the value.
+ * <p>
+ * Alongside the value, holds a plain cache that belongs to the same thread as the value, for remembering the last value
+ * read from another sequence. Reading the cache instead of the other sequence keeps that sequence's cache line from
+ * bouncing between cores on every operation.
+ */
+final class PaddedSequence extends PaddedSequenceRightPadding {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(PaddedSequenceValue.class, "value", long.class);
+        } catch (final ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    PaddedSequence(final long initialValue) {
+        this.value = initialValue;
+        this.cache = initialValue;
+    }
+
+    /*
+     * Reads the value with a full memory barrier.
+     */
+    long get() {
+        return value;
+    }
+
+    /*
+     * Reads the value. Every write that happened before the matching release is visible afterwards.
+     */
+    long getAcquire() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    /*
+     * Reads the value without any ordering, which is only safe for the thread that writes it.
+     */
+    long getPlain() {
+        return (long) VALUE.get(this);
+    }
+
+    /*
+     * Writes the value. Every write before it is visible to a thread that reads the new value with acquire.
+     */
+    void setRelease(final long newValue) {
+        VALUE.setRelease(this, newValue);
+    }
+
+    /*
+     * Writes the new value if the value is still the expected one.
+     */
+    boolean compareAndSet(final long expectedValue, final long newValue) {
+        return VALUE.compareAndSet(this, expectedValue, newValue);
+    }
+
+    /*
+     * Reads the cache, which is only safe for the thread that owns the sequence.
+     */
+    long getCache() {
+        return cache;
+    }
+
+    /*
+     * Writes the cache, which is only safe for the thread that owns the sequence.
+     */
+    void setCache(final long newCache) {
+        cache = newCache;
+    }
+}
+
+/*
+ * Fills the cache line before the value.
+ */
+abstract class PaddedSequenceLeftPadding {
+
+    long p01;
+    long p02;
+    long p03;
+    long p04;
+    long p05;
+    long p06;
+    long p07;
+}
+
+/*
+ * Holds the value and the cache between the two paddings.
+ */
+abstract class PaddedSequenceValue extends PaddedSequenceLeftPadding {
+
+    volatile long value;
+
+    long cache;
+}
+
+/*
+ * Fills the cache line after the value.
+ */
+abstract class PaddedSequenceRightPadding extends PaddedSequenceValue {
+
+    long p11;
+    long p12;
+    long p13;
+    long p14;
+    long p15;
+    long p16;
+    long p17;
+}
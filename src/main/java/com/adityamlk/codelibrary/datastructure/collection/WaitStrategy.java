@@ -0,0 +1,49 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ways for a thread to wait on a lock-free queue that is full or empty, trading latency for CPU time. Each strategy is
+ * called once per failed attempt with the number of attempts that failed in a row, so it can back off gradually.
+ * <p>
+ * SPIN busy-waits with a spin hint. Lowest latency, but burns a core for as long as it waits, so it only suits threads
+ * that have a core to themselves.
+ * YIELD spins briefly, then gives up the rest of its time slice to other threads on every attempt.
+ * PARK spins and yields briefly, then sleeps for a short time on every attempt. Uses the least CPU and has the
+ * highest latency. Nothing needs to wake it up, since it sleeps for a bounded time.
+ */
+public enum WaitStrategy {
+    SPIN,
+    YIELD,
+    PARK;
+
+    /*
+     * Number of failed attempts that spin before yielding or parking.
+     */
+    private static final int SPIN_ATTEMPTS = 100;
+
+    /*
+     * Number of failed attempts that yield before parking.
+     */
+    private static final int YIELD_ATTEMPTS = 200;
+
+    /*
+     * Time to sleep for on every attempt once parking.
+     */
+    private static final long PARK_NANOS = 50_000L;
+
+    /**
+     * Waits before the next attempt.
+     *
+     * @param idleCount Number of attempts that failed in a row, starting at 0.
+     */
+    public void idle(final int idleCount) {
+        if (SPIN == this || SPIN_ATTEMPTS > idleCount) {
+            Thread.onSpinWait();
+        } else if (YIELD == this || YIELD_ATTEMPTS > idleCount) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+}
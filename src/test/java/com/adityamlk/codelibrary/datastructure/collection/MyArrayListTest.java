@@ -1,12 +1,17 @@
 package com.adityamlk.codelibrary.datastructure.collection;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Log4j2
 public class MyArrayListTest {
@@ -171,6 +176,192 @@ public class MyArrayListTest {
         assertThat("Result does not match.", myArrayList.contains(444444), is(defaultArrayList.contains(444444)));
     }
 
+    @Test
+    public void indexedRandomOperationsTest() {
+        myArrayList = new MyArrayList<>(0, 2, true);
+        defaultArrayList = new ArrayList<>();
+
+        final Random random = new Random(1994);
+
+        // Few distinct values, so most values occur several times and removals hit every occurrence in turn.
+        for (int i = 0; i < 100000; i++) {
+            final Integer value = random.nextInt(500);
+
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertThat(
+                            "Value does not match.",
+                            myArrayList.remove(value),
+                            is(defaultArrayList.remove(value) ? value : null));
+                    break;
+                case 1:
+                    assertThat(
+                            "Index does not match.", myArrayList.indexOf(value), is(defaultArrayList.indexOf(value)));
+                    assertThat(
+                            "Result does not match.",
+                            myArrayList.contains(value),
+                            is(defaultArrayList.contains(value)));
+                    break;
+                default:
+                    myArrayList.insert(value);
+                    defaultArrayList.add(value);
+                    break;
+            }
+        }
+
+        assertThat("Size is incorrect.", myArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myArrayList.toString(), is(defaultArrayList.toString()));
+
+        for (int value = 0; value < 500; value++) {
+            assertThat("Index does not match.", myArrayList.indexOf(value), is(defaultArrayList.indexOf(value)));
+        }
+    }
+
+    @Test
+    public void indexedContainsMillionValuesTest() {
+        myArrayList = new MyArrayList<>(0, 2, true);
+        defaultArrayList = new ArrayList<>();
+
+        insertValues(1000000, true);
+
+        final long containsMyStartTime = System.nanoTime();
+
+        for (int i = 0; i < 10000; i++) {
+            assertThat("Result does not match.", myArrayList.contains(i * 200), is(i < 5000));
+        }
+
+        final long containsMyStopTime = System.nanoTime();
+
+        final long containsDefaultStartTime = System.nanoTime();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat("Result does not match.", defaultArrayList.contains(i * 20000), is(i < 50));
+        }
+
+        final long containsDefaultStopTime = System.nanoTime();
+
+        log.info(
+                "Time to check for a value in my indexed array list: {} vs default array list: {}.",
+                (containsMyStopTime - containsMyStartTime) / 10000.0,
+                (containsDefaultStopTime - containsDefaultStartTime) / 100.0);
+
+        removeValues(1000, true);
+
+        assertThat("Index does not match.", myArrayList.indexOf(1994), is(defaultArrayList.indexOf(1994)));
+        assertThat("Index does not match.", myArrayList.indexOf(999999), is(defaultArrayList.indexOf(999999)));
+        assertThat("Size is incorrect.", myArrayList.getSize(), is(defaultArrayList.size()));
+    }
+
+    @Test
+    public void indexMemoryTest() {
+        final MyArrayList<Integer> myIndexedArrayList = new MyArrayList<>(0, 2, true);
+        myArrayList = new MyArrayList<>();
+
+        for (int i = 0; i < 100000; i++) {
+            myIndexedArrayList.insert(i % 50000);
+            myArrayList.insert(i % 50000);
+        }
+
+        log.info("Memory used by the index of {} values: {} bytes.", 100000, myIndexedArrayList.getIndexMemoryBytes());
+
+        assertThat("Result does not match.", myIndexedArrayList.isIndexEnabled(), is(true));
+        assertThat("Result does not match.", myArrayList.isIndexEnabled(), is(false));
+        assertThat("Size is incorrect.", myArrayList.getIndexMemoryBytes(), is(0L));
+        assertThat("Size is incorrect.", myIndexedArrayList.getIndexMemoryBytes(), greaterThan(8L * 100000));
+        assertThat("List is incorrect.", myIndexedArrayList, is(myArrayList));
+    }
+
+    @Test
+    public void removeIfMillionValuesTest() {
+        myArrayList = new MyArrayList<>();
+        defaultArrayList = new ArrayList<>();
+
+        insertValues(1000000, false);
+
+        final long removeMyStartTime = System.nanoTime();
+        final int myRemovedCount = myArrayList.removeIf(value -> 0 == value % 3);
+        final long removeMyStopTime = System.nanoTime();
+
+        final long removeDefaultStartTime = System.nanoTime();
+        defaultArrayList.removeIf(value -> 0 == value % 3);
+        final long removeDefaultStopTime = System.nanoTime();
+
+        log.info(
+                "Time to remove a third of {} values from my array list: {} vs default array list: {}.",
+                1000000,
+                (removeMyStopTime - removeMyStartTime) / 1000000.0,
+                (removeDefaultStopTime - removeDefaultStartTime) / 1000000.0);
+
+        assertThat("Result does not match.", myRemovedCount, is(333334));
+        assertThat("Size is incorrect.", myArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myArrayList.toString(), is(defaultArrayList.toString()));
+
+        assertThat("Result does not match.", myArrayList.removeIf(value -> 0 == value % 5, true), is(133333));
+        defaultArrayList.removeIf(value -> 0 == value % 5);
+
+        assertThat("Size is incorrect.", myArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myArrayList.toString(), is(defaultArrayList.toString()));
+        assertThat("Result does not match.", myArrayList.removeIf(value -> 0 > value, true), is(0));
+
+        // A filter that throws leaves the list unchanged.
+        assertThrows(IllegalStateException.class, () -> myArrayList.removeIf(value -> {
+            if (999998 == value) {
+                throw new IllegalStateException();
+            }
+
+            return true;
+        }));
+        assertThat("Size is incorrect.", myArrayList.getSize(), is(defaultArrayList.size()));
+    }
+
+    @Test
+    public void removeAllAndRetainAllTest() {
+        myArrayList = new MyArrayList<>(0, 2, true);
+        defaultArrayList = new ArrayList<>();
+
+        final Random random = new Random(1994);
+
+        for (int i = 0; i < 100000; i++) {
+            final Integer value = random.nextInt(1000);
+            myArrayList.insert(value);
+            defaultArrayList.add(value);
+        }
+
+        final Set<Integer> valuesToRemove = new HashSet<>();
+        final Set<Integer> valuesToRetain = new HashSet<>();
+
+        for (int i = 0; i < 1000; i++) {
+            if (0 == random.nextInt(4)) {
+                valuesToRemove.add(i);
+            } else if (0 != random.nextInt(3)) {
+                valuesToRetain.add(i);
+            }
+        }
+
+        assertThat(
+                "Result does not match.",
+                0 < myArrayList.removeAll(valuesToRemove),
+                is(defaultArrayList.removeAll(valuesToRemove)));
+        assertThat("List is incorrect.", myArrayList.toString(), is(defaultArrayList.toString()));
+
+        assertThat(
+                "Result does not match.",
+                0 < myArrayList.retainAll(valuesToRetain),
+                is(defaultArrayList.retainAll(valuesToRetain)));
+        assertThat("Size is incorrect.", myArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myArrayList.toString(), is(defaultArrayList.toString()));
+
+        // The index is rebuilt after the bulk removals.
+        for (int value = 0; value < 1000; value++) {
+            assertThat("Index does not match.", myArrayList.indexOf(value), is(defaultArrayList.indexOf(value)));
+            assertThat("Result does not match.", myArrayList.contains(value), is(defaultArrayList.contains(value)));
+        }
+
+        assertThat(
+                "Value does not match.", myArrayList.remove(defaultArrayList.get(0)), is(defaultArrayList.remove(0)));
+        assertThat("List is incorrect.", myArrayList.toString(), is(defaultArrayList.toString()));
+    }
+
     private void insertValues(final int valueCount, final boolean shouldLog) {
         final long insertMyStartTime = System.nanoTime();
 
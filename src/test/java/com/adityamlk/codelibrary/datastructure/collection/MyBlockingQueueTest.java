@@ -0,0 +1,302 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Log4j2
+public class MyBlockingQueueTest {
+
+    private static final int THREAD_COUNT = 8;
+
+    private static final int VALUES_PER_PRODUCER = 50000;
+
+    private MyBlockingQueue<Integer> myBlockingQueue;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void offerAndPollTest() throws Exception {
+        myBlockingQueue = new MyBlockingQueue<>(100);
+
+        final Queue<Integer> defaultQueue = new ArrayDeque<>();
+
+        assertThat("Size is incorrect.", myBlockingQueue.getCapacity(), is(100));
+        assertThat("Result does not match.", myBlockingQueue.poll(), is((Integer) null));
+        assertThat("Result does not match.", myBlockingQueue.poll(10, TimeUnit.MILLISECONDS), is((Integer) null));
+
+        // Offering until full and polling half every round moves the head around the array several times.
+        for (int round = 0; round < 10; round++) {
+            int value = round * 1000;
+
+            while (myBlockingQueue.offer(value)) {
+                defaultQueue.offer(value);
+                value += 1;
+            }
+
+            assertThat("Size is incorrect.", myBlockingQueue.getSize(), is(100));
+            assertThat(
+                    "Result does not match.",
+                    myBlockingQueue.offer(-1, 10, TimeUnit.MILLISECONDS),
+                    is(false));
+
+            for (int i = 0; i < 50; i++) {
+                assertThat("Result does not match.", myBlockingQueue.poll(), is(defaultQueue.poll()));
+            }
+
+            assertThat("Size is incorrect.", myBlockingQueue.getSize(), is(defaultQueue.size()));
+        }
+
+        assertThat("Queue is incorrect.", myBlockingQueue.toString(), is(defaultQueue.toString()));
+        assertThat("Result does not match.", myBlockingQueue.offer(-1, 0, TimeUnit.SECONDS), is(true));
+        defaultQueue.offer(-1);
+        assertThat("Result does not match.", myBlockingQueue.take(), is(defaultQueue.poll()));
+
+        final List<Integer> myDrainedValues = new ArrayList<>();
+
+        assertThat("Size is incorrect.", myBlockingQueue.drainTo(myDrainedValues::add, 20), is(20));
+        assertThat(
+                "Size is incorrect.",
+                myBlockingQueue.drainTo(myDrainedValues::add, 1000, 1, TimeUnit.SECONDS),
+                is(30));
+        assertThat("Queue is incorrect.", myDrainedValues, is(new ArrayList<>(defaultQueue)));
+        assertThat("Size is incorrect.", myBlockingQueue.getSize(), is(0));
+        assertThat("Size is incorrect.", myBlockingQueue.getPeakSize(), is(100));
+        assertThat(
+                "Size is incorrect.",
+                myBlockingQueue.drainTo(value -> { }, 1000, 10, TimeUnit.MILLISECONDS),
+                is(0));
+
+        // Every timed call that found the queue full or empty waited, including the ones that timed out.
+        assertThat("Result does not match.", myBlockingQueue.getPutWaitCount(), is(10L));
+        assertThat("Result does not match.", myBlockingQueue.getTakeWaitCount(), is(2L));
+        assertThat("Result does not match.", myBlockingQueue.getPutWaitNanos(), greaterThan(0L));
+        assertThat("Result does not match.", myBlockingQueue.getTakeWaitNanos(), greaterThan(0L));
+
+        assertThrows(NullPointerException.class, () -> myBlockingQueue.offer(null));
+        assertThrows(NullPointerException.class, () -> myBlockingQueue.put(null));
+        assertThrows(IllegalArgumentException.class, () -> myBlockingQueue.drainTo(value -> { }, -1));
+        assertThrows(IllegalArgumentException.class, () -> new MyBlockingQueue<Integer>(0));
+    }
+
+    @Test
+    public void zeroTimeoutDoesNotWaitTest() throws Exception {
+        myBlockingQueue = new MyBlockingQueue<>(1);
+
+        assertThat("Result does not match.", myBlockingQueue.poll(0, TimeUnit.SECONDS), is((Integer) null));
+        assertThat("Size is incorrect.", myBlockingQueue.drainTo(value -> { }, 1, 0, TimeUnit.SECONDS), is(0));
+        assertThat("Result does not match.", myBlockingQueue.offer(1, 0, TimeUnit.SECONDS), is(true));
+        assertThat("Result does not match.", myBlockingQueue.offer(2, 0, TimeUnit.SECONDS), is(false));
+        assertThat("Result does not match.", myBlockingQueue.offer(2, -1, TimeUnit.SECONDS), is(false));
+
+        // None of the calls could succeed without waiting, and none of them were allowed to wait.
+        assertThat("Result does not match.", myBlockingQueue.getPutWaitCount(), is(0L));
+        assertThat("Result does not match.", myBlockingQueue.getTakeWaitCount(), is(0L));
+        assertThat("Result does not match.", myBlockingQueue.getPutWaitNanos(), is(0L));
+        assertThat("Result does not match.", myBlockingQueue.getTakeWaitNanos(), is(0L));
+    }
+
+    @Test
+    public void takeIsInterruptibleTest() throws Exception {
+        myBlockingQueue = new MyBlockingQueue<>(4);
+
+        final Thread currentThread = Thread.currentThread();
+        final Thread interruptingThread = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (final InterruptedException exception) {
+                return;
+            }
+
+            currentThread.interrupt();
+        });
+
+        interruptingThread.start();
+
+        assertThrows(InterruptedException.class, () -> myBlockingQueue.take());
+
+        interruptingThread.join();
+
+        assertThat("Result does not match.", myBlockingQueue.getTakeWaitCount(), is(1L));
+    }
+
+    @Test
+    public void putAndTakeTest() throws Exception {
+        final int producerCount = THREAD_COUNT / 2;
+        final int consumerCount = THREAD_COUNT / 2;
+        final long valueCount = (long) producerCount * VALUES_PER_PRODUCER;
+
+        myBlockingQueue = new MyBlockingQueue<>(64);
+
+        final BlockingQueue<Integer> defaultBlockingQueue = new ArrayBlockingQueue<>(64);
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        try {
+            final long myTransferStartTime = System.nanoTime();
+            final long myValueSum = transferValues(
+                    executorService,
+                    producerCount,
+                    consumerCount,
+                    myBlockingQueue::put,
+                    () -> myBlockingQueue.take(),
+                    (consumer, maximumCount) -> myBlockingQueue.drainTo(consumer, maximumCount, 1, TimeUnit.SECONDS));
+            final long myTransferStopTime = System.nanoTime();
+
+            final long defaultTransferStartTime = System.nanoTime();
+            final long defaultValueSum = transferValues(
+                    executorService,
+                    producerCount,
+                    consumerCount,
+                    defaultBlockingQueue::put,
+                    defaultBlockingQueue::take,
+                    (consumer, maximumCount) -> {
+                        final List<Integer> drainedValues = new ArrayList<>();
+                        final Integer firstValue = defaultBlockingQueue.poll(1, TimeUnit.SECONDS);
+
+                        if (null != firstValue) {
+                            drainedValues.add(firstValue);
+                            defaultBlockingQueue.drainTo(drainedValues, maximumCount - 1);
+                        }
+
+                        drainedValues.forEach(consumer);
+
+                        return drainedValues.size();
+                    });
+            final long defaultTransferStopTime = System.nanoTime();
+
+            log.info(
+                    "Time to pass values through my blocking queue: {} vs default blocking queue: {}.",
+                    (myTransferStopTime - myTransferStartTime) / (double) valueCount,
+                    (defaultTransferStopTime - defaultTransferStartTime) / (double) valueCount);
+            log.info(
+                    "Puts that waited in my blocking queue: {} for {} ns, takes that waited: {} for {} ns.",
+                    myBlockingQueue.getPutWaitCount(),
+                    myBlockingQueue.getPutWaitNanos(),
+                    myBlockingQueue.getTakeWaitCount(),
+                    myBlockingQueue.getTakeWaitNanos());
+
+            assertThat("Result does not match.", myValueSum, is(valueCount * (valueCount - 1) / 2));
+            assertThat("Result does not match.", myValueSum, is(defaultValueSum));
+            assertThat("Size is incorrect.", myBlockingQueue.getSize(), is(0));
+            assertThat("Size is incorrect.", myBlockingQueue.getPeakSize(), is(64));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /*
+     * Puts the values of every producer into a queue, and takes them out with the consumers, half of which take one
+     * value at a time and half of which drain batches. Returns the sum of the taken values, after checking that the
+     * values of each producer reached each consumer in order.
+     */
+    private static long transferValues(
+            final ExecutorService executorService,
+            final int producerCount,
+            final int consumerCount,
+            final ValuePutter valuePutter,
+            final ValueTaker valueTaker,
+            final ValueDrainer valueDrainer) throws Exception {
+        final List<Future<Long>> futures = new ArrayList<>();
+        final int valuesPerConsumer = producerCount * VALUES_PER_PRODUCER / consumerCount;
+
+        for (int producerIndex = 0; producerIndex < producerCount; producerIndex++) {
+            final int firstValue = producerIndex * VALUES_PER_PRODUCER;
+
+            futures.add(executorService.submit(() -> {
+                for (int value = firstValue; value < firstValue + VALUES_PER_PRODUCER; value++) {
+                    valuePutter.put(value);
+                }
+
+                return 0L;
+            }));
+        }
+
+        for (int consumerIndex = 0; consumerIndex < consumerCount; consumerIndex++) {
+            final boolean isDraining = 0 == consumerIndex % 2;
+
+            futures.add(executorService.submit(() -> {
+                final int[] lastValues = new int[producerCount];
+                final long[] valueSum = {0};
+                int removedCount = 0;
+
+                final Consumer<Integer> valueChecker = value -> {
+                    final int producer = value / VALUES_PER_PRODUCER;
+
+                    if (value <= lastValues[producer]) {
+                        throw new IllegalStateException("Value " + value + " is out of order.");
+                    }
+
+                    lastValues[producer] = value;
+                    valueSum[0] += value;
+                };
+
+                Arrays.fill(lastValues, -1);
+
+                while (removedCount < valuesPerConsumer) {
+                    if (isDraining) {
+                        removedCount += valueDrainer.drain(
+                                valueChecker,
+                                Math.min(16, valuesPerConsumer - removedCount));
+                    } else {
+                        valueChecker.accept(valueTaker.take());
+                        removedCount += 1;
+                    }
+                }
+
+                return valueSum[0];
+            }));
+        }
+
+        long valueSum = 0;
+
+        for (final Future<Long> future : futures) {
+            valueSum += future.get();
+        }
+
+        return valueSum;
+    }
+
+    /*
+     * Puts a value into a queue, waiting for room.
+     */
+    private interface ValuePutter {
+
+        void put(Integer value) throws InterruptedException;
+    }
+
+    /*
+     * Takes a value out of a queue, waiting for one.
+     */
+    private interface ValueTaker {
+
+        Integer take() throws InterruptedException;
+    }
+
+    /*
+     * Drains up to the provided number of values out of a queue, waiting for at least one for a bounded time.
+     */
+    private interface ValueDrainer {
+
+        int drain(Consumer<Integer> consumer, int maximumCount) throws InterruptedException;
+    }
+}
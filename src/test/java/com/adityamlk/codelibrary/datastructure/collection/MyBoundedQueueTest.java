@@ -0,0 +1,239 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Log4j2
+public abstract class MyBoundedQueueTest {
+
+    static final int VALUES_PER_PRODUCER = 100000;
+
+    private MyBoundedQueue<Integer> myBoundedQueue;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    /*
+     * Creates the queue under test.
+     */
+    abstract MyBoundedQueue<Integer> createQueue(Integer capacity, WaitStrategy waitStrategy);
+
+    /*
+     * Largest number of threads the queue under test allows to offer at the same time.
+     */
+    abstract int getProducerCount();
+
+    /*
+     * Largest number of threads the queue under test allows to poll at the same time.
+     */
+    abstract int getConsumerCount();
+
+    /*
+     * Capacity that a queue created with a capacity of 1 ends up with.
+     */
+    int getMinimumCapacity() {
+        return 1;
+    }
+
+    @Test
+    public void offerAndPollTest() {
+        myBoundedQueue = createQueue(100, WaitStrategy.YIELD);
+
+        final Queue<Integer> defaultQueue = new ArrayDeque<>();
+
+        assertThat("Size is incorrect.", myBoundedQueue.getCapacity(), is(128));
+        assertThat("Result does not match.", myBoundedQueue.poll(), is((Integer) null));
+
+        // Offering until full and polling half every round moves the indices around the array several times.
+        for (int round = 0; round < 10; round++) {
+            int value = round * 1000;
+
+            while (myBoundedQueue.offer(value)) {
+                defaultQueue.offer(value);
+                value += 1;
+            }
+
+            assertThat("Size is incorrect.", myBoundedQueue.getSize(), is(128));
+
+            for (int i = 0; i < 64; i++) {
+                assertThat("Result does not match.", myBoundedQueue.poll(), is(defaultQueue.poll()));
+            }
+
+            assertThat("Size is incorrect.", myBoundedQueue.getSize(), is(defaultQueue.size()));
+        }
+
+        final List<Integer> batch = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            batch.add(-i);
+        }
+
+        // Only 64 of the 100 values fit.
+        assertThat("Size is incorrect.", myBoundedQueue.offerAll(batch), is(64));
+        defaultQueue.addAll(batch.subList(0, 64));
+
+        final List<Integer> myDrainedValues = new ArrayList<>();
+
+        assertThat("Size is incorrect.", myBoundedQueue.drainTo(myDrainedValues::add, 1000), is(128));
+        assertThat("Queue is incorrect.", myDrainedValues, is(new ArrayList<>(defaultQueue)));
+        assertThat("Size is incorrect.", myBoundedQueue.getSize(), is(0));
+        assertThat("Size is incorrect.", myBoundedQueue.drainTo(value -> { }, 1000), is(0));
+
+        final List<Integer> valuesWithNull = new ArrayList<>(List.of(1));
+        valuesWithNull.add(null);
+
+        assertThrows(NullPointerException.class, () -> myBoundedQueue.offer(null));
+        assertThrows(NullPointerException.class, () -> myBoundedQueue.offerAll(valuesWithNull));
+        assertThrows(IllegalArgumentException.class, () -> myBoundedQueue.drainTo(value -> { }, -1));
+        assertThrows(IllegalArgumentException.class, () -> createQueue(0, WaitStrategy.YIELD));
+        assertThat("Size is incorrect.", myBoundedQueue.getSize(), is(0));
+        assertThat("Size is incorrect.", createQueue(1, WaitStrategy.YIELD).getCapacity(), is(getMinimumCapacity()));
+    }
+
+    @Test
+    public void takeIsInterruptibleTest() throws Exception {
+        myBoundedQueue = createQueue(4, WaitStrategy.PARK);
+
+        final Thread currentThread = Thread.currentThread();
+        final Thread interruptingThread = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (final InterruptedException exception) {
+                return;
+            }
+
+            currentThread.interrupt();
+        });
+
+        interruptingThread.start();
+
+        assertThrows(InterruptedException.class, () -> myBoundedQueue.take());
+
+        interruptingThread.join();
+    }
+
+    @Test
+    public void concurrentProducersAndConsumersTest() throws Exception {
+        final int producerCount = getProducerCount();
+        final int consumerCount = getConsumerCount();
+
+        // Parking keeps threads that wait from starving the others when there are more threads than cores.
+        myBoundedQueue = createQueue(1024, 1 == consumerCount ? WaitStrategy.YIELD : WaitStrategy.PARK);
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(producerCount + consumerCount);
+        final List<Future<Void>> producerFutures = new ArrayList<>();
+        final List<Future<long[]>> consumerFutures = new ArrayList<>();
+
+        try {
+            final long transferStartTime = System.nanoTime();
+
+            // Each producer offers its values in order, alternating single values and batches.
+            for (int producerIndex = 0; producerIndex < producerCount; producerIndex++) {
+                final int firstValue = producerIndex * VALUES_PER_PRODUCER;
+
+                producerFutures.add(executorService.submit(() -> {
+                    final List<Integer> batch = new ArrayList<>();
+
+                    for (int value = firstValue; value < firstValue + VALUES_PER_PRODUCER; value++) {
+                        if (0 == value % 1000) {
+                            for (int batchValue = value; batchValue < value + 100; batchValue++) {
+                                batch.add(batchValue);
+                            }
+
+                            while (!batch.isEmpty()) {
+                                batch.subList(0, myBoundedQueue.offerAll(batch)).clear();
+                                Thread.yield();
+                            }
+
+                            value += 99;
+                        } else {
+                            myBoundedQueue.put(value);
+                        }
+                    }
+
+                    return null;
+                }));
+            }
+
+            // Each consumer takes its share of the values, and checks that the values of each producer arrive in
+            // order, which holds for every consumer since each value is only removed once.
+            for (int consumerIndex = 0; consumerIndex < consumerCount; consumerIndex++) {
+                final int valueCount = producerCount * VALUES_PER_PRODUCER / consumerCount;
+
+                consumerFutures.add(executorService.submit(() -> {
+                    final int[] lastValues = new int[producerCount];
+                    long valueSum = 0;
+                    long outOfOrderCount = 0;
+                    int removedCount = 0;
+
+                    Arrays.fill(lastValues, -1);
+
+                    while (removedCount < valueCount) {
+                        final Integer value = 0 == removedCount % 2 ? myBoundedQueue.take() : myBoundedQueue.poll();
+
+                        if (null == value) {
+                            continue;
+                        }
+
+                        final int producer = value / VALUES_PER_PRODUCER;
+
+                        if (value <= lastValues[producer]) {
+                            outOfOrderCount += 1;
+                        }
+
+                        lastValues[producer] = value;
+                        valueSum += value;
+                        removedCount += 1;
+                    }
+
+                    return new long[] {valueSum, outOfOrderCount};
+                }));
+            }
+
+            for (final Future<Void> future : producerFutures) {
+                future.get();
+            }
+
+            long valueSum = 0;
+            long outOfOrderCount = 0;
+
+            for (final Future<long[]> future : consumerFutures) {
+                final long[] result = future.get();
+                valueSum += result[0];
+                outOfOrderCount += result[1];
+            }
+
+            final long transferStopTime = System.nanoTime();
+            final long valueCount = (long) producerCount * VALUES_PER_PRODUCER;
+
+            log.info(
+                    "Time to pass {} values from {} producers to {} consumers through my queue: {}.",
+                    valueCount,
+                    producerCount,
+                    consumerCount,
+                    (transferStopTime - transferStartTime) / (double) valueCount);
+
+            assertThat("Result does not match.", valueSum, is(valueCount * (valueCount - 1) / 2));
+            assertThat("Result does not match.", outOfOrderCount, is(0L));
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat("Size is incorrect.", myBoundedQueue.getSize(), is(0));
+    }
+}
@@ -0,0 +1,304 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Log4j2
+public class MyCacheTest {
+
+    private static final int THREAD_COUNT = 8;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void lruRandomOperationsTest() {
+        final MyCache<Integer, Integer> myCache = MyCache.<Integer, Integer>builder()
+                .maximumEntries(50L)
+                .evictionPolicy(MyCache.EvictionPolicy.LRU)
+                .build();
+        final Map<Integer, Integer> defaultCache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, Integer> eldest) {
+                return size() > 50;
+            }
+        };
+        final Random random = new Random(1994);
+
+        for (int i = 0; i < 200000; i++) {
+            final int key = random.nextInt(200);
+
+            switch (random.nextInt(3)) {
+                case 0:
+                    myCache.put(key, i);
+                    defaultCache.put(key, i);
+                    break;
+                case 1:
+                    assertThat("Value does not match.", myCache.get(key), is(defaultCache.get(key)));
+                    break;
+                default:
+                    assertThat("Value does not match.", myCache.remove(key), is(defaultCache.remove(key)));
+                    break;
+            }
+        }
+
+        assertThat("Size is incorrect.", myCache.getSize(), is(defaultCache.size()));
+
+        for (int key = 0; key < 200; key++) {
+            assertThat("Result does not match.", myCache.contains(key), is(defaultCache.containsKey(key)));
+        }
+    }
+
+    @Test
+    public void lruEvictionOrderTest() {
+        final MyCache<Integer, String> myCache = MyCache.<Integer, String>builder()
+                .maximumEntries(3L)
+                .evictionPolicy(MyCache.EvictionPolicy.LRU)
+                .build();
+
+        myCache.put(1, "one");
+        myCache.put(2, "two");
+        myCache.put(3, "three");
+
+        assertThat("Value does not match.", myCache.get(1), is("one"));
+
+        myCache.put(4, "four");
+
+        assertThat("List is incorrect.", myCache.toString(), is("{4=four, 1=one, 3=three}"));
+        assertThat("Result does not match.", myCache.getHitCount(), is(1L));
+        assertThat("Result does not match.", myCache.getMissCount(), is(0L));
+        assertThat("Result does not match.", myCache.getEvictionCount(), is(1L));
+
+        assertThat("Value does not match.", myCache.get(2), is((String) null));
+        assertThat("Result does not match.", myCache.getMissCount(), is(1L));
+    }
+
+    @Test
+    public void maximumWeightTest() {
+        final MyCache<Integer, String> myCache = MyCache.<Integer, String>builder()
+                .maximumWeight(1000L, (key, value) -> value.length())
+                .build();
+        final Random random = new Random(1994);
+
+        for (int i = 0; i < 100000; i++) {
+            myCache.put(random.nextInt(1000), "x".repeat(random.nextInt(100)));
+
+            assertThat("Size is incorrect.", myCache.getWeight(), lessThanOrEqualTo(1000L));
+        }
+
+        // An entry heavier than the whole cache is evicted right away.
+        myCache.put(1000, "x".repeat(1001));
+
+        assertThat("Result does not match.", myCache.contains(1000), is(false));
+        assertThat("Size is incorrect.", myCache.getWeight(), lessThanOrEqualTo(1000L));
+    }
+
+    @Test
+    public void tinyLfuScanResistanceTest() {
+        final long lruHitCount = runHotSetWithScan(MyCache.EvictionPolicy.LRU);
+        final long tinyLfuHitCount = runHotSetWithScan(MyCache.EvictionPolicy.W_TINY_LFU);
+
+        log.info("Hits with a hot set and a scan for LRU: {} vs W-TinyLFU: {}.", lruHitCount, tinyLfuHitCount);
+
+        assertThat("Result does not match.", tinyLfuHitCount, greaterThan(lruHitCount));
+    }
+
+    @Test
+    public void tinyLfuRandomOperationsTest() {
+        final MyCache<Integer, Integer> myCache = MyCache.<Integer, Integer>builder()
+                .maximumEntries(100L)
+                .build();
+        final Random random = new Random(1994);
+
+        for (int i = 0; i < 200000; i++) {
+            final int key = random.nextInt(1000);
+
+            if (random.nextBoolean()) {
+                myCache.put(key, key);
+            } else {
+                final Integer value = myCache.get(key);
+
+                // Values are always equal to their key, so any cached value must match.
+                assertThat("Value does not match.", null == value || key == value, is(true));
+            }
+
+            assertThat("Size is incorrect.", myCache.getSize(), lessThanOrEqualTo(100));
+        }
+
+        assertThat("Size is incorrect.", myCache.getSize(), is(100));
+        assertThat("Size is incorrect.", myCache.getWeight(), is(100L));
+    }
+
+    @Test
+    public void loaderTest() {
+        final AtomicInteger loadCount = new AtomicInteger();
+        final MyCache<Integer, String> myCache = MyCache.<Integer, String>builder()
+                .maximumEntries(10L)
+                .loader(key -> {
+                    loadCount.incrementAndGet();
+
+                    if (13 == key) {
+                        throw new IllegalArgumentException("Unlucky key.");
+                    }
+
+                    return 0 == key ? null : String.valueOf(key);
+                })
+                .build();
+
+        assertThat("Value does not match.", myCache.get(42), is("42"));
+        assertThat("Value does not match.", myCache.get(42), is("42"));
+        assertThat("Value does not match.", myCache.getIfPresent(7), is((String) null));
+        assertThat("Value does not match.", myCache.get(0), is((String) null));
+        assertThat("Result does not match.", myCache.contains(0), is(false));
+        assertThrows(IllegalArgumentException.class, () -> myCache.get(13));
+
+        assertThat("Result does not match.", loadCount.get(), is(3));
+        assertThat("Result does not match.", myCache.getHitCount(), is(1L));
+        assertThat("Result does not match.", myCache.getMissCount(), is(4L));
+    }
+
+    @Test
+    public void concurrentMissesLoadOnceTest() throws Exception {
+        final AtomicInteger loadCount = new AtomicInteger();
+        final CountDownLatch releaseLoad = new CountDownLatch(1);
+        final MyCache<Integer, String> myCache = MyCache.<Integer, String>builder()
+                .maximumEntries(10L)
+                .loader(key -> {
+                    loadCount.incrementAndGet();
+
+                    try {
+                        releaseLoad.await(10, TimeUnit.SECONDS);
+                    } catch (final InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    return String.valueOf(key);
+                })
+                .build();
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        final List<Future<String>> futures = new ArrayList<>();
+
+        try {
+            for (int threadIndex = 0; threadIndex < THREAD_COUNT; threadIndex++) {
+                futures.add(executorService.submit(() -> myCache.get(1994)));
+            }
+
+            // Hold the load until every thread has missed, so they all have to share it.
+            while (myCache.getMissCount() < THREAD_COUNT) {
+                Thread.sleep(1);
+            }
+
+            releaseLoad.countDown();
+
+            for (final Future<String> future : futures) {
+                assertThat("Value does not match.", future.get(), is("1994"));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat("Result does not match.", loadCount.get(), is(1));
+        assertThat("Size is incorrect.", myCache.getSize(), is(1));
+    }
+
+    @Test
+    public void removeDuringLoadTest() throws Exception {
+        final AtomicInteger loadCount = new AtomicInteger();
+        final CountDownLatch startedLoad = new CountDownLatch(1);
+        final CountDownLatch releaseLoad = new CountDownLatch(1);
+        final MyCache<Integer, String> myCache = MyCache.<Integer, String>builder()
+                .maximumEntries(10L)
+                .loader(key -> {
+                    // Only the first load blocks, and returns the value that the remove below invalidates.
+                    if (1 == loadCount.incrementAndGet()) {
+                        startedLoad.countDown();
+
+                        try {
+                            releaseLoad.await(10, TimeUnit.SECONDS);
+                        } catch (final InterruptedException exception) {
+                            Thread.currentThread().interrupt();
+                        }
+
+                        return "stale";
+                    }
+
+                    return "fresh";
+                })
+                .build();
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            final Future<String> future = executorService.submit(() -> myCache.get(1994));
+
+            startedLoad.await();
+
+            assertThat("Value does not match.", myCache.remove(1994), is((String) null));
+
+            releaseLoad.countDown();
+
+            // The invalidated load still answers the get that started it, but its value is not cached.
+            assertThat("Value does not match.", future.get(), is("stale"));
+            assertThat("Result does not match.", myCache.contains(1994), is(false));
+            assertThat("Value does not match.", myCache.get(1994), is("fresh"));
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat("Result does not match.", loadCount.get(), is(2));
+        assertThat("Size is incorrect.", myCache.getSize(), is(1));
+    }
+
+    @Test
+    public void invalidConfigurationTest() {
+        assertThrows(IllegalStateException.class, () -> MyCache.<Integer, Integer>builder().build());
+        assertThrows(IllegalArgumentException.class, () -> MyCache.<Integer, Integer>builder().maximumEntries(0L));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> MyCache.<Integer, Integer>builder().maximumWeight(10L, (key, value) -> -1).build().put(1, 1));
+    }
+
+    /*
+     * Accesses a small hot set, interrupted by a single pass over many keys that are never used again, and returns the
+     * number of hits.
+     */
+    private long runHotSetWithScan(final MyCache.EvictionPolicy evictionPolicy) {
+        final MyCache<Integer, Integer> myCache = MyCache.<Integer, Integer>builder()
+                .maximumEntries(100L)
+                .evictionPolicy(evictionPolicy)
+                .build();
+        final Random random = new Random(1994);
+        int scanKey = 1000;
+
+        for (int i = 0; i < 100000; i++) {
+            final int key = 0 == i % 2 ? random.nextInt(80) : scanKey++;
+
+            if (null == myCache.get(key)) {
+                myCache.put(key, key);
+            }
+        }
+
+        return myCache.getHitCount();
+    }
+}
@@ -0,0 +1,174 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.ArrayList;
+import java.util.Random;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Log4j2
+public class MyChunkedArrayListTest {
+
+    private MyChunkedArrayList<Integer> myChunkedArrayList;
+
+    private ArrayList<Integer> defaultArrayList;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void constructorTest() {
+        myChunkedArrayList = new MyChunkedArrayList<>();
+        defaultArrayList = new ArrayList<>();
+
+        assertThat("Size is incorrect.", myChunkedArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myChunkedArrayList.toString(), is(defaultArrayList.toString()));
+        assertThat("Size is incorrect.", myChunkedArrayList.getCapacity(), is(0L));
+        assertThrows(IllegalArgumentException.class, () -> new MyChunkedArrayList<Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> new MyChunkedArrayList<Integer>(1000));
+    }
+
+    @Test
+    public void insertMillionValuesTest() {
+        myChunkedArrayList = new MyChunkedArrayList<>();
+        defaultArrayList = new ArrayList<>();
+
+        insertValues(1000000, true);
+
+        assertThat("Size is incorrect.", myChunkedArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myChunkedArrayList.toString(), is(defaultArrayList.toString()));
+        assertThat("Size is incorrect.", myChunkedArrayList.getCapacity(), is(16L * 65536));
+
+        for (int i = 0; i < 1000000; i += 997) {
+            assertThat("Value does not match.", myChunkedArrayList.get(i), is(defaultArrayList.get(i)));
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> myChunkedArrayList.get(1000000));
+        assertThrows(IndexOutOfBoundsException.class, () -> myChunkedArrayList.get(-1));
+    }
+
+    @Test
+    public void removeValuesAcrossChunksTest() {
+        // Small chunks, so every remove shifts values across many chunk boundaries.
+        myChunkedArrayList = new MyChunkedArrayList<>(16);
+        defaultArrayList = new ArrayList<>();
+
+        insertValues(10000, false);
+
+        final Random random = new Random(1994);
+
+        for (int i = 0; i < 5000; i++) {
+            final Integer valueToRemove = random.nextInt(10000);
+
+            assertThat(
+                    "Value does not match.",
+                    myChunkedArrayList.remove(valueToRemove),
+                    is(defaultArrayList.remove(valueToRemove) ? valueToRemove : null));
+        }
+
+        assertThat("Size is incorrect.", myChunkedArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myChunkedArrayList.toString(), is(defaultArrayList.toString()));
+
+        for (int i = 0; i < 10000; i += 7) {
+            assertThat("Index does not match.", myChunkedArrayList.indexOf(i), is(defaultArrayList.indexOf(i)));
+            assertThat("Result does not match.", myChunkedArrayList.contains(i), is(defaultArrayList.contains(i)));
+        }
+
+        removeValues(10000, true);
+
+        assertThat("Size is incorrect.", myChunkedArrayList.getSize(), is(0));
+        assertThat("List is incorrect.", myChunkedArrayList.toString(), is("[]"));
+    }
+
+    @Test
+    public void trimToSizeTest() {
+        myChunkedArrayList = new MyChunkedArrayList<>(1024);
+        defaultArrayList = new ArrayList<>();
+
+        insertValues(10000, false);
+
+        assertThat("Size is incorrect.", myChunkedArrayList.getCapacity(), is(10L * 1024));
+
+        removeValues(7000, false);
+
+        // Removing does not release chunks by itself.
+        assertThat("Size is incorrect.", myChunkedArrayList.getCapacity(), is(10L * 1024));
+
+        myChunkedArrayList.trimToSize();
+
+        assertThat("Size is incorrect.", myChunkedArrayList.getCapacity(), is(3L * 1024));
+        assertThat("List is incorrect.", myChunkedArrayList.toString(), is(defaultArrayList.toString()));
+
+        insertValues(2000, false);
+
+        assertThat("Size is incorrect.", myChunkedArrayList.getCapacity(), is(5L * 1024));
+        assertThat("List is incorrect.", myChunkedArrayList.toString(), is(defaultArrayList.toString()));
+
+        removeValues(10000, false);
+        myChunkedArrayList.trimToSize();
+
+        assertThat("Size is incorrect.", myChunkedArrayList.getCapacity(), is(0L));
+
+        insertValues(1, false);
+
+        assertThat("List is incorrect.", myChunkedArrayList.toString(), is(defaultArrayList.toString()));
+    }
+
+    private void insertValues(final int valueCount, final boolean shouldLog) {
+        final long insertMyStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            myChunkedArrayList.insert(i);
+        }
+
+        final long insertMyStopTime = System.nanoTime();
+
+        final long insertDefaultStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            defaultArrayList.add(i);
+        }
+
+        final long insertDefaultStopTime = System.nanoTime();
+
+        if (shouldLog) {
+            log.info(
+                    "Time to insert {} values into my chunked array list: {} vs default array list: {}.",
+                    valueCount,
+                    (insertMyStopTime - insertMyStartTime) / (double) valueCount,
+                    (insertDefaultStopTime - insertDefaultStartTime) / (double) valueCount);
+        }
+    }
+
+    private void removeValues(final int valueCount, final boolean shouldLog) {
+        final long removeMyStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            myChunkedArrayList.remove(i);
+        }
+
+        final long removeMyStopTime = System.nanoTime();
+
+        final long removeDefaultStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            defaultArrayList.remove((Integer) i);
+        }
+
+        final long removeDefaultStopTime = System.nanoTime();
+
+        if (shouldLog) {
+            log.info(
+                    "Time to remove {} values from my chunked array list: {} vs default array list: {}.",
+                    valueCount,
+                    (removeMyStopTime - removeMyStartTime) / (double) valueCount,
+                    (removeDefaultStopTime - removeDefaultStartTime) / (double) valueCount);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Log4j2
+public class MyConcurrentArrayListTest {
+
+    private static final int THREAD_COUNT = 8;
+
+    private MyConcurrentArrayList<Integer> myArrayList;
+
+    private ArrayList<Integer> defaultArrayList;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void randomOperationsTest() {
+        myArrayList = new MyConcurrentArrayList<>(0);
+        defaultArrayList = new ArrayList<>();
+
+        final Random random = new Random(1994);
+
+        for (int i = 0; i < 20000; i++) {
+            final Integer value = random.nextInt(1000);
+
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertThat(
+                            "Value does not match.",
+                            myArrayList.remove(value),
+                            is(defaultArrayList.remove(value) ? value : null));
+                    break;
+                case 1:
+                    assertThat(
+                            "Index does not match.",
+                            myArrayList.indexOf(value),
+                            is(defaultArrayList.indexOf(value)));
+                    assertThat(
+                            "Result does not match.",
+                            myArrayList.contains(value),
+                            is(defaultArrayList.contains(value)));
+                    break;
+                default:
+                    myArrayList.insert(value);
+                    defaultArrayList.add(value);
+                    break;
+            }
+        }
+
+        assertThat("Size is incorrect.", myArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myArrayList.toString(), is(defaultArrayList.toString()));
+        assertThat("Value does not match.", myArrayList.get(0), is(defaultArrayList.get(0)));
+        assertThrows(IndexOutOfBoundsException.class, () -> myArrayList.get(defaultArrayList.size()));
+        assertThrows(IllegalArgumentException.class, () -> new MyConcurrentArrayList<Integer>(-1));
+    }
+
+    @Test
+    public void snapshotIsImmutableTest() {
+        myArrayList = new MyConcurrentArrayList<>(4);
+        myArrayList.insertAll(List.of(1, 2, 3));
+
+        final MyConcurrentArrayList.Snapshot<Integer> snapshot = myArrayList.snapshot();
+
+        // The append reuses the array of the snapshot, and the removal replaces it.
+        myArrayList.insert(4);
+        myArrayList.remove(1);
+        myArrayList.insertAll(List.of(5, 6, 7));
+
+        assertThat("List is incorrect.", snapshot.toString(), is("[1, 2, 3]"));
+        assertThat("Size is incorrect.", snapshot.getSize(), is(3));
+        assertThat("List is incorrect.", myArrayList.toString(), is("[2, 3, 4, 5, 6, 7]"));
+
+        final List<Integer> iteratedValues = new ArrayList<>();
+
+        for (final Integer value : snapshot) {
+            iteratedValues.add(value);
+        }
+
+        assertThat("List is incorrect.", iteratedValues, is(List.of(1, 2, 3)));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.iterator().remove());
+    }
+
+    @Test
+    public void batchedWritesPublishOnceTest() {
+        myArrayList = new MyConcurrentArrayList<>();
+
+        final long initialVersion = myArrayList.snapshot().getVersion();
+        final List<Integer> values = new ArrayList<>();
+
+        for (int i = 0; i < 100000; i++) {
+            values.add(i);
+        }
+
+        myArrayList.insertAll(values);
+
+        assertThat("Result does not match.", myArrayList.snapshot().getVersion(), is(initialVersion + 1));
+        assertThat("Result does not match.", myArrayList.removeIf(value -> 0 == value % 2), is(50000));
+        assertThat("Result does not match.", myArrayList.snapshot().getVersion(), is(initialVersion + 2));
+        assertThat("Result does not match.", myArrayList.removeIf(value -> 0 == value % 2), is(0));
+        assertThat("Result does not match.", myArrayList.snapshot().getVersion(), is(initialVersion + 2));
+        assertThat(
+                "Result does not match.",
+                myArrayList.snapshot().stream().parallel().mapToLong(Integer::longValue).sum(),
+                is(2500000000L));
+
+        final List<Integer> valuesWithNull = new ArrayList<>(List.of(1));
+        valuesWithNull.add(null);
+
+        assertThrows(NullPointerException.class, () -> myArrayList.insertAll(valuesWithNull));
+        assertThat("Size is incorrect.", myArrayList.getSize(), is(50000));
+    }
+
+    @Test
+    public void concurrentReadersTest() throws Exception {
+        myArrayList = new MyConcurrentArrayList<>();
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        final AtomicBoolean isWriting = new AtomicBoolean(true);
+        final List<Future<Long>> futures = new ArrayList<>();
+
+        try {
+            // Every snapshot a reader sees must hold exactly the values 0 to size - 1, in order.
+            for (int threadIndex = 0; threadIndex < THREAD_COUNT; threadIndex++) {
+                futures.add(executorService.submit(() -> {
+                    long snapshotCount = 0;
+
+                    while (isWriting.get()) {
+                        final MyConcurrentArrayList.Snapshot<Integer> snapshot = myArrayList.snapshot();
+                        int expectedValue = 0;
+
+                        for (final Integer value : snapshot) {
+                            if (expectedValue != value) {
+                                throw new IllegalStateException("Snapshot is not consistent.");
+                            }
+
+                            expectedValue += 1;
+                        }
+
+                        if (expectedValue != snapshot.getSize()) {
+                            throw new IllegalStateException("Snapshot is not consistent.");
+                        }
+
+                        snapshotCount += 1;
+                    }
+
+                    return snapshotCount;
+                }));
+            }
+
+            final long insertStartTime = System.nanoTime();
+
+            for (int i = 0; i < 100000; i += 100) {
+                final List<Integer> batch = new ArrayList<>();
+
+                for (int value = i; value < i + 100; value++) {
+                    batch.add(value);
+                }
+
+                myArrayList.insertAll(batch);
+            }
+
+            final long insertStopTime = System.nanoTime();
+
+            isWriting.set(false);
+
+            long snapshotCount = 0;
+
+            for (final Future<Long> future : futures) {
+                snapshotCount += future.get();
+            }
+
+            log.info(
+                    "Time to insert {} values in batches while reading {} snapshots: {}.",
+                    100000,
+                    snapshotCount,
+                    (insertStopTime - insertStartTime) / 100000.0);
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat("Size is incorrect.", myArrayList.getSize(), is(100000));
+        assertThat("Value does not match.", myArrayList.get(99999), is(99999));
+    }
+}
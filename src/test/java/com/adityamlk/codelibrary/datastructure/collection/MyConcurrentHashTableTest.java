@@ -0,0 +1,196 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@Log4j2
+public class MyConcurrentHashTableTest {
+
+    private static final int THREAD_COUNT = 8;
+
+    private MyConcurrentHashTable<String, Double> myHashTable;
+
+    private Hashtable<String, Double> defaultHashTable;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void insertHundredThousandValuesTest() {
+        myHashTable = new MyConcurrentHashTable<>(1);
+        defaultHashTable = new Hashtable<>(1);
+
+        insertValues(100000);
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(defaultHashTable.size()));
+        assertThat("List is incorrect.", myHashTable.toString().length(), is(defaultHashTable.toString().length()));
+    }
+
+    @Test
+    public void removeHundredThousandValuesTest() {
+        myHashTable = new MyConcurrentHashTable<>(1);
+        defaultHashTable = new Hashtable<>(1);
+
+        insertValues(100000);
+
+        for (int i = 0; i < 100000; i++) {
+            assertThat("Value does not match.", myHashTable.remove(String.valueOf(i)), is(defaultHashTable.remove(String.valueOf(i))));
+        }
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(defaultHashTable.size()));
+        assertThat("List is incorrect.", myHashTable.toString(), is(defaultHashTable.toString()));
+    }
+
+    @Test
+    public void getAndContainsTest() {
+        myHashTable = new MyConcurrentHashTable<>();
+        defaultHashTable = new Hashtable<>(1000);
+
+        insertValues(100000);
+        myHashTable.insert("5555", -1.0);
+        defaultHashTable.put("5555", -1.0);
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(defaultHashTable.size()));
+        assertThat("Value does not match.", myHashTable.get("5555"), is(defaultHashTable.get("5555")));
+        assertThat("Value does not match.", myHashTable.get("99999"), is(defaultHashTable.get("99999")));
+        assertThat("Value does not match.", myHashTable.get("-1"), is(defaultHashTable.get("-1")));
+        assertThat("Result does not match.", myHashTable.contains("0"), is(defaultHashTable.containsKey("0")));
+        assertThat("Result does not match.", myHashTable.contains("444444"), is(defaultHashTable.containsKey("444444")));
+    }
+
+    @Test
+    public void atomicOperationsTest() {
+        myHashTable = new MyConcurrentHashTable<>();
+
+        assertThat("Value does not match.", myHashTable.putIfAbsent("a", 1.0), is(nullValue()));
+        assertThat("Value does not match.", myHashTable.putIfAbsent("a", 2.0), is(1.0));
+        assertThat("Value does not match.", myHashTable.merge("a", 2.0, Double::sum), is(3.0));
+        assertThat("Value does not match.", myHashTable.merge("b", 2.0, Double::sum), is(2.0));
+        assertThat("Value does not match.", myHashTable.compute("a", (key, value) -> value * 10), is(30.0));
+        assertThat("Value does not match.", myHashTable.compute("a", (key, value) -> null), is(nullValue()));
+        assertThat("Value does not match.", myHashTable.compute("c", (key, value) -> null), is(nullValue()));
+        assertThat("Result does not match.", myHashTable.contains("a"), is(false));
+        assertThat("Result does not match.", myHashTable.contains("c"), is(false));
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(1));
+    }
+
+    @Test
+    public void concurrentInsertTest() throws Exception {
+        final MyConcurrentHashTable<Integer, Integer> myIntegerHashTable = new MyConcurrentHashTable<>(1);
+        final int valuesPerThread = 100000;
+
+        // Each thread inserts its own range of keys, which forces many cooperative resizes along the way.
+        runConcurrently(threadIndex -> {
+            for (int i = threadIndex * valuesPerThread; i < (threadIndex + 1) * valuesPerThread; i++) {
+                myIntegerHashTable.insert(i, i);
+            }
+        });
+
+        assertThat("Size is incorrect.", myIntegerHashTable.getSize(), is(THREAD_COUNT * valuesPerThread));
+
+        for (int i = 0; i < THREAD_COUNT * valuesPerThread; i++) {
+            assertThat("Value does not match.", myIntegerHashTable.get(i), is(i));
+        }
+    }
+
+    @Test
+    public void concurrentAtomicOperationsTest() throws Exception {
+        final MyConcurrentHashTable<Integer, Integer> myIntegerHashTable = new MyConcurrentHashTable<>(1);
+        final AtomicInteger putIfAbsentWins = new AtomicInteger(0);
+        final int keyCount = 10000;
+        final int roundsPerThread = 10;
+
+        // Every thread merges into and races to put the same keys, so each merge and put must be atomic.
+        runConcurrently(threadIndex -> {
+            for (int round = 0; round < roundsPerThread; round++) {
+                for (int key = 0; key < keyCount; key++) {
+                    myIntegerHashTable.merge(key, 1, Integer::sum);
+
+                    if (null == myIntegerHashTable.putIfAbsent(-key - 1, threadIndex)) {
+                        putIfAbsentWins.incrementAndGet();
+                    }
+                }
+            }
+        });
+
+        assertThat("Size is incorrect.", myIntegerHashTable.getSize(), is(keyCount * 2));
+        assertThat("Result does not match.", putIfAbsentWins.get(), is(keyCount));
+
+        for (int key = 0; key < keyCount; key++) {
+            assertThat("Value does not match.", myIntegerHashTable.get(key), is(THREAD_COUNT * roundsPerThread));
+        }
+    }
+
+    @Test
+    public void concurrentReadAndRemoveTest() throws Exception {
+        final MyConcurrentHashTable<Integer, Integer> myIntegerHashTable = new MyConcurrentHashTable<>(1);
+        final int keyCount = 100000;
+
+        for (int key = 0; key < keyCount; key++) {
+            myIntegerHashTable.insert(key, key);
+        }
+
+        // Even threads remove their share of the keys while odd threads keep reading the keys that are never removed.
+        runConcurrently(threadIndex -> {
+            for (int key = threadIndex; key < keyCount; key += THREAD_COUNT) {
+                if (0 == threadIndex % 2) {
+                    myIntegerHashTable.remove(key);
+                } else {
+                    assertThat("Value does not match.", myIntegerHashTable.get(key), is(key));
+                }
+            }
+        });
+
+        assertThat("Size is incorrect.", myIntegerHashTable.getSize(), is(keyCount / 2));
+    }
+
+    private void insertValues(final int valueCount) {
+        for (int i = 0; i < valueCount; i++) {
+            myHashTable.insert(String.valueOf(i), (double) i);
+            defaultHashTable.put(String.valueOf(i), (double) i);
+        }
+    }
+
+    private void runConcurrently(final ThreadTask threadTask) throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        final List<Future<Void>> futures = new ArrayList<>();
+
+        try {
+            for (int threadIndex = 0; threadIndex < THREAD_COUNT; threadIndex++) {
+                final int index = threadIndex;
+                final Callable<Void> callable = () -> {
+                    threadTask.run(index);
+                    return null;
+                };
+
+                futures.add(executorService.submit(callable));
+            }
+
+            for (final Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int threadIndex);
+    }
+}
@@ -0,0 +1,205 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.ArrayList;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Log4j2
+public class MyDoubleArrayListTest {
+
+    private MyDoubleArrayList myDoubleArrayList;
+
+    private ArrayList<Double> defaultArrayList;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void constructorTest() {
+        myDoubleArrayList = new MyDoubleArrayList(10, 3);
+        defaultArrayList = new ArrayList<>(10);
+
+        assertThat("Size is incorrect.", myDoubleArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myDoubleArrayList.toString(), is(defaultArrayList.toString()));
+        assertThrows(IllegalArgumentException.class, () -> new MyDoubleArrayList(10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MyDoubleArrayList(-1));
+    }
+
+    @Test
+    public void insertMillionValuesTest() {
+        myDoubleArrayList = new MyDoubleArrayList();
+        defaultArrayList = new ArrayList<>();
+
+        insertValues(1000000, true);
+
+        assertThat("Size is incorrect.", myDoubleArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myDoubleArrayList.toString(), is(defaultArrayList.toString()));
+    }
+
+    @Test
+    public void removeTenThousandValuesTest() {
+        myDoubleArrayList = new MyDoubleArrayList();
+        defaultArrayList = new ArrayList<>();
+
+        insertValues(10000, false);
+        removeValues(10000, true);
+
+        assertThat("Size is incorrect.", myDoubleArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myDoubleArrayList.toString(), is(defaultArrayList.toString()));
+        assertThat("Result does not match.", myDoubleArrayList.remove(0.0), is(defaultArrayList.remove((Double) 0.0)));
+    }
+
+    @Test
+    public void indexOfAndContainsTest() {
+        myDoubleArrayList = new MyDoubleArrayList();
+        defaultArrayList = new ArrayList<>();
+
+        insertValues(100000, false);
+        removeValues(50000, false);
+
+        for (final double value : new double[] {5555.0, 1994.0, 0.0, -1.0, 99999.0, 67893.0, 444444.0}) {
+            assertThat("Index does not match.", myDoubleArrayList.indexOf(value), is(defaultArrayList.indexOf(value)));
+            assertThat(
+                    "Index does not match.",
+                    myDoubleArrayList.lastIndexOf(value),
+                    is(defaultArrayList.lastIndexOf(value)));
+            assertThat(
+                    "Result does not match.", myDoubleArrayList.contains(value), is(defaultArrayList.contains(value)));
+        }
+
+        myDoubleArrayList.insert(1994.0);
+        defaultArrayList.add(1994.0);
+
+        assertThat(
+                "Index does not match.",
+                myDoubleArrayList.lastIndexOf(1994.0),
+                is(defaultArrayList.lastIndexOf(1994.0)));
+
+        // Compared like Double.equals rather than ==.
+        myDoubleArrayList.insert(Double.NaN);
+        myDoubleArrayList.insert(-0.0);
+
+        assertThat("Result does not match.", myDoubleArrayList.contains(Double.NaN), is(true));
+        assertThat("Result does not match.", myDoubleArrayList.contains(0.0), is(false));
+        assertThat("Index does not match.", myDoubleArrayList.indexOf(-0.0), is(50002));
+    }
+
+    @Test
+    public void insertAllAndToArrayTest() {
+        myDoubleArrayList = new MyDoubleArrayList(3);
+        defaultArrayList = new ArrayList<>();
+
+        final double[] values = new double[1000000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (double) i;
+            defaultArrayList.add((double) i);
+        }
+
+        myDoubleArrayList.insert((double) -1);
+        defaultArrayList.add(0, (double) -1);
+
+        final long insertMyStartTime = System.nanoTime();
+
+        myDoubleArrayList.insertAll(values);
+
+        final long insertMyStopTime = System.nanoTime();
+
+        log.info(
+                "Time to insert all {} values into my array list: {}.",
+                values.length,
+                (insertMyStopTime - insertMyStartTime) / (double) values.length);
+
+        assertThat("Size is incorrect.", myDoubleArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myDoubleArrayList.toString(), is(defaultArrayList.toString()));
+
+        final double[] array = myDoubleArrayList.toArray();
+
+        assertThat("Size is incorrect.", array.length, is(defaultArrayList.size()));
+        assertThat("Value does not match.", array[0], is((double) -1));
+        assertThat("Value does not match.", array[array.length - 1], is(defaultArrayList.get(array.length - 1)));
+        assertThat("Value does not match.", myDoubleArrayList.get(1994), is(defaultArrayList.get(1994)));
+        assertThrows(IndexOutOfBoundsException.class, () -> myDoubleArrayList.get(array.length));
+    }
+
+    @Test
+    public void readOnlyBufferTest() {
+        myDoubleArrayList = new MyDoubleArrayList(8);
+
+        myDoubleArrayList.insertAll(new double[] {(double) 1, (double) 2, (double) 3});
+
+        final DoubleBuffer buffer = myDoubleArrayList.asReadOnlyBuffer();
+
+        assertThat("Size is incorrect.", buffer.remaining(), is(3));
+        assertThat("Size is incorrect.", buffer.capacity(), is(3));
+        assertThat("Value does not match.", buffer.get(2), is((double) 3));
+        assertThat("Result does not match.", buffer.isReadOnly(), is(true));
+        assertThrows(ReadOnlyBufferException.class, () -> buffer.put(0, (double) 4));
+
+        // The buffer shares the values with the list, so removing a value shifts the ones the buffer covers.
+        myDoubleArrayList.remove((double) 1);
+
+        assertThat("Value does not match.", buffer.get(0), is((double) 2));
+    }
+
+    private void insertValues(final int valueCount, final boolean shouldLog) {
+        final long insertMyStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            myDoubleArrayList.insert((double) i);
+        }
+
+        final long insertMyStopTime = System.nanoTime();
+
+        final long insertDefaultStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            defaultArrayList.add((double) i);
+        }
+
+        final long insertDefaultStopTime = System.nanoTime();
+
+        if (shouldLog) {
+            log.info(
+                    "Time to insert {} values into my array list: {} vs default array list: {}.",
+                    valueCount,
+                    (insertMyStopTime - insertMyStartTime) / (double) valueCount,
+                    (insertDefaultStopTime - insertDefaultStartTime) / (double) valueCount);
+        }
+    }
+
+    private void removeValues(final int valueCount, final boolean shouldLog) {
+        final long removeMyStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            myDoubleArrayList.remove((double) i);
+        }
+
+        final long removeMyStopTime = System.nanoTime();
+
+        final long removeDefaultStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            defaultArrayList.remove((Double) (double) i);
+        }
+
+        final long removeDefaultStopTime = System.nanoTime();
+
+        if (shouldLog) {
+            log.info(
+                    "Time to remove {} values from my array list: {} vs default array list: {}.",
+                    valueCount,
+                    (removeMyStopTime - removeMyStartTime) / (double) valueCount,
+                    (removeDefaultStopTime - removeDefaultStartTime) / (double) valueCount);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.adityamlk.codelibrary.datastructure.collection;
 
 import com.google.common.collect.Lists;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Random;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.AfterAll;
@@ -206,6 +208,41 @@ public class MyDoubleLinkedListTest {
         assertThat("Result is not correct.", myLinkedList.getFromTail(), is(defaultLinkedList.getLast()));
     }
 
+    @Test
+    public void nodeHandlesTest() {
+        myLinkedList = new MyDoubleLinkedList<>();
+        defaultLinkedList = Lists.newLinkedList();
+
+        final List<MyDoubleLinkedList.TwoWayNode<Integer>> nodes = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            final MyDoubleLinkedList.TwoWayNode<Integer> node = new MyDoubleLinkedList.TwoWayNode<>(i);
+            myLinkedList.insertNodeToHead(node);
+            defaultLinkedList.addFirst(i);
+            nodes.add(node);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> myLinkedList.insertNodeToHead(nodes.get(0)));
+
+        // Remove the tail, the head and every third node in between through their handles.
+        for (int i = 0; i < 1000; i += 3) {
+            assertThat("Result is not correct.", myLinkedList.removeNode(nodes.get(i)), is(i));
+            defaultLinkedList.remove(Integer.valueOf(i));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> myLinkedList.removeNode(nodes.get(0)));
+
+        myLinkedList.moveNodeToHead(nodes.get(1));
+        defaultLinkedList.remove(Integer.valueOf(1));
+        defaultLinkedList.addFirst(1);
+
+        assertThat("Size is incorrect.", myLinkedList.getSize(), is(defaultLinkedList.size()));
+        assertThat("List is incorrect.", myLinkedList.toString(), is(defaultLinkedList.toString()));
+        assertThat("List is incorrect.", myLinkedList.toStringReverse(), is(Lists.reverse(defaultLinkedList).toString()));
+        assertThat("Result is not correct.", myLinkedList.getHeadNode().getValue(), is(defaultLinkedList.getFirst()));
+        assertThat("Result is not correct.", myLinkedList.getTailNode().getValue(), is(defaultLinkedList.getLast()));
+    }
+
     private void insertValues(final int valueCount, final boolean shouldLog) {
         final long insertMyStartTime = System.nanoTime();
 
@@ -1,12 +1,22 @@
 package com.adityamlk.codelibrary.datastructure.collection;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Log4j2
 public class MyHashTableTest {
@@ -156,6 +166,376 @@ public class MyHashTableTest {
         assertThat("Result does not match.", myHashTable.contains("444444"), is(defaultHashTable.containsKey("444444")));
     }
 
+    @Test
+    public void insertMillionValuesWithIncrementalResizeTest() {
+        myHashTable = new MyHashTable<>(true);
+        defaultHashTable = new Hashtable<>(1000);
+
+        insertValues(1000000, true);
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(defaultHashTable.size()));
+        assertThat("List is incorrect.", myHashTable.toString().length(), is(defaultHashTable.toString().length()));
+    }
+
+    @Test
+    public void removeHundredThousandValuesWithIncrementalResizeTest() {
+        myHashTable = new MyHashTable<>(true);
+        defaultHashTable = new Hashtable<>(1000);
+
+        insertValues(100000, false);
+        removeValues(100000, true);
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(defaultHashTable.size()));
+        assertThat("List is incorrect.", myHashTable.toString().length(), is(defaultHashTable.toString().length()));
+    }
+
+    @Test
+    public void getDuringIncrementalResizeTest() {
+        myHashTable = new MyHashTable<>(true);
+        defaultHashTable = new Hashtable<>(1000);
+
+        // The default capacity is 1024 with a load factor limit of 0.75, so the 769th insert starts the resize.
+        insertValues(769, false);
+
+        assertThat("Result does not match.", myHashTable.isResizing(), is(true));
+        assertThat("Progress is incorrect.", myHashTable.getResizeProgress() < 1.0, is(true));
+
+        for (int i = 0; i < 769; i++) {
+            assertThat("Value does not match.", myHashTable.get(String.valueOf(i)), is(defaultHashTable.get(String.valueOf(i))));
+        }
+
+        assertThat("Result does not match.", myHashTable.contains("769"), is(defaultHashTable.containsKey("769")));
+        assertThat("Result does not match.", myHashTable.isResizing(), is(false));
+        assertThat("Progress is incorrect.", myHashTable.getResizeProgress(), is(1.0));
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(defaultHashTable.size()));
+    }
+
+    @Test
+    public void negativeHashCodesTest() {
+        final MyHashTable<Integer, Integer> myIntegerHashTable = new MyHashTable<>();
+        final Hashtable<Integer, Integer> defaultIntegerHashTable = new Hashtable<>();
+
+        for (int i = -50000; i < 50000; i++) {
+            myIntegerHashTable.insert(i, i);
+            defaultIntegerHashTable.put(i, i);
+        }
+
+        for (int i = -50000; i < 50000; i += 2) {
+            assertThat("Value does not match.", myIntegerHashTable.remove(i), is(defaultIntegerHashTable.remove(i)));
+        }
+
+        assertThat("Size is incorrect.", myIntegerHashTable.getSize(), is(defaultIntegerHashTable.size()));
+
+        for (int i = -50000; i < 50000; i++) {
+            assertThat("Value does not match.", myIntegerHashTable.get(i), is(defaultIntegerHashTable.get(i)));
+        }
+    }
+
+    @Test
+    public void sameBucketKeysTest() {
+        final MyHashTable<CollidingKey, Integer> myCollidingHashTable = new MyHashTable<>();
+        final Hashtable<CollidingKey, Integer> defaultCollidingHashTable = new Hashtable<>();
+
+        // Every key lands in the first bucket, so the bucket is converted into a tree and back.
+        for (int i = 0; i < 4000; i++) {
+            myCollidingHashTable.insert(new CollidingKey(i), i);
+            defaultCollidingHashTable.put(new CollidingKey(i), i);
+        }
+
+        final long getMyStartTime = System.nanoTime();
+
+        for (int i = 0; i < 4000; i++) {
+            assertThat("Value does not match.", myCollidingHashTable.get(new CollidingKey(i)), is(i));
+        }
+
+        final long getMyStopTime = System.nanoTime();
+
+        log.info("Time to get {} values from a single bucket: {}.", 4000, (getMyStopTime - getMyStartTime) / 4000.0);
+
+        for (int i = 0; i < 3998; i++) {
+            assertThat(
+                    "Value does not match.",
+                    myCollidingHashTable.remove(new CollidingKey(i)),
+                    is(defaultCollidingHashTable.remove(new CollidingKey(i))));
+        }
+
+        assertThat("Size is incorrect.", myCollidingHashTable.getSize(), is(defaultCollidingHashTable.size()));
+        assertThat("List is incorrect.", myCollidingHashTable.toString(), is("{3998=3998, 3999=3999}"));
+        assertThat("Result does not match.", myCollidingHashTable.contains(new CollidingKey(0)), is(false));
+    }
+
+    @Test
+    public void sameHashCodeKeysTest() {
+        final MyHashTable<String, Integer> mySameHashCodeTable = new MyHashTable<>(false, 1994);
+        final HashMap<String, Integer> defaultSameHashCodeTable = new HashMap<>();
+        final List<String> keys = getSameHashCodeKeys(12);
+
+        // "Aa" and "BB" share a hash code, so every string of 12 such pairs does too. The seed cannot tell them apart.
+        for (int i = 0; i < keys.size(); i++) {
+            mySameHashCodeTable.insert(keys.get(i), i);
+            defaultSameHashCodeTable.put(keys.get(i), i);
+        }
+
+        final long getMyStartTime = System.nanoTime();
+
+        for (final String key : keys) {
+            assertThat("Value does not match.", mySameHashCodeTable.get(key), is(defaultSameHashCodeTable.get(key)));
+        }
+
+        final long getMyStopTime = System.nanoTime();
+
+        final long getDefaultStartTime = System.nanoTime();
+
+        for (final String key : keys) {
+            defaultSameHashCodeTable.get(key);
+        }
+
+        final long getDefaultStopTime = System.nanoTime();
+
+        log.info(
+                "Time to get {} values with the same hash code from my hash table: {} vs default hash map: {}.",
+                keys.size(),
+                (getMyStopTime - getMyStartTime) / (double) keys.size(),
+                (getDefaultStopTime - getDefaultStartTime) / (double) keys.size());
+
+        for (int i = 0; i < keys.size() - 2; i++) {
+            assertThat(
+                    "Value does not match.",
+                    mySameHashCodeTable.remove(keys.get(i)),
+                    is(defaultSameHashCodeTable.remove(keys.get(i))));
+        }
+
+        assertThat("Size is incorrect.", mySameHashCodeTable.getSize(), is(defaultSameHashCodeTable.size()));
+        assertThat("Result does not match.", mySameHashCodeTable.contains(keys.get(0)), is(false));
+        assertThat("Value does not match.", mySameHashCodeTable.get(keys.get(keys.size() - 1)), is(keys.size() - 1));
+    }
+
+    @Test
+    public void seededHashTableTest() {
+        myHashTable = new MyHashTable<>(false, 1994);
+        defaultHashTable = new Hashtable<>();
+
+        insertValues(100000, false);
+        removeValues(50000, false);
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(defaultHashTable.size()));
+        assertThat("List is incorrect.", myHashTable.toString().length(), is(defaultHashTable.toString().length()));
+
+        for (int i = 0; i < 100000; i++) {
+            assertThat("Value does not match.", myHashTable.get(String.valueOf(i)), is(defaultHashTable.get(String.valueOf(i))));
+        }
+    }
+
+    @Test
+    public void insertAllMillionValuesTest() {
+        myHashTable = new MyHashTable<>();
+        defaultHashTable = new Hashtable<>(1000);
+
+        final List<Map.Entry<String, Double>> entries = new ArrayList<>();
+
+        for (int i = 0; i < 1000000; i++) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(String.valueOf(i), (double) i));
+        }
+
+        final long insertMyStartTime = System.nanoTime();
+
+        myHashTable.insertAll(entries);
+
+        final long insertMyStopTime = System.nanoTime();
+
+        final long insertDefaultStartTime = System.nanoTime();
+
+        for (final Map.Entry<String, Double> entry : entries) {
+            defaultHashTable.put(entry.getKey(), entry.getValue());
+        }
+
+        final long insertDefaultStopTime = System.nanoTime();
+
+        log.info(
+                "Time to insert all {} values into my hash table: {} vs default hash table: {}.",
+                entries.size(),
+                (insertMyStopTime - insertMyStartTime) / (double) entries.size(),
+                (insertDefaultStopTime - insertDefaultStartTime) / (double) entries.size());
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(defaultHashTable.size()));
+        assertThat("List is incorrect.", myHashTable.toString().length(), is(defaultHashTable.toString().length()));
+
+        for (int i = 0; i < 1000000; i += 7) {
+            assertThat("Value does not match.", myHashTable.get(String.valueOf(i)), is(defaultHashTable.get(String.valueOf(i))));
+        }
+    }
+
+    @Test
+    public void insertAllIntoExistingTableTest() {
+        myHashTable = new MyHashTable<>(true);
+        defaultHashTable = new Hashtable<>(1000);
+
+        // Leave an incremental resize in progress, which the bulk insert has to finish first.
+        insertValues(769, false);
+
+        assertThat("Result does not match.", myHashTable.isResizing(), is(true));
+
+        final List<Map.Entry<String, Double>> entries = new ArrayList<>();
+
+        for (int i = 769; i < 100000; i++) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(String.valueOf(i), (double) i));
+            defaultHashTable.put(String.valueOf(i), (double) i);
+        }
+
+        myHashTable.insertAll(entries);
+
+        assertThat("Result does not match.", myHashTable.isResizing(), is(false));
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(defaultHashTable.size()));
+
+        // A batch small enough to be inserted on the calling thread.
+        myHashTable.insertAll(List.of(new AbstractMap.SimpleImmutableEntry<>("-1", -1.0)));
+        defaultHashTable.put("-1", -1.0);
+
+        removeValues(50000, false);
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(defaultHashTable.size()));
+        assertThat("List is incorrect.", myHashTable.toString().length(), is(defaultHashTable.toString().length()));
+
+        for (int i = -1; i < 100000; i++) {
+            assertThat("Value does not match.", myHashTable.get(String.valueOf(i)), is(defaultHashTable.get(String.valueOf(i))));
+        }
+    }
+
+    @Test
+    public void fromEntriesTest() {
+        final Map<Integer, Integer> defaultMap = new HashMap<>();
+
+        for (int i = -100000; i < 100000; i++) {
+            defaultMap.put(i, i * 2);
+        }
+
+        final MyHashTable<Integer, Integer> myIntegerHashTable =
+                MyHashTable.fromEntries(defaultMap.entrySet().spliterator(), defaultMap.size());
+
+        assertThat("Size is incorrect.", myIntegerHashTable.getSize(), is(defaultMap.size()));
+
+        for (int i = -100001; i <= 100000; i++) {
+            assertThat("Value does not match.", myIntegerHashTable.get(i), is(defaultMap.get(i)));
+        }
+
+        final MyHashTable<CollidingKey, Integer> myCollidingHashTable = MyHashTable.fromEntries(
+                List.of(new AbstractMap.SimpleImmutableEntry<>(new CollidingKey(1), 1),
+                        new AbstractMap.SimpleImmutableEntry<>(new CollidingKey(2), 2)).spliterator(),
+                0);
+
+        assertThat("List is incorrect.", myCollidingHashTable.toString(), is("{1=1, 2=2}"));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> MyHashTable.fromEntries(defaultMap.entrySet().spliterator(), -1));
+    }
+
+    @Test
+    public void forEachTest() {
+        myHashTable = new MyHashTable<>(true);
+        defaultHashTable = new Hashtable<>(1000);
+
+        // Leave an incremental resize in progress, which iteration has to finish first.
+        insertValues(100000, false);
+        removeValues(1000, false);
+
+        final Map<String, Double> visitedEntries = new HashMap<>();
+
+        myHashTable.forEach(visitedEntries::put);
+
+        assertThat("Result does not match.", myHashTable.isResizing(), is(false));
+        assertThat("List is incorrect.", visitedEntries, is(new HashMap<>(defaultHashTable)));
+
+        final Map<String, Double> iteratedEntries = new HashMap<>();
+
+        for (final MyHashTable.TableEntry<String, Double> tableEntry : myHashTable) {
+            iteratedEntries.put(tableEntry.getKey(), tableEntry.getValue());
+        }
+
+        assertThat("List is incorrect.", iteratedEntries, is(visitedEntries));
+        assertThrows(
+                ConcurrentModificationException.class,
+                () -> myHashTable.forEach((key, value) -> myHashTable.remove(key)));
+
+        final Iterator<MyHashTable.TableEntry<String, Double>> iterator = myHashTable.iterator();
+        iterator.next();
+        myHashTable.insert("-1", -1.0);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(UnsupportedOperationException.class, () -> myHashTable.iterator().remove());
+    }
+
+    @Test
+    public void parallelStreamTest() {
+        final MyHashTable<Integer, Integer> myIntegerHashTable = new MyHashTable<>();
+        long expectedSum = 0;
+
+        for (int i = 0; i < 1000000; i++) {
+            myIntegerHashTable.insert(i, i);
+            expectedSum += i;
+        }
+
+        final long streamStartTime = System.nanoTime();
+        final long parallelSum = myIntegerHashTable.stream()
+                .parallel()
+                .mapToLong(MyHashTable.TableEntry::getValue)
+                .sum();
+        final long streamStopTime = System.nanoTime();
+
+        log.info("Time to sum {} values in parallel: {}.", 1000000, (streamStopTime - streamStartTime) / 1000000.0);
+
+        assertThat("Result does not match.", parallelSum, is(expectedSum));
+        assertThat("Size is incorrect.", myIntegerHashTable.stream().parallel().count(), is(1000000L));
+        assertThat("Size is incorrect.", myIntegerHashTable.stream().toArray().length, is(1000000));
+
+        // Every key shares the first bucket, so the stream visits a tree that cannot be split.
+        final MyHashTable<CollidingKey, Integer> myCollidingHashTable = new MyHashTable<>();
+
+        for (int i = 0; i < 1000; i++) {
+            myCollidingHashTable.insert(new CollidingKey(i), i);
+        }
+
+        assertThat(
+                "Result does not match.",
+                myCollidingHashTable.stream().parallel().mapToLong(MyHashTable.TableEntry::getValue).sum(),
+                is(499500L));
+    }
+
+    @Test
+    public void spliteratorTest() {
+        myHashTable = new MyHashTable<>();
+        defaultHashTable = new Hashtable<>(1000);
+
+        insertValues(10000, false);
+
+        final Spliterator<MyHashTable.TableEntry<String, Double>> suffix = myHashTable.spliterator();
+
+        assertThat("Result does not match.", suffix.hasCharacteristics(Spliterator.SIZED), is(true));
+        assertThat("Result does not match.", suffix.hasCharacteristics(Spliterator.SUBSIZED), is(true));
+        assertThat("Size is incorrect.", suffix.getExactSizeIfKnown(), is(10000L));
+
+        // Start visiting the suffix before splitting it, so the split has to account for the bucket in progress.
+        final AtomicLong visitedCount = new AtomicLong();
+        suffix.tryAdvance(tableEntry -> visitedCount.incrementAndGet());
+
+        final Spliterator<MyHashTable.TableEntry<String, Double>> prefix = suffix.trySplit();
+        final Spliterator<MyHashTable.TableEntry<String, Double>> innerPrefix = prefix.trySplit();
+        final long prefixSize = prefix.estimateSize();
+        final long innerPrefixSize = innerPrefix.estimateSize();
+        final long suffixSize = suffix.estimateSize();
+
+        assertThat("Size is incorrect.", prefixSize + innerPrefixSize + suffixSize, is(9999L));
+
+        innerPrefix.forEachRemaining(tableEntry -> visitedCount.incrementAndGet());
+
+        assertThat("Size is incorrect.", visitedCount.get(), is(innerPrefixSize + 1));
+
+        prefix.forEachRemaining(tableEntry -> visitedCount.incrementAndGet());
+        suffix.forEachRemaining(tableEntry -> visitedCount.incrementAndGet());
+
+        assertThat("Size is incorrect.", visitedCount.get(), is(10000L));
+        assertThat("Size is incorrect.", suffix.estimateSize(), is(0L));
+    }
+
     private void insertValues(final int valueCount, final boolean shouldLog) {
         final long insertMyStartTime = System.nanoTime();
 
@@ -207,4 +587,59 @@ public class MyHashTableTest {
                     (removeDefaultStopTime - removeDefaultStartTime) / (double) valueCount);
         }
     }
+
+    /*
+     * Returns every string made of the provided number of "Aa" or "BB" pairs, which all share a single hash code.
+     */
+    private List<String> getSameHashCodeKeys(final int pairCount) {
+        final List<String> keys = new ArrayList<>();
+
+        for (int mask = 0; mask < 1 << pairCount; mask++) {
+            final StringBuilder key = new StringBuilder();
+
+            for (int pairIndex = 0; pairIndex < pairCount; pairIndex++) {
+                key.append(0 == (mask & (1 << pairIndex)) ? "Aa" : "BB");
+            }
+
+            keys.add(key.toString());
+        }
+
+        return keys;
+    }
+
+    /*
+     * Key whose hash code is chosen so that, once spread by the hash table with the default seed, the lower 14 bits are
+     * always zero. Every key lands in the first bucket for any capacity up to 16384, while the hash codes stay distinct.
+     */
+    private static final class CollidingKey {
+
+        private final int value;
+
+        private CollidingKey(final int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof CollidingKey && value == ((CollidingKey) other).value;
+        }
+
+        @Override
+        public int hashCode() {
+            // Inverts the MurmurHash3 finalizer step by step.
+            int hashCode = value << 14;
+            hashCode ^= hashCode >>> 16;
+            hashCode *= 0x7ED1B41D;
+            hashCode ^= (hashCode >>> 13) ^ (hashCode >>> 26);
+            hashCode *= 0xA5CB9243;
+            hashCode ^= hashCode >>> 16;
+
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value);
+        }
+    }
 }
@@ -0,0 +1,194 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.nio.IntBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.ArrayList;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Log4j2
+public class MyIntArrayListTest {
+
+    private MyIntArrayList myIntArrayList;
+
+    private ArrayList<Integer> defaultArrayList;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void constructorTest() {
+        myIntArrayList = new MyIntArrayList(10, 3);
+        defaultArrayList = new ArrayList<>(10);
+
+        assertThat("Size is incorrect.", myIntArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myIntArrayList.toString(), is(defaultArrayList.toString()));
+        assertThrows(IllegalArgumentException.class, () -> new MyIntArrayList(10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MyIntArrayList(-1));
+    }
+
+    @Test
+    public void insertMillionValuesTest() {
+        myIntArrayList = new MyIntArrayList();
+        defaultArrayList = new ArrayList<>();
+
+        insertValues(1000000, true);
+
+        assertThat("Size is incorrect.", myIntArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myIntArrayList.toString(), is(defaultArrayList.toString()));
+    }
+
+    @Test
+    public void removeTenThousandValuesTest() {
+        myIntArrayList = new MyIntArrayList();
+        defaultArrayList = new ArrayList<>();
+
+        insertValues(10000, false);
+        removeValues(10000, true);
+
+        assertThat("Size is incorrect.", myIntArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myIntArrayList.toString(), is(defaultArrayList.toString()));
+        assertThat("Result does not match.", myIntArrayList.remove(0), is(defaultArrayList.remove((Integer) 0)));
+    }
+
+    @Test
+    public void indexOfAndContainsTest() {
+        myIntArrayList = new MyIntArrayList();
+        defaultArrayList = new ArrayList<>();
+
+        insertValues(100000, false);
+        removeValues(50000, false);
+
+        for (final int value : new int[] {5555, 1994, 0, -1, 99999, 67893, 444444}) {
+            assertThat("Index does not match.", myIntArrayList.indexOf(value), is(defaultArrayList.indexOf(value)));
+            assertThat(
+                    "Index does not match.",
+                    myIntArrayList.lastIndexOf(value),
+                    is(defaultArrayList.lastIndexOf(value)));
+            assertThat(
+                    "Result does not match.", myIntArrayList.contains(value), is(defaultArrayList.contains(value)));
+        }
+
+        myIntArrayList.insert(1994);
+        defaultArrayList.add(1994);
+
+        assertThat("Index does not match.", myIntArrayList.lastIndexOf(1994), is(defaultArrayList.lastIndexOf(1994)));
+    }
+
+    @Test
+    public void insertAllAndToArrayTest() {
+        myIntArrayList = new MyIntArrayList(3);
+        defaultArrayList = new ArrayList<>();
+
+        final int[] values = new int[1000000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+            defaultArrayList.add(i);
+        }
+
+        myIntArrayList.insert(-1);
+        defaultArrayList.add(0, -1);
+
+        final long insertMyStartTime = System.nanoTime();
+
+        myIntArrayList.insertAll(values);
+
+        final long insertMyStopTime = System.nanoTime();
+
+        log.info(
+                "Time to insert all {} values into my array list: {}.",
+                values.length,
+                (insertMyStopTime - insertMyStartTime) / (double) values.length);
+
+        assertThat("Size is incorrect.", myIntArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myIntArrayList.toString(), is(defaultArrayList.toString()));
+
+        final int[] array = myIntArrayList.toArray();
+
+        assertThat("Size is incorrect.", array.length, is(defaultArrayList.size()));
+        assertThat("Value does not match.", array[0], is(-1));
+        assertThat("Value does not match.", array[array.length - 1], is(defaultArrayList.get(array.length - 1)));
+        assertThat("Value does not match.", myIntArrayList.get(1994), is(defaultArrayList.get(1994)));
+        assertThrows(IndexOutOfBoundsException.class, () -> myIntArrayList.get(array.length));
+    }
+
+    @Test
+    public void readOnlyBufferTest() {
+        myIntArrayList = new MyIntArrayList(8);
+
+        myIntArrayList.insertAll(new int[] {1, 2, 3});
+
+        final IntBuffer buffer = myIntArrayList.asReadOnlyBuffer();
+
+        assertThat("Size is incorrect.", buffer.remaining(), is(3));
+        assertThat("Size is incorrect.", buffer.capacity(), is(3));
+        assertThat("Value does not match.", buffer.get(2), is(3));
+        assertThat("Result does not match.", buffer.isReadOnly(), is(true));
+        assertThrows(ReadOnlyBufferException.class, () -> buffer.put(0, 4));
+
+        // The buffer shares the values with the list, so removing a value shifts the ones the buffer covers.
+        myIntArrayList.remove(1);
+
+        assertThat("Value does not match.", buffer.get(0), is(2));
+    }
+
+    private void insertValues(final int valueCount, final boolean shouldLog) {
+        final long insertMyStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            myIntArrayList.insert(i);
+        }
+
+        final long insertMyStopTime = System.nanoTime();
+
+        final long insertDefaultStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            defaultArrayList.add(i);
+        }
+
+        final long insertDefaultStopTime = System.nanoTime();
+
+        if (shouldLog) {
+            log.info(
+                    "Time to insert {} values into my array list: {} vs default array list: {}.",
+                    valueCount,
+                    (insertMyStopTime - insertMyStartTime) / (double) valueCount,
+                    (insertDefaultStopTime - insertDefaultStartTime) / (double) valueCount);
+        }
+    }
+
+    private void removeValues(final int valueCount, final boolean shouldLog) {
+        final long removeMyStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            myIntArrayList.remove(i);
+        }
+
+        final long removeMyStopTime = System.nanoTime();
+
+        final long removeDefaultStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            defaultArrayList.remove((Integer) i);
+        }
+
+        final long removeDefaultStopTime = System.nanoTime();
+
+        if (shouldLog) {
+            log.info(
+                    "Time to remove {} values from my array list: {} vs default array list: {}.",
+                    valueCount,
+                    (removeMyStopTime - removeMyStartTime) / (double) valueCount,
+                    (removeDefaultStopTime - removeDefaultStartTime) / (double) valueCount);
+        }
+    }
+}
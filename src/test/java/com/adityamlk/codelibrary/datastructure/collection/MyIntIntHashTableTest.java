@@ -0,0 +1,124 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.HashMap;
+import java.util.Random;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@Log4j2
+public class MyIntIntHashTableTest {
+
+    private static final int MISSING_VALUE = Integer.MIN_VALUE;
+
+    private MyIntIntHashTable myHashTable;
+
+    private HashMap<Integer, Integer> defaultHashMap;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void insertMillionValuesTest() {
+        myHashTable = new MyIntIntHashTable(16, MISSING_VALUE);
+        defaultHashMap = new HashMap<>();
+
+        insertValues(1000000, true);
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(defaultHashMap.size()));
+        assertThat("List is incorrect.", myHashTable.toString().length(), is(defaultHashMap.toString().length()));
+    }
+
+    @Test
+    public void removeMillionValuesTest() {
+        myHashTable = new MyIntIntHashTable(16, MISSING_VALUE);
+        defaultHashMap = new HashMap<>();
+
+        insertValues(1000000, false);
+
+        for (int i = 0; i < 1000000; i++) {
+            assertThat("Value does not match.", myHashTable.remove(i), is(defaultHashMap.remove(i)));
+        }
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(defaultHashMap.size()));
+        assertThat("List is incorrect.", myHashTable.toString(), is(defaultHashMap.toString()));
+    }
+
+    @Test
+    public void missingValueTest() {
+        myHashTable = new MyIntIntHashTable(16, MISSING_VALUE);
+
+        assertThat("Value does not match.", myHashTable.get(0), is(MISSING_VALUE));
+        assertThat("Value does not match.", myHashTable.get(42), is(MISSING_VALUE));
+        assertThat("Value does not match.", myHashTable.remove(42), is(MISSING_VALUE));
+        assertThat("Result does not match.", myHashTable.contains(0), is(false));
+
+        myHashTable.insert(0, 7);
+        myHashTable.insert(42, 8);
+
+        assertThat("Value does not match.", myHashTable.get(0), is(7));
+        assertThat("Value does not match.", myHashTable.get(42), is(8));
+        assertThat("Value does not match.", myHashTable.remove(0), is(7));
+        assertThat("Value does not match.", myHashTable.get(0), is(MISSING_VALUE));
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(1));
+    }
+
+    @Test
+    public void randomOperationsTest() {
+        myHashTable = new MyIntIntHashTable(1, MISSING_VALUE);
+        defaultHashMap = new HashMap<>();
+        final Random random = new Random(1994);
+
+        // Keys are drawn from a small range including zero and negatives so inserts, overwrites and removals
+        // interleave within the same clusters.
+        for (int i = 0; i < 200000; i++) {
+            final int key = random.nextInt(2000) - 1000;
+
+            if (random.nextBoolean()) {
+                myHashTable.insert(key, i);
+                defaultHashMap.put(key, i);
+            } else {
+                assertThat("Value does not match.", myHashTable.remove(key), is(defaultHashMap.getOrDefault(key, MISSING_VALUE)));
+                defaultHashMap.remove(key);
+            }
+        }
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(defaultHashMap.size()));
+
+        for (int key = -1000; key < 1000; key++) {
+            assertThat("Value does not match.", myHashTable.get(key), is(defaultHashMap.getOrDefault(key, MISSING_VALUE)));
+            assertThat("Result does not match.", myHashTable.contains(key), is(defaultHashMap.containsKey(key)));
+        }
+    }
+
+    private void insertValues(final int valueCount, final boolean shouldLog) {
+        final long insertMyStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            myHashTable.insert(i, i);
+        }
+
+        final long insertMyStopTime = System.nanoTime();
+
+        final long insertDefaultStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            defaultHashMap.put(i, i);
+        }
+
+        final long insertDefaultStopTime = System.nanoTime();
+
+        if (shouldLog) {
+            log.info(
+                    "Time to insert {} values into my hash table: {} vs default hash map: {}.",
+                    valueCount,
+                    (insertMyStopTime - insertMyStartTime) / (double) valueCount,
+                    (insertDefaultStopTime - insertDefaultStartTime) / (double) valueCount);
+        }
+    }
+}
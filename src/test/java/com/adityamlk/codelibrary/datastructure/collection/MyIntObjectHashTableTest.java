@@ -0,0 +1,78 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Log4j2
+public class MyIntObjectHashTableTest {
+
+    private static final String MISSING_VALUE = "missing";
+
+    private MyIntObjectHashTable<String> myHashTable;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void defaultMissingValueTest() {
+        myHashTable = new MyIntObjectHashTable<>();
+
+        assertThat("Value does not match.", myHashTable.getMissingValue(), is(nullValue()));
+        assertThat("Value does not match.", myHashTable.get(0), is(nullValue()));
+        assertThat("Value does not match.", myHashTable.get(42), is(nullValue()));
+        assertThat("Value does not match.", myHashTable.remove(42), is(nullValue()));
+    }
+
+    @Test
+    public void freeKeyTest() {
+        myHashTable = new MyIntObjectHashTable<>(16, MISSING_VALUE);
+        final String value = new String("zero");
+
+        myHashTable.insert(0, value);
+
+        assertThat("Result does not match.", myHashTable.contains(0), is(true));
+        assertThat("Value does not match.", myHashTable.get(0), sameInstance(value));
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(1));
+        assertThat("Value does not match.", myHashTable.remove(0), sameInstance(value));
+        assertThat("Value does not match.", myHashTable.get(0), is(MISSING_VALUE));
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(0));
+    }
+
+    @Test
+    public void valuesFollowShiftedKeysTest() {
+        myHashTable = new MyIntObjectHashTable<>(1, MISSING_VALUE);
+
+        for (int i = 1; i <= 1000; i++) {
+            myHashTable.insert(i, String.valueOf(i));
+        }
+
+        // Removing every other key shifts the rest of each cluster back, and the values have to move with their keys.
+        for (int i = 2; i <= 1000; i += 2) {
+            assertThat("Value does not match.", myHashTable.remove(i), is(String.valueOf(i)));
+        }
+
+        for (int i = 1; i <= 1000; i++) {
+            assertThat("Value does not match.", myHashTable.get(i), is(0 == i % 2 ? MISSING_VALUE : String.valueOf(i)));
+        }
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(500));
+    }
+
+    @Test
+    public void nullValueTest() {
+        myHashTable = new MyIntObjectHashTable<>(16, MISSING_VALUE);
+
+        assertThrows(NullPointerException.class, () -> myHashTable.insert(0, null));
+        assertThrows(NullPointerException.class, () -> myHashTable.insert(42, null));
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(0));
+    }
+}
@@ -0,0 +1,195 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.nio.LongBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.ArrayList;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Log4j2
+public class MyLongArrayListTest {
+
+    private MyLongArrayList myLongArrayList;
+
+    private ArrayList<Long> defaultArrayList;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void constructorTest() {
+        myLongArrayList = new MyLongArrayList(10, 3);
+        defaultArrayList = new ArrayList<>(10);
+
+        assertThat("Size is incorrect.", myLongArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myLongArrayList.toString(), is(defaultArrayList.toString()));
+        assertThrows(IllegalArgumentException.class, () -> new MyLongArrayList(10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MyLongArrayList(-1));
+    }
+
+    @Test
+    public void insertMillionValuesTest() {
+        myLongArrayList = new MyLongArrayList();
+        defaultArrayList = new ArrayList<>();
+
+        insertValues(1000000, true);
+
+        assertThat("Size is incorrect.", myLongArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myLongArrayList.toString(), is(defaultArrayList.toString()));
+    }
+
+    @Test
+    public void removeTenThousandValuesTest() {
+        myLongArrayList = new MyLongArrayList();
+        defaultArrayList = new ArrayList<>();
+
+        insertValues(10000, false);
+        removeValues(10000, true);
+
+        assertThat("Size is incorrect.", myLongArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myLongArrayList.toString(), is(defaultArrayList.toString()));
+        assertThat("Result does not match.", myLongArrayList.remove(0L), is(defaultArrayList.remove((Long) 0L)));
+    }
+
+    @Test
+    public void indexOfAndContainsTest() {
+        myLongArrayList = new MyLongArrayList();
+        defaultArrayList = new ArrayList<>();
+
+        insertValues(100000, false);
+        removeValues(50000, false);
+
+        for (final long value : new long[] {5555L, 1994L, 0L, -1L, 99999L, 67893L, 444444L}) {
+            assertThat("Index does not match.", myLongArrayList.indexOf(value), is(defaultArrayList.indexOf(value)));
+            assertThat(
+                    "Index does not match.",
+                    myLongArrayList.lastIndexOf(value),
+                    is(defaultArrayList.lastIndexOf(value)));
+            assertThat(
+                    "Result does not match.", myLongArrayList.contains(value), is(defaultArrayList.contains(value)));
+        }
+
+        myLongArrayList.insert(1994L);
+        defaultArrayList.add(1994L);
+
+        assertThat(
+                "Index does not match.", myLongArrayList.lastIndexOf(1994L), is(defaultArrayList.lastIndexOf(1994L)));
+    }
+
+    @Test
+    public void insertAllAndToArrayTest() {
+        myLongArrayList = new MyLongArrayList(3);
+        defaultArrayList = new ArrayList<>();
+
+        final long[] values = new long[1000000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) i;
+            defaultArrayList.add((long) i);
+        }
+
+        myLongArrayList.insert((long) -1);
+        defaultArrayList.add(0, (long) -1);
+
+        final long insertMyStartTime = System.nanoTime();
+
+        myLongArrayList.insertAll(values);
+
+        final long insertMyStopTime = System.nanoTime();
+
+        log.info(
+                "Time to insert all {} values into my array list: {}.",
+                values.length,
+                (insertMyStopTime - insertMyStartTime) / (double) values.length);
+
+        assertThat("Size is incorrect.", myLongArrayList.getSize(), is(defaultArrayList.size()));
+        assertThat("List is incorrect.", myLongArrayList.toString(), is(defaultArrayList.toString()));
+
+        final long[] array = myLongArrayList.toArray();
+
+        assertThat("Size is incorrect.", array.length, is(defaultArrayList.size()));
+        assertThat("Value does not match.", array[0], is((long) -1));
+        assertThat("Value does not match.", array[array.length - 1], is(defaultArrayList.get(array.length - 1)));
+        assertThat("Value does not match.", myLongArrayList.get(1994), is(defaultArrayList.get(1994)));
+        assertThrows(IndexOutOfBoundsException.class, () -> myLongArrayList.get(array.length));
+    }
+
+    @Test
+    public void readOnlyBufferTest() {
+        myLongArrayList = new MyLongArrayList(8);
+
+        myLongArrayList.insertAll(new long[] {(long) 1, (long) 2, (long) 3});
+
+        final LongBuffer buffer = myLongArrayList.asReadOnlyBuffer();
+
+        assertThat("Size is incorrect.", buffer.remaining(), is(3));
+        assertThat("Size is incorrect.", buffer.capacity(), is(3));
+        assertThat("Value does not match.", buffer.get(2), is((long) 3));
+        assertThat("Result does not match.", buffer.isReadOnly(), is(true));
+        assertThrows(ReadOnlyBufferException.class, () -> buffer.put(0, (long) 4));
+
+        // The buffer shares the values with the list, so removing a value shifts the ones the buffer covers.
+        myLongArrayList.remove((long) 1);
+
+        assertThat("Value does not match.", buffer.get(0), is((long) 2));
+    }
+
+    private void insertValues(final int valueCount, final boolean shouldLog) {
+        final long insertMyStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            myLongArrayList.insert((long) i);
+        }
+
+        final long insertMyStopTime = System.nanoTime();
+
+        final long insertDefaultStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            defaultArrayList.add((long) i);
+        }
+
+        final long insertDefaultStopTime = System.nanoTime();
+
+        if (shouldLog) {
+            log.info(
+                    "Time to insert {} values into my array list: {} vs default array list: {}.",
+                    valueCount,
+                    (insertMyStopTime - insertMyStartTime) / (double) valueCount,
+                    (insertDefaultStopTime - insertDefaultStartTime) / (double) valueCount);
+        }
+    }
+
+    private void removeValues(final int valueCount, final boolean shouldLog) {
+        final long removeMyStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            myLongArrayList.remove((long) i);
+        }
+
+        final long removeMyStopTime = System.nanoTime();
+
+        final long removeDefaultStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            defaultArrayList.remove((Long) (long) i);
+        }
+
+        final long removeDefaultStopTime = System.nanoTime();
+
+        if (shouldLog) {
+            log.info(
+                    "Time to remove {} values from my array list: {} vs default array list: {}.",
+                    valueCount,
+                    (removeMyStopTime - removeMyStartTime) / (double) valueCount,
+                    (removeDefaultStopTime - removeDefaultStartTime) / (double) valueCount);
+        }
+    }
+}
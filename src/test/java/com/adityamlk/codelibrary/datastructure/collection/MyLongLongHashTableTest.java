@@ -0,0 +1,101 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.HashMap;
+import java.util.Random;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@Log4j2
+public class MyLongLongHashTableTest {
+
+    private static final long MISSING_VALUE = Long.MIN_VALUE;
+
+    private MyLongLongHashTable myHashTable;
+
+    private HashMap<Long, Long> defaultHashMap;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void highBitKeysTest() {
+        myHashTable = new MyLongLongHashTable(1, MISSING_VALUE);
+
+        // The keys only differ above the low 32 bits, so a hash that drops the high half would put them in one cluster.
+        for (long i = 1; i <= 100000; i++) {
+            myHashTable.insert(i << 32, i);
+        }
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(100000));
+
+        for (long i = 1; i <= 100000; i++) {
+            assertThat("Value does not match.", myHashTable.get(i << 32), is(i));
+        }
+
+        assertThat("Value does not match.", myHashTable.get(1L << 31), is(MISSING_VALUE));
+        assertThat("Value does not match.", myHashTable.remove(100000L << 32), is(100000L));
+        assertThat("Result does not match.", myHashTable.contains(100000L << 32), is(false));
+    }
+
+    @Test
+    public void extremeKeysTest() {
+        myHashTable = new MyLongLongHashTable(16, MISSING_VALUE);
+        final long[] keys = {0L, -1L, 1L, Long.MIN_VALUE, Long.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE + 1L};
+
+        for (int i = 0; i < keys.length; i++) {
+            myHashTable.insert(keys[i], i);
+        }
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(keys.length));
+
+        for (int i = 0; i < keys.length; i++) {
+            assertThat("Value does not match.", myHashTable.get(keys[i]), is((long) i));
+        }
+
+        assertThat("Value does not match.", myHashTable.remove(0L), is(0L));
+        assertThat("Result does not match.", myHashTable.contains(0L), is(false));
+        assertThat("Value does not match.", myHashTable.get(Long.MIN_VALUE), is(3L));
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(keys.length - 1));
+    }
+
+    @Test
+    public void randomOperationsTest() {
+        myHashTable = new MyLongLongHashTable(1, MISSING_VALUE);
+        defaultHashMap = new HashMap<>();
+        final Random random = new Random(1994);
+        final long[] keys = new long[2000];
+
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+
+        // Keys are spread across the whole long range, and drawn from a small pool so inserts, overwrites and
+        // removals interleave.
+        for (int i = 0; i < 200000; i++) {
+            final long key = keys[random.nextInt(keys.length)];
+
+            if (random.nextBoolean()) {
+                myHashTable.insert(key, i);
+                defaultHashMap.put(key, (long) i);
+            } else {
+                assertThat("Value does not match.", myHashTable.remove(key),
+                        is(defaultHashMap.getOrDefault(key, MISSING_VALUE)));
+                defaultHashMap.remove(key);
+            }
+        }
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(defaultHashMap.size()));
+
+        for (final long key : keys) {
+            assertThat("Value does not match.", myHashTable.get(key),
+                    is(defaultHashMap.getOrDefault(key, MISSING_VALUE)));
+            assertThat("Result does not match.", myHashTable.contains(key), is(defaultHashMap.containsKey(key)));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Log4j2
+public class MyLongObjectHashTableTest {
+
+    private static final String MISSING_VALUE = "missing";
+
+    private MyLongObjectHashTable<String> myHashTable;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void defaultMissingValueTest() {
+        myHashTable = new MyLongObjectHashTable<>();
+
+        assertThat("Value does not match.", myHashTable.getMissingValue(), is(nullValue()));
+        assertThat("Value does not match.", myHashTable.get(0L), is(nullValue()));
+        assertThat("Value does not match.", myHashTable.get(1L << 32), is(nullValue()));
+        assertThat("Value does not match.", myHashTable.remove(1L << 32), is(nullValue()));
+    }
+
+    @Test
+    public void highBitKeysTest() {
+        myHashTable = new MyLongObjectHashTable<>(1, MISSING_VALUE);
+
+        // The keys only differ above the low 32 bits, so a hash that drops the high half would put them in one cluster.
+        for (long i = 1; i <= 100000; i++) {
+            myHashTable.insert(i << 32, String.valueOf(i));
+        }
+
+        // Removing every other key shifts the rest of each cluster back, and the values have to move with their keys.
+        for (long i = 2; i <= 100000; i += 2) {
+            assertThat("Value does not match.", myHashTable.remove(i << 32), is(String.valueOf(i)));
+        }
+
+        for (long i = 1; i <= 100000; i++) {
+            assertThat("Value does not match.", myHashTable.get(i << 32),
+                    is(0 == i % 2 ? MISSING_VALUE : String.valueOf(i)));
+        }
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(50000));
+    }
+
+    @Test
+    public void extremeKeysTest() {
+        myHashTable = new MyLongObjectHashTable<>(16, MISSING_VALUE);
+        final long[] keys = {0L, -1L, Long.MIN_VALUE, Long.MAX_VALUE};
+
+        for (final long key : keys) {
+            myHashTable.insert(key, String.valueOf(key));
+        }
+
+        for (final long key : keys) {
+            assertThat("Value does not match.", myHashTable.get(key), is(String.valueOf(key)));
+        }
+
+        assertThat("Value does not match.", myHashTable.remove(0L), is("0"));
+        assertThat("Value does not match.", myHashTable.get(0L), is(MISSING_VALUE));
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(keys.length - 1));
+    }
+
+    @Test
+    public void nullValueTest() {
+        myHashTable = new MyLongObjectHashTable<>(16, MISSING_VALUE);
+
+        assertThrows(NullPointerException.class, () -> myHashTable.insert(0L, null));
+        assertThrows(NullPointerException.class, () -> myHashTable.insert(1L << 32, null));
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(0));
+    }
+}
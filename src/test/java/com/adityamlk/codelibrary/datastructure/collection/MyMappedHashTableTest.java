@@ -0,0 +1,231 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Log4j2
+public class MyMappedHashTableTest {
+
+    private static final long MISSING_VALUE = Long.MIN_VALUE;
+
+    @TempDir
+    public Path temporaryDirectory;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void insertMillionValuesTest() throws IOException {
+        final Path path = temporaryDirectory.resolve("table.bin");
+        final HashMap<Long, Long> defaultHashMap = new HashMap<>();
+
+        final long buildStartTime = System.nanoTime();
+
+        try (MyMappedHashTable.Builder builder = MyMappedHashTable.builder(path, 1000000L)) {
+            for (int i = 0; i < 1000000; i++) {
+                builder.insert(i * (long) Integer.MAX_VALUE, i);
+            }
+
+            builder.publish();
+        }
+
+        final long buildStopTime = System.nanoTime();
+
+        for (int i = 0; i < 1000000; i++) {
+            defaultHashMap.put(i * (long) Integer.MAX_VALUE, (long) i);
+        }
+
+        final long openStartTime = System.nanoTime();
+
+        try (MyMappedHashTable myHashTable = MyMappedHashTable.open(path, MISSING_VALUE)) {
+            final long openStopTime = System.nanoTime();
+
+            log.info(
+                    "Time to build {} values into my mapped hash table: {}, time to open it: {}.",
+                    defaultHashMap.size(),
+                    (buildStopTime - buildStartTime) / (double) defaultHashMap.size(),
+                    openStopTime - openStartTime);
+
+            assertThat("Size is incorrect.", myHashTable.getSize(), is((long) defaultHashMap.size()));
+            assertThat("List is incorrect.", myHashTable.toString().length(), is(defaultHashMap.toString().length()));
+
+            for (int i = 0; i < 1000000; i++) {
+                final long key = i * (long) Integer.MAX_VALUE;
+
+                assertThat("Value does not match.", myHashTable.get(key), is(defaultHashMap.get(key)));
+                assertThat("Value does not match.", myHashTable.get(key + 1), is(MISSING_VALUE));
+            }
+        }
+    }
+
+    @Test
+    public void randomValuesTest() throws IOException {
+        final Path path = temporaryDirectory.resolve("table.bin");
+        final HashMap<Long, Long> defaultHashMap = new HashMap<>();
+        final Random random = new Random(1994);
+
+        // Keys are drawn from a small range including zero and negatives so overwrites land in the same clusters.
+        try (MyMappedHashTable.Builder builder = MyMappedHashTable.builder(path, 2000L)) {
+            for (int i = 0; i < 20000; i++) {
+                final long key = random.nextInt(2000) - 1000L;
+
+                builder.insert(key, i);
+                defaultHashMap.put(key, (long) i);
+            }
+
+            assertThat("Size is incorrect.", builder.getSize(), is((long) defaultHashMap.size()));
+            builder.publish();
+        }
+
+        try (MyMappedHashTable myHashTable = MyMappedHashTable.open(path, MISSING_VALUE)) {
+            assertThat("Size is incorrect.", myHashTable.getSize(), is((long) defaultHashMap.size()));
+
+            for (long key = -1000; key < 1000; key++) {
+                assertThat("Value does not match.", myHashTable.get(key), is(defaultHashMap.getOrDefault(key, MISSING_VALUE)));
+                assertThat("Result does not match.", myHashTable.contains(key), is(defaultHashMap.containsKey(key)));
+            }
+        }
+    }
+
+    @Test
+    public void publishNewVersionTest() throws IOException {
+        final Path path = temporaryDirectory.resolve("table.bin");
+
+        try (MyMappedHashTable.Builder builder = MyMappedHashTable.builder(path, 10L)) {
+            builder.insert(0L, 1).insert(42L, 1).publish();
+        }
+
+        try (MyMappedHashTable firstVersion = MyMappedHashTable.open(path)) {
+            try (MyMappedHashTable.Builder builder = MyMappedHashTable.builder(path, 10L)) {
+                builder.insert(42L, 2).insert(43L, 2).publish();
+            }
+
+            try (MyMappedHashTable secondVersion = MyMappedHashTable.open(path)) {
+                assertThat("Value does not match.", firstVersion.get(0L), is(1L));
+                assertThat("Value does not match.", firstVersion.get(42L), is(1L));
+                assertThat("Result does not match.", firstVersion.contains(43L), is(false));
+                assertThat("Size is incorrect.", firstVersion.getSize(), is(2L));
+
+                assertThat("Result does not match.", secondVersion.contains(0L), is(false));
+                assertThat("Value does not match.", secondVersion.get(42L), is(2L));
+                assertThat("Value does not match.", secondVersion.get(43L), is(2L));
+                assertThat("Size is incorrect.", secondVersion.getSize(), is(2L));
+            }
+        }
+
+        try (Stream<Path> files = Files.list(temporaryDirectory)) {
+            assertThat("Size is incorrect.", files.count(), is(1L));
+        }
+    }
+
+    @Test
+    public void invalidUsageTest() throws IOException {
+        final Path path = temporaryDirectory.resolve("table.bin");
+
+        try (MyMappedHashTable.Builder builder = MyMappedHashTable.builder(path, 3L)) {
+            builder.insert(1L, 1).insert(2L, 2).insert(3L, 3);
+
+            assertThrows(IllegalStateException.class, () -> builder.insert(4L, 4));
+        }
+
+        // The builder was closed without publishing, so nothing was written.
+        assertThat("Result does not match.", Files.exists(path), is(false));
+
+        Files.write(path, new byte[128]);
+        assertThrows(IOException.class, () -> MyMappedHashTable.open(path));
+
+        final MyMappedHashTable myHashTable;
+
+        try (MyMappedHashTable.Builder builder = MyMappedHashTable.builder(path, 1L)) {
+            builder.insert(1L, 1).publish();
+
+            assertThrows(IllegalStateException.class, () -> builder.insert(2L, 2));
+        }
+
+        myHashTable = MyMappedHashTable.open(path);
+        myHashTable.close();
+        myHashTable.close();
+
+        assertThrows(IllegalStateException.class, () -> myHashTable.get(1L));
+    }
+
+    @Test
+    public void failedPublishTest() throws IOException {
+        // A directory that is not empty cannot be replaced, so the rename fails.
+        final Path path = temporaryDirectory.resolve("table.bin");
+        Files.createDirectory(path);
+        Files.write(path.resolve("other.bin"), new byte[1]);
+
+        try (MyMappedHashTable.Builder builder = MyMappedHashTable.builder(path, 10L)) {
+            builder.insert(1L, 1);
+
+            assertThrows(IOException.class, builder::publish);
+        }
+
+        try (Stream<Path> files = Files.list(temporaryDirectory)) {
+            assertThat("Size is incorrect.", files.count(), is(1L));
+        }
+    }
+
+    @Test
+    public void closeWhileReadingTest() throws Exception {
+        final Path path = temporaryDirectory.resolve("table.bin");
+
+        try (MyMappedHashTable.Builder builder = MyMappedHashTable.builder(path, 100000L)) {
+            for (int i = 1; i <= 100000; i++) {
+                builder.insert(i, i);
+            }
+
+            builder.publish();
+        }
+
+        final MyMappedHashTable myHashTable = MyMappedHashTable.open(path);
+        final CountDownLatch startedReading = new CountDownLatch(1);
+        final AtomicLong readCount = new AtomicLong();
+        final AtomicBoolean isClosedSeen = new AtomicBoolean(false);
+
+        // The reader keeps going until it sees the table closed, which must fail the lookup instead of the process.
+        final Thread reader = new Thread(() -> {
+            startedReading.countDown();
+
+            try {
+                for (long key = 1; true; key = key % 100000 + 1) {
+                    if (key != myHashTable.get(key)) {
+                        return;
+                    }
+
+                    readCount.incrementAndGet();
+                }
+            } catch (final IllegalStateException exception) {
+                isClosedSeen.set(true);
+            }
+        });
+
+        reader.start();
+        startedReading.await();
+        myHashTable.close();
+        reader.join();
+
+        log.info("Lookups before the table was closed: {}.", readCount.get());
+
+        assertThat("Result does not match.", isClosedSeen.get(), is(true));
+        assertThrows(IllegalStateException.class, () -> myHashTable.get(1L));
+    }
+}
@@ -0,0 +1,107 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class MyMpmcQueueTest extends MyBoundedQueueTest {
+
+    private static final int PRODUCER_COUNT = 4;
+
+    private static final int CONSUMER_COUNT = 4;
+
+    @Override
+    MyBoundedQueue<Integer> createQueue(final Integer capacity, final WaitStrategy waitStrategy) {
+        return new MyMpmcQueue<>(capacity, waitStrategy);
+    }
+
+    @Override
+    int getProducerCount() {
+        return PRODUCER_COUNT;
+    }
+
+    @Override
+    int getConsumerCount() {
+        return CONSUMER_COUNT;
+    }
+
+    @Override
+    int getMinimumCapacity() {
+        return 2;
+    }
+
+    @Test
+    public void smallestCapacityTest() {
+        // A single slot would let the second offer overwrite the first value, so the capacity is rounded up to two.
+        final MyMpmcQueue<Integer> myMpmcQueue = new MyMpmcQueue<>(1);
+
+        assertThat("Result does not match.", myMpmcQueue.offer(1), is(true));
+        assertThat("Result does not match.", myMpmcQueue.offer(2), is(true));
+        assertThat("Result does not match.", myMpmcQueue.offer(3), is(false));
+        assertThat("Value does not match.", myMpmcQueue.poll(), is(1));
+        assertThat("Value does not match.", myMpmcQueue.poll(), is(2));
+        assertThat("Value does not match.", myMpmcQueue.poll(), is((Integer) null));
+    }
+
+    @Test
+    public void consumersRaceOnPollTest() throws Exception {
+        final MyMpmcQueue<Integer> myMpmcQueue = new MyMpmcQueue<>(1024);
+        final ExecutorService executorService = Executors.newFixedThreadPool(CONSUMER_COUNT);
+
+        try {
+            // Every round fills the queue, then releases all consumers at once to poll it empty.
+            for (int round = 0; round < 100; round++) {
+                for (int value = 0; value < myMpmcQueue.getCapacity(); value++) {
+                    myMpmcQueue.offer(value);
+                }
+
+                final CountDownLatch startLatch = new CountDownLatch(1);
+                final List<Future<int[]>> futures = new ArrayList<>();
+
+                for (int consumerIndex = 0; consumerIndex < CONSUMER_COUNT; consumerIndex++) {
+                    futures.add(executorService.submit(() -> {
+                        final int[] removalCounts = new int[myMpmcQueue.getCapacity()];
+
+                        startLatch.await();
+
+                        Integer value = myMpmcQueue.poll();
+
+                        while (null != value) {
+                            removalCounts[value] += 1;
+                            value = myMpmcQueue.poll();
+                        }
+
+                        return removalCounts;
+                    }));
+                }
+
+                startLatch.countDown();
+
+                final int[] removalCounts = new int[myMpmcQueue.getCapacity()];
+
+                for (final Future<int[]> future : futures) {
+                    final int[] consumerRemovalCounts = future.get();
+
+                    for (int value = 0; value < removalCounts.length; value++) {
+                        removalCounts[value] += consumerRemovalCounts[value];
+                    }
+                }
+
+                for (int value = 0; value < removalCounts.length; value++) {
+                    assertThat("Value does not match.", removalCounts[value], is(1));
+                }
+
+                assertThat("Size is incorrect.", myMpmcQueue.getSize(), is(0));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class MyMpscQueueTest extends MyBoundedQueueTest {
+
+    private static final int PRODUCER_COUNT = 4;
+
+    private static final int BATCH_SIZE = 10;
+
+    @Override
+    MyBoundedQueue<Integer> createQueue(final Integer capacity, final WaitStrategy waitStrategy) {
+        return new MyMpscQueue<>(capacity, waitStrategy);
+    }
+
+    @Override
+    int getProducerCount() {
+        return PRODUCER_COUNT;
+    }
+
+    @Override
+    int getConsumerCount() {
+        return 1;
+    }
+
+    @Test
+    public void offerAllClaimsBatchTogetherTest() throws Exception {
+        final MyMpscQueue<Integer> myMpscQueue = new MyMpscQueue<>(256, WaitStrategy.YIELD);
+        final int valueCount = PRODUCER_COUNT * VALUES_PER_PRODUCER;
+        final Queue<Integer> wholeBatchStarts = new ConcurrentLinkedQueue<>();
+        final ExecutorService executorService = Executors.newFixedThreadPool(PRODUCER_COUNT);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            // Each producer offers its values in batches, and records the batches that fit in a single offerAll.
+            for (int producerIndex = 0; producerIndex < PRODUCER_COUNT; producerIndex++) {
+                final int firstValue = producerIndex * VALUES_PER_PRODUCER;
+
+                futures.add(executorService.submit(() -> {
+                    for (int batchStart = firstValue; batchStart < firstValue + VALUES_PER_PRODUCER;
+                            batchStart += BATCH_SIZE) {
+                        final List<Integer> batch = new ArrayList<>();
+
+                        for (int value = batchStart; value < batchStart + BATCH_SIZE; value++) {
+                            batch.add(value);
+                        }
+
+                        final int offerCount = myMpscQueue.offerAll(batch);
+
+                        if (BATCH_SIZE == offerCount) {
+                            wholeBatchStarts.add(batchStart);
+                        }
+
+                        batch.subList(0, offerCount).clear();
+
+                        while (!batch.isEmpty()) {
+                            Thread.yield();
+                            batch.subList(0, myMpscQueue.offerAll(batch)).clear();
+                        }
+                    }
+                }));
+            }
+
+            // Records the position at which every value was removed.
+            final int[] positions = new int[valueCount];
+            int removedCount = 0;
+
+            while (removedCount < valueCount) {
+                final Integer value = myMpscQueue.take();
+                positions[value] = removedCount;
+                removedCount += 1;
+            }
+
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+
+            // A batch claimed with a single compare-and-set is never interleaved with the values of other producers.
+            int interleavedBatchCount = 0;
+
+            for (final int batchStart : wholeBatchStarts) {
+                for (int value = batchStart + 1; value < batchStart + BATCH_SIZE; value++) {
+                    if (positions[value] != positions[value - 1] + 1) {
+                        interleavedBatchCount += 1;
+                        break;
+                    }
+                }
+            }
+
+            assertThat("Result does not match.", wholeBatchStarts.isEmpty(), is(false));
+            assertThat("Result does not match.", interleavedBatchCount, is(0));
+            assertThat("Size is incorrect.", myMpscQueue.getSize(), is(0));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
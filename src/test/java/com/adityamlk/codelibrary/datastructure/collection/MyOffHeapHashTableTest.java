@@ -0,0 +1,148 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.HashMap;
+import java.util.Random;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Log4j2
+public class MyOffHeapHashTableTest {
+
+    private static final long MISSING_VALUE = Long.MIN_VALUE;
+
+    private MyOffHeapHashTable myHashTable;
+
+    private HashMap<Long, Long> defaultHashMap;
+
+    @AfterEach
+    public void closeHashTable() {
+        if (null != myHashTable) {
+            myHashTable.close();
+        }
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void insertMillionValuesTest() {
+        myHashTable = new MyOffHeapHashTable(MISSING_VALUE);
+        defaultHashMap = new HashMap<>();
+
+        insertValues(1000000, true);
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is((long) defaultHashMap.size()));
+        assertThat("List is incorrect.", myHashTable.toString().length(), is(defaultHashMap.toString().length()));
+    }
+
+    @Test
+    public void removeMillionValuesTest() {
+        myHashTable = new MyOffHeapHashTable(MISSING_VALUE);
+        defaultHashMap = new HashMap<>();
+
+        insertValues(1000000, false);
+
+        for (int i = 0; i < 1000000; i++) {
+            assertThat("Value does not match.", myHashTable.remove(i * (long) Integer.MAX_VALUE), is(defaultHashMap.remove(i * (long) Integer.MAX_VALUE)));
+        }
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is((long) defaultHashMap.size()));
+        assertThat("List is incorrect.", myHashTable.toString(), is(defaultHashMap.toString()));
+    }
+
+    @Test
+    public void missingValueTest() {
+        myHashTable = new MyOffHeapHashTable(MISSING_VALUE);
+
+        assertThat("Value does not match.", myHashTable.get(0L), is(MISSING_VALUE));
+        assertThat("Value does not match.", myHashTable.get(42L), is(MISSING_VALUE));
+        assertThat("Value does not match.", myHashTable.remove(42L), is(MISSING_VALUE));
+        assertThat("Result does not match.", myHashTable.contains(0L), is(false));
+
+        myHashTable.insert(0L, 7);
+        myHashTable.insert(42L, 8);
+
+        assertThat("Value does not match.", myHashTable.get(0L), is(7L));
+        assertThat("Value does not match.", myHashTable.get(42L), is(8L));
+        assertThat("Value does not match.", myHashTable.remove(0L), is(7L));
+        assertThat("Value does not match.", myHashTable.get(0L), is(MISSING_VALUE));
+        assertThat("Size is incorrect.", myHashTable.getSize(), is(1L));
+    }
+
+    @Test
+    public void randomOperationsTest() {
+        myHashTable = new MyOffHeapHashTable(1L, MISSING_VALUE);
+        defaultHashMap = new HashMap<>();
+        final Random random = new Random(1994);
+
+        // Keys are drawn from a small range including zero and negatives so inserts, overwrites and removals
+        // interleave within the same clusters.
+        for (int i = 0; i < 200000; i++) {
+            final long key = random.nextInt(2000) - 1000L;
+
+            if (random.nextBoolean()) {
+                myHashTable.insert(key, (long) i);
+                defaultHashMap.put(key, (long) i);
+            } else {
+                assertThat("Value does not match.", myHashTable.remove(key), is(defaultHashMap.getOrDefault(key, MISSING_VALUE)));
+                defaultHashMap.remove(key);
+            }
+        }
+
+        assertThat("Size is incorrect.", myHashTable.getSize(), is((long) defaultHashMap.size()));
+
+        for (long key = -1000; key < 1000; key++) {
+            assertThat("Value does not match.", myHashTable.get(key), is(defaultHashMap.getOrDefault(key, MISSING_VALUE)));
+            assertThat("Result does not match.", myHashTable.contains(key), is(defaultHashMap.containsKey(key)));
+        }
+    }
+
+    @Test
+    public void closeTest() {
+        myHashTable = new MyOffHeapHashTable(MISSING_VALUE);
+        myHashTable.insert(42L, 8);
+
+        assertThat("Size is incorrect.", myHashTable.getOffHeapBytes(), is(1024L * 16));
+
+        myHashTable.close();
+        myHashTable.close();
+
+        assertThat("Size is incorrect.", myHashTable.getOffHeapBytes(), is(0L));
+        assertThrows(IllegalStateException.class, () -> myHashTable.get(42L));
+        assertThrows(IllegalStateException.class, () -> myHashTable.insert(42L, 8));
+    }
+
+    private void insertValues(final int valueCount, final boolean shouldLog) {
+        final long insertMyStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            myHashTable.insert(i * (long) Integer.MAX_VALUE, (long) i);
+        }
+
+        final long insertMyStopTime = System.nanoTime();
+
+        final long insertDefaultStartTime = System.nanoTime();
+
+        for (int i = 0; i < valueCount; i++) {
+            defaultHashMap.put(i * (long) Integer.MAX_VALUE, (long) i);
+        }
+
+        final long insertDefaultStopTime = System.nanoTime();
+
+        if (shouldLog) {
+            log.info(
+                    "Time to insert {} values into my hash table: {} vs default hash map: {}.",
+                    valueCount,
+                    (insertMyStopTime - insertMyStartTime) / (double) valueCount,
+                    (insertDefaultStopTime - insertDefaultStartTime) / (double) valueCount);
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package com.adityamlk.codelibrary.datastructure.collection;
 
 import com.google.common.collect.Lists;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
+import java.util.Random;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Log4j2
 public class MyQueueTest {
@@ -147,6 +152,56 @@ public class MyQueueTest {
         assertThat("Result does not match.", myQueue.peek(), is(defaultQueue.peek()));
     }
 
+    @Test
+    public void enqueueAllAndDrainToTest() {
+        myQueue = new MyQueue<>(4);
+        defaultQueue = new ArrayDeque<>();
+
+        final Random random = new Random(1994);
+
+        // Random batches keep moving the head around the array, so that batches wrap around its end and resizes
+        // unwrap them.
+        for (int i = 0; i < 10000; i++) {
+            if (random.nextBoolean()) {
+                final List<Integer> batch = new ArrayList<>();
+
+                for (int j = random.nextInt(50); j > 0; j--) {
+                    batch.add(random.nextInt(1000));
+                }
+
+                myQueue.enqueueAll(batch);
+                defaultQueue.addAll(batch);
+            } else {
+                final int maximumCount = random.nextInt(50);
+                final List<Integer> myDrainedValues = new ArrayList<>();
+                final List<Integer> defaultDrainedValues = new ArrayList<>();
+
+                for (int j = 0; j < maximumCount && !defaultQueue.isEmpty(); j++) {
+                    defaultDrainedValues.add(defaultQueue.poll());
+                }
+
+                assertThat(
+                        "Size is incorrect.",
+                        myQueue.drainTo(myDrainedValues::add, maximumCount),
+                        is(defaultDrainedValues.size()));
+                assertThat("Queue is incorrect.", myDrainedValues, is(defaultDrainedValues));
+            }
+
+            assertThat("Size is incorrect.", myQueue.getSize(), is(defaultQueue.size()));
+            assertThat("Result does not match.", myQueue.peek(), is(defaultQueue.peek()));
+        }
+
+        assertThat("Queue is incorrect.", myQueue.toString(), is(defaultQueue.toString()));
+
+        final List<Integer> valuesWithNull = new ArrayList<>(List.of(1));
+        valuesWithNull.add(null);
+
+        assertThrows(NullPointerException.class, () -> myQueue.enqueueAll(valuesWithNull));
+        assertThrows(IllegalArgumentException.class, () -> myQueue.drainTo(value -> { }, -1));
+        assertThrows(IllegalArgumentException.class, () -> new MyQueue<Integer>(-1));
+        assertThat("Size is incorrect.", myQueue.getSize(), is(defaultQueue.size()));
+    }
+
     private void insertValues(final int valueCount, final boolean shouldLog) {
         final long insertMyStartTime = System.nanoTime();
 
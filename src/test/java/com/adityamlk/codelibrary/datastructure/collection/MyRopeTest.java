@@ -0,0 +1,183 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Random;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Log4j2
+public class MyRopeTest {
+
+    private static final String SAMPLE_TEXT = "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do" +
+            " eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud" +
+            " exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. ";
+
+    private MyRope myRope;
+
+    private StringBuilder defaultStringBuilder;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void randomEditsTest() {
+        myRope = new MyRope(SAMPLE_TEXT);
+        defaultStringBuilder = new StringBuilder(SAMPLE_TEXT);
+
+        final Random random = new Random(1994);
+
+        for (int i = 0; i < 20000; i++) {
+            final int startIndex = random.nextInt(defaultStringBuilder.length() + 1);
+            final int maximumRangeLength = Math.min(100, defaultStringBuilder.length() - startIndex);
+            final int endIndex = startIndex + random.nextInt(maximumRangeLength + 1);
+
+            switch (random.nextInt(5)) {
+                case 0:
+                    myRope.delete(startIndex, endIndex);
+                    defaultStringBuilder.delete(startIndex, endIndex);
+                    break;
+                case 1:
+                    assertThat(
+                            "String is incorrect.",
+                            myRope.substring(startIndex, endIndex).toString(),
+                            is(defaultStringBuilder.substring(startIndex, endIndex)));
+                    break;
+                case 2:
+                    myRope.append(SAMPLE_TEXT.substring(0, endIndex - startIndex));
+                    defaultStringBuilder.append(SAMPLE_TEXT, 0, endIndex - startIndex);
+                    break;
+                default:
+                    myRope.insert(startIndex, SAMPLE_TEXT.substring(0, endIndex - startIndex));
+                    defaultStringBuilder.insert(startIndex, SAMPLE_TEXT.substring(0, endIndex - startIndex));
+                    break;
+            }
+        }
+
+        assertThat("Size is incorrect.", myRope.getLength(), is(defaultStringBuilder.length()));
+        assertThat("String is incorrect.", myRope.toString(), is(defaultStringBuilder.toString()));
+
+        for (int i = 0; i < 1000; i++) {
+            final int index = random.nextInt(defaultStringBuilder.length());
+
+            assertThat("Value does not match.", myRope.charAt(index), is(defaultStringBuilder.charAt(index)));
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> myRope.charAt(defaultStringBuilder.length()));
+        assertThrows(IndexOutOfBoundsException.class, () -> myRope.insert(-1, "a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> myRope.delete(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> myRope.substring(0, defaultStringBuilder.length() + 1));
+    }
+
+    @Test
+    public void sharedStructureTest() {
+        final MyRope firstRope = new MyRope("Hello");
+        final MyRope secondRope = new MyRope(", world");
+
+        firstRope.append(secondRope).append(secondRope);
+        secondRope.insert(0, "!");
+
+        assertThat("String is incorrect.", firstRope.toString(), is("Hello, world, world"));
+        assertThat("String is incorrect.", secondRope.toString(), is("!, world"));
+
+        final MyRope substring = firstRope.substring(5, 12);
+        firstRope.delete(0, 5);
+
+        assertThat("String is incorrect.", substring.toString(), is(", world"));
+        assertThat("String is incorrect.", firstRope.toString(), is(", world, world"));
+        assertThat("String is incorrect.", new MyRope().toString(), is(""));
+        assertThat("Result does not match.", new MyRope().chunkIterator().hasNext(), is(false));
+    }
+
+    @Test
+    public void twentyThousandAppendsStayBalancedTest() {
+        myRope = new MyRope();
+
+        // Appending to the end is the worst case for an unbalanced tree, which would become a linked list.
+        for (int i = 0; i < 20000; i++) {
+            myRope.append(SAMPLE_TEXT);
+        }
+
+        final int length = myRope.getLength();
+        final double maximumHeight = 1.45 * (Math.log(length) / Math.log(2));
+
+        assertThat("Size is incorrect.", length, is(SAMPLE_TEXT.length() * 20000));
+        assertThat("Result does not match.", (double) myRope.getHeight(), lessThanOrEqualTo(maximumHeight));
+
+        final String text = myRope.toString();
+        defaultStringBuilder = new StringBuilder(text);
+
+        final Random random = new Random(1994);
+        final int[] indices = random.ints(1000, 0, length).toArray();
+
+        final long insertMyStartTime = System.nanoTime();
+
+        for (final int index : indices) {
+            myRope.insert(index, "inserted");
+        }
+
+        final long insertMyStopTime = System.nanoTime();
+
+        final long insertDefaultStartTime = System.nanoTime();
+
+        for (final int index : indices) {
+            defaultStringBuilder.insert(index, "inserted");
+        }
+
+        final long insertDefaultStopTime = System.nanoTime();
+
+        log.info(
+                "Time to insert {} strings into {} characters in my rope: {} vs default string builder: {}.",
+                indices.length,
+                length,
+                (insertMyStopTime - insertMyStartTime) / (double) indices.length,
+                (insertDefaultStopTime - insertDefaultStartTime) / (double) indices.length);
+
+        assertThat("Result does not match.", (double) myRope.getHeight(), lessThanOrEqualTo(maximumHeight));
+        assertThat("String is incorrect.", myRope.toString(), is(defaultStringBuilder.toString()));
+    }
+
+    @Test
+    public void writeToTest() throws Exception {
+        myRope = new MyRope();
+
+        // A long text with a surrogate pair that gets split across two leaves when the rope is split.
+        final String text = SAMPLE_TEXT.repeat(200) + "caf\u00E9 \uD83D\uDE00 " + SAMPLE_TEXT.repeat(200);
+        final int surrogateIndex = text.indexOf('\uD83D') + 1;
+
+        myRope.append(text.substring(0, surrogateIndex)).append(new MyRope(text.substring(surrogateIndex)));
+
+        final StringWriter stringWriter = new StringWriter();
+        myRope.writeTo(stringWriter);
+
+        assertThat("String is incorrect.", stringWriter.toString(), is(text));
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        myRope.writeTo(Channels.newChannel(outputStream), StandardCharsets.UTF_8);
+
+        assertThat(
+                "String is incorrect.",
+                new String(outputStream.toByteArray(), StandardCharsets.UTF_8),
+                is(text));
+
+        final Iterator<String> chunkIterator = myRope.chunkIterator();
+        final StringBuilder chunks = new StringBuilder();
+
+        while (chunkIterator.hasNext()) {
+            chunks.append(chunkIterator.next());
+        }
+
+        assertThat("String is incorrect.", chunks.toString(), is(text));
+    }
+}
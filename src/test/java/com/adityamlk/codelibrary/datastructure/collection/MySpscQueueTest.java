@@ -0,0 +1,19 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+public class MySpscQueueTest extends MyBoundedQueueTest {
+
+    @Override
+    MyBoundedQueue<Integer> createQueue(final Integer capacity, final WaitStrategy waitStrategy) {
+        return new MySpscQueue<>(capacity, waitStrategy);
+    }
+
+    @Override
+    int getProducerCount() {
+        return 1;
+    }
+
+    @Override
+    int getConsumerCount() {
+        return 1;
+    }
+}
@@ -1,5 +1,7 @@
 package com.adityamlk.codelibrary.datastructure.collection;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Stack;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.AfterAll;
@@ -7,6 +9,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Log4j2
 public class MyStackTest {
@@ -146,6 +149,44 @@ public class MyStackTest {
         assertThat("Result does not match.", myStack.peek(), is(defaultStack.peek()));
     }
 
+    @Test
+    public void pushAllAndDrainToTest() {
+        myStack = new MyStack<>(0);
+        defaultStack = new Stack<>();
+
+        final List<Integer> values = new ArrayList<>();
+
+        for (int i = 0; i < 100000; i++) {
+            values.add(i);
+        }
+
+        myStack.pushAll(values);
+        defaultStack.addAll(values);
+
+        assertThat("Size is incorrect.", myStack.getSize(), is(defaultStack.size()));
+        assertThat("Result does not match.", myStack.peek(), is(defaultStack.peek()));
+
+        final List<Integer> myDrainedValues = new ArrayList<>();
+        final List<Integer> defaultDrainedValues = new ArrayList<>();
+
+        for (int i = 0; i < 60000; i++) {
+            defaultDrainedValues.add(defaultStack.pop());
+        }
+
+        assertThat("Size is incorrect.", myStack.drainTo(myDrainedValues::add, 60000), is(60000));
+        assertThat("Stack is incorrect.", myDrainedValues, is(defaultDrainedValues));
+        assertThat("Stack is incorrect.", myStack.toString(), is(defaultStack.toString()));
+        assertThat("Size is incorrect.", myStack.drainTo(value -> { }, 60000), is(40000));
+        assertThat("Result does not match.", myStack.pop(), is((Integer) null));
+
+        final List<Integer> valuesWithNull = new ArrayList<>(List.of(1));
+        valuesWithNull.add(null);
+
+        assertThrows(NullPointerException.class, () -> myStack.pushAll(valuesWithNull));
+        assertThrows(IllegalArgumentException.class, () -> myStack.drainTo(value -> { }, -1));
+        assertThrows(IllegalArgumentException.class, () -> new MyStack<Integer>(-1));
+    }
+
     private void insertValues(final int valueCount, final boolean shouldLog) {
         final long insertMyStartTime = System.nanoTime();
 
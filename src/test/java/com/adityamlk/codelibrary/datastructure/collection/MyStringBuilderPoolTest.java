@@ -0,0 +1,121 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Log4j2
+public class MyStringBuilderPoolTest {
+
+    private static final int THREAD_COUNT = 8;
+
+    private MyStringBuilderPool myStringBuilderPool;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void acquireAndReleaseTest() {
+        myStringBuilderPool = new MyStringBuilderPool(2, 100);
+
+        final MyStringBuilder firstBuilder = myStringBuilderPool.acquire().append("first");
+        final MyStringBuilder secondBuilder = myStringBuilderPool.acquire().append("second");
+        final MyStringBuilder thirdBuilder = myStringBuilderPool.acquire().append("third");
+        final int capacity = firstBuilder.getCapacity();
+
+        assertThat("Result does not match.", myStringBuilderPool.release(firstBuilder), is(true));
+        assertThat("Result does not match.", myStringBuilderPool.release(secondBuilder), is(true));
+        assertThat("Result does not match.", myStringBuilderPool.release(thirdBuilder), is(false));
+        assertThat("Size is incorrect.", myStringBuilderPool.getIdleCount(), is(2));
+
+        // The most recently released builder comes back first, empty but with its capacity.
+        assertThat("Result does not match.", myStringBuilderPool.acquire(), sameInstance(secondBuilder));
+        assertThat("Result does not match.", myStringBuilderPool.acquire(), sameInstance(firstBuilder));
+        assertThat("Size is incorrect.", firstBuilder.getLength(), is(0));
+        assertThat("Result does not match.", firstBuilder.getCapacity(), is(capacity));
+        assertThat("Size is incorrect.", myStringBuilderPool.getIdleCount(), is(0));
+
+        // Builders that have grown past the retained capacity are dropped.
+        final MyStringBuilder largeBuilder = myStringBuilderPool.acquire().append("a".repeat(1000));
+
+        assertThat("Result does not match.", myStringBuilderPool.release(largeBuilder), is(false));
+        assertThat("Size is incorrect.", myStringBuilderPool.getIdleCount(), is(0));
+
+        // Releasing a builder twice would hand it out to two acquires.
+        final MyStringBuilder releasedBuilder = myStringBuilderPool.acquire();
+
+        assertThat("Result does not match.", myStringBuilderPool.release(releasedBuilder), is(true));
+        assertThrows(IllegalStateException.class, () -> myStringBuilderPool.release(releasedBuilder));
+        assertThat("Size is incorrect.", myStringBuilderPool.getIdleCount(), is(1));
+        assertThat("Result does not match.", myStringBuilderPool.acquire(), sameInstance(releasedBuilder));
+        assertThat("Result does not match.", myStringBuilderPool.release(releasedBuilder), is(true));
+        assertThrows(IllegalArgumentException.class, () -> new MyStringBuilderPool(-1, 100));
+        assertThrows(IllegalArgumentException.class, () -> new MyStringBuilderPool(1, -1));
+    }
+
+    @Test
+    public void concurrentAcquireAndReleaseTest() throws Exception {
+        myStringBuilderPool = new MyStringBuilderPool();
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        final List<Future<Integer>> futures = new ArrayList<>();
+
+        try {
+            final long buildStartTime = System.nanoTime();
+
+            // Every thread builds its own lines, which would mix if two threads shared a builder.
+            for (int threadIndex = 0; threadIndex < THREAD_COUNT; threadIndex++) {
+                final int threadNumber = threadIndex;
+
+                futures.add(executorService.submit(() -> {
+                    int mismatchCount = 0;
+
+                    for (int i = 0; i < 10000; i++) {
+                        final MyStringBuilder builder = myStringBuilderPool.acquire();
+                        builder.append("thread ").append(threadNumber).append(" line ").append(i);
+
+                        if (!builder.toString().equals("thread " + threadNumber + " line " + i)) {
+                            mismatchCount += 1;
+                        }
+
+                        myStringBuilderPool.release(builder);
+                    }
+
+                    return mismatchCount;
+                }));
+            }
+
+            int mismatchCount = 0;
+
+            for (final Future<Integer> future : futures) {
+                mismatchCount += future.get();
+            }
+
+            final long buildStopTime = System.nanoTime();
+
+            log.info(
+                    "Time to build {} lines with pooled builders: {}.",
+                    THREAD_COUNT * 10000,
+                    (buildStopTime - buildStartTime) / (double) (THREAD_COUNT * 10000));
+
+            assertThat("Result does not match.", mismatchCount, is(0));
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat("Size is incorrect.", myStringBuilderPool.getIdleCount(), lessThanOrEqualTo(THREAD_COUNT));
+    }
+}
@@ -1,5 +1,11 @@
 package com.adityamlk.codelibrary.datastructure.collection;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
@@ -10,6 +16,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Log4j2
 public class MyStringBuilderTest {
@@ -131,6 +138,245 @@ public class MyStringBuilderTest {
         assertThat("Index does not match.", myStringBuilder.contains('o'), is(true));
     }
 
+    @Test
+    public void inflateTest() {
+        myStringBuilder = new MyStringBuilder();
+        defaultStringBuilder = new StringBuilder();
+
+        myStringBuilder.append(SAMPLE_TEXT).append('\u00E9').append("caf\u00E9");
+        defaultStringBuilder.append(SAMPLE_TEXT).append('\u00E9').append("caf\u00E9");
+
+        // Latin-1 covers more than ASCII, so accented characters still take a single byte.
+        assertThat("Result does not match.", myStringBuilder.isLatin1(), is(true));
+        assertThat("String is incorrect.", myStringBuilder.toString(), is(defaultStringBuilder.toString()));
+        assertThat("Index does not match.", myStringBuilder.indexOf('\u20AC'), is(-1));
+
+        // The wide character in the middle of the string inflates the builder part way through the copy.
+        myStringBuilder.append("price: \u20AC5, ").append('\u2713');
+        defaultStringBuilder.append("price: \u20AC5, ").append('\u2713');
+
+        assertThat("Result does not match.", myStringBuilder.isLatin1(), is(false));
+        assertThat("Size is incorrect.", myStringBuilder.getLength(), is(defaultStringBuilder.length()));
+        assertThat("String is incorrect.", myStringBuilder.toString(), is(defaultStringBuilder.toString()));
+        assertThat(
+                "Index does not match.",
+                myStringBuilder.indexOf('\u20AC'),
+                is(defaultStringBuilder.indexOf("\u20AC")));
+        assertThat(
+                "Index does not match.",
+                myStringBuilder.indexOf('\u00E9'),
+                is(defaultStringBuilder.indexOf("\u00E9")));
+
+        appendCharacters(1000);
+
+        assertThat("String is incorrect.", myStringBuilder.toString(), is(defaultStringBuilder.toString()));
+
+        final MyStringBuilder wideStringBuilder = new MyStringBuilder().append('\u2713');
+
+        assertThat("String is incorrect.", wideStringBuilder.toString(), is("\u2713"));
+
+        // Resetting switches the builder back to Latin-1, so that a reused builder takes the single byte path again.
+        myStringBuilder.reset();
+        myStringBuilder.append("caf\u00E9");
+
+        assertThat("Result does not match.", myStringBuilder.isLatin1(), is(true));
+        assertThat("String is incorrect.", myStringBuilder.toString(), is("caf\u00E9"));
+    }
+
+    @Test
+    public void appendNumbersTest() {
+        myStringBuilder = new MyStringBuilder();
+        defaultStringBuilder = new StringBuilder();
+
+        final long[] longValues = {0, 1, -1, 9, 10, -10, 99, 100, 1994, -1994, Long.MAX_VALUE, Long.MIN_VALUE};
+        final int[] intValues = {0, 7, -7, 65535, Integer.MAX_VALUE, Integer.MIN_VALUE};
+
+        for (final long value : longValues) {
+            myStringBuilder.append(value).append(' ');
+            defaultStringBuilder.append(value).append(' ');
+        }
+
+        for (final int value : intValues) {
+            myStringBuilder.append(value).append(',');
+            defaultStringBuilder.append(value).append(',');
+        }
+
+        assertThat("String is incorrect.", myStringBuilder.toString(), is(defaultStringBuilder.toString()));
+
+        myStringBuilder.append('\u2713');
+        defaultStringBuilder.append('\u2713');
+
+        final Random random = new Random(1994);
+        final long[] randomValues = random.longs(100000).toArray();
+
+        final long appendMyStartTime = System.nanoTime();
+
+        for (final long value : randomValues) {
+            myStringBuilder.append(value);
+        }
+
+        final long appendMyStopTime = System.nanoTime();
+
+        final long appendDefaultStartTime = System.nanoTime();
+
+        for (final long value : randomValues) {
+            defaultStringBuilder.append(value);
+        }
+
+        final long appendDefaultStopTime = System.nanoTime();
+
+        log.info(
+                "Time to append {} longs to my string builder: {} vs default string builder: {}.",
+                randomValues.length,
+                (appendMyStopTime - appendMyStartTime) / (double) randomValues.length,
+                (appendDefaultStopTime - appendDefaultStartTime) / (double) randomValues.length);
+
+        assertThat("Size is incorrect.", myStringBuilder.getLength(), is(defaultStringBuilder.length()));
+        assertThat("String is incorrect.", myStringBuilder.toString(), is(defaultStringBuilder.toString()));
+    }
+
+    @Test
+    public void encodeToTest() {
+        // Latin-1 with and without characters past ASCII, then UTF-16 with a surrogate pair and a lone surrogate.
+        final String[] texts = {
+                SAMPLE_TEXT,
+                SAMPLE_TEXT + " caf\u00E9 na\u00EFve",
+                SAMPLE_TEXT + " \u20AC \u0416 \uD83D\uDE00 \uD83D end \uDE00"
+        };
+
+        for (final String text : texts) {
+            myStringBuilder = new MyStringBuilder().append(text);
+
+            final byte[] expectedBytes = text.getBytes(StandardCharsets.UTF_8);
+            final ByteBuffer buffer = ByteBuffer.allocate(expectedBytes.length);
+
+            assertThat("Result does not match.", myStringBuilder.encodeTo(buffer), is(text.length()));
+            assertThat("Result does not match.", buffer.array(), is(expectedBytes));
+
+            // Encoding into buffers that are too small to hold the text, down to the size of the longest character.
+            for (final int bufferSize : new int[] {4, 7, 64}) {
+                final ByteBuffer smallBuffer = ByteBuffer.allocate(bufferSize);
+                final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                int index = 0;
+
+                while (index < text.length()) {
+                    smallBuffer.clear();
+                    index = myStringBuilder.encodeTo(index, smallBuffer);
+                    outputStream.write(smallBuffer.array(), 0, smallBuffer.position());
+                }
+
+                assertThat("Result does not match.", outputStream.toByteArray(), is(expectedBytes));
+            }
+        }
+
+        assertThat("Result does not match.", new MyStringBuilder().encodeTo(ByteBuffer.allocate(0)), is(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> myStringBuilder.encodeTo(-1, ByteBuffer.allocate(1)));
+    }
+
+    @Test
+    public void writeToTest() throws Exception {
+        myStringBuilder = new MyStringBuilder();
+
+        for (int i = 0; i < 1000; i++) {
+            myStringBuilder.append(SAMPLE_TEXT).append(i).append('\n');
+        }
+
+        final String text = myStringBuilder.toString();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(text.length());
+        final WritableByteChannel channel = Channels.newChannel(outputStream);
+
+        assertThat("Result does not match.", myStringBuilder.writeTo(channel), is((long) text.length()));
+        assertThat("String is incorrect.", outputStream.toString(StandardCharsets.UTF_8), is(text));
+
+        final int writeCount = 1000;
+        final long writeMyStartTime = System.nanoTime();
+
+        for (int i = 0; i < writeCount; i++) {
+            outputStream.reset();
+            myStringBuilder.writeTo(channel);
+        }
+
+        final long writeMyStopTime = System.nanoTime();
+
+        final long writeDefaultStartTime = System.nanoTime();
+
+        for (int i = 0; i < writeCount; i++) {
+            outputStream.reset();
+            channel.write(ByteBuffer.wrap(myStringBuilder.toString().getBytes(StandardCharsets.UTF_8)));
+        }
+
+        final long writeDefaultStopTime = System.nanoTime();
+
+        log.info(
+                "Time to write {} characters from my string builder: {} vs string and bytes: {}.",
+                text.length(),
+                (writeMyStopTime - writeMyStartTime) / (double) writeCount,
+                (writeDefaultStopTime - writeDefaultStartTime) / (double) writeCount);
+
+        // Resetting keeps the capacity, and the builder can be written to again.
+        final int capacity = myStringBuilder.getCapacity();
+        myStringBuilder.reset();
+        myStringBuilder.append("\u00E9t\u00E9 \u2713");
+        outputStream.reset();
+        myStringBuilder.writeTo(channel);
+
+        assertThat("Size is incorrect.", myStringBuilder.getLength(), is(5));
+        assertThat("Result does not match.", myStringBuilder.getCapacity(), is(capacity));
+        assertThat(
+                "Result does not match.",
+                Arrays.equals(outputStream.toByteArray(), "\u00E9t\u00E9 \u2713".getBytes(StandardCharsets.UTF_8)),
+                is(true));
+    }
+
+    @Test
+    public void searchTest() {
+        final Random random = new Random(1994);
+
+        // Latin-1 text that searches cover in full words and partial tails, then the same text inflated to UTF-16.
+        for (final String suffix : new String[] {" caf\u00E9 \u00FF", " caf\u00E9 \u00FF \u2713"}) {
+            final String text = SAMPLE_TEXT.repeat(20) + suffix;
+            myStringBuilder = new MyStringBuilder().append(text);
+
+            for (final char character : new char[] {'L', 'l', '.', 'z', '\u00E9', '\u00FF', '\u2713', '\u0000'}) {
+                assertThat("Index does not match.", myStringBuilder.indexOf(character), is(text.indexOf(character)));
+                assertThat(
+                        "Index does not match.",
+                        myStringBuilder.lastIndexOf(character),
+                        is(text.lastIndexOf(character)));
+
+                for (int i = 0; i < 100; i++) {
+                    final int fromIndex = random.nextInt(text.length() + 20) - 10;
+
+                    assertThat(
+                            "Index does not match.",
+                            myStringBuilder.indexOf(character, fromIndex),
+                            is(text.indexOf(character, fromIndex)));
+                }
+            }
+
+            for (final String stringToSearch : new String[] {"", "Lorem", "laborum.", "ut labore", "caf\u00E9 \u00FF",
+                    "\u00FF \u2713", "consequat.Lorem", "not in the text", text, text + "."}) {
+                assertThat(
+                        "Index does not match.",
+                        myStringBuilder.indexOf(stringToSearch),
+                        is(text.indexOf(stringToSearch)));
+            }
+        }
+
+        // Every position of the eight byte words, including the partial ones at either end.
+        for (int length = 0; length < 40; length++) {
+            for (int index = 0; index < length; index++) {
+                myStringBuilder = new MyStringBuilder()
+                        .append("a".repeat(index))
+                        .append('b')
+                        .append("a".repeat(length - index - 1));
+
+                assertThat("Index does not match.", myStringBuilder.indexOf('b'), is(index));
+                assertThat("Index does not match.", myStringBuilder.lastIndexOf('b'), is(index));
+            }
+        }
+    }
+
     private void appendCharacters(final int valueCount) {
         final Random random = new Random();
         final int[] integerArray = random.ints(valueCount, 32, 128).toArray();
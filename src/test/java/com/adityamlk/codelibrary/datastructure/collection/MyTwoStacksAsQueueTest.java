@@ -1,13 +1,19 @@
 package com.adityamlk.codelibrary.datastructure.collection;
 
 import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Queue;
+import java.util.Random;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Log4j2
 public class MyTwoStacksAsQueueTest {
@@ -145,6 +151,112 @@ public class MyTwoStacksAsQueueTest {
         assertThat("Result does not match.", myTwoStacksAsQueue.dequeue(), is(defaultQueue.poll()));
     }
 
+    @Test
+    public void dequeueBatchTest() {
+        myTwoStacksAsQueue = new MyTwoStacksAsQueue<>();
+        defaultQueue = Lists.newLinkedList();
+
+        insertValues(1000, false);
+
+        // The second batch runs out of retrieved values part way through and moves the inserted values over.
+        for (int batch = 0; batch < 3; batch++) {
+            final List<Integer> defaultValues = new ArrayList<>();
+
+            for (int i = 0; i < 400 && !defaultQueue.isEmpty(); i++) {
+                defaultValues.add(defaultQueue.poll());
+            }
+
+            assertThat("List is incorrect.", myTwoStacksAsQueue.dequeue(400), is(defaultValues));
+            assertThat("Size is incorrect.", myTwoStacksAsQueue.getSize(), is(defaultQueue.size()));
+
+            for (int i = 0; i < 100; i++) {
+                myTwoStacksAsQueue.enqueue(-i);
+                defaultQueue.offer(-i);
+            }
+        }
+
+        assertThat("Stack is incorrect.", myTwoStacksAsQueue.toString(), is(defaultQueue.toString()));
+        assertThat("List is incorrect.", myTwoStacksAsQueue.dequeue(0), is(List.of()));
+        assertThat("Size is incorrect.", myTwoStacksAsQueue.dequeue(100000).size(), is(defaultQueue.size()));
+        assertThat("Result does not match.", myTwoStacksAsQueue.dequeue(), is((Integer) null));
+        assertThrows(IllegalArgumentException.class, () -> myTwoStacksAsQueue.dequeue(-1));
+    }
+
+    @Test
+    public void interleavedEnqueueAndDequeueTest() {
+        myTwoStacksAsQueue = new MyTwoStacksAsQueue<>();
+        defaultQueue = Lists.newLinkedList();
+
+        final Random random = new Random(1994);
+
+        // Alternating enqueues and dequeues used to move every value between the stacks on every switch.
+        final long interleavedMyStartTime = System.nanoTime();
+
+        for (int i = 0; i < 100000; i++) {
+            myTwoStacksAsQueue.enqueue(i);
+            myTwoStacksAsQueue.enqueue(-i);
+            myTwoStacksAsQueue.dequeue();
+        }
+
+        final long interleavedMyStopTime = System.nanoTime();
+
+        final long interleavedDefaultStartTime = System.nanoTime();
+
+        for (int i = 0; i < 100000; i++) {
+            defaultQueue.offer(i);
+            defaultQueue.offer(-i);
+            defaultQueue.poll();
+        }
+
+        final long interleavedDefaultStopTime = System.nanoTime();
+
+        log.info(
+                "Time to interleave {} enqueues and dequeues on my two stacks as queue: {} vs default queue: {}.",
+                300000,
+                (interleavedMyStopTime - interleavedMyStartTime) / (double) 300000,
+                (interleavedDefaultStopTime - interleavedDefaultStartTime) / (double) 300000);
+
+        for (int i = 0; i < 10000; i++) {
+            if (random.nextBoolean()) {
+                myTwoStacksAsQueue.enqueue(i);
+                defaultQueue.offer(i);
+            } else {
+                assertThat("Result does not match.", myTwoStacksAsQueue.dequeue(), is(defaultQueue.poll()));
+            }
+        }
+
+        assertThat("Size is incorrect.", myTwoStacksAsQueue.getSize(), is(defaultQueue.size()));
+        assertThat("Stack is incorrect.", myTwoStacksAsQueue.toString(), is(defaultQueue.toString()));
+        assertThat("Result does not match.", myTwoStacksAsQueue.contains(-99999), is(defaultQueue.contains(-99999)));
+        assertThat("Result does not match.", myTwoStacksAsQueue.contains(1), is(defaultQueue.contains(1)));
+    }
+
+    @Test
+    public void iteratorTest() {
+        myTwoStacksAsQueue = new MyTwoStacksAsQueue<>();
+        defaultQueue = Lists.newLinkedList();
+
+        insertValues(1000, false);
+        removeValues(10, false);
+        insertValues(100, false);
+
+        // The values are now split between both stacks.
+        final List<Integer> myValues = new ArrayList<>();
+
+        for (final Integer value : myTwoStacksAsQueue) {
+            myValues.add(value);
+        }
+
+        assertThat("List is incorrect.", myValues, is(new ArrayList<>(defaultQueue)));
+        assertThat("Size is incorrect.", myTwoStacksAsQueue.getSize(), is(defaultQueue.size()));
+
+        final Iterator<Integer> iterator = myTwoStacksAsQueue.iterator();
+        iterator.next();
+        myTwoStacksAsQueue.enqueue(1);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
     private void insertValues(final int valueCount, final boolean shouldLog) {
         final long insertMyStartTime = System.nanoTime();
 
@@ -0,0 +1,155 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Log4j2
+public class MyWorkStealingDequesTest {
+
+    private static final int THREAD_COUNT = 8;
+
+    private MyWorkStealingDeques<Integer> myWorkStealingDeques;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void pushPopAndStealTest() {
+        myWorkStealingDeques = new MyWorkStealingDeques<>(3, 4);
+
+        final Deque<Integer> defaultDeque = new ArrayDeque<>();
+        final Random random = new Random(1994);
+
+        assertThat("Size is incorrect.", myWorkStealingDeques.getNumberOfDeques(), is(3));
+        assertThat("Result does not match.", myWorkStealingDeques.pop(1), is((Integer) null));
+        assertThat("Result does not match.", myWorkStealingDeques.steal(1), is((Integer) null));
+
+        // Pushes more often than it removes, so the deque grows from its initial capacity of 4 several times.
+        for (int i = 0; i < 100000; i++) {
+            final int operation = random.nextInt(4);
+
+            if (2 > operation) {
+                myWorkStealingDeques.push(1, i);
+                defaultDeque.offerLast(i);
+            } else if (2 == operation) {
+                assertThat("Result does not match.", myWorkStealingDeques.pop(1), is(defaultDeque.pollLast()));
+            } else {
+                assertThat("Result does not match.", myWorkStealingDeques.steal(1), is(defaultDeque.pollFirst()));
+            }
+        }
+
+        assertThat("Size is incorrect.", myWorkStealingDeques.getSizeOfDeque(1), is(defaultDeque.size()));
+        assertThat("Size is incorrect.", myWorkStealingDeques.getSizeOfDeque(0), is(0));
+        assertThat("Size is incorrect.", myWorkStealingDeques.getSizeOfDeque(2), is(0));
+
+        // Deque 0 steals from deque 1, since deque 2 is empty.
+        assertThat("Result does not match.", myWorkStealingDeques.stealFromAny(0), is(defaultDeque.pollFirst()));
+        assertThat("Result does not match.", myWorkStealingDeques.stealFromAny(1), is((Integer) null));
+
+        assertThrows(NullPointerException.class, () -> myWorkStealingDeques.push(0, null));
+        assertThrows(IndexOutOfBoundsException.class, () -> myWorkStealingDeques.push(3, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> myWorkStealingDeques.steal(-1));
+        assertThrows(IllegalArgumentException.class, () -> new MyWorkStealingDeques<Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> new MyWorkStealingDeques<Integer>(1, 0));
+    }
+
+    @Test
+    public void concurrentStealTest() throws Exception {
+        final int valueCount = 200000;
+
+        myWorkStealingDeques = new MyWorkStealingDeques<>(THREAD_COUNT);
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        final AtomicBoolean isOwnerDone = new AtomicBoolean(false);
+        final List<Future<List<Integer>>> futures = new ArrayList<>();
+
+        try {
+            // The owner pushes every value and pops some of them back, while the thieves steal from it.
+            futures.add(executorService.submit(() -> {
+                final List<Integer> poppedValues = new ArrayList<>();
+
+                for (int value = 0; value < valueCount; value++) {
+                    myWorkStealingDeques.push(0, value);
+
+                    if (0 == value % 3) {
+                        final Integer poppedValue = myWorkStealingDeques.pop(0);
+
+                        if (null != poppedValue) {
+                            poppedValues.add(poppedValue);
+                        }
+                    }
+                }
+
+                Integer poppedValue = myWorkStealingDeques.pop(0);
+
+                while (null != poppedValue) {
+                    poppedValues.add(poppedValue);
+                    poppedValue = myWorkStealingDeques.pop(0);
+                }
+
+                isOwnerDone.set(true);
+
+                return poppedValues;
+            }));
+
+            for (int thiefIndex = 1; thiefIndex < THREAD_COUNT; thiefIndex++) {
+                final int currentThiefIndex = thiefIndex;
+
+                futures.add(executorService.submit(() -> {
+                    final List<Integer> stolenValues = new ArrayList<>();
+
+                    while (!isOwnerDone.get()) {
+                        final Integer stolenValue = myWorkStealingDeques.stealFromAny(currentThiefIndex);
+
+                        if (null == stolenValue) {
+                            Thread.yield();
+                        } else {
+                            stolenValues.add(stolenValue);
+                        }
+                    }
+
+                    return stolenValues;
+                }));
+            }
+
+            final int[] removalCounts = new int[valueCount];
+            int stolenCount = 0;
+
+            for (int futureIndex = 0; futureIndex < futures.size(); futureIndex++) {
+                final List<Integer> removedValues = futures.get(futureIndex).get();
+
+                for (final Integer removedValue : removedValues) {
+                    removalCounts[removedValue] += 1;
+                }
+
+                stolenCount += 0 == futureIndex ? 0 : removedValues.size();
+            }
+
+            log.info("Values stolen by {} thieves: {} out of {}.", THREAD_COUNT - 1, stolenCount, valueCount);
+
+            for (int value = 0; value < valueCount; value++) {
+                assertThat("Value does not match.", removalCounts[value], is(1));
+            }
+
+            assertThat("Size is incorrect.", myWorkStealingDeques.getSizeOfDeque(0), is(0));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.adityamlk.codelibrary.datastructure.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Log4j2
+public class MyWorkStealingExecutorTest {
+
+    private static final int WORKER_COUNT = 4;
+
+    private static final int SORT_THRESHOLD = 1 << 10;
+
+    @AfterAll
+    public static void cleanup() {
+        System.gc();
+    }
+
+    @Test
+    public void sumTest() throws Exception {
+        final long[] values = new Random(1994).longs(1000000, 0, 1000).toArray();
+
+        try (MyWorkStealingExecutor myExecutor = new MyWorkStealingExecutor(WORKER_COUNT)) {
+            assertThat("Size is incorrect.", myExecutor.getWorkerCount(), is(WORKER_COUNT));
+            assertThat(
+                    "Result does not match.",
+                    myExecutor.invoke(new SumTask(values, 0, values.length)),
+                    is(Arrays.stream(values).sum()));
+
+            // Tasks can be forked and joined from within a task that runs on a worker.
+            assertThat(
+                    "Result does not match.",
+                    myExecutor.invoke(new MyWorkStealingExecutor.Task<Long>() {
+                        @Override
+                        protected Long compute() {
+                            return new SumTask(values, 0, 1000).fork().join();
+                        }
+                    }),
+                    is(Arrays.stream(values, 0, 1000).sum()));
+        }
+    }
+
+    @Test
+    public void sortTest() throws Exception {
+        final int[] values = new Random(1994).ints(2000000).toArray();
+        final int[] myValues = values.clone();
+        final int[] defaultValues = values.clone();
+        final int[] expectedValues = values.clone();
+
+        Arrays.sort(expectedValues);
+
+        try (MyWorkStealingExecutor myExecutor = new MyWorkStealingExecutor(WORKER_COUNT)) {
+            final ForkJoinPool defaultPool = new ForkJoinPool(WORKER_COUNT);
+
+            final long sortMyStartTime = System.nanoTime();
+            myExecutor.invoke(new SortTask(myValues, new int[myValues.length], 0, myValues.length));
+            final long sortMyStopTime = System.nanoTime();
+
+            final long sortDefaultStartTime = System.nanoTime();
+            defaultPool.invoke(new DefaultSortAction(defaultValues, new int[defaultValues.length], 0,
+                    defaultValues.length));
+            final long sortDefaultStopTime = System.nanoTime();
+
+            defaultPool.shutdown();
+
+            log.info(
+                    "Time to sort {} values with my work-stealing executor: {} vs default fork join pool: {}.",
+                    values.length,
+                    (sortMyStopTime - sortMyStartTime) / (double) values.length,
+                    (sortDefaultStopTime - sortDefaultStartTime) / (double) values.length);
+        }
+
+        assertThat("List is incorrect.", Arrays.equals(myValues, expectedValues), is(true));
+        assertThat("List is incorrect.", Arrays.equals(defaultValues, expectedValues), is(true));
+    }
+
+    @Test
+    public void exceptionTest() throws Exception {
+        final MyWorkStealingExecutor myExecutor = new MyWorkStealingExecutor(WORKER_COUNT);
+
+        assertThrows(IllegalStateException.class, () -> myExecutor.invoke(new MyWorkStealingExecutor.Task<Integer>() {
+            @Override
+            protected Integer compute() {
+                throw new IllegalStateException("Task failed.");
+            }
+        }));
+        assertThrows(IllegalStateException.class, () -> new SumTask(new long[1], 0, 1).fork());
+        assertThrows(IllegalArgumentException.class, () -> new MyWorkStealingExecutor(0));
+
+        myExecutor.close();
+
+        assertThrows(IllegalStateException.class, () -> myExecutor.submit(new SumTask(new long[1], 0, 1)));
+    }
+
+    @Test
+    public void errorTest() throws Exception {
+        try (MyWorkStealingExecutor myExecutor = new MyWorkStealingExecutor(WORKER_COUNT)) {
+            // An error thrown by a forked task reaches the task that joins it, and from there the caller of invoke.
+            assertThrows(AssertionError.class, () -> myExecutor.invoke(new MyWorkStealingExecutor.Task<Integer>() {
+                @Override
+                protected Integer compute() {
+                    final MyWorkStealingExecutor.Task<Integer> failingTask = new MyWorkStealingExecutor.Task<>() {
+                        @Override
+                        protected Integer compute() {
+                            throw new AssertionError("Task failed.");
+                        }
+                    };
+
+                    failingTask.fork();
+
+                    return failingTask.join();
+                }
+            }));
+
+            // The workers survive the error and keep running tasks.
+            for (int i = 0; i < WORKER_COUNT * 4; i++) {
+                assertThat(
+                        "Result does not match.",
+                        myExecutor.invoke(new SumTask(new long[] {1, 2, 3}, 0, 3)),
+                        is(6L));
+            }
+        }
+    }
+
+    @Test
+    public void shutdownTest() throws Exception {
+        final MyWorkStealingExecutor myExecutor = new MyWorkStealingExecutor(1);
+        final List<MyWorkStealingExecutor.Task<Long>> waitingTasks = new ArrayList<>();
+        final CountDownLatch startedLatch = new CountDownLatch(1);
+        final CountDownLatch releaseLatch = new CountDownLatch(1);
+
+        // Keeps the only worker busy until the executor is shut down, so that the tasks after it never start.
+        final MyWorkStealingExecutor.Task<Long> blockingTask = new MyWorkStealingExecutor.Task<>() {
+            @Override
+            protected Long compute() {
+                startedLatch.countDown();
+
+                try {
+                    releaseLatch.await();
+                } catch (final InterruptedException exception) {
+                    return 0L;
+                }
+
+                return 1L;
+            }
+        };
+
+        myExecutor.submit(blockingTask);
+        startedLatch.await();
+
+        for (int i = 0; i < 10; i++) {
+            final SumTask waitingTask = new SumTask(new long[] {1}, 0, 1);
+
+            myExecutor.submit(waitingTask);
+            waitingTasks.add(waitingTask);
+        }
+
+        myExecutor.shutdown();
+        releaseLatch.countDown();
+        myExecutor.close();
+
+        assertThat("Result does not match.", myExecutor.isTerminated(), is(true));
+        assertThat("Result does not match.", blockingTask.join(), is(1L));
+
+        for (final MyWorkStealingExecutor.Task<Long> waitingTask : waitingTasks) {
+            assertThat("Result does not match.", waitingTask.isDone(), is(true));
+            assertThrows(CancellationException.class, waitingTask::join);
+        }
+
+        assertThrows(IllegalStateException.class, () -> myExecutor.invoke(new SumTask(new long[1], 0, 1)));
+    }
+
+    /*
+     * Sums a range of values, splitting it in half until it is small enough to sum directly.
+     */
+    private static final class SumTask extends MyWorkStealingExecutor.Task<Long> {
+
+        private final long[] values;
+
+        private final int start;
+
+        private final int end;
+
+        private SumTask(final long[] values, final int start, final int end) {
+            this.values = values;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Long compute() {
+            if (SORT_THRESHOLD >= end - start) {
+                long sum = 0;
+
+                for (int index = start; index < end; index++) {
+                    sum += values[index];
+                }
+
+                return sum;
+            }
+
+            final int middle = (start + end) >>> 1;
+            final SumTask leftTask = new SumTask(values, start, middle);
+
+            leftTask.fork();
+
+            final long rightSum = new SumTask(values, middle, end).compute();
+
+            return leftTask.join() + rightSum;
+        }
+    }
+
+    /*
+     * Sorts a range of values with merge sort, sorting each half in its own task.
+     */
+    private static final class SortTask extends MyWorkStealingExecutor.Task<Void> {
+
+        private final int[] values;
+
+        private final int[] buffer;
+
+        private final int start;
+
+        private final int end;
+
+        private SortTask(final int[] values, final int[] buffer, final int start, final int end) {
+            this.values = values;
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Void compute() {
+            if (SORT_THRESHOLD >= end - start) {
+                Arrays.sort(values, start, end);
+
+                return null;
+            }
+
+            final int middle = (start + end) >>> 1;
+            final SortTask leftTask = new SortTask(values, buffer, start, middle);
+
+            leftTask.fork();
+            new SortTask(values, buffer, middle, end).compute();
+            leftTask.join();
+            merge(values, buffer, start, middle, end);
+
+            return null;
+        }
+    }
+
+    /*
+     * Same merge sort as SortTask, as an action of a ForkJoinPool.
+     */
+    private static final class DefaultSortAction extends RecursiveAction {
+
+        private final int[] values;
+
+        private final int[] buffer;
+
+        private final int start;
+
+        private final int end;
+
+        private DefaultSortAction(final int[] values, final int[] buffer, final int start, final int end) {
+            this.values = values;
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (SORT_THRESHOLD >= end - start) {
+                Arrays.sort(values, start, end);
+
+                return;
+            }
+
+            final int middle = (start + end) >>> 1;
+            final DefaultSortAction leftAction = new DefaultSortAction(values, buffer, start, middle);
+
+            leftAction.fork();
+            new DefaultSortAction(values, buffer, middle, end).compute();
+            leftAction.join();
+            merge(values, buffer, start, middle, end);
+        }
+    }
+
+    /*
+     * Merges the two sorted halves of the range through the buffer.
+     */
+    private static void merge(final int[] values, final int[] buffer, final int start, final int middle,
+            final int end) {
+        System.arraycopy(values, start, buffer, start, end - start);
+
+        int leftIndex = start;
+        int rightIndex = middle;
+
+        for (int index = start; index < end; index++) {
+            if (rightIndex >= end || (leftIndex < middle && buffer[leftIndex] <= buffer[rightIndex])) {
+                values[index] = buffer[leftIndex++];
+            } else {
+                values[index] = buffer[rightIndex++];
+            }
+        }
+    }
+}